@@ -6,8 +6,6 @@ import towersim.util.EmergencyState;
 import towersim.util.OccupancyLevel;
 import towersim.util.Tickable;
 
-import java.util.Objects;
-
 /**
  * Represents an aircraft whose movement is managed by the system.
  *
@@ -22,15 +20,30 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      */
     public static final double LITRE_OF_FUEL_WEIGHT = 0.8;
 
+    /**
+     * Value returned by {@link #getId()} for an aircraft that has not been assigned an ID.
+     */
+    public static final int NO_ID = -1;
+
     /**
      * Unique callsign to identify the aircraft
      */
-    private String callsign;
+    private final String callsign;
 
     /**
      * Characteristics of this aircraft including weight, fuel capacity, etc.
      */
-    private AircraftCharacteristics characteristics;
+    private final AircraftCharacteristics characteristics;
+
+    /**
+     * Hash code of this aircraft, computed once as callsign and characteristics never change
+     */
+    private final int hash;
+
+    /**
+     * Dense integer ID assigned by the control tower managing this aircraft, or NO_ID
+     */
+    private int id;
 
     /**
      * List of tasks representing the aircraft's desired operations
@@ -76,6 +89,8 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
         this.tasks = tasks;
         this.fuelAmount = fuelAmount;
         this.emergency = false;
+        this.hash = 31 * characteristics.ordinal() + callsign.hashCode();
+        this.id = NO_ID;
     }
 
     /**
@@ -88,6 +103,31 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
         return callsign;
     }
 
+    /**
+     * Returns the dense integer ID assigned to this aircraft by the control tower managing it,
+     * or {@link #NO_ID} if the aircraft is not managed by a control tower.
+     * <p>
+     * IDs are allocated from zero upwards in the order aircraft are added to a tower, so they
+     * can be used to index arrays and bitsets.
+     *
+     * @return aircraft ID, or NO_ID if unassigned
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Sets the dense integer ID of this aircraft.
+     * <p>
+     * Only called by the {@link AircraftRegistry} of the control tower that manages this
+     * aircraft.
+     *
+     * @param id ID to assign
+     */
+    void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Returns the current amount of fuel onboard, in litres.
      *
@@ -227,20 +267,21 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
 
         if (obj instanceof Aircraft) {
             Aircraft compareObject = (Aircraft) obj;
-            
-            return (this.getCallsign().equals(compareObject.getCallsign()))
-                    && (this.getCharacteristics() == compareObject.getCharacteristics());
+            //Cheap reference and hash comparisons first, callsign string compared last.
+            return this.characteristics == compareObject.characteristics
+                    && this.hash == compareObject.hash
+                    && this.callsign.equals(compareObject.callsign);
         }
         return false;
     }
 
     /**
-     * Returns the hash code of this gate.
+     * Returns the hash code of this aircraft.
      * Two aircraft that are equal according to equals(Object) should have the same hash code.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.getCharacteristics(), this.getCallsign());
+        return this.hash;
     }
 
     /**
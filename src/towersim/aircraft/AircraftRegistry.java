@@ -0,0 +1,102 @@
+package towersim.aircraft;
+
+import java.util.Arrays;
+
+/**
+ * Assigns dense integer IDs to the aircraft managed by a control tower and maps IDs back to
+ * aircraft.
+ * <p>
+ * IDs are allocated from zero upwards in registration order and are never reused, so they can
+ * be used directly as indices into arrays and bitsets held by the control tower.
+ */
+public class AircraftRegistry {
+
+    /**
+     * Initial capacity of the ID to aircraft table.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Registered aircraft, indexed by ID.
+     */
+    private Aircraft[] aircraftById;
+
+    /**
+     * Number of IDs allocated so far; also the next ID to allocate.
+     */
+    private int size;
+
+    /**
+     * Creates a new registry with no registered aircraft.
+     */
+    public AircraftRegistry() {
+        this.aircraftById = new Aircraft[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Registers the given aircraft, assigning it the next free ID.
+     * <p>
+     * If the aircraft is already registered with this registry, its existing ID is returned and
+     * no new ID is allocated. An aircraft registered with another registry keeps the ID that
+     * registry assigned it, as the other registry's control tower still tracks it by that ID,
+     * so it cannot be registered here.
+     *
+     * @param aircraft aircraft to register
+     * @return ID of the aircraft
+     * @throws IllegalArgumentException if the aircraft is registered with another registry
+     */
+    public int register(Aircraft aircraft) {
+        if (contains(aircraft)) {
+            return aircraft.getId();
+        }
+        if (aircraft.getId() != Aircraft.NO_ID) {
+            throw new IllegalArgumentException("Aircraft " + aircraft.getCallsign()
+                    + " is already managed by another control tower");
+        }
+        if (this.size == this.aircraftById.length) {
+            this.aircraftById = Arrays.copyOf(this.aircraftById, this.size * 2);
+        }
+        int id = this.size++;
+        this.aircraftById[id] = aircraft;
+        aircraft.setId(id);
+        return id;
+    }
+
+    /**
+     * Returns true if the given aircraft has been registered with this registry.
+     * <p>
+     * This is an identity check performed in constant time.
+     *
+     * @param aircraft aircraft to check
+     * @return true if registered; false otherwise
+     */
+    public boolean contains(Aircraft aircraft) {
+        int id = aircraft.getId();
+        return id >= 0 && id < this.size && this.aircraftById[id] == aircraft;
+    }
+
+    /**
+     * Returns the aircraft with the given ID, or null if no aircraft has that ID.
+     *
+     * @param id ID of aircraft to return
+     * @return aircraft with the given ID; or null if none exists
+     */
+    public Aircraft get(int id) {
+        if (id < 0 || id >= this.size) {
+            return null;
+        }
+        return this.aircraftById[id];
+    }
+
+    /**
+     * Returns the number of IDs allocated by this registry.
+     * <p>
+     * All valid IDs are less than this value.
+     *
+     * @return number of registered aircraft
+     */
+    public int size() {
+        return this.size;
+    }
+}
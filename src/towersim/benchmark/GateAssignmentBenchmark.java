@@ -0,0 +1,283 @@
+package towersim.benchmark;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.FreightAircraft;
+import towersim.aircraft.PassengerAircraft;
+import towersim.control.BestFitGateAssignment;
+import towersim.control.ControlTower;
+import towersim.control.FirstFitGateAssignment;
+import towersim.control.GateAssignmentStrategy;
+import towersim.control.LandingQueue;
+import towersim.control.LeastOccupiedGateAssignment;
+import towersim.control.RoundRobinGateAssignment;
+import towersim.control.RunwayMode;
+import towersim.control.TakeoffQueue;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Compares the gate assignment strategies on a synthetic airport.
+ * <p>
+ * For each strategy, two measurements are made:
+ * <ul>
+ *     <li>assignment latency: the mean time taken by {@link ControlTower#findUnoccupiedGate}
+ *     while aircraft are parked and randomly removed, keeping the airport nearly full;</li>
+ *     <li>landing throughput: the landings, landings refused for want of a gate, mean landing
+ *     queue depth and the spread of occupancy between terminals over a simulated run.</li>
+ * </ul>
+ * The airport has terminals of differing sizes, and the same seed is used for every strategy so
+ * they all see the same airport and the same sequence of arrivals and departures.
+ * <p>
+ * Usage: {@code [airplane_terminals] [aircraft] [ticks] [runways]}, where the airport has the
+ * given number of {@link RunwayMode#MIXED mixed} runways.
+ */
+public final class GateAssignmentBenchmark {
+
+    /** Seed used to generate the airport and the sequence of arrivals and departures */
+    private static final long SEED = 42;
+
+    /** Number of helicopter terminals, in addition to the airplane terminals */
+    private static final int HELICOPTER_TERMINALS = 4;
+
+    /** Number of assignments made before latency is measured */
+    private static final int WARM_UP_ASSIGNMENTS = 200_000;
+
+    /** Number of assignments measured */
+    private static final int MEASURED_ASSIGNMENTS = 1_000_000;
+
+    /** Names of the strategies compared, in the same order as {@link #STRATEGIES} */
+    private static final String[] NAMES = {
+        "first fit", "least occupied", "round robin", "best fit"
+    };
+
+    /** Creates each of the strategies compared */
+    private static final List<Supplier<GateAssignmentStrategy>> STRATEGIES = List.of(
+            FirstFitGateAssignment::new,
+            LeastOccupiedGateAssignment::new,
+            RoundRobinGateAssignment::new,
+            BestFitGateAssignment::new);
+
+    private GateAssignmentBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints a table of results.
+     *
+     * @param args optional number of airplane terminals, number of aircraft, number of ticks and
+     *             number of runways
+     */
+    public static void main(String[] args) {
+        final int airplaneTerminals = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        final int numAircraft = args.length > 1 ? Integer.parseInt(args[1]) : 1500;
+        final long ticks = args.length > 2 ? Long.parseLong(args[2]) : 20_000;
+        final int runways = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        System.out.printf("%d airplane terminals, %d helicopter terminals, %d aircraft,"
+                        + " %d ticks, %d runways%n", airplaneTerminals, HELICOPTER_TERMINALS,
+                numAircraft, ticks, runways);
+        System.out.printf("%-15s %12s %10s %10s %10s %10s%n", "strategy", "ns/assign",
+                "landings", "refused", "avg queue", "spread %");
+        for (int i = 0; i < STRATEGIES.size(); ++i) {
+            double latency = measureLatency(airplaneTerminals, STRATEGIES.get(i));
+            RunResult run = measureRun(airplaneTerminals, numAircraft, ticks, runways,
+                    STRATEGIES.get(i));
+            System.out.printf("%-15s %12.1f %10d %10d %10.1f %10.1f%n", NAMES[i], latency,
+                    run.landings, run.refused, run.meanQueueDepth, run.meanSpread);
+        }
+    }
+
+    /*
+     * Returns the mean time taken to find a gate, in nanoseconds, while repeatedly parking
+     * aircraft and removing a random aircraft whenever no gate is free
+     */
+    private static double measureLatency(int airplaneTerminals,
+            Supplier<GateAssignmentStrategy> strategy) {
+        ControlTower tower = createTower(new ArrayList<>());
+        List<Terminal> terminals = addTerminals(tower, airplaneTerminals);
+        tower.setGateAssignmentStrategy(strategy.get());
+
+        List<Gate> occupied = new ArrayList<>();
+        for (Terminal terminal : terminals) {
+            if (terminal instanceof AirplaneTerminal) {
+                // Leave a few gates free so that the search has something to find
+                for (int j = 0; j < terminal.getNumGates() * 9 / 10; ++j) {
+                    park(terminal.getGate(j), occupied);
+                }
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        Aircraft aircraft = createAircraft(0, random);
+        long elapsed = 0;
+        for (int i = 0; i < WARM_UP_ASSIGNMENTS + MEASURED_ASSIGNMENTS; ++i) {
+            long start = System.nanoTime();
+            Gate gate;
+            try {
+                gate = tower.findUnoccupiedGate(aircraft);
+            } catch (NoSuitableGateException e) {
+                gate = null;
+            }
+            if (i >= WARM_UP_ASSIGNMENTS) {
+                elapsed += System.nanoTime() - start;
+            }
+            if (gate != null) {
+                park(gate, occupied);
+            }
+            // Keep the airport nearly full by freeing a random gate for each one taken
+            int leaving = random.nextInt(occupied.size());
+            occupied.get(leaving).aircraftLeaves();
+            occupied.set(leaving, occupied.get(occupied.size() - 1));
+            occupied.remove(occupied.size() - 1);
+        }
+        return (double) elapsed / MEASURED_ASSIGNMENTS;
+    }
+
+    /* Parks a placeholder aircraft at the given gate and records the gate as occupied */
+    private static void park(Gate gate, List<Gate> occupied) {
+        try {
+            gate.parkAircraft(createAircraft(occupied.size(), null));
+            occupied.add(gate);
+        } catch (NoSpaceException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /* Simulates the given number of ticks and returns the throughput measured */
+    private static RunResult measureRun(int airplaneTerminals, int numAircraft, long ticks,
+            int runways, Supplier<GateAssignmentStrategy> strategy) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Aircraft> aircraft = new ArrayList<>(numAircraft);
+        for (int i = 0; i < numAircraft; ++i) {
+            aircraft.add(createAircraft(i, random));
+        }
+        ControlTower tower = createTower(aircraft);
+        List<Terminal> terminals = addTerminals(tower, airplaneTerminals);
+        tower.setGateAssignmentStrategy(strategy.get());
+        tower.setRunways(Collections.nCopies(runways, RunwayMode.MIXED));
+        tower.placeAllAircraftInQueues();
+
+        long queueDepthTotal = 0;
+        double spreadTotal = 0;
+        for (long tick = 0; tick < ticks; ++tick) {
+            tower.tick();
+            queueDepthTotal += tower.getLandingQueue().size();
+            spreadTotal += occupancySpread(terminals);
+        }
+
+        RunResult result = new RunResult();
+        result.landings = tower.getMetrics().getLandings();
+        result.refused = tower.getMetrics().getFailedLandingsNoGate();
+        result.meanQueueDepth = (double) queueDepthTotal / ticks;
+        result.meanSpread = spreadTotal / ticks;
+        return result;
+    }
+
+    /* Returns the standard deviation of the occupancy levels of the airplane terminals */
+    private static double occupancySpread(List<Terminal> terminals) {
+        double sum = 0;
+        double sumOfSquares = 0;
+        int count = 0;
+        for (Terminal terminal : terminals) {
+            if (terminal instanceof AirplaneTerminal) {
+                int occupancy = terminal.calculateOccupancyLevel();
+                sum += occupancy;
+                sumOfSquares += (double) occupancy * occupancy;
+                count++;
+            }
+        }
+        double mean = sum / count;
+        return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+    }
+
+    /* Creates an empty control tower managing the given aircraft */
+    private static ControlTower createTower(List<Aircraft> aircraft) {
+        return new ControlTower(0, aircraft, new LandingQueue(), new TakeoffQueue(),
+                new HashMap<>());
+    }
+
+    /*
+     * Adds airplane terminals of differing sizes and a few helicopter terminals to the given
+     * tower, returning all of them in order
+     */
+    private static List<Terminal> addTerminals(ControlTower tower, int airplaneTerminals) {
+        List<Terminal> terminals = new ArrayList<>();
+        int gateNumber = 1;
+        for (int i = 0; i < airplaneTerminals + HELICOPTER_TERMINALS; ++i) {
+            Terminal terminal;
+            int numGates;
+            if (i < airplaneTerminals) {
+                numGates = 10 + (i * 37) % 50;
+                terminal = new AirplaneTerminal(i + 1, Terminal.MAX_LARGE_TERMINAL_GATES);
+            } else {
+                numGates = Terminal.MAX_NUM_GATES;
+                terminal = new HelicopterTerminal(i + 1);
+            }
+            for (int j = 0; j < numGates; ++j) {
+                try {
+                    terminal.addGate(new Gate(gateNumber++));
+                } catch (NoSpaceException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            tower.addTerminal(terminal);
+            terminals.add(terminal);
+        }
+        return terminals;
+    }
+
+    /*
+     * Creates an airplane that cycles between away, landing, loading and taking off, spending a
+     * random number of ticks away; or a placeholder aircraft if random is null
+     */
+    private static Aircraft createAircraft(int index, SplittableRandom random) {
+        List<Task> tasks = new ArrayList<>();
+        int awayTicks = random == null ? 1 : 1 + random.nextInt(30);
+        for (int i = 0; i < awayTicks; ++i) {
+            tasks.add(new Task(TaskType.AWAY));
+        }
+        tasks.add(new Task(TaskType.LAND));
+        tasks.add(new Task(TaskType.LOAD, random == null ? 50 : 10 + random.nextInt(90)));
+        tasks.add(new Task(TaskType.TAKEOFF));
+
+        String callsign = "BM" + index;
+        if (random != null && random.nextInt(4) == 0) {
+            return new FreightAircraft(callsign, AircraftCharacteristics.BOEING_747_8F,
+                    new TaskList(tasks), AircraftCharacteristics.BOEING_747_8F.fuelCapacity, 0);
+        }
+        return new PassengerAircraft(callsign, AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(tasks), AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+    }
+
+    /**
+     * Throughput measured over a simulated run.
+     */
+    private static class RunResult {
+
+        /** Number of aircraft landed */
+        private long landings;
+
+        /** Number of landings refused as there was no suitable gate */
+        private long refused;
+
+        /** Mean depth of the landing queue at the end of each tick */
+        private double meanQueueDepth;
+
+        /** Mean standard deviation of airplane terminal occupancy levels, in percent */
+        private double meanSpread;
+    }
+}
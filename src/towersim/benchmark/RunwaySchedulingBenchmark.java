@@ -0,0 +1,139 @@
+package towersim.benchmark;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.control.AdaptiveRunwayPolicy;
+import towersim.control.AlternatingRunwayPolicy;
+import towersim.control.ControlTower;
+import towersim.control.LandingQueue;
+import towersim.control.LongestQueueRunwayPolicy;
+import towersim.control.RunwayMode;
+import towersim.control.RunwaySchedulingPolicy;
+import towersim.control.TakeoffQueue;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.monitoring.TickMetrics;
+import towersim.monitoring.WaitHistogram;
+import towersim.util.NoSpaceException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Compares the runway scheduling policies on a synthetic airport.
+ * <p>
+ * For each number of mixed runways and each policy, a run is simulated and the following are
+ * reported:
+ * <ul>
+ *     <li>throughput: landings and takeoffs, and the fraction of runway-ticks used for a
+ *     movement;</li>
+ *     <li>landings refused for want of a gate;</li>
+ *     <li>queue waits: the mean and estimated 99th percentile number of ticks aircraft spent in
+ *     the landing and takeoff queues.</li>
+ * </ul>
+ * Aircraft spend a random number of ticks away, so some return with critically low fuel, and
+ * then wait at their gate for a random number of ticks. By default the airport has fewer gates
+ * than aircraft, so gate availability limits landings. The same seed is used for every run so all
+ * policies see the same aircraft.
+ * <p>
+ * Usage: {@code [aircraft] [gates] [ticks] [max_runways]}
+ */
+public final class RunwaySchedulingBenchmark {
+
+    /** Seed used to generate the aircraft */
+    private static final long SEED = 7;
+
+    /** Names of the policies compared, in the same order as {@link #POLICIES} */
+    private static final String[] NAMES = {"alternating", "longest queue", "adaptive"};
+
+    /** Creates each of the policies compared */
+    private static final List<Supplier<RunwaySchedulingPolicy>> POLICIES = List.of(
+            AlternatingRunwayPolicy::new,
+            LongestQueueRunwayPolicy::new,
+            AdaptiveRunwayPolicy::new);
+
+    private RunwaySchedulingBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints a table of results.
+     *
+     * @param args optional number of aircraft, number of gates, number of ticks and largest
+     *             number of runways
+     */
+    public static void main(String[] args) {
+        final int numAircraft = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        final int numGates = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        final long ticks = args.length > 2 ? Long.parseLong(args[2]) : 20_000;
+        final int maxRunways = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+        System.out.printf("%d aircraft, %d gates, %d ticks%n", numAircraft, numGates, ticks);
+        System.out.printf("%-7s %-14s %9s %9s %7s %8s %9s %9s %9s %9s%n", "runways", "policy",
+                "landings", "takeoffs", "used %", "refused", "land avg", "land p99",
+                "t/o avg", "t/o p99");
+        for (int runways = 1; runways <= maxRunways; runways *= 2) {
+            for (int i = 0; i < POLICIES.size(); ++i) {
+                ControlTower tower = run(numAircraft, numGates, ticks, runways, POLICIES.get(i));
+                TickMetrics metrics = tower.getMetrics();
+                WaitHistogram landingWait = metrics.getLandingWait();
+                WaitHistogram takeoffWait = metrics.getTakeoffWait();
+                double used = 100.0 * (metrics.getLandings() + metrics.getTakeoffs())
+                        / (ticks * runways);
+                System.out.printf("%-7d %-14s %9d %9d %7.1f %8d %9.1f %9d %9.1f %9d%n",
+                        runways, NAMES[i], metrics.getLandings(), metrics.getTakeoffs(), used,
+                        metrics.getFailedLandingsNoGate(), landingWait.getMeanTicks(),
+                        landingWait.getPercentileTicks(99), takeoffWait.getMeanTicks(),
+                        takeoffWait.getPercentileTicks(99));
+            }
+        }
+    }
+
+    /* Simulates the given number of ticks and returns the control tower, with its metrics */
+    private static ControlTower run(int numAircraft, int numGates, long ticks, int runways,
+            Supplier<RunwaySchedulingPolicy> policy) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Aircraft> aircraft = new ArrayList<>(numAircraft);
+        for (int i = 0; i < numAircraft; ++i) {
+            aircraft.add(createAircraft(i, random));
+        }
+        ControlTower tower = new ControlTower(0, aircraft, new LandingQueue(),
+                new TakeoffQueue(), new HashMap<>());
+        int gateNumber = 1;
+        for (int terminalNumber = 1; gateNumber <= numGates; ++terminalNumber) {
+            Terminal terminal = new AirplaneTerminal(terminalNumber,
+                    Terminal.MAX_LARGE_TERMINAL_GATES);
+            for (int j = 0; j < Terminal.MAX_LARGE_TERMINAL_GATES && gateNumber <= numGates;
+                    ++j) {
+                try {
+                    terminal.addGate(new Gate(gateNumber++));
+                } catch (NoSpaceException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            tower.addTerminal(terminal);
+        }
+        tower.setRunways(Collections.nCopies(runways, RunwayMode.MIXED));
+        tower.setRunwaySchedulingPolicy(policy.get());
+        tower.placeAllAircraftInQueues();
+
+        for (long tick = 0; tick < ticks; ++tick) {
+            tower.tick();
+        }
+        return tower;
+    }
+
+    /*
+     * Creates an airplane, a quarter of them freighters, with a random task list as described
+     * by SyntheticAircraft
+     */
+    private static Aircraft createAircraft(int index, SplittableRandom random) {
+        AircraftCharacteristics characteristics = random.nextInt(4) == 0
+                ? AircraftCharacteristics.BOEING_747_8F : AircraftCharacteristics.AIRBUS_A320;
+        return SyntheticAircraft.create("RS" + index, characteristics, random);
+    }
+}
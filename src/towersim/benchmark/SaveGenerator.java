@@ -0,0 +1,390 @@
+package towersim.benchmark;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
+import towersim.aircraft.FreightAircraft;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.Seeds;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates valid save files of any size, for load testing the save loader and the tick engine.
+ * <p>
+ * Every aircraft is generated from its own random seed, derived from the generator's seed and
+ * the aircraft's index, so the same seed always produces the same save. Each aircraft has a
+ * cyclic task list valid under the rules of {@link TaskList#TaskList(List)}: some ticks away,
+ * a landing, some ticks waiting at a gate, loading and a takeoff. Its current task is chosen at
+ * random, and the save is kept consistent with it:
+ * <ul>
+ *     <li>aircraft whose current task is {@code LAND} are in the landing queue, and a few
+ *     of them have declared an emergency;</li>
+ *     <li>aircraft whose current task is {@code TAKEOFF} are in the takeoff queue;</li>
+ *     <li>aircraft whose current task is {@code WAIT} or {@code LOAD} are parked at a gate of a
+ *     suitable terminal, and those loading are in the map of loading aircraft.</li>
+ * </ul>
+ * The airport has enough gates of each type for the aircraft parked there, plus a percentage
+ * spare, spread over terminals of up to a given number of gates. Occupied gates are spread at
+ * random among them.
+ * <p>
+ * Saves are streamed to their writers. Rather than holding every aircraft in memory, the
+ * generator regenerates aircraft from their seeds on each pass it makes over them, so memory
+ * used does not grow with the number of aircraft.
+ */
+public final class SaveGenerator {
+
+    /** Default number of gates per terminal */
+    public static final int DEFAULT_GATES_PER_TERMINAL = Terminal.MAX_LARGE_TERMINAL_GATES;
+
+    /** Default percentage of spare gates beyond those occupied */
+    public static final int DEFAULT_SPARE_GATE_PERCENT = 20;
+
+    /** Number of aircraft generated by {@link #main(String[])} if none is given */
+    private static final int DEFAULT_MAIN_AIRCRAFT = 10_000;
+
+    /** Most ticks an aircraft spends away in each cycle of its task list */
+    private static final int MAX_AWAY_TICKS = 10;
+
+    /** Most ticks an aircraft spends waiting at a gate in each cycle of its task list */
+    private static final int MAX_WAIT_TICKS = 20;
+
+    /** Chance that an aircraft waiting to land has declared an emergency */
+    private static final double EMERGENCY_CHANCE = 0.001;
+
+    /** Airline codes of passenger airplanes */
+    private static final String[] PASSENGER_AIRLINES = {"QFA", "CSN", "UAL", "UAE"};
+
+    /** Airline codes of freight airplanes */
+    private static final String[] FREIGHT_AIRLINES = {"UPS", "GTI", "CLX", "GEC"};
+
+    /** Callsign prefix of helicopters */
+    private static final String HELICOPTER_PREFIX = "VH-";
+
+    /** Number of aircraft generated */
+    private final int numAircraft;
+
+    /** Seed from which every aircraft's seed is derived */
+    private final long seed;
+
+    /** Most gates in each terminal */
+    private final int gatesPerTerminal;
+
+    /** Percentage of spare gates beyond those occupied */
+    private final int spareGatePercent;
+
+    /**
+     * Creates a new generator with the default terminal size and number of spare gates.
+     *
+     * @param numAircraft number of aircraft to generate
+     * @param seed        seed from which the save is generated
+     * @throws IllegalArgumentException if numAircraft &lt; 0
+     */
+    public SaveGenerator(int numAircraft, long seed) {
+        this(numAircraft, seed, DEFAULT_GATES_PER_TERMINAL, DEFAULT_SPARE_GATE_PERCENT);
+    }
+
+    /**
+     * Creates a new generator.
+     *
+     * @param numAircraft      number of aircraft to generate
+     * @param seed             seed from which the save is generated
+     * @param gatesPerTerminal most gates in each terminal, from 1 to
+     *                         {@link Terminal#MAX_LARGE_TERMINAL_GATES}
+     * @param spareGatePercent number of unoccupied gates of each type, as a percentage of the
+     *                         number occupied
+     * @throws IllegalArgumentException if numAircraft &lt; 0, gatesPerTerminal is out of range or
+     *                                  spareGatePercent &lt; 0
+     */
+    public SaveGenerator(int numAircraft, long seed, int gatesPerTerminal,
+            int spareGatePercent) {
+        if (numAircraft < 0) {
+            throw new IllegalArgumentException("Number of aircraft must not be negative");
+        }
+        if (gatesPerTerminal < 1 || gatesPerTerminal > Terminal.MAX_LARGE_TERMINAL_GATES) {
+            throw new IllegalArgumentException("Gates per terminal must be between 1 and "
+                    + Terminal.MAX_LARGE_TERMINAL_GATES);
+        }
+        if (spareGatePercent < 0) {
+            throw new IllegalArgumentException("Spare gate percentage must not be negative");
+        }
+        this.numAircraft = numAircraft;
+        this.seed = seed;
+        this.gatesPerTerminal = gatesPerTerminal;
+        this.spareGatePercent = spareGatePercent;
+    }
+
+    /**
+     * Writes a generated save to the given writers, in the format read by
+     * {@link towersim.control.ControlTowerInitialiser#createControlTower}. The save starts at
+     * tick zero with the default runway configuration.
+     * <p>
+     * The writers are flushed but not closed.
+     *
+     * @param tick               writer to which the number of ticks elapsed is written
+     * @param aircraft           writer to which the list of aircraft is written
+     * @param queues             writer to which the aircraft queues and map of loading aircraft
+     *                           are written
+     * @param terminalsWithGates writer to which the terminals and their gates are written
+     * @throws IOException if an IOException is encountered when writing
+     */
+    public void generate(Writer tick, Writer aircraft, Writer queues, Writer terminalsWithGates)
+            throws IOException {
+        tick.write("0");
+        tick.flush();
+
+        // Count aircraft in each state, so counts can be written ahead of the aircraft
+        int numLanding = 0;
+        int numTakingOff = 0;
+        int numLoading = 0;
+        int[] numParkedByType = new int[AircraftType.values().length];
+        for (int i = 0; i < this.numAircraft; ++i) {
+            Aircraft generated = createAircraft(i, aircraftRandom(i));
+            switch (generated.getTaskList().getCurrentTask().getType()) {
+                case LAND:
+                    numLanding++;
+                    break;
+                case TAKEOFF:
+                    numTakingOff++;
+                    break;
+                case LOAD:
+                    numLoading++;
+                    numParkedByType[generated.getCharacteristics().type.ordinal()]++;
+                    break;
+                case WAIT:
+                    numParkedByType[generated.getCharacteristics().type.ordinal()]++;
+                    break;
+            }
+        }
+
+        writeAircraft(aircraft);
+        writeQueue(queues, "TakeoffQueue", TaskType.TAKEOFF, numTakingOff);
+        queues.write(System.lineSeparator());
+        writeQueue(queues, "LandingQueue", TaskType.LAND, numLanding);
+        queues.write(System.lineSeparator());
+        writeQueue(queues, "LoadingAircraft", TaskType.LOAD, numLoading);
+        queues.flush();
+        writeTerminals(terminalsWithGates, numParkedByType);
+    }
+
+    /* Writes the number of aircraft followed by every encoded aircraft, one per line */
+    private void writeAircraft(Writer writer) throws IOException {
+        writer.write(String.valueOf(this.numAircraft));
+        for (int i = 0; i < this.numAircraft; ++i) {
+            writer.write(System.lineSeparator());
+            writer.write(createAircraft(i, aircraftRandom(i)).encode());
+        }
+        writer.flush();
+    }
+
+    /*
+     * Writes a queue, or the map of loading aircraft, holding the given number of aircraft whose
+     * current task is of the given type. Loading aircraft are written with the ticks remaining
+     */
+    private void writeQueue(Writer writer, String name, TaskType type, int size)
+            throws IOException {
+        writer.write(name + ":" + size);
+        if (size > 0) {
+            writer.write(System.lineSeparator());
+        }
+        int written = 0;
+        for (int i = 0; i < this.numAircraft && written < size; ++i) {
+            SplittableRandom random = aircraftRandom(i);
+            Aircraft generated = createAircraft(i, random);
+            if (generated.getTaskList().getCurrentTask().getType() != type) {
+                continue;
+            }
+            if (written++ > 0) {
+                writer.write(",");
+            }
+            writer.write(generated.getCallsign());
+            if (type == TaskType.LOAD) {
+                writer.write(":" + (1 + random.nextInt(generated.getLoadingTime())));
+            }
+        }
+    }
+
+    /*
+     * Writes the number of terminals followed by every encoded terminal and its gates, with the
+     * terminals for each type of aircraft in turn
+     */
+    private void writeTerminals(Writer writer, int[] numParkedByType) throws IOException {
+        int[] numGatesByType = new int[numParkedByType.length];
+        int[] numTerminalsByType = new int[numParkedByType.length];
+        int numTerminals = 0;
+        for (int type = 0; type < numParkedByType.length; ++type) {
+            int parked = numParkedByType[type];
+            numGatesByType[type] = parked
+                    + (int) Math.ceil(parked * (double) this.spareGatePercent / 100);
+            numTerminalsByType[type] = (numGatesByType[type] + this.gatesPerTerminal - 1)
+                    / this.gatesPerTerminal;
+            numTerminals += numTerminalsByType[type];
+        }
+
+        writer.write(String.valueOf(numTerminals));
+        // Seeded separately from every aircraft, so gate placement is also reproducible
+        SplittableRandom placement = new SplittableRandom(Seeds.mix(this.seed, -1));
+        int terminalNumber = 0;
+        int gateNumber = 0;
+        for (AircraftType type : AircraftType.values()) {
+            int terminals = numTerminalsByType[type.ordinal()];
+            int gatesLeft = numGatesByType[type.ordinal()];
+            int parkedLeft = numParkedByType[type.ordinal()];
+            int[] nextIndex = new int[1];
+            for (int t = 0; t < terminals; ++t) {
+                // Spread gates evenly, with earlier terminals taking any remainder
+                int gates = numGatesByType[type.ordinal()] / terminals
+                        + (t < numGatesByType[type.ordinal()] % terminals ? 1 : 0);
+                writer.write(System.lineSeparator());
+                writer.write((type == AircraftType.HELICOPTER ? "HelicopterTerminal"
+                        : "AirplaneTerminal") + ":" + (++terminalNumber) + ":false:" + gates);
+                if (this.gatesPerTerminal != Terminal.MAX_NUM_GATES) {
+                    writer.write(":" + this.gatesPerTerminal);
+                }
+                for (int g = 0; g < gates; ++g) {
+                    writer.write(System.lineSeparator());
+                    writer.write(String.valueOf(++gateNumber));
+                    // Occupy exactly as many gates as there are parked aircraft, each gate
+                    // with a chance of the parked aircraft left over the gates left
+                    if (placement.nextInt(gatesLeft--) < parkedLeft) {
+                        writer.write(":" + nextParked(type, nextIndex).getCallsign());
+                        parkedLeft--;
+                    } else {
+                        writer.write(":empty");
+                    }
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /*
+     * Returns the next aircraft of the given type parked at a gate, searching from the index
+     * held by the given cursor and leaving the cursor just past the aircraft returned
+     */
+    private Aircraft nextParked(AircraftType type, int[] cursor) {
+        while (cursor[0] < this.numAircraft) {
+            int index = cursor[0]++;
+            Aircraft generated = createAircraft(index, aircraftRandom(index));
+            TaskType current = generated.getTaskList().getCurrentTask().getType();
+            if (generated.getCharacteristics().type == type
+                    && (current == TaskType.WAIT || current == TaskType.LOAD)) {
+                return generated;
+            }
+        }
+        throw new IllegalStateException("Fewer parked aircraft than counted");
+    }
+
+    /*
+     * Creates the aircraft with the given index, drawing everything about it from the given
+     * source of randomness. Its current task is chosen by rotating its task list
+     */
+    private static Aircraft createAircraft(int index, SplittableRandom random) {
+        AircraftCharacteristics[] kinds = AircraftCharacteristics.values();
+        AircraftCharacteristics characteristics = kinds[random.nextInt(kinds.length)];
+
+        List<Task> tasks = new ArrayList<>();
+        int awayTicks = 1 + random.nextInt(MAX_AWAY_TICKS);
+        for (int i = 0; i < awayTicks; ++i) {
+            tasks.add(new Task(TaskType.AWAY));
+        }
+        tasks.add(new Task(TaskType.LAND));
+        int waitTicks = random.nextInt(MAX_WAIT_TICKS + 1);
+        for (int i = 0; i < waitTicks; ++i) {
+            tasks.add(new Task(TaskType.WAIT));
+        }
+        tasks.add(new Task(TaskType.LOAD, 10 + random.nextInt(91)));
+        tasks.add(new Task(TaskType.TAKEOFF));
+        Collections.rotate(tasks, -random.nextInt(tasks.size()));
+
+        String callsign = callsign(index, characteristics, random);
+        double fuel = random.nextDouble() * characteristics.fuelCapacity;
+        Aircraft generated;
+        if (characteristics.passengerCapacity > 0) {
+            generated = new PassengerAircraft(callsign, characteristics, new TaskList(tasks),
+                    fuel, random.nextInt(characteristics.passengerCapacity + 1));
+        } else {
+            generated = new FreightAircraft(callsign, characteristics, new TaskList(tasks),
+                    fuel, random.nextInt(characteristics.freightCapacity + 1));
+        }
+        if (tasks.get(0).getType() == TaskType.LAND && random.nextDouble() < EMERGENCY_CHANCE) {
+            generated.declareEmergency();
+        }
+        return generated;
+    }
+
+    /*
+     * Returns a callsign for the aircraft with the given index, made unique by ending it with
+     * the index. Airplanes are given an airline code and helicopters a registration prefix
+     */
+    private static String callsign(int index, AircraftCharacteristics characteristics,
+            SplittableRandom random) {
+        if (characteristics.type == AircraftType.HELICOPTER) {
+            return HELICOPTER_PREFIX + index;
+        }
+        String[] airlines = characteristics.passengerCapacity > 0
+                ? PASSENGER_AIRLINES : FREIGHT_AIRLINES;
+        return airlines[random.nextInt(airlines.length)] + index;
+    }
+
+    /**
+     * Generates a save and writes it to files named like the provided saves, for example
+     * {@code tick_name.txt}, in the given directory.
+     * <p>
+     * By default, a save of 10,000 aircraft is written to the system's
+     * temporary directory, so generating a save never touches the provided saves unless a
+     * directory is given explicitly.
+     * <p>
+     * Usage: {@code [aircraft] [seed] [directory] [name] [gates_per_terminal]
+     * [spare_gate_percent]}
+     *
+     * @param args optional number of aircraft, seed, output directory, save name, most gates
+     *             per terminal and percentage of spare gates
+     * @throws IOException if an IOException is encountered when writing the files
+     */
+    public static void main(String[] args) throws IOException {
+        final int numAircraft = args.length > 0 ? Integer.parseInt(args[0])
+                : DEFAULT_MAIN_AIRCRAFT;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        final File directory = new File(args.length > 2 ? args[2]
+                : System.getProperty("java.io.tmpdir"));
+        final String name = args.length > 3 ? args[3] : "generated";
+        final int gatesPerTerminal = args.length > 4 ? Integer.parseInt(args[4])
+                : DEFAULT_GATES_PER_TERMINAL;
+        final int spareGatePercent = args.length > 5 ? Integer.parseInt(args[5])
+                : DEFAULT_SPARE_GATE_PERCENT;
+
+        SaveGenerator generator = new SaveGenerator(numAircraft, seed, gatesPerTerminal,
+                spareGatePercent);
+        long start = System.nanoTime();
+        try (Writer tick = new BufferedWriter(new FileWriter(
+                new File(directory, "tick_" + name + ".txt")));
+             Writer aircraft = new BufferedWriter(new FileWriter(
+                     new File(directory, "aircraft_" + name + ".txt")));
+             Writer queues = new BufferedWriter(new FileWriter(
+                     new File(directory, "queues_" + name + ".txt")));
+             Writer terminalsWithGates = new BufferedWriter(new FileWriter(
+                     new File(directory, "terminalsWithGates_" + name + ".txt")))) {
+            generator.generate(tick, aircraft, queues, terminalsWithGates);
+        }
+        System.out.printf("Generated %d aircraft with seed %d in %.1f s into %s%n", numAircraft,
+                seed, (System.nanoTime() - start) / 1e9, directory.getAbsolutePath());
+    }
+
+    /* Returns the source of randomness for the aircraft with the given index */
+    private SplittableRandom aircraftRandom(int index) {
+        return new SplittableRandom(Seeds.mix(this.seed, index));
+    }
+}
@@ -0,0 +1,69 @@
+package towersim.benchmark;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.FreightAircraft;
+import towersim.aircraft.PassengerAircraft;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Creates randomised aircraft that keep an airport busy, for benchmarks and capacity planning.
+ * <p>
+ * Each aircraft cycles between away, landing, waiting and loading at a gate, and taking off.
+ * It spends between 1 and 10 ticks away, so those away longest return with critical fuel, and
+ * between 20 and 79 ticks waiting, so gates stay occupied. Aircraft start away, fully fuelled
+ * and empty.
+ */
+public final class SyntheticAircraft {
+
+    /** Most ticks an aircraft spends away in each cycle of its task list */
+    private static final int MAX_AWAY_TICKS = 10;
+
+    /** Fewest ticks an aircraft spends waiting at a gate in each cycle of its task list */
+    private static final int MIN_WAIT_TICKS = 20;
+
+    /** Number of different numbers of ticks an aircraft may spend waiting at a gate */
+    private static final int WAIT_TICKS_RANGE = 60;
+
+    private SyntheticAircraft() {
+    }
+
+    /**
+     * Creates an aircraft with the given callsign and characteristics and a random task list.
+     *
+     * @param callsign        callsign of the aircraft
+     * @param characteristics characteristics of the aircraft; passenger aircraft are created
+     *                        for characteristics that carry passengers, freight aircraft
+     *                        otherwise
+     * @param random          source of randomness for the task list
+     * @return new aircraft
+     */
+    public static Aircraft create(String callsign, AircraftCharacteristics characteristics,
+            SplittableRandom random) {
+        List<Task> tasks = new ArrayList<>();
+        int awayTicks = 1 + random.nextInt(MAX_AWAY_TICKS);
+        for (int i = 0; i < awayTicks; ++i) {
+            tasks.add(new Task(TaskType.AWAY));
+        }
+        tasks.add(new Task(TaskType.LAND));
+        int waitTicks = MIN_WAIT_TICKS + random.nextInt(WAIT_TICKS_RANGE);
+        for (int i = 0; i < waitTicks; ++i) {
+            tasks.add(new Task(TaskType.WAIT));
+        }
+        tasks.add(new Task(TaskType.LOAD, 10 + random.nextInt(90)));
+        tasks.add(new Task(TaskType.TAKEOFF));
+
+        if (characteristics.passengerCapacity > 0) {
+            return new PassengerAircraft(callsign, characteristics, new TaskList(tasks),
+                    characteristics.fuelCapacity, 0);
+        }
+        return new FreightAircraft(callsign, characteristics, new TaskList(tasks),
+                characteristics.fuelCapacity, 0);
+    }
+}
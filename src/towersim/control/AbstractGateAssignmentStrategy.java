@@ -0,0 +1,195 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftType;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of gate assignment strategies, indexing terminals by the type of aircraft they
+ * accommodate.
+ * <p>
+ * Each terminal is given a position among the terminals of its type, in the order they were
+ * added, and the positions of terminals with at least one unoccupied gate are kept in a bitset
+ * per type. Subclasses choose between these terminals in {@link #chooseTerminal(AircraftType)},
+ * and may keep further indexes up to date in {@link #terminalChanged(AircraftType, int)}.
+ */
+public abstract class AbstractGateAssignmentStrategy implements GateAssignmentStrategy {
+
+    /** Terminals accommodating each type of aircraft, indexed by type ordinal, in order */
+    private final List<List<Terminal>> terminalsByType;
+
+    /** Positions of terminals with an unoccupied gate, indexed by type ordinal */
+    private final BitSet[] available;
+
+    /** Position of each terminal among the terminals of its type */
+    private final Map<Terminal, Integer> positions;
+
+    /**
+     * Creates a new strategy with no terminals.
+     */
+    protected AbstractGateAssignmentStrategy() {
+        AircraftType[] types = AircraftType.values();
+        this.terminalsByType = new ArrayList<>(types.length);
+        this.available = new BitSet[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            this.terminalsByType.add(new ArrayList<>());
+            this.available[i] = new BitSet();
+        }
+        this.positions = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the type of aircraft accommodated by the given terminal.
+     *
+     * @param terminal terminal to check
+     * @return type of aircraft accommodated; or null if the terminal accommodates neither
+     */
+    public static AircraftType typeAccommodatedBy(Terminal terminal) {
+        if (terminal instanceof AirplaneTerminal) {
+            return AircraftType.AIRPLANE;
+        } else if (terminal instanceof HelicopterTerminal) {
+            return AircraftType.HELICOPTER;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Terminals accommodating neither airplanes nor helicopters are ignored.
+     */
+    @Override
+    public void terminalAdded(Terminal terminal) {
+        AircraftType type = typeAccommodatedBy(terminal);
+        if (type == null || this.positions.containsKey(terminal)) {
+            return;
+        }
+        List<Terminal> terminals = this.terminalsByType.get(type.ordinal());
+        this.positions.put(terminal, terminals.size());
+        terminals.add(terminal);
+        update(type, terminals.size() - 1, terminal);
+    }
+
+    @Override
+    public void gateAdded(Terminal terminal, Gate gate) {
+        update(terminal);
+    }
+
+    @Override
+    public void aircraftParked(Terminal terminal, Gate gate, Aircraft aircraft) {
+        update(terminal);
+    }
+
+    @Override
+    public void aircraftLeft(Terminal terminal, Gate gate, Aircraft aircraft) {
+        update(terminal);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The gate returned is the first unoccupied gate of the terminal chosen by
+     * {@link #chooseTerminal(AircraftType)}.
+     */
+    @Override
+    public Gate findUnoccupiedGate(Aircraft aircraft) throws NoSuitableGateException {
+        Terminal terminal = chooseTerminal(aircraft.getCharacteristics().type);
+        if (terminal == null) {
+            throw new NoSuitableGateException("No gate available for aircraft");
+        }
+        return terminal.findUnoccupiedGate();
+    }
+
+    /**
+     * Chooses a terminal with an unoccupied gate that accommodates the given type of aircraft and
+     * is not in a state of emergency.
+     *
+     * @param type type of aircraft to find a terminal for
+     * @return chosen terminal; or null if there is no such terminal
+     */
+    protected abstract Terminal chooseTerminal(AircraftType type);
+
+    /**
+     * Called when a terminal has been added, or its gates or their occupancy have changed.
+     * Does nothing by default.
+     *
+     * @param type     type of aircraft accommodated by the terminal
+     * @param position position of the terminal among the terminals of its type
+     */
+    protected void terminalChanged(AircraftType type, int position) {
+    }
+
+    /**
+     * Returns the terminal at the given position among the terminals of the given type.
+     *
+     * @param type     type of aircraft accommodated by the terminal
+     * @param position position of the terminal
+     * @return terminal at the given position
+     */
+    protected Terminal getTerminal(AircraftType type, int position) {
+        return this.terminalsByType.get(type.ordinal()).get(position);
+    }
+
+    /**
+     * Returns the number of terminals accommodating the given type of aircraft.
+     *
+     * @param type type of aircraft
+     * @return number of terminals
+     */
+    protected int getNumTerminals(AircraftType type) {
+        return this.terminalsByType.get(type.ordinal()).size();
+    }
+
+    /**
+     * Returns the position of the first terminal of the given type, at or after the given
+     * position, that has an unoccupied gate and is not in a state of emergency.
+     *
+     * @param type          type of aircraft accommodated by the terminal
+     * @param startPosition position to start searching from
+     * @return position of the terminal; or -1 if there is no such terminal
+     */
+    protected int nextAssignable(AircraftType type, int startPosition) {
+        BitSet positions = this.available[type.ordinal()];
+        for (int position = positions.nextSetBit(startPosition); position >= 0;
+                position = positions.nextSetBit(position + 1)) {
+            if (!getTerminal(type, position).hasEmergency()) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the given terminal has an unoccupied gate.
+     *
+     * @param terminal terminal to check
+     * @return true if at least one gate is unoccupied
+     */
+    protected static boolean hasUnoccupiedGate(Terminal terminal) {
+        return terminal.getNumOccupiedGates() < terminal.getNumGates();
+    }
+
+    /* Updates the indexes of a terminal already added, ignoring terminals never added */
+    private void update(Terminal terminal) {
+        Integer position = this.positions.get(terminal);
+        if (position != null) {
+            update(typeAccommodatedBy(terminal), position, terminal);
+        }
+    }
+
+    /* Updates the indexes of the terminal at the given position */
+    private void update(AircraftType type, int position, Terminal terminal) {
+        this.available[type.ordinal()].set(position, hasUnoccupiedGate(terminal));
+        terminalChanged(type, position);
+    }
+}
@@ -0,0 +1,66 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftType;
+
+/**
+ * Runway scheduling policy that chooses each movement from fuel urgency, gate availability and
+ * queue depths.
+ * <p>
+ * The aircraft at the front of the landing queue is considered first:
+ * <ul>
+ *     <li>if there is no gate free for its type of aircraft, landing is pointless, so only a
+ *     takeoff is attempted;</li>
+ *     <li>otherwise, if it is in a state of emergency or its fuel is at or below the urgent
+ *     level, it is landed;</li>
+ *     <li>otherwise, whichever of the landing and takeoff queues is longer is served, falling
+ *     back to the other queue, with ties broken in favour of landing.</li>
+ * </ul>
+ * Gate availability is judged from the control tower's gate counters, without searching any
+ * terminal. Those counters include terminals in a state of emergency, so a landing may still
+ * fail, in which case an aircraft is allowed to take off instead.
+ */
+public class AdaptiveRunwayPolicy implements RunwaySchedulingPolicy {
+
+    /** Fuel percentage at or below which an aircraft waiting to land is urgent */
+    private final int urgentFuelPercent;
+
+    /**
+     * Creates a new adaptive policy treating aircraft as urgent at the
+     * {@link LandingQueue#CRITICAL_FUEL_PERCENT critical fuel level} of the landing queue.
+     */
+    public AdaptiveRunwayPolicy() {
+        this(LandingQueue.CRITICAL_FUEL_PERCENT);
+    }
+
+    /**
+     * Creates a new adaptive policy using the given urgent fuel level.
+     *
+     * @param urgentFuelPercent fuel percentage at or below which an aircraft waiting to land is
+     *                          landed ahead of any takeoff
+     * @throws IllegalArgumentException if urgentFuelPercent &lt; 0 or urgentFuelPercent &gt; 100
+     */
+    public AdaptiveRunwayPolicy(int urgentFuelPercent) {
+        if (urgentFuelPercent < 0 || urgentFuelPercent > 100) {
+            throw new IllegalArgumentException("Urgent fuel percentage must be between 0 and 100");
+        }
+        this.urgentFuelPercent = urgentFuelPercent;
+    }
+
+    @Override
+    public RunwayMovement chooseMovement(ControlTower tower, int position) {
+        Aircraft next = tower.getLandingQueue().peekAircraft();
+        if (next == null) {
+            return RunwayMovement.TAKEOFF;
+        }
+        AircraftType type = next.getCharacteristics().type;
+        if (tower.getNumOccupiedGates(type) >= tower.getNumGates(type)) {
+            return RunwayMovement.TAKEOFF;
+        }
+        if (next.hasEmergency() || next.getFuelPercentRemaining() <= this.urgentFuelPercent
+                || tower.getLandingQueue().size() >= tower.getTakeoffQueue().size()) {
+            return RunwayMovement.LAND_ELSE_TAKEOFF;
+        }
+        return RunwayMovement.TAKEOFF_ELSE_LAND;
+    }
+}
@@ -4,6 +4,7 @@ import towersim.aircraft.Aircraft;
 import towersim.util.Encodable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Abstract representation of a queue containing aircraft.
@@ -52,6 +53,28 @@ public abstract class AircraftQueue implements Encodable {
      */
     public abstract List<Aircraft> getAircraftInOrder();
 
+    /**
+     * Performs the given action for each aircraft in the queue, in the same order as
+     * {@link #getAircraftInOrder()}.
+     * <p>
+     * Subclasses should override this to visit their aircraft without building an intermediate
+     * list. The queue must not be modified by the action.
+     *
+     * @param action action to perform for each aircraft
+     */
+    public void forEachInOrder(Consumer<? super Aircraft> action) {
+        this.getAircraftInOrder().forEach(action);
+    }
+
+    /**
+     * Returns the number of aircraft in the queue.
+     *
+     * @return number of aircraft in queue
+     */
+    public int size() {
+        return this.getAircraftInOrder().size();
+    }
+
     /**
      * Returns true if the given aircraft is in the queue.
      *
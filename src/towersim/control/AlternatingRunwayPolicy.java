@@ -0,0 +1,21 @@
+package towersim.control;
+
+/**
+ * Runway scheduling policy that alternates between landings and takeoffs from tick to tick,
+ * regardless of the state of the queues.
+ * <p>
+ * On every second tick, a landing is attempted, and an aircraft is allowed to take off instead if
+ * none could land. On the other ticks, only takeoffs are allowed. Runways are staggered by
+ * position, so that with several mixed runways, some attempt landings on every tick.
+ * <p>
+ * This is the default policy of a control tower.
+ */
+public class AlternatingRunwayPolicy implements RunwaySchedulingPolicy {
+
+    @Override
+    public RunwayMovement chooseMovement(ControlTower tower, int position) {
+        //Tick indexing starts from 0, so landings are attempted on the second call.
+        return (tower.getTicksElapsed() + position) % 2 == 1
+                ? RunwayMovement.LAND_ELSE_TAKEOFF : RunwayMovement.TAKEOFF;
+    }
+}
@@ -0,0 +1,16 @@
+package towersim.control;
+
+/**
+ * Gate assignment strategy that parks each aircraft at the suitable terminal of its type with
+ * the fewest unoccupied gates, as in best-fit bin packing.
+ * <p>
+ * Filling the tightest terminal first keeps the terminals with the most room free for bursts of
+ * arrivals. Ties are broken in favour of the terminal added first.
+ */
+public class BestFitGateAssignment extends RankedGateAssignment {
+
+    @Override
+    protected int compareRanks(int occupiedA, int gatesA, int occupiedB, int gatesB) {
+        return Integer.compare(gatesA - occupiedA, gatesB - occupiedB);
+    }
+}
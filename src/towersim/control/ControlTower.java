@@ -1,17 +1,20 @@
 package towersim.control;
 
 import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftRegistry;
 import towersim.aircraft.AircraftType;
-import towersim.ground.AirplaneTerminal;
 import towersim.ground.Gate;
-import towersim.ground.HelicopterTerminal;
+import towersim.ground.GateOccupancyListener;
 import towersim.ground.Terminal;
+import towersim.monitoring.TickMetrics;
+import towersim.monitoring.TickPhase;
 import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 import towersim.util.Tickable;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a the control tower of an airport.
@@ -23,6 +26,11 @@ import java.util.*;
  * @ass1
  */
 public class ControlTower implements Tickable {
+    /**
+     * Maximum number of runways an airport may have.
+     */
+    public static final int MAX_RUNWAYS = 16;
+
     /**
      * List of all aircraft managed by the control tower.
      */
@@ -53,6 +61,93 @@ public class ControlTower implements Tickable {
      */
     private Map<Aircraft, Integer> loadingAircraft;
 
+    /**
+     * Registry assigning dense integer IDs to all aircraft managed by the control tower
+     */
+    private final AircraftRegistry registry;
+
+    /**
+     * Gate each aircraft was last parked at by the control tower, indexed by aircraft ID
+     */
+    private Gate[] gatesByAircraftId;
+
+    /**
+     * IDs of registered aircraft currently in the landing queue
+     */
+    private final BitSet landingIds;
+
+    /**
+     * IDs of registered aircraft currently in the takeoff queue
+     */
+    private final BitSet takeoffIds;
+
+    /**
+     * IDs of registered aircraft currently in the loading map
+     */
+    private final BitSet loadingIds;
+
+    /**
+     * Per-phase latencies, movement counters and queue depths recorded on each tick
+     */
+    private final TickMetrics metrics;
+
+    /**
+     * Listeners notified of movements made by the control tower
+     */
+    private final List<TowerListener> listeners;
+
+    /**
+     * Number of gates in all terminals of the airport
+     */
+    private int numGates;
+
+    /**
+     * Number of gates in all terminals of the airport, indexed by the ordinal of the type of
+     * aircraft accommodated by their terminal
+     */
+    private final int[] numGatesByType;
+
+    /**
+     * Number of occupied gates in all terminals of the airport, indexed by the ordinal of the
+     * type of aircraft parked at them
+     */
+    private final int[] numOccupiedGatesByType;
+
+    /**
+     * Listener registered with every terminal to keep the airport-wide gate counters up to date
+     */
+    private final GateOccupancyListener occupancyCounter;
+
+    /**
+     * Strategy used to choose the gate at which to park each aircraft
+     */
+    private GateAssignmentStrategy gateAssignment;
+
+    /**
+     * Runways of the airport, each used for one movement per tick
+     */
+    private final List<Runway> runways;
+
+    /**
+     * Aircraft in the landing queue waiting for a gate to become free
+     */
+    private final GateWaitList gateWaitList;
+
+    /**
+     * Policy used to choose the movement made on each mixed runway
+     */
+    private RunwaySchedulingPolicy runwayPolicy;
+
+    /**
+     * Tick at which each aircraft joined the queue it is waiting in, indexed by aircraft ID
+     */
+    private long[] queuedAtTickByAircraftId;
+
+    /**
+     * Aircraft at the front of the landing queue that could not be given a gate earlier in the
+     * current tick's runway phase; or null if no landing has failed yet this tick
+     */
+    private Aircraft blockedLanding;
 
     /**
      * Creates a new ControlTower.
@@ -60,6 +155,12 @@ public class ControlTower implements Tickable {
      * The number of ticks elapsed, list of aircraft, landing queue,
      * takeoff queue and map of loading aircraft to loading times should all be
      * set to the values passed as parameters.
+     * <p>
+     * Each aircraft in the given list is assigned a dense integer ID (see
+     * {@link Aircraft#getId()}). Once the control tower has been created, its queues and
+     * loading map should only be modified through the control tower, as it tracks which
+     * aircraft they contain by ID. Every aircraft in the queues and loading map must be in the
+     * given list, and no aircraft may be managed by another control tower.
      *
      * @param ticksElapsed    number of ticks that have elapsed since the tower was first created
      * @param aircraft        list of aircraft managed by the control tower
@@ -67,6 +168,9 @@ public class ControlTower implements Tickable {
      * @param takeoffQueue    queue of aircraft waiting to take off
      * @param loadingAircraft mapping of aircraft that are loading cargo to the number of ticks
      *                        remaining for loading
+     * @throws IllegalArgumentException if an aircraft in the queues or loading map is not in
+     *                                  the list of aircraft, or an aircraft in the list is
+     *                                  managed by another control tower
      */
     public ControlTower(long ticksElapsed, List<Aircraft> aircraft, LandingQueue landingQueue,
                         TakeoffQueue takeoffQueue, Map<Aircraft, Integer> loadingAircraft) {
@@ -77,16 +181,228 @@ public class ControlTower implements Tickable {
         this.takeoffQueue = takeoffQueue;
         this.loadingAircraft = loadingAircraft;
         this.terminals = new ArrayList<>();
+
+        this.metrics = new TickMetrics();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.registry = new AircraftRegistry();
+        this.gateWaitList = new GateWaitList(this.registry);
+        this.landingIds = new BitSet();
+        this.takeoffIds = new BitSet();
+        this.loadingIds = new BitSet();
+        this.numGatesByType = new int[AircraftType.values().length];
+        this.numOccupiedGatesByType = new int[AircraftType.values().length];
+        this.occupancyCounter = new OccupancyCounter();
+        this.gateAssignment = new FirstFitGateAssignment();
+        this.runways = new ArrayList<>(List.of(new Runway(RunwayMode.MIXED)));
+        this.runwayPolicy = new AlternatingRunwayPolicy();
+        for (Aircraft managed : aircraft) {
+            this.registry.register(managed);
+        }
+        this.gatesByAircraftId = new Gate[Math.max(this.registry.size(), 16)];
+        this.queuedAtTickByAircraftId = new long[this.gatesByAircraftId.length];
+
+        //Record the IDs of aircraft already in the given queues and loading map. Aircraft
+        //already queued are treated as having joined their queue now.
+        for (Aircraft queued : landingQueue.getAircraftInOrder()) {
+            this.landingIds.set(managedId(queued));
+            recordQueuedAt(queued);
+        }
+        for (Aircraft queued : takeoffQueue.getAircraftInOrder()) {
+            this.takeoffIds.set(managedId(queued));
+            recordQueuedAt(queued);
+        }
+        for (Aircraft loading : loadingAircraft.keySet()) {
+            this.loadingIds.set(managedId(loading));
+        }
+    }
+
+    /* Returns the ID of the given aircraft, which must be managed by this control tower */
+    private int managedId(Aircraft aircraft) {
+        if (!this.registry.contains(aircraft)) {
+            throw new IllegalArgumentException("Aircraft " + aircraft.getCallsign()
+                    + " is queued or loading but not managed by the control tower");
+        }
+        return aircraft.getId();
     }
 
     /**
      * Adds the given terminal to the jurisdiction of this control tower.
+     * <p>
+     * The control tower registers itself as the terminal's
+     * {@link Terminal#setOccupancyListener(GateOccupancyListener) occupancy listener} to keep its
+     * gate counters up to date, so a terminal should only be added to one control tower.
      *
      * @param terminal terminal to add
      * @ass1
      */
     public void addTerminal(Terminal terminal) {
         this.terminals.add(terminal);
+        terminal.setOccupancyListener(this.occupancyCounter);
+        this.numGates += terminal.getNumGates();
+        AircraftType type = AbstractGateAssignmentStrategy.typeAccommodatedBy(terminal);
+        if (type != null) {
+            this.numGatesByType[type.ordinal()] += terminal.getNumGates();
+        }
+        this.gateWaitList.wake(type);
+        for (AircraftType parkedType : AircraftType.values()) {
+            this.numOccupiedGatesByType[parkedType.ordinal()] +=
+                    terminal.getNumOccupiedGates(parkedType);
+        }
+        this.gateAssignment.terminalAdded(terminal);
+    }
+
+    /**
+     * Sets the strategy used to choose the gate at which to park each aircraft, replacing the
+     * default {@link FirstFitGateAssignment}.
+     * <p>
+     * The strategy is told about all terminals already managed by this control tower. As
+     * strategies are stateful, the given strategy should not be used by any other tower.
+     *
+     * @param strategy strategy to use
+     */
+    public void setGateAssignmentStrategy(GateAssignmentStrategy strategy) {
+        for (Terminal terminal : this.terminals) {
+            strategy.terminalAdded(terminal);
+        }
+        this.gateAssignment = strategy;
+        this.gateWaitList.wakeAll();
+    }
+
+    /**
+     * Replaces the runways of the airport with new runways of the given modes, in order.
+     * <p>
+     * A control tower initially has a single {@link RunwayMode#MIXED mixed} runway.
+     *
+     * @param modes mode of each runway
+     * @throws IllegalArgumentException if there are no runways or more than
+     *                                  {@link #MAX_RUNWAYS}
+     */
+    public void setRunways(List<RunwayMode> modes) {
+        if (modes.isEmpty() || modes.size() > MAX_RUNWAYS) {
+            throw new IllegalArgumentException("Number of runways must be between 1 and "
+                    + MAX_RUNWAYS);
+        }
+        this.runways.clear();
+        for (RunwayMode mode : modes) {
+            this.runways.add(new Runway(mode));
+        }
+    }
+
+    /**
+     * Returns the runways of the airport, in order.
+     * <p>
+     * Adding or removing elements from the returned list should not affect the original list.
+     *
+     * @return all runways
+     */
+    public List<Runway> getRunways() {
+        return new ArrayList<>(this.runways);
+    }
+
+    /**
+     * Returns the machine-readable string representation of the runway configuration.
+     * <p>
+     * The format of the string to return is
+     * <pre>Runways:mode1,mode2,...,modeN</pre>
+     * where {@code modeX} is the {@link RunwayMode} of the X<sup>th</sup> runway.
+     *
+     * @return encoded runway configuration
+     */
+    public String encodeRunways() {
+        StringJoiner joiner = new StringJoiner(",", "Runways:", "");
+        for (Runway runway : this.runways) {
+            joiner.add(runway.getMode().name());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Sets the policy used to choose the movement made on each {@link RunwayMode#MIXED mixed}
+     * runway every tick, replacing the default {@link AlternatingRunwayPolicy}.
+     *
+     * @param policy policy to use
+     */
+    public void setRunwaySchedulingPolicy(RunwaySchedulingPolicy policy) {
+        this.runwayPolicy = policy;
+    }
+
+    /**
+     * Returns the policy used to choose the movement made on each mixed runway every tick.
+     *
+     * @return runway scheduling policy
+     */
+    public RunwaySchedulingPolicy getRunwaySchedulingPolicy() {
+        return this.runwayPolicy;
+    }
+
+    /**
+     * Returns the strategy used to choose the gate at which to park each aircraft.
+     *
+     * @return gate assignment strategy
+     */
+    public GateAssignmentStrategy getGateAssignmentStrategy() {
+        return this.gateAssignment;
+    }
+
+    /**
+     * Returns the number of gates in all terminals managed by this control tower.
+     *
+     * @return number of gates
+     */
+    public int getNumGates() {
+        return this.numGates;
+    }
+
+    /**
+     * Returns the number of gates in all terminals managed by this control tower that
+     * accommodate the given type of aircraft, whether or not they are in a state of emergency.
+     *
+     * @param type type of aircraft
+     * @return number of gates for that type of aircraft
+     */
+    public int getNumGates(AircraftType type) {
+        return this.numGatesByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of occupied gates in all terminals managed by this control tower.
+     * <p>
+     * The count is maintained as aircraft park and leave, so this does not visit any gates.
+     *
+     * @return number of occupied gates
+     */
+    public int getNumOccupiedGates() {
+        int occupied = 0;
+        for (int count : this.numOccupiedGatesByType) {
+            occupied += count;
+        }
+        return occupied;
+    }
+
+    /**
+     * Returns the number of gates in all terminals managed by this control tower that are
+     * occupied by aircraft of the given type.
+     *
+     * @param type type of aircraft
+     * @return number of gates occupied by aircraft of that type
+     */
+    public int getNumOccupiedGates(AircraftType type) {
+        return this.numOccupiedGatesByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of aircraft of the given type in the landing queue that are waiting for
+     * a gate to become free.
+     * <p>
+     * An aircraft waits for a gate when no suitable gate could be found for it to land at. As many
+     * unoccupied gates as there are waiting aircraft of a type are reserved for them, so they
+     * cannot be taken by aircraft {@link #addAircraft(Aircraft) added} directly at a gate.
+     *
+     * @param type type of aircraft
+     * @return number of aircraft waiting for a gate
+     */
+    public int getNumAircraftWaitingForGate(AircraftType type) {
+        return this.gateWaitList.getNumWaiting(type);
     }
 
     /**
@@ -104,6 +420,28 @@ public class ControlTower implements Tickable {
         return new ArrayList<>(this.terminals);
     }
 
+    /**
+     * Returns the number of terminals managed by this control tower.
+     *
+     * @return number of terminals
+     */
+    public int getNumTerminals() {
+        return this.terminals.size();
+    }
+
+    /**
+     * Returns the terminal at the given position, without copying the terminal list.
+     * <p>
+     * Positions follow the same order as {@link #getTerminals()}.
+     *
+     * @param index position of the terminal, from 0 to {@code getNumTerminals() - 1}
+     * @return terminal at the given position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Terminal getTerminal(int index) {
+        return this.terminals.get(index);
+    }
+
     /**
      * Adds the given aircraft to the jurisdiction of this control tower.
      * <p>
@@ -112,24 +450,45 @@ public class ControlTower implements Tickable {
      * If there is no suitable gate for the aircraft, the {@code NoSuitableGateException} thrown by
      * {@code findUnoccupiedGate()} should be propagated out of this method.
      * <p>
+     * Unoccupied gates reserved for aircraft {@link #getNumAircraftWaitingForGate waiting} in the
+     * landing queue are not available to the added aircraft, so if every unoccupied gate of its
+     * type is reserved, a {@code NoSuitableGateException} is also thrown.
+     * <p>
      * After the aircraft has been added, it should be placed in the appropriate queues by calling
      * placeAircraftInQueues(Aircraft).
+     * <p>
+     * The aircraft is assigned the next free dense integer ID (see {@link Aircraft#getId()}).
      *
      * @param aircraft aircraft to add
      * @throws NoSuitableGateException if there is no suitable gate for an aircraft with a current
      *                                 task type of {@code WAIT} or {@code LOAD}
+     * @throws IllegalArgumentException if the aircraft is already managed by this or another
+     *                                  control tower
      * @ass1
      */
     public void addAircraft(Aircraft aircraft) throws NoSuitableGateException {
+        if (aircraft.getId() != Aircraft.NO_ID) {
+            throw new IllegalArgumentException("Aircraft " + aircraft.getCallsign()
+                    + " is already managed by a control tower");
+        }
         TaskType currentTaskType = aircraft.getTaskList().getCurrentTask().getType();
+        Gate gate = null;
         if (currentTaskType == TaskType.WAIT || currentTaskType == TaskType.LOAD) {
-            Gate gate = findUnoccupiedGate(aircraft);
+            AircraftType type = aircraft.getCharacteristics().type;
+            int reserved = this.gateWaitList.getNumWaiting(type);
+            if (reserved > 0 && getNumGates(type) - getNumOccupiedGates(type) <= reserved) {
+                throw new NoSuitableGateException("All unoccupied gates are reserved for aircraft"
+                        + " waiting to land");
+            }
+            gate = findUnoccupiedGate(aircraft);
             try {
                 gate.parkAircraft(aircraft);
             } catch (NoSpaceException ignored) {
                 // not possible, gate unoccupied
             }
         }
+        this.registry.register(aircraft);
+        recordGateOfAircraft(aircraft, gate);
         this.aircraft.add(aircraft);
         this.placeAircraftInQueues(aircraft);
     }
@@ -149,6 +508,55 @@ public class ControlTower implements Tickable {
         return new ArrayList<>(this.aircraft);
     }
 
+    /**
+     * Returns the aircraft managed by this control tower with the given ID, or null if no
+     * aircraft has that ID.
+     *
+     * @param id ID of the aircraft, as returned by {@link Aircraft#getId()}
+     * @return aircraft with the given ID; or null if none exists
+     */
+    public Aircraft getAircraftById(int id) {
+        return this.registry.get(id);
+    }
+
+    /**
+     * Registers a listener to be notified of movements made by this control tower.
+     * <p>
+     * Listeners may be added or removed while the tower is notifying them, including by a
+     * listener removing itself from inside one of its callbacks. A change made during a
+     * notification takes effect from the next event.
+     *
+     * @param listener listener to add
+     */
+    public void addListener(TowerListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addListener(TowerListener)}.
+     * If the listener was not registered, no action is taken.
+     * <p>
+     * A listener may remove itself from inside one of its callbacks, for example once it has
+     * seen the event it was waiting for.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(TowerListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns the tick metrics recorded by this control tower.
+     * <p>
+     * The metrics can be exposed over JMX by calling
+     * {@link TickMetrics#registerPlatformMBean(String)}.
+     *
+     * @return tick metrics
+     */
+    public TickMetrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * Returns the number of ticks that have elapsed for this control tower.
      * <p>
@@ -170,6 +578,16 @@ public class ControlTower implements Tickable {
         return this.landingQueue;
     }
 
+    /**
+     * Returns the number of aircraft waiting to land with a critical level of fuel.
+     *
+     * @return number of aircraft in the landing queue with critical fuel
+     * @see LandingQueue#getNumFuelCritical()
+     */
+    public int getNumFuelCritical() {
+        return this.landingQueue.getNumFuelCritical();
+    }
+
     /**
      * Returns the queue of aircraft waiting to take off.
      *
@@ -194,12 +612,12 @@ public class ControlTower implements Tickable {
      * Only terminals of the same type as the aircraft's AircraftType (see
      * {@link towersim.aircraft.AircraftCharacteristics#type}) should be considered. For example,
      * for an aircraft with an AircraftType of {@code AIRPLANE}, only AirplaneTerminals may be
-     * considered.
+     * considered. Terminals in a state of emergency are not considered.
      * <p>
-     * For each compatible terminal, the {@link Terminal#findUnoccupiedGate()} method should be
-     * called to attempt to find an unoccupied gate in that terminal. If
-     * {@code findUnoccupiedGate()} does not find a suitable gate, the next compatible terminal
-     * in the order they were added should be checked instead, and so on.
+     * Which of the compatible terminals is used is decided by the tower's
+     * {@link #setGateAssignmentStrategy(GateAssignmentStrategy) gate assignment strategy}. By
+     * default, the first unoccupied gate of the first compatible terminal with an unoccupied
+     * gate is returned, in the order terminals were added.
      * <p>
      * If no unoccupied gates could be found across all compatible terminals, a
      * {@code NoSuitableGateException} should be thrown.
@@ -210,28 +628,7 @@ public class ControlTower implements Tickable {
      * @ass1
      */
     public Gate findUnoccupiedGate(Aircraft aircraft) throws NoSuitableGateException {
-        AircraftType aircraftType = aircraft.getCharacteristics().type;
-        for (Terminal terminal : terminals) {
-            //Terminals that are currently in a state of emergency should not be considered
-            if (terminal.hasEmergency()) {
-                continue;
-            }
-            /*
-             * Only check for available gates at terminals that are of the same aircraft type as
-             * the aircraft
-             */
-            if ((terminal instanceof AirplaneTerminal && aircraftType == AircraftType.AIRPLANE)
-                    || (terminal instanceof HelicopterTerminal
-                    && aircraftType == AircraftType.HELICOPTER)) {
-                try {
-                    // This terminal found a gate, return it
-                    return terminal.findUnoccupiedGate();
-                } catch (NoSuitableGateException e) {
-                    // If this terminal has no unoccupied gates, try the next one
-                }
-            }
-        }
-        throw new NoSuitableGateException("No gate available for aircraft");
+        return this.gateAssignment.findUnoccupiedGate(aircraft);
     }
 
     /**
@@ -246,6 +643,12 @@ public class ControlTower implements Tickable {
      * If there is no suitable gate, the aircraft should not be landed and should remain
      * in the queue, and the method should return false and no further action should be taken.
      * <p>
+     * An aircraft for which no suitable gate could be found waits for a gate (see
+     * {@link #getNumAircraftWaitingForGate(AircraftType)}). While aircraft of its type are
+     * waiting, no search is made for a gate until one suitable for that type may have become
+     * free, whether because an aircraft left a gate, a gate or terminal was added, or a terminal's
+     * emergency was cleared. Until then, landings of that type are refused immediately.
+     * <p>
      * If there is a suitable gate, the aircraft should be removed from the queue and it
      * should be parked at that gate. The aircraft's passengers or freight should be
      * unloaded immediately, by calling Aircraft.unload().
@@ -263,19 +666,36 @@ public class ControlTower implements Tickable {
         //Get an air craft that is pending landing, according to urgency
         Aircraft pendingLanding = this.getLandingQueue().peekAircraft();
 
+        //No gate of its type has become free since a search last failed
+        if (!this.gateWaitList.maySearch(pendingLanding.getCharacteristics().type)) {
+            this.gateWaitList.addWaiting(pendingLanding);
+            this.metrics.recordFailedLandingNoGate();
+            return false;
+        }
+
         try {
             //Find gate and attempt to park.
             Gate availableGate = findUnoccupiedGate(pendingLanding);
             availableGate.parkAircraft(pendingLanding);
+            recordGateOfAircraft(pendingLanding, availableGate);
             //Remove Pending Landing Aircraft from Queue, it has been parked
             this.getLandingQueue().removeAircraft();
+            clearId(this.landingIds, pendingLanding);
+            recordQueueWait(pendingLanding, true);
+            this.gateWaitList.remove(pendingLanding);
             //Unload passengers/freight.
             pendingLanding.unload();
             //Move on to the next task
             pendingLanding.getTaskList().moveToNextTask();
+            this.metrics.recordLanding();
+            for (TowerListener listener : this.listeners) {
+                listener.aircraftLanded(pendingLanding, availableGate);
+            }
             return true;
         } catch (NoSuitableGateException | NoSpaceException noGateOrSpaceException) {
-            //No suitable gate to land.
+            //No suitable gate to land, so wait for one to become free.
+            this.gateWaitList.addWaiting(pendingLanding);
+            this.metrics.recordFailedLandingNoGate();
             return false;
         }
 
@@ -287,13 +707,23 @@ public class ControlTower implements Tickable {
      * If there are no aircraft waiting in the takeoff queue, then the method should return.
      * Otherwise, the aircraft at the front of the takeoff queue should be removed from
      * the queue and it should move to the next task in its task list.
+     *
+     * @return true if an aircraft took off; false if the takeoff queue was empty
      */
-    public void tryTakeOffAircraft() {
+    public boolean tryTakeOffAircraft() {
         //Check if takeOffQueue is not empty
         if (this.getTakeoffQueue().peekAircraft() != null) {
             Aircraft pendingTakeOff = this.getTakeoffQueue().removeAircraft();
+            clearId(this.takeoffIds, pendingTakeOff);
+            recordQueueWait(pendingTakeOff, false);
             pendingTakeOff.getTaskList().moveToNextTask();
+            this.metrics.recordTakeoff();
+            for (TowerListener listener : this.listeners) {
+                listener.aircraftTookOff(pendingTakeOff);
+            }
+            return true;
         }
+        return false;
     }
 
     /**
@@ -319,9 +749,17 @@ public class ControlTower implements Tickable {
 
             //Remove from map if tick is 0, leave current gate and move to next task.
             if (decrementedTickTime <= 0) {
-                this.findGateOfAircraft(mapIndex.getKey()).aircraftLeaves();
-                mapIndex.getKey().getTaskList().moveToNextTask();
+                Aircraft loaded = mapIndex.getKey();
+                Gate loadedGate = this.findGateOfAircraft(loaded);
+                loadedGate.aircraftLeaves();
+                recordGateOfAircraft(loaded, null);
+                loaded.getTaskList().moveToNextTask();
                 itr.remove();
+                clearId(this.loadingIds, loaded);
+                for (TowerListener listener : this.listeners) {
+                    listener.loadingComplete(loaded, loadedGate);
+                    listener.gateFreed(loadedGate);
+                }
             }
         }
     }
@@ -356,20 +794,31 @@ public class ControlTower implements Tickable {
         switch (aircraft.getTaskList().getCurrentTask().getType()) {
             case LAND:
                 //If LandingQueue does not contain aircraft
-                if (!this.getLandingQueue().containsAircraft(aircraft)) {
+                if (!aircraftInQueue(this.landingIds, this.getLandingQueue(), aircraft)) {
                     this.getLandingQueue().addAircraft(aircraft);
+                    setId(this.landingIds, aircraft);
+                    recordQueuedAt(aircraft);
+                    for (TowerListener listener : this.listeners) {
+                        listener.queuedForLanding(aircraft);
+                    }
                 }
                 break;
             case TAKEOFF:
                 //If TakeOffQueue does not contain aircraft
-                if (!this.getTakeoffQueue().containsAircraft(aircraft)) {
+                if (!aircraftInQueue(this.takeoffIds, this.getTakeoffQueue(), aircraft)) {
                     this.getTakeoffQueue().addAircraft(aircraft);
+                    setId(this.takeoffIds, aircraft);
+                    recordQueuedAt(aircraft);
+                    for (TowerListener listener : this.listeners) {
+                        listener.queuedForTakeoff(aircraft);
+                    }
                 }
                 break;
             case LOAD:
                 //Aircraft not already in loading map
                 if (!aircraftInLoadingMap(aircraft)) {
                     this.getLoadingAircraft().put(aircraft, aircraft.getLoadingTime());
+                    setId(this.loadingIds, aircraft);
                 }
                 break;
         }
@@ -382,27 +831,138 @@ public class ControlTower implements Tickable {
      * @return true if aircraft in map, false else.
      */
     private boolean aircraftInLoadingMap(Aircraft aircraft) {
-        for (Map.Entry<Aircraft, Integer> mapIndex : this.getLoadingAircraft().entrySet()) {
-            if (mapIndex.getKey().equals(aircraft)) {
-                return true;
-            }
+        if (this.registry.contains(aircraft)) {
+            return this.loadingIds.get(aircraft.getId());
         }
-        return false;
+        return this.getLoadingAircraft().containsKey(aircraft);
+    }
+
+    /**
+     * Helper method to check if a given aircraft exists within one of the tower's queues.
+     * <p>
+     * Aircraft registered with this tower are looked up by ID in constant time; any other
+     * aircraft falls back to searching the queue itself.
+     *
+     * @param ids      IDs of registered aircraft in the queue
+     * @param queue    queue to check
+     * @param aircraft aircraft to check for
+     * @return true if aircraft in queue, false else.
+     */
+    private boolean aircraftInQueue(BitSet ids, AircraftQueue queue, Aircraft aircraft) {
+        if (this.registry.contains(aircraft)) {
+            return ids.get(aircraft.getId());
+        }
+        return queue.containsAircraft(aircraft);
+    }
+
+    /**
+     * Sets the bit for the given aircraft in the given ID set, if it is registered.
+     *
+     * @param ids      ID set to update
+     * @param aircraft aircraft whose ID to set
+     */
+    private void setId(BitSet ids, Aircraft aircraft) {
+        if (this.registry.contains(aircraft)) {
+            ids.set(aircraft.getId());
+        }
+    }
+
+    /**
+     * Clears the bit for the given aircraft in the given ID set, if it is registered.
+     *
+     * @param ids      ID set to update
+     * @param aircraft aircraft whose ID to clear
+     */
+    private void clearId(BitSet ids, Aircraft aircraft) {
+        if (aircraft != null && this.registry.contains(aircraft)) {
+            ids.clear(aircraft.getId());
+        }
+    }
+
+    /**
+     * Records that the given aircraft has joined a queue this tick. Aircraft that are not
+     * registered with this tower are ignored.
+     *
+     * @param aircraft aircraft that joined a queue
+     */
+    private void recordQueuedAt(Aircraft aircraft) {
+        if (!this.registry.contains(aircraft)) {
+            return;
+        }
+        int id = aircraft.getId();
+        if (id >= this.queuedAtTickByAircraftId.length) {
+            this.queuedAtTickByAircraftId = Arrays.copyOf(this.queuedAtTickByAircraftId,
+                    Math.max(id + 1, this.queuedAtTickByAircraftId.length * 2));
+        }
+        this.queuedAtTickByAircraftId[id] = this.ticksElapsed;
+    }
+
+    /**
+     * Records in the tower's metrics the number of ticks the given aircraft waited in a queue
+     * before leaving it this tick. Aircraft that are not registered with this tower are ignored.
+     *
+     * @param aircraft aircraft that left a queue
+     * @param landed   true if the aircraft left the landing queue; false if it left the takeoff
+     *                 queue
+     */
+    private void recordQueueWait(Aircraft aircraft, boolean landed) {
+        if (!this.registry.contains(aircraft)
+                || aircraft.getId() >= this.queuedAtTickByAircraftId.length) {
+            return;
+        }
+        long wait = this.ticksElapsed - this.queuedAtTickByAircraftId[aircraft.getId()];
+        if (landed) {
+            this.metrics.recordLandingWait(wait);
+        } else {
+            this.metrics.recordTakeoffWait(wait);
+        }
+    }
+
+    /**
+     * Records the gate that the given aircraft is parked at, or null if it has left its gate.
+     * Aircraft that are not registered with this tower are ignored.
+     *
+     * @param aircraft aircraft that was parked or left
+     * @param gate     gate the aircraft is parked at; or null
+     */
+    private void recordGateOfAircraft(Aircraft aircraft, Gate gate) {
+        if (!this.registry.contains(aircraft)) {
+            return;
+        }
+        int id = aircraft.getId();
+        if (id >= this.gatesByAircraftId.length) {
+            this.gatesByAircraftId = Arrays.copyOf(this.gatesByAircraftId,
+                    Math.max(id + 1, this.gatesByAircraftId.length * 2));
+        }
+        this.gatesByAircraftId[id] = gate;
     }
 
 
     /**
      * Finds the gate where the given aircraft is parked, and returns null if the aircraft is
      * not parked at any gate in any terminal.
+     * <p>
+     * The gate an aircraft was parked at by this tower is remembered by aircraft ID, so the
+     * lookup is usually constant time. Otherwise all gates are searched.
      *
      * @param aircraft aircraft whose gate to find
      * @return gate occupied by the given aircraft; or null if none exists
      * @ass1
      */
     public Gate findGateOfAircraft(Aircraft aircraft) {
-        for (Terminal terminal : this.getTerminals()) {
+        boolean registered = this.registry.contains(aircraft);
+        if (registered && aircraft.getId() < this.gatesByAircraftId.length) {
+            Gate knownGate = this.gatesByAircraftId[aircraft.getId()];
+            if (knownGate != null && knownGate.getAircraftAtGate() == aircraft) {
+                return knownGate;
+            }
+        }
+        for (Terminal terminal : this.terminals) {
             for (Gate gate : terminal.getGates()) {
                 if (Objects.equals(gate.getAircraftAtGate(), aircraft)) {
+                    if (registered) {
+                        recordGateOfAircraft(aircraft, gate);
+                    }
                     return gate;
                 }
             }
@@ -418,11 +978,25 @@ public class ControlTower implements Tickable {
      * <p>
      * Note that the actions performed by {@code tick()} are very simple at the moment and will be
      * expanded on in assignment 2.
+     * <p>
+     * Each of the tower's {@link #setRunways(List) runways} is used for at most one landing or
+     * takeoff per tick, according to its {@link RunwayMode}. The movement made on each mixed
+     * runway is chosen by the tower's {@link RunwaySchedulingPolicy}. Once the aircraft at the
+     * front of the landing queue cannot be given a gate, later runways do not try to land it again
+     * that tick unless a suitable gate may have become free, so a failed landing is counted once
+     * per tick however many runways there are.
+     * <p>
+     * The latency of each phase of the tick is recorded in the tower's {@link TickMetrics}, and
+     * registered {@link TowerListener}s are notified of each movement as it happens.
      *
      * @ass1
      */
     @Override
     public void tick() {
+        final long tickStart = System.nanoTime();
+        long phaseStart = tickStart;
+        long phaseEnd;
+
         for (Aircraft aircraft : this.getAircraft()) {
             //1. Call Aircraft.tick() on all aircraft.
             aircraft.tick();
@@ -435,29 +1009,111 @@ public class ControlTower implements Tickable {
             }
         }
 
+        phaseEnd = System.nanoTime();
+        this.metrics.recordPhase(TickPhase.AIRCRAFT_TICK, phaseEnd - phaseStart);
+        phaseStart = phaseEnd;
+
         //3. Process loading aircraft by calling loadAircraft().
         loadAircraft();
 
-        //4.On every second tick, attempt to land an aircraft by calling tryLandAircraft().
-        if (this.getTicksElapsed() % 2 == 1) {
-            //Second Call, tick indexing starts from 0.
-            if (!tryLandAircraft()) {
-                //Aircraft could not be landed
-                tryTakeOffAircraft();
-            }
-        } else {
-            /* First Call
-            5. If this is not a tick where the control tower is attempting to land
-               an aircraft, an aircraft should be allowed to take off instead.
-            */
-            tryTakeOffAircraft();
+        phaseEnd = System.nanoTime();
+        this.metrics.recordPhase(TickPhase.LOAD_AIRCRAFT, phaseEnd - phaseStart);
+        phaseStart = phaseEnd;
+
+        //4. and 5. Use each runway for at most one movement.
+        this.blockedLanding = null;
+        for (int i = 0; i < this.runways.size(); ++i) {
+            useRunway(this.runways.get(i), i);
         }
 
+        phaseEnd = System.nanoTime();
+        this.metrics.recordPhase(TickPhase.RUNWAY, phaseEnd - phaseStart);
+        phaseStart = phaseEnd;
+
         //6. Place all aircraft in their appropriate queues by calling
         placeAllAircraftInQueues();
 
+        phaseEnd = System.nanoTime();
+        this.metrics.recordPhase(TickPhase.PLACE_IN_QUEUES, phaseEnd - phaseStart);
+
         //Increment TickCount;
         this.ticksElapsed++;
+
+        this.metrics.recordTick(phaseEnd - tickStart, this.landingQueue.size(),
+                this.takeoffQueue.size(), this.loadingAircraft.size());
+        this.metrics.recordOccupancy(this.numGates, this.numOccupiedGatesByType);
+
+        for (TowerListener listener : this.listeners) {
+            listener.tickCompleted(this.ticksElapsed);
+        }
+    }
+
+    /**
+     * Uses the given runway for at most one movement this tick.
+     * <p>
+     * Landing runways attempt to land an aircraft and takeoff runways attempt to let an aircraft
+     * take off. The movement made on a mixed runway is chosen by the tower's
+     * {@link #setRunwaySchedulingPolicy(RunwaySchedulingPolicy) runway scheduling policy}.
+     *
+     * @param runway   runway to use
+     * @param position position of the runway among the tower's runways
+     */
+    private void useRunway(Runway runway, int position) {
+        RunwayMovement movement;
+        switch (runway.getMode()) {
+            case LANDING:
+                movement = RunwayMovement.LAND;
+                break;
+            case TAKEOFF:
+                movement = RunwayMovement.TAKEOFF;
+                break;
+            default:
+                movement = this.runwayPolicy.chooseMovement(this, position);
+                break;
+        }
+        switch (movement) {
+            case LAND:
+                if (landOnRunway()) {
+                    runway.recordLanding();
+                }
+                break;
+            case TAKEOFF:
+                if (tryTakeOffAircraft()) {
+                    runway.recordTakeoff();
+                }
+                break;
+            case LAND_ELSE_TAKEOFF:
+                if (landOnRunway()) {
+                    runway.recordLanding();
+                } else if (tryTakeOffAircraft()) {
+                    runway.recordTakeoff();
+                }
+                break;
+            case TAKEOFF_ELSE_LAND:
+                if (tryTakeOffAircraft()) {
+                    runway.recordTakeoff();
+                } else if (landOnRunway()) {
+                    runway.recordLanding();
+                }
+                break;
+        }
+    }
+
+    /*
+     * Attempts to land the aircraft at the front of the landing queue on a runway, unless it was
+     * already refused a gate this tick and no suitable gate may have become free since.
+     */
+    private boolean landOnRunway() {
+        Aircraft pendingLanding = this.landingQueue.peekAircraft();
+        if (pendingLanding != null && pendingLanding == this.blockedLanding
+                && !this.gateWaitList.isWoken(pendingLanding.getCharacteristics().type)) {
+            return false;
+        }
+        if (tryLandAircraft()) {
+            return true;
+        }
+        this.blockedLanding = pendingLanding;
+        return false;
     }
 
     /**
@@ -483,4 +1139,42 @@ public class ControlTower implements Tickable {
                 this.getTakeoffQueue().getAircraftInOrder().size(), //numTakeOff
                 this.getLoadingAircraft().size());
     }
+
+    /**
+     * Keeps the airport-wide gate counters and the gate assignment strategy up to date as gates
+     * are added and aircraft park and leave, and wakes aircraft waiting for a gate whenever one
+     * may have become free.
+     */
+    private class OccupancyCounter implements GateOccupancyListener {
+
+        @Override
+        public void gateAdded(Terminal terminal, Gate gate) {
+            AircraftType type = AbstractGateAssignmentStrategy.typeAccommodatedBy(terminal);
+            numGates++;
+            if (type != null) {
+                numGatesByType[type.ordinal()]++;
+            }
+            gateAssignment.gateAdded(terminal, gate);
+            gateWaitList.wake(type);
+        }
+
+        @Override
+        public void aircraftParked(Terminal terminal, Gate gate, Aircraft aircraft) {
+            numOccupiedGatesByType[aircraft.getCharacteristics().type.ordinal()]++;
+            gateAssignment.aircraftParked(terminal, gate, aircraft);
+        }
+
+        @Override
+        public void aircraftLeft(Terminal terminal, Gate gate, Aircraft aircraft) {
+            numOccupiedGatesByType[aircraft.getCharacteristics().type.ordinal()]--;
+            gateAssignment.aircraftLeft(terminal, gate, aircraft);
+            gateWaitList.wake(AbstractGateAssignmentStrategy.typeAccommodatedBy(terminal));
+        }
+
+        @Override
+        public void emergencyCleared(Terminal terminal) {
+            gateAssignment.emergencyCleared(terminal);
+            gateWaitList.wake(AbstractGateAssignmentStrategy.typeAccommodatedBy(terminal));
+        }
+    }
 }
@@ -48,8 +48,10 @@ public class ControlTowerInitialiser {
                                                   Reader terminalsWithGates)
             throws MalformedSaveException, IOException {
 
-        //Load Elapsed Tick
-        long loadedticks = loadTick(tick);
+        //Load Elapsed Tick, followed by the runway configuration
+        BufferedReader tickReader = new BufferedReader(tick);
+        long loadedticks = loadTick(tickReader);
+        List<RunwayMode> loadedRunways = loadRunways(tickReader);
         //Load Aircrafts
         List<Aircraft> loadedAircrafts = loadAircraft(aircraft);
         //Load Terminals
@@ -58,8 +60,8 @@ public class ControlTowerInitialiser {
 
         TakeoffQueue loadedTakeoffQueue = new TakeoffQueue();
         LandingQueue loadedLandingQueue = new LandingQueue();
-        Map<Aircraft, Integer> loadedLoadingMap = new TreeMap<Aircraft,
-                Integer>(Comparator.comparing(Aircraft::getCallsign));
+        //Insertion ordered, so loading aircraft keep the order they were saved in.
+        Map<Aircraft, Integer> loadedLoadingMap = new LinkedHashMap<>();
 
         //Load Queues
         loadQueues(queues, loadedAircrafts, loadedTakeoffQueue, loadedLandingQueue,
@@ -69,6 +71,8 @@ public class ControlTowerInitialiser {
         ControlTower controlTower = new ControlTower(loadedticks, loadedAircrafts,
                 loadedLandingQueue, loadedTakeoffQueue, loadedLoadingMap);
 
+        controlTower.setRunways(loadedRunways);
+
         //Add terminals to control tower.
         for (Terminal attachTerminal : loadedTerminals) {
             controlTower.addTerminal(attachTerminal);
@@ -96,7 +100,9 @@ public class ControlTowerInitialiser {
      */
     public static long loadTick(Reader reader) throws MalformedSaveException, IOException {
 
-        BufferedReader br = new BufferedReader(reader);
+        //Reuse a buffered reader, so that any lines after the tick are not read ahead and lost
+        BufferedReader br = reader instanceof BufferedReader
+                ? (BufferedReader) reader : new BufferedReader(reader);
         String tick = br.readLine();
         long parsedTick;
 
@@ -113,6 +119,53 @@ public class ControlTowerInitialiser {
         return parsedTick;
     }
 
+    /**
+     * Loads the runway configuration from the given reader instance, which should be positioned
+     * after the number of ticks elapsed.
+     * <p>
+     * The configuration is optional: if the reader has no more lines, the default configuration
+     * of a single {@link RunwayMode#MIXED} runway is returned. Otherwise, the next line should
+     * match the format returned by {@link ControlTower#encodeRunways()}.
+     * <p>
+     * The contents read from the reader are invalid if any of the following conditions are true:
+     * The line does not start with "Runways:".
+     * Any runway mode is not the name of a RunwayMode.
+     * There are no runways, or more than ControlTower.MAX_RUNWAYS runways.
+     * There is more data after the runway configuration.
+     *
+     * @param reader reader from which to load the runway configuration
+     * @return mode of each runway, in order
+     * @throws MalformedSaveException if the format of the text read from the reader is
+     *                                invalid according to the rules above
+     * @throws IOException            if an IOException is encountered when reading from the reader
+     */
+    public static List<RunwayMode> loadRunways(Reader reader)
+            throws MalformedSaveException, IOException {
+        BufferedReader br = reader instanceof BufferedReader
+                ? (BufferedReader) reader : new BufferedReader(reader);
+        String line = br.readLine();
+        if (line == null) {
+            return List.of(RunwayMode.MIXED);
+        }
+        if (!line.startsWith("Runways:") || br.readLine() != null) {
+            throw new MalformedSaveException();
+        }
+
+        List<RunwayMode> modes = new ArrayList<>();
+        for (String mode : line.substring("Runways:".length()).split(",", -1)) {
+            try {
+                modes.add(RunwayMode.valueOf(mode));
+            } catch (IllegalArgumentException iae) {
+                //Not the name of a runway mode
+                throw new MalformedSaveException();
+            }
+        }
+        if (modes.size() > ControlTower.MAX_RUNWAYS) {
+            throw new MalformedSaveException();
+        }
+        return modes;
+    }
+
     /**
      * Loads the list of all aircraft managed by the control tower from the given reader instance.
      *
@@ -797,20 +850,23 @@ public class ControlTowerInitialiser {
             throws IOException, MalformedSaveException {
         Terminal decodedTerminal;
         String[] terminalData = line.split(":");
-        //The number of colons (:) detected mismatch
-        if (getColonCountInString(line) != 3 || terminalData.length != 4) {
+        //The number of colons (:) detected mismatch; the maximum number of gates is optional
+        int colonCount = getColonCountInString(line);
+        if ((colonCount != 3 && colonCount != 4) || terminalData.length != colonCount + 1) {
             throw new MalformedSaveException();
         }
 
         //Parses terminal number and number of gates based on specified rules.
         //MalformedSaveException is thrown in the following function either is invalid.
         int terminalNum = parseTerminalNumber(terminalData[1]);
-        int numGates = parseNumGates(terminalData[3]);
+        int maxGates = terminalData.length == 5
+                ? parseMaxGates(terminalData[4]) : Terminal.MAX_NUM_GATES;
+        int numGates = parseNumGates(terminalData[3], maxGates);
 
         if (terminalData[0].equals("AirplaneTerminal")) {
-            decodedTerminal = new AirplaneTerminal(terminalNum);
+            decodedTerminal = new AirplaneTerminal(terminalNum, maxGates);
         } else if (terminalData[0].equals("HelicopterTerminal")) {
-            decodedTerminal = new HelicopterTerminal(terminalNum);
+            decodedTerminal = new HelicopterTerminal(terminalNum, maxGates);
         } else {
             //Neither AirplaneTerminal nor HelicopterTerminal
             throw new MalformedSaveException();
@@ -824,7 +880,7 @@ public class ControlTowerInitialiser {
                 try {
                     decodedTerminal.addGate(readGate(gateLine, aircraft));
                 } catch (NoSpaceException nse) {
-                    //MAX_NUM_GATES not reached
+                    //maxGates not reached
                 }
             } else {
                 //A line containing an encoded gate was expected, but EOF (end of file)
@@ -966,18 +1022,20 @@ public class ControlTowerInitialiser {
     /**
      * Converts number of gates to int and returns.
      * MalformedSaveException if:
-     * The number of gates is less than zero or is greater than Terminal.MAX_NUM_GATES
+     * The number of gates is less than zero or is greater than the terminal's maximum number of
+     * gates (Terminal.MAX_NUM_GATES unless specified)
      * The number of gates in the terminal is not an integer.
      *
-     * @param num of gates to convert
+     * @param num      of gates to convert
+     * @param maxGates maximum number of gates allowed at the terminal
      * @return int converted value
      * @throws MalformedSaveException if num is invalid based on above rules
      */
-    private static int parseNumGates(String num) throws MalformedSaveException {
+    private static int parseNumGates(String num, int maxGates) throws MalformedSaveException {
         int numGates;
         try {
             numGates = Integer.parseInt(num);
-            if (numGates < 0 || numGates > Terminal.MAX_NUM_GATES) {
+            if (numGates < 0 || numGates > maxGates) {
                 throw new MalformedSaveException();
             }
         } catch (NumberFormatException nfe) {
@@ -986,4 +1044,28 @@ public class ControlTowerInitialiser {
         return numGates;
     }
 
+    /**
+     * Converts the maximum number of gates of a terminal to int and returns.
+     * MalformedSaveException if:
+     * The maximum number of gates is less than one or is greater than
+     * Terminal.MAX_LARGE_TERMINAL_GATES
+     * The maximum number of gates is not an integer.
+     *
+     * @param num maximum number of gates to convert
+     * @return int converted value
+     * @throws MalformedSaveException if num is invalid based on above rules
+     */
+    private static int parseMaxGates(String num) throws MalformedSaveException {
+        int maxGates;
+        try {
+            maxGates = Integer.parseInt(num);
+            if (maxGates < 1 || maxGates > Terminal.MAX_LARGE_TERMINAL_GATES) {
+                throw new MalformedSaveException();
+            }
+        } catch (NumberFormatException nfe) {
+            throw new MalformedSaveException();
+        }
+        return maxGates;
+    }
+
 }
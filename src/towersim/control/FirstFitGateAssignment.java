@@ -0,0 +1,20 @@
+package towersim.control;
+
+import towersim.aircraft.AircraftType;
+import towersim.ground.Terminal;
+
+/**
+ * Gate assignment strategy that parks each aircraft at the first unoccupied gate of the first
+ * suitable terminal, in the order terminals were added.
+ * <p>
+ * This is the default strategy of a control tower. It keeps the earliest terminals as full as
+ * possible, leaving later terminals idle until they are needed.
+ */
+public class FirstFitGateAssignment extends AbstractGateAssignmentStrategy {
+
+    @Override
+    protected Terminal chooseTerminal(AircraftType type) {
+        int position = nextAssignable(type, 0);
+        return position < 0 ? null : getTerminal(type, position);
+    }
+}
@@ -0,0 +1,41 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.ground.Gate;
+import towersim.ground.GateOccupancyListener;
+import towersim.ground.Terminal;
+import towersim.util.NoSuitableGateException;
+
+/**
+ * Strategy used by a control tower to choose the gate at which to park an aircraft.
+ * <p>
+ * A strategy is told about every terminal of its control tower as it is added, and about every
+ * gate added and every aircraft parked and leaving through the {@link GateOccupancyListener}
+ * methods, so that it can keep whatever index it needs to choose gates without searching every
+ * terminal. A strategy is therefore stateful, and an instance should only be used by one control
+ * tower.
+ * <p>
+ * Whatever the strategy, aircraft are only ever assigned unoccupied gates in terminals that
+ * accommodate their type of aircraft and that are not in a state of emergency.
+ *
+ * @see ControlTower#setGateAssignmentStrategy(GateAssignmentStrategy)
+ */
+public interface GateAssignmentStrategy extends GateOccupancyListener {
+
+    /**
+     * Called when a terminal has been added to the control tower, after any gates it already
+     * has.
+     *
+     * @param terminal terminal that was added
+     */
+    void terminalAdded(Terminal terminal);
+
+    /**
+     * Chooses an unoccupied gate suitable for the given aircraft. The aircraft is not parked.
+     *
+     * @param aircraft aircraft for which to find a gate
+     * @return gate for the given aircraft
+     * @throws NoSuitableGateException if no suitable gate could be found
+     */
+    Gate findUnoccupiedGate(Aircraft aircraft) throws NoSuitableGateException;
+}
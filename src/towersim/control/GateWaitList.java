@@ -0,0 +1,144 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftRegistry;
+import towersim.aircraft.AircraftType;
+
+import java.util.BitSet;
+
+/**
+ * Aircraft in a control tower's landing queue that are waiting for a gate, by type of aircraft.
+ * <p>
+ * An aircraft joins the list when no suitable gate could be found for it to land at, and leaves
+ * it once it lands. While aircraft of a type are waiting, searching for a gate for that type is
+ * pointless until a suitable gate may have become free. The list is told of every such change
+ * and is said to be woken for that type. Until then, landings of that type can be refused
+ * without searching any terminal.
+ * <p>
+ * Each waiting aircraft also holds a place at the airport: as many unoccupied gates as there are
+ * waiting aircraft of a type are reserved for them, so that aircraft added directly at a gate
+ * cannot take the gates they are waiting for.
+ * <p>
+ * Only aircraft registered with the control tower are kept in the list, by ID.
+ */
+class GateWaitList {
+
+    /** Registry of the control tower's aircraft */
+    private final AircraftRegistry registry;
+
+    /** IDs of waiting aircraft */
+    private final BitSet waitingIds;
+
+    /** Number of waiting aircraft, indexed by type ordinal */
+    private final int[] numWaiting;
+
+    /**
+     * Whether a suitable gate may have become free since the last failed search, indexed by type
+     * ordinal
+     */
+    private final boolean[] woken;
+
+    /**
+     * Creates a new, empty wait list for aircraft registered with the given registry.
+     *
+     * @param registry registry of the control tower's aircraft
+     */
+    GateWaitList(AircraftRegistry registry) {
+        this.registry = registry;
+        this.waitingIds = new BitSet();
+        this.numWaiting = new int[AircraftType.values().length];
+        this.woken = new boolean[AircraftType.values().length];
+    }
+
+    /**
+     * Returns whether searching for a gate for the given type of aircraft could succeed. This is
+     * false only if aircraft of that type are waiting and no suitable gate may have become free
+     * since a search last failed.
+     *
+     * @param type type of aircraft to search for
+     * @return true if a search should be made
+     */
+    boolean maySearch(AircraftType type) {
+        return this.numWaiting[type.ordinal()] == 0 || this.woken[type.ordinal()];
+    }
+
+    /**
+     * Returns whether a gate suitable for the given type of aircraft may have become free since a
+     * search for that type last failed.
+     *
+     * @param type type of aircraft
+     * @return true if the list has been woken for that type since a search last failed
+     */
+    boolean isWoken(AircraftType type) {
+        return this.woken[type.ordinal()];
+    }
+
+    /**
+     * Records that no suitable gate is available for the given aircraft, adding it to the list if
+     * it is registered and not already waiting. Searches for its type of aircraft are not worth
+     * making until the list is next {@link #wake(AircraftType) woken} for that type.
+     *
+     * @param aircraft aircraft that could not be given a gate
+     */
+    void addWaiting(Aircraft aircraft) {
+        AircraftType type = aircraft.getCharacteristics().type;
+        this.woken[type.ordinal()] = false;
+        if (this.registry.contains(aircraft) && !this.waitingIds.get(aircraft.getId())) {
+            this.waitingIds.set(aircraft.getId());
+            this.numWaiting[type.ordinal()]++;
+        }
+    }
+
+    /**
+     * Removes the given aircraft from the list, if it is waiting.
+     *
+     * @param aircraft aircraft that has landed
+     */
+    void remove(Aircraft aircraft) {
+        if (isWaiting(aircraft)) {
+            this.waitingIds.clear(aircraft.getId());
+            this.numWaiting[aircraft.getCharacteristics().type.ordinal()]--;
+        }
+    }
+
+    /**
+     * Records that a gate suitable for the given type of aircraft may have become free.
+     *
+     * @param type type of aircraft accommodated by the gate; or null if none
+     */
+    void wake(AircraftType type) {
+        if (type != null) {
+            this.woken[type.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Records that gates suitable for any type of aircraft may have become free.
+     */
+    void wakeAll() {
+        for (AircraftType type : AircraftType.values()) {
+            wake(type);
+        }
+    }
+
+    /**
+     * Returns whether the given aircraft is waiting for a gate.
+     *
+     * @param aircraft aircraft to check
+     * @return true if the aircraft is in the list
+     */
+    boolean isWaiting(Aircraft aircraft) {
+        return this.registry.contains(aircraft) && this.waitingIds.get(aircraft.getId());
+    }
+
+    /**
+     * Returns the number of aircraft of the given type waiting for a gate, which is also the
+     * number of unoccupied gates reserved for them.
+     *
+     * @param type type of aircraft
+     * @return number of waiting aircraft
+     */
+    int getNumWaiting(AircraftType type) {
+        return this.numWaiting[type.ordinal()];
+    }
+}
@@ -5,6 +5,7 @@ import towersim.aircraft.PassengerAircraft;
 import towersim.util.Encodable;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Represents a rule-based queue of aircraft waiting in the air to land.
@@ -15,6 +16,12 @@ import java.util.*;
  */
 public class LandingQueue extends AircraftQueue implements Encodable {
 
+    /**
+     * Fuel percentage at or below which an aircraft's fuel level is critical, giving it priority
+     * over all other aircraft without an emergency.
+     */
+    public static final int CRITICAL_FUEL_PERCENT = 20;
+
     /**
      * A list that contains Aircrafts in landing queue.
      */
@@ -75,7 +82,7 @@ public class LandingQueue extends AircraftQueue implements Encodable {
         //Iterates through queue in FIFO order
         for (Aircraft aircraft : this.landingQueue) {
             //Check fuel level.
-            if (aircraft.getFuelPercentRemaining() <= 20) {
+            if (aircraft.getFuelPercentRemaining() <= CRITICAL_FUEL_PERCENT) {
                 return aircraft;
             }
         }
@@ -124,7 +131,7 @@ public class LandingQueue extends AircraftQueue implements Encodable {
         while (itr.hasNext()) {
             Aircraft aircraft = itr.next();
             //Check if passenger aircraft.
-            if (aircraft.getFuelPercentRemaining() <= 20) {
+            if (aircraft.getFuelPercentRemaining() <= CRITICAL_FUEL_PERCENT) {
                 itr.remove();
                 return aircraft;
             }
@@ -190,7 +197,7 @@ public class LandingQueue extends AircraftQueue implements Encodable {
         while (itr.hasNext()) {
             Aircraft aircraft = itr.next();
             //Check fuel level, and not already added to list (contains will invoke equals()).
-            if (aircraft.getFuelPercentRemaining() <= 20) {
+            if (aircraft.getFuelPercentRemaining() <= CRITICAL_FUEL_PERCENT) {
                 orderedQueue.add(aircraft);
                 itr.remove();
             }
@@ -218,6 +225,69 @@ public class LandingQueue extends AircraftQueue implements Encodable {
         return orderedQueue;
     }
 
+    /**
+     * Performs the given action for each aircraft in the queue, in the same order as
+     * {@link #getAircraftInOrder()}, without copying the queue.
+     * <p>
+     * Each aircraft is visited in the pass for its priority class: emergencies first, then low
+     * fuel, then passenger aircraft, then all others.
+     *
+     * @param action action to perform for each aircraft
+     */
+    @Override
+    public void forEachInOrder(Consumer<? super Aircraft> action) {
+        for (int priority = 0; priority < 4; ++priority) {
+            for (Aircraft aircraft : this.landingQueue) {
+                if (priorityOf(aircraft) == priority) {
+                    action.accept(aircraft);
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the landing priority class of the given aircraft, from 0 (lands first) to 3,
+     * matching the passes made by getAircraftInOrder().
+     */
+    private static int priorityOf(Aircraft aircraft) {
+        if (aircraft.hasEmergency()) {
+            return 0;
+        }
+        if (aircraft.getFuelPercentRemaining() <= CRITICAL_FUEL_PERCENT) {
+            return 1;
+        }
+        if (aircraft instanceof PassengerAircraft) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * Returns the number of aircraft in the queue with a critical level of fuel, that is, with
+     * at most {@link #CRITICAL_FUEL_PERCENT} percent of their fuel remaining.
+     *
+     * @return number of aircraft in the queue with critical fuel
+     */
+    public int getNumFuelCritical() {
+        int count = 0;
+        for (int i = 0; i < this.landingQueue.size(); ++i) {
+            if (this.landingQueue.get(i).getFuelPercentRemaining() <= CRITICAL_FUEL_PERCENT) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of aircraft in the queue.
+     *
+     * @return number of aircraft in queue
+     */
+    @Override
+    public int size() {
+        return this.landingQueue.size();
+    }
+
     /**
      * Returns true if the given aircraft is in the queue.
      *
@@ -0,0 +1,16 @@
+package towersim.control;
+
+/**
+ * Gate assignment strategy that parks each aircraft at the suitable terminal with the lowest
+ * proportion of occupied gates, spreading aircraft evenly across terminals.
+ * <p>
+ * Ties are broken in favour of the terminal added first.
+ */
+public class LeastOccupiedGateAssignment extends RankedGateAssignment {
+
+    @Override
+    protected int compareRanks(int occupiedA, int gatesA, int occupiedB, int gatesB) {
+        // Compare occupiedA / gatesA with occupiedB / gatesB without dividing
+        return Long.compare((long) occupiedA * gatesB, (long) occupiedB * gatesA);
+    }
+}
@@ -0,0 +1,16 @@
+package towersim.control;
+
+/**
+ * Runway scheduling policy that serves whichever of the landing and takeoff queues is longer,
+ * falling back to the other queue if no movement from the longer one is possible.
+ * <p>
+ * Ties are broken in favour of landing, as aircraft waiting to land are using fuel.
+ */
+public class LongestQueueRunwayPolicy implements RunwaySchedulingPolicy {
+
+    @Override
+    public RunwayMovement chooseMovement(ControlTower tower, int position) {
+        return tower.getLandingQueue().size() >= tower.getTakeoffQueue().size()
+                ? RunwayMovement.LAND_ELSE_TAKEOFF : RunwayMovement.TAKEOFF_ELSE_LAND;
+    }
+}
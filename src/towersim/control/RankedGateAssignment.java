@@ -0,0 +1,94 @@
+package towersim.control;
+
+import towersim.aircraft.AircraftType;
+import towersim.ground.Terminal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Base class of gate assignment strategies that choose the best-ranked suitable terminal.
+ * <p>
+ * The terminals of each type with an unoccupied gate are kept in a sorted set ordered by
+ * {@link #compareRanks(int, int, int, int)}, then by the order the terminals were added. The
+ * number of gates and occupied gates each terminal was ranked by is remembered, so that a
+ * terminal can be found and re-ranked in logarithmic time when its occupancy changes.
+ */
+abstract class RankedGateAssignment extends AbstractGateAssignmentStrategy {
+
+    /** Positions of terminals with an unoccupied gate, best ranked first, by type ordinal */
+    private final List<TreeSet<Integer>> ranked;
+
+    /** Number of gates each terminal was ranked by, indexed by type ordinal then position */
+    private final int[][] rankedGates;
+
+    /** Number of occupied gates each terminal was ranked by, by type ordinal then position */
+    private final int[][] rankedOccupied;
+
+    /**
+     * Creates a new ranked strategy with no terminals.
+     */
+    RankedGateAssignment() {
+        final int numTypes = AircraftType.values().length;
+        this.ranked = new ArrayList<>(numTypes);
+        this.rankedGates = new int[numTypes][];
+        this.rankedOccupied = new int[numTypes][];
+        for (int i = 0; i < numTypes; ++i) {
+            final int type = i;
+            this.ranked.add(new TreeSet<>((a, b) -> {
+                int byRank = compareRanks(rankedOccupied[type][a], rankedGates[type][a],
+                        rankedOccupied[type][b], rankedGates[type][b]);
+                return byRank != 0 ? byRank : Integer.compare(a, b);
+            }));
+            this.rankedGates[i] = new int[0];
+            this.rankedOccupied[i] = new int[0];
+        }
+    }
+
+    /**
+     * Compares the ranks of two terminals with unoccupied gates, given their number of occupied
+     * gates and number of gates.
+     *
+     * @param occupiedA number of occupied gates in the first terminal
+     * @param gatesA    number of gates in the first terminal
+     * @param occupiedB number of occupied gates in the second terminal
+     * @param gatesB    number of gates in the second terminal
+     * @return negative if the first terminal should be preferred, positive if the second
+     * should be, or zero if neither is preferred
+     */
+    protected abstract int compareRanks(int occupiedA, int gatesA, int occupiedB, int gatesB);
+
+    @Override
+    protected Terminal chooseTerminal(AircraftType type) {
+        for (int position : this.ranked.get(type.ordinal())) {
+            Terminal terminal = getTerminal(type, position);
+            if (!terminal.hasEmergency()) {
+                return terminal;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void terminalChanged(AircraftType type, int position) {
+        final int index = type.ordinal();
+        TreeSet<Integer> terminals = this.ranked.get(index);
+        if (position >= this.rankedGates[index].length) {
+            int length = Math.max(position + 1, 2 * this.rankedGates[index].length);
+            this.rankedGates[index] = Arrays.copyOf(this.rankedGates[index], length);
+            this.rankedOccupied[index] = Arrays.copyOf(this.rankedOccupied[index], length);
+        } else {
+            // Must be removed while its old rank is still recorded
+            terminals.remove(position);
+        }
+
+        Terminal terminal = getTerminal(type, position);
+        this.rankedGates[index][position] = terminal.getNumGates();
+        this.rankedOccupied[index][position] = terminal.getNumOccupiedGates();
+        if (hasUnoccupiedGate(terminal)) {
+            terminals.add(position);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package towersim.control;
+
+import towersim.aircraft.AircraftType;
+import towersim.ground.Terminal;
+
+/**
+ * Gate assignment strategy that takes turns between the suitable terminals, parking each
+ * aircraft at the next terminal after the one the previous aircraft of its type was assigned to.
+ * <p>
+ * Terminals without an unoccupied gate, or in a state of emergency, are skipped.
+ */
+public class RoundRobinGateAssignment extends AbstractGateAssignmentStrategy {
+
+    /** Position of the next terminal to try for each type of aircraft, indexed by type ordinal */
+    private final int[] nextPositions = new int[AircraftType.values().length];
+
+    @Override
+    protected Terminal chooseTerminal(AircraftType type) {
+        final int start = this.nextPositions[type.ordinal()];
+        int position = nextAssignable(type, start);
+        if (position < 0 && start > 0) {
+            // Wrap around to the terminals before the starting position
+            position = nextAssignable(type, 0);
+        }
+        if (position < 0) {
+            return null;
+        }
+        this.nextPositions[type.ordinal()] = (position + 1) % getNumTerminals(type);
+        return getTerminal(type, position);
+    }
+}
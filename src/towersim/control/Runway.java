@@ -0,0 +1,90 @@
+package towersim.control;
+
+/**
+ * A runway of the airport, used for one movement per tick: either an aircraft landing or an
+ * aircraft taking off.
+ * <p>
+ * Each runway counts the movements it has been used for, so that the throughput of different
+ * runway configurations can be compared.
+ */
+public class Runway {
+
+    /**
+     * Kinds of movement this runway is used for.
+     */
+    private final RunwayMode mode;
+
+    /**
+     * Number of aircraft that have landed on this runway.
+     */
+    private long landings;
+
+    /**
+     * Number of aircraft that have taken off from this runway.
+     */
+    private long takeoffs;
+
+    /**
+     * Creates a new runway that has not yet been used.
+     *
+     * @param mode kinds of movement the runway is used for
+     */
+    public Runway(RunwayMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Returns the kinds of movement this runway is used for.
+     *
+     * @return runway mode
+     */
+    public RunwayMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Returns the number of aircraft that have landed on this runway.
+     *
+     * @return number of landings
+     */
+    public long getLandings() {
+        return this.landings;
+    }
+
+    /**
+     * Returns the number of aircraft that have taken off from this runway.
+     *
+     * @return number of takeoffs
+     */
+    public long getTakeoffs() {
+        return this.takeoffs;
+    }
+
+    /**
+     * Records that an aircraft has landed on this runway.
+     */
+    void recordLanding() {
+        this.landings++;
+    }
+
+    /**
+     * Records that an aircraft has taken off from this runway.
+     */
+    void recordTakeoff() {
+        this.takeoffs++;
+    }
+
+    /**
+     * Returns the human-readable string representation of this runway.
+     * <p>
+     * The format of the string to return is
+     * <pre>MODE runway, numLandings landings, numTakeoffs takeoffs</pre>
+     *
+     * @return string representation of this runway
+     */
+    @Override
+    public String toString() {
+        return String.format("%s runway, %d landings, %d takeoffs", this.mode, this.landings,
+                this.takeoffs);
+    }
+}
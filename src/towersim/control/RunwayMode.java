@@ -0,0 +1,22 @@
+package towersim.control;
+
+/**
+ * Kinds of movement a runway is used for.
+ */
+public enum RunwayMode {
+    /**
+     * Runway used only for landing aircraft.
+     */
+    LANDING,
+
+    /**
+     * Runway used only for aircraft taking off.
+     */
+    TAKEOFF,
+
+    /**
+     * Runway used for both landing aircraft and aircraft taking off, with the movement made each
+     * tick chosen by the control tower's {@link RunwaySchedulingPolicy}.
+     */
+    MIXED
+}
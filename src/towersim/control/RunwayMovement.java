@@ -0,0 +1,27 @@
+package towersim.control;
+
+/**
+ * Movement chosen for a mixed runway by a {@link RunwaySchedulingPolicy}, along with what to do
+ * if that movement is not possible.
+ */
+public enum RunwayMovement {
+    /**
+     * Attempt to land an aircraft, leaving the runway unused if none can land.
+     */
+    LAND,
+
+    /**
+     * Attempt to let an aircraft take off, leaving the runway unused if none is waiting.
+     */
+    TAKEOFF,
+
+    /**
+     * Attempt to land an aircraft, letting an aircraft take off instead if none can land.
+     */
+    LAND_ELSE_TAKEOFF,
+
+    /**
+     * Attempt to let an aircraft take off, landing an aircraft instead if none is waiting.
+     */
+    TAKEOFF_ELSE_LAND
+}
@@ -0,0 +1,23 @@
+package towersim.control;
+
+/**
+ * Policy used by a control tower to choose the movement made on each of its
+ * {@link RunwayMode#MIXED mixed} runways every tick.
+ * <p>
+ * The policy is consulted once per mixed runway per tick, in runway order and after the movements
+ * of earlier runways that tick have been made, so it always sees the current queue depths and
+ * gate occupancy. Landing-only and takeoff-only runways are not affected by the policy.
+ *
+ * @see ControlTower#setRunwaySchedulingPolicy(RunwaySchedulingPolicy)
+ */
+public interface RunwaySchedulingPolicy {
+
+    /**
+     * Chooses the movement to attempt on a mixed runway this tick.
+     *
+     * @param tower    control tower whose runway is being scheduled
+     * @param position position of the runway among the tower's runways
+     * @return movement to attempt
+     */
+    RunwayMovement chooseMovement(ControlTower tower, int position);
+}
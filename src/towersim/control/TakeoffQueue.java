@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.function.Consumer;
 
 /**
  * Represents a first-in-first-out (FIFO) queue of aircraft waiting to take off.
@@ -84,6 +85,29 @@ public class TakeoffQueue extends AircraftQueue implements Encodable {
         return new ArrayList<Aircraft>(this.takeOffQueue);
     }
 
+    /**
+     * Performs the given action for each aircraft in the queue, in FIFO order, without copying
+     * the queue.
+     *
+     * @param action action to perform for each aircraft
+     */
+    @Override
+    public void forEachInOrder(Consumer<? super Aircraft> action) {
+        for (Aircraft aircraft : this.takeOffQueue) {
+            action.accept(aircraft);
+        }
+    }
+
+    /**
+     * Returns the number of aircraft in the queue.
+     *
+     * @return number of aircraft in queue
+     */
+    @Override
+    public int size() {
+        return this.takeOffQueue.size();
+    }
+
     /**
      * Returns true if the given aircraft is in the queue.
      *
@@ -0,0 +1,75 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.ground.Gate;
+
+/**
+ * Listener notified of the movements made by a control tower as they happen.
+ * <p>
+ * Registering a listener with {@link ControlTower#addListener(TowerListener)} lets consumers
+ * react to what changed during a tick without rescanning every aircraft. All methods do nothing
+ * by default, so implementations only need to override the events they are interested in.
+ * <p>
+ * Listeners are called on the thread that is ticking the control tower, in the order the
+ * events occur. A listener may remove itself from the tower inside any of its callbacks.
+ */
+public interface TowerListener {
+
+    /**
+     * Called when an aircraft has landed and been parked at a gate.
+     *
+     * @param aircraft aircraft that landed
+     * @param gate     gate the aircraft was parked at
+     */
+    default void aircraftLanded(Aircraft aircraft, Gate gate) {
+    }
+
+    /**
+     * Called when an aircraft has taken off.
+     *
+     * @param aircraft aircraft that took off
+     */
+    default void aircraftTookOff(Aircraft aircraft) {
+    }
+
+    /**
+     * Called when an aircraft has finished loading and left its gate.
+     *
+     * @param aircraft aircraft that finished loading
+     * @param gate     gate the aircraft left
+     */
+    default void loadingComplete(Aircraft aircraft, Gate gate) {
+    }
+
+    /**
+     * Called when an aircraft has been added to the landing queue.
+     *
+     * @param aircraft aircraft added to the landing queue
+     */
+    default void queuedForLanding(Aircraft aircraft) {
+    }
+
+    /**
+     * Called when an aircraft has been added to the takeoff queue.
+     *
+     * @param aircraft aircraft added to the takeoff queue
+     */
+    default void queuedForTakeoff(Aircraft aircraft) {
+    }
+
+    /**
+     * Called when a gate has become unoccupied.
+     *
+     * @param gate gate that was freed
+     */
+    default void gateFreed(Gate gate) {
+    }
+
+    /**
+     * Called at the end of every tick of the control tower.
+     *
+     * @param ticksElapsed number of ticks elapsed, including the tick just completed
+     */
+    default void tickCompleted(long ticksElapsed) {
+    }
+}
@@ -0,0 +1,258 @@
+package towersim.display;
+
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import towersim.aircraft.AircraftType;
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.TowerSnapshot;
+import towersim.tasks.Task;
+import towersim.tasks.TaskType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered images used by {@link AirportCanvas} to draw aircraft.
+ * <p>
+ * Each aircraft body (one per aircraft type and cargo colour) is rasterised once and then
+ * blitted wherever an aircraft of that kind is drawn. Each aircraft's text label is rasterised
+ * when first drawn and only re-rendered when something shown in it (callsign, current task,
+ * occupancy, emergency or selection) changes. Labels of aircraft that have left the tower are
+ * dropped by {@link #retainLabels(TowerSnapshot)}, so the cache only grows with the number of
+ * aircraft in the tower.
+ * <p>
+ * All methods must be called on the JavaFX application thread.
+ */
+class AircraftSprites {
+
+    /** Colour of passenger aircraft */
+    private static final Color PASSENGER_COLOR = Color.CADETBLUE;
+
+    /** Colour of freight aircraft */
+    private static final Color FREIGHT_COLOR = Color.SADDLEBROWN;
+
+    /** Width of an aircraft sprite, in pixels */
+    private final double width;
+
+    /** Height of an aircraft sprite, in pixels */
+    private final double height;
+
+    /** Width of a label sprite, in pixels; wider than the aircraft so long labels fit */
+    private final double labelWidth;
+
+    /** Aircraft body sprites, indexed by aircraft type ordinal then 0 (freight) / 1 (passenger) */
+    private final Image[][] bodies;
+
+    /** Label sprites drawn in dark text, keyed by aircraft ID */
+    private final Map<Integer, LabelSprite> darkLabels;
+
+    /** Label sprites drawn in light text, keyed by aircraft ID */
+    private final Map<Integer, LabelSprite> lightLabels;
+
+    /** Scratch canvas that sprites are rendered on before being rasterised */
+    private final Canvas scratch;
+
+    /** Snapshot parameters producing transparent backgrounds */
+    private final SnapshotParameters transparent;
+
+    /** Cached label image for a single aircraft, and the state it was rendered from */
+    private static class LabelSprite {
+        /** Callsign shown in the label */
+        private String callsign;
+        /** Current task shown in the label */
+        private Task task;
+        /** Occupancy level shown in the label */
+        private int occupancyLevel;
+        /** Colour the label text was drawn in */
+        private Color color;
+        /** Whether the label was drawn in bold */
+        private boolean bold;
+        /** Rendered label */
+        private WritableImage image;
+    }
+
+    /**
+     * Creates a new sprite cache for aircraft of the given size, rasterising every body sprite.
+     *
+     * @param width width of an aircraft, in pixels
+     * @param height height of an aircraft, in pixels
+     */
+    AircraftSprites(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.labelWidth = 2 * width;
+        this.scratch = new Canvas(labelWidth, height);
+        this.transparent = new SnapshotParameters();
+        this.transparent.setFill(Color.TRANSPARENT);
+        this.darkLabels = new HashMap<>();
+        this.lightLabels = new HashMap<>();
+
+        this.bodies = new Image[AircraftType.values().length][2];
+        for (AircraftType type : AircraftType.values()) {
+            this.bodies[type.ordinal()][0] = renderBody(type, FREIGHT_COLOR);
+            this.bodies[type.ordinal()][1] = renderBody(type, PASSENGER_COLOR);
+        }
+    }
+
+    /**
+     * Draws the given aircraft with its label at the given position.
+     *
+     * @param gc graphics context to draw on
+     * @param aircraft aircraft to draw
+     * @param x x-coord of top left corner
+     * @param y y-coord of top left corner
+     * @param textColor colour of the label text, unless the aircraft has an emergency
+     * @param selected whether the aircraft is selected, drawing its label in bold
+     */
+    void draw(GraphicsContext gc, AircraftSnapshot aircraft, double x, double y,
+            Color textColor, boolean selected) {
+        gc.drawImage(bodies[aircraft.getCharacteristics().type.ordinal()]
+                [aircraft.isPassenger() ? 1 : 0], x, y);
+        gc.drawImage(label(aircraft, textColor, selected),
+                x + width / 2 - labelWidth / 2, y);
+    }
+
+    /**
+     * Drops the cached labels of every aircraft not in the given snapshot, such as aircraft
+     * removed from the tower.
+     *
+     * @param snapshot snapshot of the aircraft whose labels may still be drawn
+     */
+    void retainLabels(TowerSnapshot snapshot) {
+        darkLabels.keySet().removeIf(id -> snapshot.getAircraftById(id) == null);
+        lightLabels.keySet().removeIf(id -> snapshot.getAircraftById(id) == null);
+    }
+
+    /* Returns the label image for the given aircraft, rendering it only if it has changed */
+    private Image label(AircraftSnapshot aircraft, Color textColor, boolean bold) {
+        // Emergency
+        Color color = aircraft.hasEmergency() ? Color.RED : textColor;
+
+        // Labels drawn on light and dark backgrounds are cached separately, as the same
+        // aircraft can be on both at once (e.g. at a gate and on the runway).
+        boolean light = textColor.getBrightness() > 0.5;
+        Map<Integer, LabelSprite> labels = light ? lightLabels : darkLabels;
+        LabelSprite label;
+        if (aircraft.getId() < 0) {
+            // Aircraft not registered with a tower have no ID to cache their label under
+            label = new LabelSprite();
+        } else {
+            label = labels.computeIfAbsent(aircraft.getId(), id -> new LabelSprite());
+        }
+
+        if (label.image == null
+                || label.bold != bold
+                || label.occupancyLevel != aircraft.getOccupancyLevel()
+                || !label.color.equals(color)
+                || !label.task.equals(aircraft.getCurrentTask())
+                || !label.callsign.equals(aircraft.getCallsign())) {
+            label.callsign = aircraft.getCallsign();
+            label.task = aircraft.getCurrentTask();
+            label.occupancyLevel = aircraft.getOccupancyLevel();
+            label.color = color;
+            label.bold = bold;
+            label.image = renderLabel(label);
+        }
+        return label.image;
+    }
+
+    /* Rasterises the text of the given label, reusing its previous image where possible */
+    private WritableImage renderLabel(LabelSprite label) {
+        GraphicsContext gc = scratch.getGraphicsContext2D();
+        gc.clearRect(0, 0, labelWidth, height);
+
+        gc.setFill(label.color);
+        gc.setTextBaseline(VPos.BOTTOM);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFont(Font.font("monospace", label.bold ? FontWeight.BOLD : FontWeight.NORMAL, 12));
+
+        String aircraftTaskLine;
+        if (label.task.getType() == TaskType.LOAD) {
+            aircraftTaskLine = "LOAD@" + label.task.getLoadPercent() + "%";
+        } else {
+            aircraftTaskLine = label.task.getType().name();
+        }
+        String aircraftText = label.callsign + System.lineSeparator()
+                + aircraftTaskLine + System.lineSeparator()
+                + label.occupancyLevel + "%";
+        gc.fillText(aircraftText, labelWidth / 2, height);
+
+        return scratch.snapshot(transparent, label.image);
+    }
+
+    /* Rasterises the body of an aircraft of the given type in the given colour */
+    private Image renderBody(AircraftType type, Color color) {
+        GraphicsContext gc = scratch.getGraphicsContext2D();
+        gc.clearRect(0, 0, labelWidth, height);
+        gc.setFill(color);
+
+        switch (type) {
+            case HELICOPTER:
+                drawHelicopter(gc);
+                break;
+            case AIRPLANE:
+            default:
+                drawAirplane(gc);
+        }
+
+        // Only the aircraft-sized corner of the scratch canvas holds the body
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setViewport(new Rectangle2D(0, 0, width, height));
+        return scratch.snapshot(parameters, null);
+    }
+
+    /* Draws an airplane body with its top left corner at the origin */
+    private void drawAirplane(GraphicsContext gc) {
+        // Wings
+        gc.fillPolygon(new double[] {
+            width / 2 + 8,
+            width / 2 + 8,
+            width / 2 - 10
+        }, new double[] {
+            4,
+            36,
+            22}, 3);
+
+        // Tail
+        gc.fillPolygon(new double[] {
+            width - 4,
+            width - 16,
+            width - 4
+        }, new double[] {
+            22,
+            18,
+            4}, 3);
+
+        // Fuselage
+        gc.fillRoundRect(4,
+                17,
+                width - 8,
+                8,
+                10,
+                10);
+    }
+
+    /* Draws a helicopter body with its top left corner at the origin */
+    private void drawHelicopter(GraphicsContext gc) {
+        // Fuselage
+        gc.fillOval(15, 16, 30, 16);
+
+        // Main rotor
+        gc.fillRect(30 - 1, 16 - 4, 3, 4);
+        gc.fillRect(4, 10, 50, 3);
+
+        // Tail rotor
+        gc.fillRect(30, 22, 40, 3);
+        gc.fillRect(width - 14, 16, 2, 14);
+    }
+}
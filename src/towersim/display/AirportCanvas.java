@@ -6,6 +6,7 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
@@ -14,31 +15,27 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 import towersim.aircraft.Aircraft;
-import towersim.aircraft.PassengerAircraft;
-import towersim.control.AircraftQueue;
-import towersim.control.TakeoffQueue;
-import towersim.ground.Gate;
-import towersim.ground.Terminal;
-import towersim.tasks.Task;
-import towersim.tasks.TaskType;
-
-import java.util.HashMap;
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.GateSnapshot;
+import towersim.simulation.TerminalSnapshot;
+import towersim.simulation.TowerSnapshot;
+
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Subclass of the JavaFX Canvas to represent the main elements of the airport graphically.
+ * <p>
+ * The canvas draws the current {@link TowerSnapshot} of the view model and never reads the
+ * control tower directly.
  * @given
  */
 public class AirportCanvas extends Canvas {
 
-    /** View model containing the main model of the application */
+    /** View model containing the main model of the application; null when drawing offscreen */
     private final ViewModel viewModel;
 
-    /** Mapping of clickable regions (rectangles) to aircraft drawn on the canvas */
-    private final Map<ClickableRegion, Aircraft> drawnAircraft;
+    /** Spatial index of the aircraft drawn on the canvas, used to resolve clicks */
+    private final ClickGrid<AircraftSnapshot> drawnAircraft;
 
     /** Width of an aircraft when drawn on the canvas, in pixels */
     private static final double AIRCRAFT_WIDTH = 75;
@@ -52,6 +49,39 @@ public class AirportCanvas extends Canvas {
     /** Height of an aircraft when drawn on the canvas, in pixels */
     private static final double AIRCRAFT_HEIGHT = AIRCRAFT_WIDTH;
 
+    /** Number of aircraft that fit in a queue or away strip */
+    private static final int STRIP_CAPACITY = 6;
+
+    /** Width of the label at the start of a queue strip, in pixels */
+    private static final double QUEUE_LABEL_WIDTH = 65;
+
+    /** Width of the label at the start of the away strip, in pixels */
+    private static final double AWAY_LABEL_WIDTH = 85;
+
+    /** Height of the header bar of a terminal, in pixels */
+    private static final double TERMINAL_LABEL_HEIGHT = 25;
+
+    /** Margin around each terminal, in pixels */
+    private static final double TERMINAL_MARGIN = 5;
+
+    /** Width of a gate within a terminal, in pixels */
+    private static final double GATE_WIDTH = AIRCRAFT_WIDTH + 15;
+
+    /** Maximum number of terminals drawn in detail, gate by gate */
+    private static final int DETAIL_TERMINALS = 6;
+
+    /** Largest size of a terminal's cell in the overview, in pixels */
+    private static final double MAX_OVERVIEW_CELL = 100;
+
+    /**
+     * Height of the queue and away strips and the runway at the top of the canvas, including
+     * the padding below them, in pixels; overlays placed lower do not hide any of them
+     */
+    static final double STRIPS_HEIGHT = 2 * AIRCRAFT_HEIGHT + 2 * TERMINAL_MARGIN;
+
+    /** Height of the tick status bar at the bottom of the canvas, in pixels */
+    private static final double STATUS_HEIGHT = 20;
+
     /** X coordinate of the aircraft being animated on the runway */
     private final DoubleProperty runwayAnimationX = new SimpleDoubleProperty(0);
 
@@ -61,35 +91,62 @@ public class AirportCanvas extends Canvas {
     /** Animation timeline of an aircraft taking off */
     private final Timeline takeoffTimeline;
 
-    /** A class to represent a rectangular region on the canvas that responds to click events */
-    private static class ClickableRegion {
-
-        /** X-coordinate of the region (top left) */
-        private final double xcoord;
-        /** Y-coordinate of the region (top left) */
-        private final double ycoord;
-        /** Width of the region, in pixels */
-        private final double width;
-        /** Height of the region, in pixels */
-        private final double height;
-
-        /** Creates a new clickable region with the given coordinates and dimensions */
-        public ClickableRegion(double x, double y, double width, double height) {
-            this.xcoord = x;
-            this.ycoord = y;
-            this.width = width;
-            this.height = height;
-        }
-
-        /**
-         * Returns whether or not the given click event's coordinates fall within this clickable
-         * region
-         */
-        public boolean wasClicked(double clickX, double clickY) {
-            return clickX >= this.xcoord && clickX <= this.xcoord + this.width
-                    && clickY >= this.ycoord && clickY <= this.ycoord + this.height;
-        }
-    }
+    /** Aircraft currently being animated on the runway, or null if no animation is playing */
+    private AircraftSnapshot runwayAircraft;
+
+    /** Whether the runway was drawn with an animated aircraft on the last frame */
+    private boolean runwayDirty;
+
+    /** Pre-rendered aircraft bodies and labels */
+    private final AircraftSprites sprites;
+
+    /** Cached image of the static parts of the airport; null until first drawn */
+    private WritableImage staticLayer;
+
+    /** Terminal and gate layout the static layer was drawn for; null until first drawn */
+    private int[] staticLayout;
+
+    /** Strip showing the takeoff queue */
+    private final Strip takeoffStrip;
+
+    /** Strip showing the landing queue */
+    private final Strip landingStrip;
+
+    /** Strip showing the aircraft that are away */
+    private final Strip awayStrip;
+
+    /** First click slot of the gates of each terminal */
+    private int[] gateSlots;
+
+    /** Terminals as last drawn; null if they must be redrawn */
+    private List<TerminalSnapshot> drawnTerminals;
+
+    /** Index of the first terminal shown in detail when zoomed in, or -1 if not zoomed in */
+    private int zoomedTerminal = -1;
+
+    /** Numbers of the terminals last drawn, in order; null until first drawn */
+    private int[] terminalNumbers;
+
+    /** Whether the terminals were last drawn as an overview rather than in detail */
+    private boolean overviewShown;
+
+    /** Size of each terminal's cell in the overview, in pixels */
+    private double overviewCell;
+
+    /** Number of terminal cells in each row of the overview */
+    private int overviewColumns;
+
+    /** Number of terminals in the overview as last laid out */
+    private int overviewCount;
+
+    /** Total number of terminals as last described in the status bar */
+    private int drawnTerminalCount = -1;
+
+    /** Number of ticks elapsed as last drawn in the status bar */
+    private long drawnTicksElapsed = -1;
+
+    /** ID of the selected aircraft when the canvas was last drawn */
+    private int drawnSelectedId = Aircraft.NO_ID;
 
     /**
      * Creates a new AirportCanvas with the given dimensions.
@@ -103,31 +160,19 @@ public class AirportCanvas extends Canvas {
         super(width, height);
 
         this.viewModel = viewModel;
-        this.drawnAircraft = new HashMap<>();
+        this.drawnAircraft = new ClickGrid<>(width, height, AIRCRAFT_WIDTH / 3);
+        this.sprites = new AircraftSprites(AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT);
 
         this.runwayStartX = getWidth() / 2 + AIRCRAFT_WIDTH + 5;
         this.runwayWidth = getWidth() / 2 - 2 * 5 - AIRCRAFT_WIDTH;
 
-        setOnMouseClicked(event -> {
-            /* Discard any click that is not a primary (left mouse button) click */
-            if (event.getButton() != MouseButton.PRIMARY) {
-                return;
-            }
-            double x = event.getX();
-            double y = event.getY();
-            Aircraft clickedAircraft = null;
-            for (Map.Entry<ClickableRegion, Aircraft> entry : drawnAircraft.entrySet()) {
-                if (entry.getKey().wasClicked(x, y)) {
-                    clickedAircraft = entry.getValue();
-                }
-            }
-            viewModel.getSelectedAircraft().set(clickedAircraft);
-            viewModel.registerChange();
-
+        this.takeoffStrip = new Strip("T/O", 0, 0, QUEUE_LABEL_WIDTH);
+        this.landingStrip = new Strip("LND", 0, AIRCRAFT_HEIGHT, QUEUE_LABEL_WIDTH);
+        this.awayStrip = new Strip("AWAY", getWidth() / 2 + 5, 0, AWAY_LABEL_WIDTH);
 
-            /* Ensures the canvas gains focus when it is clicked */
-            addEventFilter(MouseEvent.MOUSE_PRESSED, e -> requestFocus());
-        });
+        if (viewModel != null) {
+            addInputHandlers();
+        }
 
         landTimeline = new Timeline(
                 new KeyFrame(Duration.seconds(0),
@@ -147,38 +192,416 @@ public class AirportCanvas extends Canvas {
                 ),
                 new KeyFrame(Duration.seconds(1),
                         "end animation",
-                        e -> drawRunway(),
                         new KeyValue(runwayAnimationX, runwayStartX - AIRCRAFT_WIDTH,
                                 Interpolator.EASE_IN)
                 )
         );
+
+        landTimeline.setOnFinished(e -> finishAnimation());
+        takeoffTimeline.setOnFinished(e -> finishAnimation());
     }
 
     /**
-     * Draws all the relevant elements of the airport onto the canvas.
+     * Creates a new AirportCanvas with the given dimensions for drawing offscreen.
+     * <p>
+     * The canvas is not attached to a view model and does not respond to input; it can only
+     * draw snapshots passed to {@link #drawSnapshot(TowerSnapshot)}.
+     *
+     * @param width width of the canvas, in pixels
+     * @param height height of the canvas, in pixels
+     */
+    public AirportCanvas(double width, double height) {
+        this(null, width, height);
+    }
+
+    /* Makes clicking select aircraft and zoom terminals, and scrolling move strips */
+    private void addInputHandlers() {
+        setOnMouseClicked(event -> {
+            /* A secondary click leaves a zoomed-in selection of terminals */
+            if (event.getButton() == MouseButton.SECONDARY && zoomedTerminal >= 0) {
+                zoomOut();
+                return;
+            }
+            /* Discard any click that is not a primary (left mouse button) click */
+            if (event.getButton() != MouseButton.PRIMARY) {
+                return;
+            }
+            double x = event.getX();
+            double y = event.getY();
+            if (overviewShown) {
+                int terminalIndex = overviewTerminalAt(x, y);
+                if (terminalIndex >= 0) {
+                    zoomTo(terminalIndex);
+                    return;
+                }
+            }
+            AircraftSnapshot clickedAircraft = drawnAircraft.find(x, y);
+            // The runway aircraft moves every frame, so it is not in the grid
+            double runwayX = runwayAnimationX.doubleValue();
+            double runwayY = AIRCRAFT_HEIGHT + 5;
+            if (runwayAircraft != null && x >= runwayX && x <= runwayX + AIRCRAFT_WIDTH
+                    && y >= runwayY && y <= runwayY + AIRCRAFT_HEIGHT) {
+                clickedAircraft = runwayAircraft;
+            }
+            viewModel.getSelectedAircraft().set(clickedAircraft);
+            viewModel.registerChange();
+
+
+            /* Ensures the canvas gains focus when it is clicked */
+            addEventFilter(MouseEvent.MOUSE_PRESSED, e -> requestFocus());
+        });
+
+        setOnScroll(event -> {
+            // Scrolling down (or right) moves a strip towards the back of its queue
+            double delta = event.getDeltaY() != 0 ? event.getDeltaY() : event.getDeltaX();
+            if (delta == 0) {
+                return;
+            }
+            for (Strip strip : new Strip[] {takeoffStrip, landingStrip, awayStrip}) {
+                if (strip.contains(event.getX(), event.getY())) {
+                    strip.scrollBy(delta < 0 ? 1 : -1);
+                    registerChange();
+                    event.consume();
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Draws all the relevant elements of the airport onto the canvas, including the aircraft
+     * currently being animated on the runway, if any.
+     * <p>
+     * The canvas does not redraw itself; the view's render loop calls this at most once per
+     * frame, and on every frame while {@link #isAnimating()}.
+     * <p>
+     * Drawing is incremental. Static parts of the airport (background, runway, queue frames,
+     * terminal gate areas) are rendered once into a cached layer, and only the regions whose
+     * contents differ from what was last drawn (a queue strip, a terminal header, a single gate,
+     * the tick status or the runway) are restored from that layer and redrawn.
+     * <p>
+     * Airports with more than six terminals are drawn as an overview, a heatmap with one cell
+     * per terminal coloured by its occupancy level, whose cost does not depend on the number of
+     * gates. Clicking a cell zooms in to show that terminal and its neighbours in detail; a
+     * secondary click zooms back out.
      *
      * @given
      */
     public void draw() {
-        this.drawnAircraft.clear();
+        AircraftSnapshot selected = viewModel.getSelectedAircraft().get();
+        drawState(viewModel.getSnapshot(), viewModel.getTickSummary().getTicksElapsed(),
+                selected == null ? Aircraft.NO_ID : selected.getId());
+    }
 
-        GraphicsContext gc = getGraphicsContext2D();
+    /**
+     * Draws the given snapshot of the airport onto the canvas, with no aircraft selected and
+     * nothing animated on the runway.
+     * <p>
+     * This is the path used to render offscreen, for example by {@link OffscreenRenderer}.
+     * Drawing is incremental in the same way as {@link #draw()}, so successive snapshots of the
+     * same airport are cheap to draw. Must be called on the JavaFX application thread.
+     *
+     * @param snapshot snapshot of the control tower to draw
+     */
+    public void drawSnapshot(TowerSnapshot snapshot) {
+        drawState(snapshot, snapshot.getTicksElapsed(), Aircraft.NO_ID);
+    }
+
+    /* Draws the given state of the airport, redrawing only the regions that changed */
+    private void drawState(TowerSnapshot snapshot, long ticksElapsed, int selectedId) {
+        this.drawnAircraft.clearItems();
+        this.sprites.retainLabels(snapshot);
+
+        List<TerminalSnapshot> terminals = snapshot.getTerminals();
+        if (!terminalsMatch(terminals)) {
+            // A zoom index into a different list of terminals would show the wrong terminals
+            if (terminalNumbers != null) {
+                zoomedTerminal = -1;
+            }
+            terminalNumbers = new int[terminals.size()];
+            for (int i = 0; i < terminalNumbers.length; ++i) {
+                terminalNumbers[i] = terminals.get(i).getTerminalNumber();
+            }
+        }
+        final boolean overview = terminals.size() > DETAIL_TERMINALS && zoomedTerminal < 0;
+        final int firstShown = overview || terminals.size() <= DETAIL_TERMINALS
+                ? 0 : Math.min(zoomedTerminal, terminals.size() - 1);
+        List<TerminalSnapshot> shownTerminals = overview ? terminals : terminals.subList(
+                firstShown, Math.min(firstShown + DETAIL_TERMINALS, terminals.size()));
+
+        if (overview != overviewShown || !layoutMatches(shownTerminals, overview)) {
+            rebuildStaticLayer(shownTerminals, overview);
+            getGraphicsContext2D().drawImage(staticLayer, 0, 0);
+            // Everything must be drawn over the fresh layer
+            takeoffStrip.drawn = null;
+            landingStrip.drawn = null;
+            awayStrip.drawn = null;
+            drawnTerminals = null;
+            drawnTicksElapsed = -1;
+        }
+
+        drawStrip(takeoffStrip, snapshot.getTakeoffQueue(), selectedId);
+        drawStrip(landingStrip, snapshot.getLandingQueue(), selectedId);
+        drawStrip(awayStrip, snapshot.getAwayAircraft(), selectedId);
+        if (overview) {
+            drawOverview(shownTerminals);
+        } else {
+            drawTerminals(shownTerminals, selectedId);
+        }
+
+        if (ticksElapsed != drawnTicksElapsed || terminals.size() != drawnTerminalCount) {
+            drawTickStatus(ticksElapsed, firstShown, shownTerminals.size(), terminals.size());
+            drawnTicksElapsed = ticksElapsed;
+            drawnTerminalCount = terminals.size();
+        }
+
+        if (runwayAircraft != null || runwayDirty) {
+            restoreFromLayer(getWidth() / 2, AIRCRAFT_HEIGHT + 5, getWidth() / 2,
+                    AIRCRAFT_HEIGHT);
+            runwayDirty = runwayAircraft != null;
+            if (runwayAircraft != null) {
+                drawAircraft(runwayAircraft,
+                        runwayAnimationX.doubleValue(),
+                        AIRCRAFT_HEIGHT + 5,
+                        Color.WHITE,
+                        selectedId);
+            }
+        }
+
+        drawnSelectedId = selectedId;
+    }
+
+    /**
+     * Zooms in from the overview to show the terminal at the given index, along with the
+     * terminals around it, in detail.
+     * <p>
+     * Has no visible effect while the airport has few enough terminals to show them all in
+     * detail. The canvas returns to the overview once a snapshot with a different list of
+     * terminals is drawn, such as after a terminal is added or another save is drawn.
+     *
+     * @param terminalIndex index of the terminal to show, as in
+     * {@link TowerSnapshot#getTerminals()}
+     */
+    public void zoomTo(int terminalIndex) {
+        this.zoomedTerminal = Math.max(0, terminalIndex - terminalIndex % DETAIL_TERMINALS);
+        registerChange();
+    }
+
+    /**
+     * Returns to the overview of all terminals after {@link #zoomTo(int)}.
+     */
+    public void zoomOut() {
+        this.zoomedTerminal = -1;
+        registerChange();
+    }
+
+    /* Returns whether the given terminals have the numbers of the terminals last drawn */
+    private boolean terminalsMatch(List<TerminalSnapshot> terminals) {
+        if (terminalNumbers == null || terminalNumbers.length != terminals.size()) {
+            return false;
+        }
+        for (int i = 0; i < terminalNumbers.length; ++i) {
+            if (terminalNumbers[i] != terminals.get(i).getTerminalNumber()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns whether the cached static layer was rendered for the given terminals, that is, the
+     * same number of terminals with the same gate numbers in the same order. An overview layer
+     * only depends on the number of terminals.
+     */
+    private boolean layoutMatches(List<TerminalSnapshot> terminals, boolean overview) {
+        if (overview) {
+            return staticLayout != null && staticLayout.length == 1
+                    && staticLayout[0] == -terminals.size();
+        }
+        if (staticLayout == null || staticLayout[0] != terminals.size()) {
+            return false;
+        }
+        int index = 1;
+        for (TerminalSnapshot terminal : terminals) {
+            List<GateSnapshot> gates = terminal.getGates();
+            if (index + gates.size() >= staticLayout.length
+                    || staticLayout[index++] != gates.size()) {
+                return false;
+            }
+            for (GateSnapshot gate : gates) {
+                if (staticLayout[index++] != gate.getGateNumber()) {
+                    return false;
+                }
+            }
+        }
+        return index == staticLayout.length;
+    }
+
+    /*
+     * Renders the static parts of the airport for the given terminals into the cached layer,
+     * and lays out the click slots for every place an aircraft can be drawn
+     */
+    private void rebuildStaticLayer(List<TerminalSnapshot> terminals, boolean overview) {
+        Canvas layer = new Canvas(getWidth(), getHeight());
+        GraphicsContext gc = layer.getGraphicsContext2D();
 
         gc.setFill(Color.DARKGREEN);
         gc.fillRect(0, 0, getWidth(), getHeight());
 
-        drawRunway();
-        drawQueue(viewModel.getControlTower().getTakeoffQueue(), 0, 0);
-        drawQueue(viewModel.getControlTower().getLandingQueue(), 0, AIRCRAFT_HEIGHT);
-        drawAwayAircraft();
-        drawTerminals();
-        drawTickStatus();
+        drawRunway(gc);
+        drawStripFrame(gc, takeoffStrip);
+        drawStripFrame(gc, landingStrip);
+        drawStripFrame(gc, awayStrip);
+
+        drawnAircraft.clearSlots();
+        takeoffStrip.firstSlot = addStripSlots(takeoffStrip);
+        landingStrip.firstSlot = addStripSlots(landingStrip);
+        awayStrip.firstSlot = addStripSlots(awayStrip);
+        overviewShown = overview;
+        if (overview) {
+            layOutOverview(terminals.size());
+            staticLayout = new int[] {-terminals.size()};
+            drawnAircraft.build();
+            snapshotStaticLayer(layer);
+            return;
+        }
+        gateSlots = new int[terminals.size()];
+
+        int layoutLength = 1;
+        for (TerminalSnapshot terminal : terminals) {
+            layoutLength += 1 + terminal.getGates().size();
+        }
+        staticLayout = new int[layoutLength];
+        staticLayout[0] = terminals.size();
+        int index = 1;
+        for (int i = 0; i < terminals.size(); ++i) {
+            List<GateSnapshot> gates = terminals.get(i).getGates();
+            drawTerminalFrame(gc, i, gates);
+            staticLayout[index++] = gates.size();
+            final double gateWidth = gateWidth(gates.size());
+            final boolean compact = gateWidth < GATE_WIDTH;
+            for (int j = 0; j < gates.size(); ++j) {
+                staticLayout[index++] = gates.get(j).getGateNumber();
+                int slot = drawnAircraft.addSlot(
+                        compact ? terminalX(i) + gateWidth * j
+                                : terminalX(i) + GATE_WIDTH * (j + 1) - AIRCRAFT_WIDTH,
+                        terminalY(i) + TERMINAL_LABEL_HEIGHT,
+                        compact ? gateWidth : AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT);
+                if (j == 0) {
+                    gateSlots[i] = slot;
+                }
+            }
+        }
+        drawnAircraft.build();
+        snapshotStaticLayer(layer);
     }
 
-    /* Draws the runway */
-    private void drawRunway() {
+    /* Captures the given canvas as the static layer, reusing the previous image if possible */
+    private void snapshotStaticLayer(Canvas layer) {
+        staticLayer = layer.snapshot(null, staticLayer != null
+                && staticLayer.getWidth() == getWidth()
+                && staticLayer.getHeight() == getHeight() ? staticLayer : null);
+    }
+
+    /*
+     * Chooses the largest square cell size (up to a limit) at which the given number of
+     * terminals fit in the terminal area as an overview
+     */
+    private void layOutOverview(int count) {
+        final double width = getWidth() - 2 * TERMINAL_MARGIN;
+        final double height = overviewHeight();
+        double cell = Math.min(MAX_OVERVIEW_CELL, Math.floor(Math.sqrt(width * height / count)));
+        while (cell > 1 && Math.ceil(count / Math.floor(width / cell)) * cell > height) {
+            cell--;
+        }
+        overviewCell = cell;
+        overviewColumns = (int) (width / cell);
+        overviewCount = count;
+    }
+
+    /* Returns the height of the area the overview is drawn in */
+    private double overviewHeight() {
+        return getHeight() - STATUS_HEIGHT - TERMINAL_MARGIN - terminalY(0);
+    }
+
+    /* Returns the index of the terminal whose overview cell contains the point, or -1 if none */
+    private int overviewTerminalAt(double x, double y) {
+        if (x < TERMINAL_MARGIN || y < terminalY(0)) {
+            return -1;
+        }
+        int column = (int) ((x - TERMINAL_MARGIN) / overviewCell);
+        int row = (int) ((y - terminalY(0)) / overviewCell);
+        int index = row * overviewColumns + column;
+        return column < overviewColumns && index < overviewCount ? index : -1;
+    }
+
+    /*
+     * Draws each terminal as a cell of the overview heatmap, but only if its occupancy level,
+     * emergency state or number differ from when it was last drawn
+     */
+    private void drawOverview(List<TerminalSnapshot> terminals) {
+        for (int i = 0; i < terminals.size(); ++i) {
+            TerminalSnapshot terminal = terminals.get(i);
+            TerminalSnapshot drawn = drawnTerminals == null ? null : drawnTerminals.get(i);
+            if (drawn == null || drawn.hasEmergency() != terminal.hasEmergency()
+                    || drawn.getOccupancyLevel() != terminal.getOccupancyLevel()
+                    || drawn.getTerminalNumber() != terminal.getTerminalNumber()) {
+                drawOverviewCell(i, terminal);
+            }
+        }
+        drawnTerminals = terminals;
+    }
+
+    /* Draws the overview cell of the terminal at the given index */
+    private void drawOverviewCell(int index, TerminalSnapshot terminal) {
         GraphicsContext gc = getGraphicsContext2D();
 
+        final double cell = overviewCell;
+        final double x = TERMINAL_MARGIN + (index % overviewColumns) * cell;
+        final double y = terminalY(0) + (index / overviewColumns) * cell;
+
+        restoreFromLayer(x, y, cell, cell);
+
+        // Green when empty through to red when full
+        gc.setFill(Color.hsb(120 * (1 - terminal.getOccupancyLevel() / 100.0), 0.7, 0.9));
+        gc.fillRect(x + 1, y + 1, cell - 2, cell - 2);
+
+        if (terminal.hasEmergency()) {
+            gc.setStroke(Color.RED);
+            gc.setLineWidth(2);
+            gc.strokeRect(x + 2, y + 2, cell - 4, cell - 4);
+            gc.setLineWidth(1);
+        }
+
+        if (cell >= 20) {
+            gc.setFill(Color.BLACK);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setFont(Font.font("sans-serif", FontWeight.BOLD, Math.min(16, cell / 3)));
+            gc.fillText(String.valueOf(terminal.getTerminalNumber()),
+                    x + cell / 2, y + cell / 2, cell - 4);
+        }
+    }
+
+    /* Adds click slots for each place in a strip, returning the index of the first */
+    private int addStripSlots(Strip strip) {
+        final double aircraftX = strip.x + strip.labelWidth;
+        int first = drawnAircraft.addSlot(aircraftX, strip.y, AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT);
+        for (int i = 1; i < STRIP_CAPACITY; ++i) {
+            drawnAircraft.addSlot(aircraftX + AIRCRAFT_WIDTH * i, strip.y,
+                    AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT);
+        }
+        return first;
+    }
+
+    /* Copies the given rectangle of the cached static layer onto the canvas */
+    private void restoreFromLayer(double x, double y, double width, double height) {
+        getGraphicsContext2D().drawImage(staticLayer, x, y, width, height,
+                x, y, width, height);
+    }
+
+    /* Draws the runway */
+    private void drawRunway(GraphicsContext gc) {
         final double runwayHeight = AIRCRAFT_HEIGHT;
         final double marginTop = 5;
         final double lineLength = 30;
@@ -209,350 +632,434 @@ public class AirportCanvas extends Canvas {
     }
 
     /**
-     * Performs the animation of the aircraft currently landing or taking off.
+     * Starts the animation of the aircraft currently landing or taking off, replacing any
+     * animation still playing.
      * <p>
-     * Called once per tick of the view model.
+     * Called once per tick of the view model. The animation is drawn by {@link #draw()} and ends
+     * when its timeline finishes.
      *
      * @given
      */
     public void animate() {
-        Aircraft aircraftToAnimate;
         boolean takingOff = viewModel.getAircraftTakingOff().isNotNull().get();
         boolean landing = viewModel.getAircraftLanding().isNotNull().get();
-        if (takingOff) {
-            aircraftToAnimate = viewModel.getAircraftTakingOff().get();
-        } else if (landing) {
-            aircraftToAnimate = viewModel.getAircraftLanding().get();
-        } else {
+        if (!takingOff && !landing) {
             return;
         }
 
-        Aircraft finalAircraftToAnimate = aircraftToAnimate;
-        AnimationTimer timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                draw();
-
-                drawAircraft(finalAircraftToAnimate,
-                        runwayAnimationX.doubleValue(),
-                        AIRCRAFT_HEIGHT + 5,
-                        Color.WHITE);
-            }
-        };
-        timer.start();
+        landTimeline.stop();
+        takeoffTimeline.stop();
         if (takingOff) {
-            takeoffTimeline.play();
+            runwayAircraft = viewModel.getAircraftTakingOff().get();
+            takeoffTimeline.playFromStart();
         } else {
-            landTimeline.play();
+            runwayAircraft = viewModel.getAircraftLanding().get();
+            landTimeline.playFromStart();
         }
     }
 
-    /* Draws an aircraft queue */
-    private void drawQueue(AircraftQueue queue, double x, double y) {
-        GraphicsContext gc = getGraphicsContext2D();
+    /**
+     * Returns whether an aircraft is currently being animated on the runway, in which case the
+     * canvas needs to be redrawn every frame.
+     *
+     * @return true if an animation is playing; false otherwise
+     */
+    public boolean isAnimating() {
+        return runwayAircraft != null;
+    }
 
-        final int queueCapacity = 6;
-        final double labelWidth = 65;
+    /* Ends the runway animation, leaving a final frame to be drawn without the aircraft */
+    private void finishAnimation() {
+        runwayAircraft = null;
+        registerChange();
+    }
+
+    /* Asks the view's render loop to redraw the canvas; offscreen canvases are drawn on demand */
+    private void registerChange() {
+        if (viewModel != null) {
+            viewModel.registerChange();
+        }
+    }
+
+    /* Draws the frame and label of the given strip */
+    private void drawStripFrame(GraphicsContext gc, Strip strip) {
+        final double width = AIRCRAFT_WIDTH * STRIP_CAPACITY + strip.labelWidth;
 
         gc.setFill(Color.WHITE);
-        gc.fillRect(x, y, AIRCRAFT_WIDTH * queueCapacity + labelWidth, AIRCRAFT_HEIGHT);
+        gc.fillRect(strip.x, strip.y, width, AIRCRAFT_HEIGHT);
 
         gc.setStroke(Color.BLACK);
-        gc.strokeRect(x, y, AIRCRAFT_WIDTH * queueCapacity + labelWidth, AIRCRAFT_HEIGHT);
+        gc.strokeRect(strip.x, strip.y, width, AIRCRAFT_HEIGHT);
 
         gc.setFill(Color.BLACK);
         gc.setTextBaseline(VPos.CENTER);
         gc.setTextAlign(TextAlignment.LEFT);
         gc.setFont(Font.font("monospace", FontWeight.BOLD, 30));
-        String labelText;
-        if (queue instanceof TakeoffQueue) {
-            labelText = "T/O";
-        } else {
-            labelText = "LND";
-        }
-        gc.fillText(labelText, x + 5, y + AIRCRAFT_HEIGHT / 2);
+        gc.fillText(strip.label, strip.x + 5, strip.y + AIRCRAFT_HEIGHT / 2);
 
         gc.setStroke(Color.BLACK);
-        gc.strokeLine(x + labelWidth, y, x + labelWidth, y + AIRCRAFT_HEIGHT);
+        gc.strokeLine(strip.x + strip.labelWidth, strip.y, strip.x + strip.labelWidth,
+                strip.y + AIRCRAFT_HEIGHT);
+    }
 
-        // Draw aircraft in queue
-        var aircraft = queue.getAircraftInOrder();
+    /*
+     * Draws the visible window of aircraft in a strip (a queue or the away list), but only if it
+     * differs from what was last drawn there. Aircraft scrolled out of the window are never
+     * drawn; instead, the number hidden before and after the window is shown under the label.
+     */
+    private void drawStrip(Strip strip, List<AircraftSnapshot> aircraft, int selectedId) {
+        final double aircraftX = strip.x + strip.labelWidth;
+        strip.clampOffset(aircraft.size());
+        final int offset = strip.offset;
+        final int visible = Math.min(aircraft.size() - offset, STRIP_CAPACITY);
+
+        for (int i = 0; i < visible; ++i) {
+            drawnAircraft.setItem(strip.firstSlot + i, aircraft.get(offset + i));
+        }
 
-        for (int i = 0; i < aircraft.size(); ++i) {
-            Aircraft a = aircraft.get(i);
-            drawAircraft(a, x + labelWidth + AIRCRAFT_WIDTH * i, y, Color.BLACK);
+        List<AircraftSnapshot> drawn = strip.drawn;
+        if (drawn != null && drawn.size() == aircraft.size() && strip.drawnOffset == offset) {
+            boolean changed = false;
+            for (int i = 0; i < visible && !changed; ++i) {
+                changed = !looksSame(drawn.get(offset + i), aircraft.get(offset + i),
+                        selectedId);
+            }
+            if (!changed) {
+                return;
+            }
         }
-    }
 
-    /* Draws the list of aircraft that are currently AWAY */
-    private void drawAwayAircraft() {
         GraphicsContext gc = getGraphicsContext2D();
+        restoreFromLayer(strip.x, strip.y, strip.labelWidth + AIRCRAFT_WIDTH * STRIP_CAPACITY,
+                AIRCRAFT_HEIGHT);
+
+        final int hiddenAfter = aircraft.size() - offset - visible;
+        if (offset > 0 || hiddenAfter > 0) {
+            String overflow = (offset > 0 ? "\u2039" + offset : "")
+                    + (offset > 0 && hiddenAfter > 0 ? " " : "")
+                    + (hiddenAfter > 0 ? hiddenAfter + "\u203A" : "");
+            gc.setFill(Color.DIMGRAY);
+            gc.setTextBaseline(VPos.BOTTOM);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setFont(Font.font("monospace", FontWeight.BOLD, 11));
+            gc.fillText(overflow, strip.x + strip.labelWidth / 2, strip.y + AIRCRAFT_HEIGHT - 3,
+                    strip.labelWidth - 6);
+        }
 
-        final int capacity = 6;
-        final double labelWidth = 85;
-        final double x = getWidth() / 2 + 5;
-        final double y = 0;
+        gc.save();
+        gc.beginPath();
+        gc.rect(aircraftX, strip.y, AIRCRAFT_WIDTH * STRIP_CAPACITY, AIRCRAFT_HEIGHT);
+        gc.clip();
+        for (int i = 0; i < visible; ++i) {
+            drawAircraft(aircraft.get(offset + i), aircraftX + AIRCRAFT_WIDTH * i, strip.y,
+                    Color.BLACK, selectedId);
+        }
+        gc.restore();
+        strip.drawn = aircraft;
+        strip.drawnOffset = offset;
+    }
 
-        gc.setFill(Color.WHITE);
-        gc.fillRect(x, y, AIRCRAFT_WIDTH * capacity + labelWidth, AIRCRAFT_HEIGHT);
+    /*
+     * Returns whether the given aircraft, as drawn, would look the same as the aircraft drawn
+     * previously. Either may be null, meaning nothing is drawn.
+     */
+    private boolean looksSame(AircraftSnapshot drawn, AircraftSnapshot aircraft,
+            int selectedId) {
+        if (drawn == null || aircraft == null) {
+            return drawn == aircraft;
+        }
+        if (drawn == aircraft) {
+            return isSelected(drawn, drawnSelectedId) == isSelected(aircraft, selectedId);
+        }
+        return drawn.getId() == aircraft.getId()
+                && isSelected(drawn, drawnSelectedId) == isSelected(aircraft, selectedId)
+                && drawn.getCallsign().equals(aircraft.getCallsign())
+                && drawn.getCharacteristics() == aircraft.getCharacteristics()
+                && drawn.isPassenger() == aircraft.isPassenger()
+                && drawn.hasEmergency() == aircraft.hasEmergency()
+                && drawn.getOccupancyLevel() == aircraft.getOccupancyLevel()
+                && drawn.getCurrentTask().equals(aircraft.getCurrentTask());
+    }
 
-        gc.setStroke(Color.BLACK);
-        gc.strokeRect(x, y, AIRCRAFT_WIDTH * capacity + labelWidth, AIRCRAFT_HEIGHT);
+    /* Returns whether the given aircraft has the given selected ID */
+    private static boolean isSelected(AircraftSnapshot aircraft, int selectedId) {
+        return selectedId != Aircraft.NO_ID && aircraft.getId() == selectedId;
+    }
 
-        gc.setFill(Color.BLACK);
-        gc.setTextBaseline(VPos.CENTER);
-        gc.setTextAlign(TextAlignment.LEFT);
-        gc.setFont(Font.font("monospace", FontWeight.BOLD, 30));
-        gc.fillText("AWAY", x + 5, y + AIRCRAFT_HEIGHT / 2);
+    /* Returns the X coordinate of the top left corner of the terminal at the given position */
+    private double terminalX(int index) {
+        return TERMINAL_MARGIN + (index % 2 == 1 ? terminalWidth() + 2 * TERMINAL_MARGIN : 0);
+    }
 
-        gc.setStroke(Color.BLACK);
-        gc.strokeLine(x + labelWidth, y, x + labelWidth, y + AIRCRAFT_HEIGHT);
+    /* Returns the Y coordinate of the top left corner of the terminal at the given position */
+    private double terminalY(int index) {
+        return STRIPS_HEIGHT + TERMINAL_MARGIN
+                + ((index / 2) * (TERMINAL_LABEL_HEIGHT + AIRCRAFT_HEIGHT + TERMINAL_MARGIN));
+    }
 
-        // Draw aircraft in queue
-        var aircraft = viewModel.getControlTower().getAircraft().stream()
-                .filter(a -> a.getTaskList().getCurrentTask().getType() == TaskType.AWAY)
-                .collect(Collectors.toList());
+    /* Returns the width of a terminal */
+    private double terminalWidth() {
+        return getWidth() / 2 - (2 * TERMINAL_MARGIN);
+    }
 
-        for (int i = 0; i < aircraft.size(); ++i) {
-            Aircraft a = aircraft.get(i);
-            drawAircraft(a, x + labelWidth + AIRCRAFT_WIDTH * i, y, Color.BLACK);
-        }
+    /*
+     * Returns the width of each gate of a terminal with the given number of gates. Gates are
+     * normally a fixed width, but when there are too many to fit they are squeezed into compact
+     * gates which only show whether they are occupied.
+     */
+    private double gateWidth(int numGates) {
+        final double terminalWidth = terminalWidth();
+        return GATE_WIDTH * numGates <= terminalWidth ? GATE_WIDTH : terminalWidth / numGates;
     }
 
-    /* Draws the terminals and their gates */
-    private void drawTerminals() {
-        GraphicsContext gc = getGraphicsContext2D();
+    /* Draws the static frame of a terminal: its header bar and its gate area */
+    private void drawTerminalFrame(GraphicsContext gc, int index, List<GateSnapshot> gates) {
+        final double terminalStartX = terminalX(index);
+        final double terminalStartY = terminalY(index);
+        final double terminalWidth = terminalWidth();
 
-        final double terminalLabelHeight = 25;
-        final double terminalAircraftHeight = AIRCRAFT_HEIGHT;
-        final double terminalHeight = terminalLabelHeight + terminalAircraftHeight;
-        final double marginBelow = 5;
-        final double marginLeft = 5;
-        final double spaceAbove = 2 * AIRCRAFT_HEIGHT + 2 * marginBelow; // queues + padding
-        final double terminalWidth = getWidth() / 2 - (2 * marginLeft);
+        gc.setFill(Color.gray(0.7));
+        gc.fillRect(terminalStartX,
+                terminalStartY,
+                terminalWidth,
+                TERMINAL_LABEL_HEIGHT);
 
-        List<Terminal> terminals = this.viewModel.getControlTower().getTerminals();
+        gc.setFill(Color.gray(0.2));
+        gc.fillRect(terminalStartX,
+                terminalStartY + TERMINAL_LABEL_HEIGHT,
+                terminalWidth,
+                AIRCRAFT_HEIGHT);
 
-        for (int i = 0; i < terminals.size(); ++i) {
-            Terminal terminal = terminals.get(i);
-
-            final double terminalStartX = marginLeft + (i % 2 == 1
-                    ? terminalWidth + 2 * marginLeft
-                    : 0);
-            final double terminalStartY = spaceAbove + marginBelow
-                    + ((i / 2) * (terminalHeight + marginBelow));
-
-            gc.setFill(Color.gray(0.7));
-            gc.fillRect(terminalStartX,
-                    terminalStartY,
-                    terminalWidth,
-                    terminalLabelHeight);
-
-            if (terminal.hasEmergency()) {
-                gc.setFill(Color.RED);
-            } else {
-                gc.setFill(Color.BLACK);
-            }
+        if (gateWidth(gates.size()) < GATE_WIDTH) {
+            // Compact gates are too narrow to label or divide
+            return;
+        }
+        for (int j = 0; j < gates.size(); ++j) {
+            // Draw gate number
+            gc.setFill(Color.WHITE);
             gc.setTextBaseline(VPos.CENTER);
-            gc.setTextAlign(TextAlignment.CENTER);
-            gc.setFont(Font.font("sans-serif", FontWeight.BOLD, 14));
-
-            String terminalText = terminal.getClass().getSimpleName() + " "
-                    + terminal.getTerminalNumber();
-            if (terminal.hasEmergency()) {
-                terminalText += " (emergency)";
+            gc.setTextAlign(TextAlignment.LEFT);
+            gc.setFont(Font.font("monospace", FontWeight.BOLD, 12));
+            gc.fillText(String.valueOf(gates.get(j).getGateNumber()),
+                    terminalStartX + 2 + GATE_WIDTH * j, // 2px left padding
+                    terminalStartY + TERMINAL_LABEL_HEIGHT + AIRCRAFT_HEIGHT / 2.0);
+
+            // Draw dividing line
+            final double gateLineX = terminalStartX + GATE_WIDTH * (j + 1);
+            if (gateLineX < terminalStartX + terminalWidth) {
+                gc.setStroke(Color.WHITE);
+                gc.strokeLine(gateLineX,
+                        terminalStartY + TERMINAL_LABEL_HEIGHT,
+                        gateLineX,
+                        terminalStartY + TERMINAL_LABEL_HEIGHT + AIRCRAFT_HEIGHT);
             }
-            gc.fillText(terminalText,
-                    terminalStartX + terminalWidth / 2,
-                    terminalStartY + 0.5 * terminalLabelHeight);
+        }
+    }
 
-            // Number of gates and max number of gates
-            String numGatesText = terminal.getGates().size() + "/" + Terminal.MAX_NUM_GATES
-                    + " gates";
-            gc.setFill(Color.BLACK);
-            gc.setTextBaseline(VPos.CENTER);
-            gc.setTextAlign(TextAlignment.LEFT);
-            gc.setFont(Font.font("sans-serif", FontWeight.NORMAL, 14));
-            gc.fillText(numGatesText,
-                    terminalStartX + 2, // 2px left padding
-                    terminalStartY + 0.5 * terminalLabelHeight);
+    /* Draws the headers and gates of the terminals that differ from what was last drawn */
+    private void drawTerminals(List<TerminalSnapshot> terminals, int selectedId) {
+        for (int i = 0; i < terminals.size(); ++i) {
+            TerminalSnapshot terminal = terminals.get(i);
+            TerminalSnapshot drawn = drawnTerminals == null ? null : drawnTerminals.get(i);
+
+            if (drawn == null || drawn.hasEmergency() != terminal.hasEmergency()
+                    || drawn.getOccupancyLevel() != terminal.getOccupancyLevel()
+                    || drawn.getTerminalNumber() != terminal.getTerminalNumber()
+                    || !drawn.getTerminalType().equals(terminal.getTerminalType())) {
+                drawTerminalHeader(i, terminal);
+            }
 
-            // Occupancy level
-            String occupancyText = terminal.calculateOccupancyLevel() + "%";
-            gc.setFill(Color.BLACK);
-            gc.setTextBaseline(VPos.CENTER);
-            gc.setTextAlign(TextAlignment.RIGHT);
-            gc.setFont(Font.font("sans-serif", FontWeight.NORMAL, 14));
-            gc.fillText(occupancyText,
-                    terminalStartX + terminalWidth - 2, // 2px right padding
-                    terminalStartY + 0.5 * terminalLabelHeight);
-
-            gc.setFill(Color.gray(0.2));
-            gc.fillRect(terminalStartX,
-                    terminalStartY + terminalLabelHeight,
-                    terminalWidth,
-                    terminalAircraftHeight);
-
-            List<Gate> gates = terminal.getGates();
+            List<GateSnapshot> gates = terminal.getGates();
+            final double gateWidth = gateWidth(gates.size());
             for (int j = 0; j < gates.size(); ++j) {
-                Gate gate = gates.get(j);
-
-                final double gateWidth = AIRCRAFT_WIDTH + 15;
-
-                // Draw gate number
-                gc.setFill(Color.WHITE);
-                gc.setTextBaseline(VPos.CENTER);
-                gc.setTextAlign(TextAlignment.LEFT);
-                gc.setFont(Font.font("monospace", FontWeight.BOLD, 12));
-                gc.fillText(String.valueOf(gate.getGateNumber()),
-                        terminalStartX + 2 + gateWidth * j, // 2px left padding
-                        terminalStartY + terminalLabelHeight + terminalAircraftHeight / 2.0);
-
-                // Draw dividing line
-                final double gateLineX = terminalStartX + gateWidth * (j + 1);
-                if (j != Terminal.MAX_NUM_GATES - 1) {
-                    gc.setStroke(Color.WHITE);
-                    gc.strokeLine(gateLineX,
-                            terminalStartY + terminalLabelHeight,
-                            gateLineX,
-                            terminalStartY + terminalLabelHeight + terminalAircraftHeight);
+                AircraftSnapshot parked = gates.get(j).getAircraftAtGate();
+                final double aircraftX = terminalX(i) + GATE_WIDTH * (j + 1) - AIRCRAFT_WIDTH;
+                final double aircraftY = terminalY(i) + TERMINAL_LABEL_HEIGHT;
+                drawnAircraft.setItem(gateSlots[i] + j, parked);
+                if (drawn != null
+                        && looksSame(drawn.getGates().get(j).getAircraftAtGate(), parked,
+                        selectedId)) {
+                    continue;
                 }
 
-                // Draw parked aircraft
-                if (gate.isOccupied()) {
-                    drawAircraft(gate.getAircraftAtGate(),
-                            gateLineX - AIRCRAFT_WIDTH,
-                            terminalStartY + terminalLabelHeight,
-                            Color.WHITE);
+                // Redraw this gate only
+                restoreFromLayer(terminalX(i) + gateWidth * j, aircraftY,
+                        gateWidth, AIRCRAFT_HEIGHT);
+                if (parked != null && gateWidth < GATE_WIDTH) {
+                    drawCompactGate(parked, terminalX(i) + gateWidth * j, aircraftY, gateWidth,
+                            selectedId);
+                } else if (parked != null) {
+                    drawAircraft(parked, aircraftX, aircraftY, Color.WHITE, selectedId);
                 }
             }
         }
+        drawnTerminals = terminals;
+    }
+
+    /* Draws an aircraft parked at a compact gate as a bar coloured by its state */
+    private void drawCompactGate(AircraftSnapshot parked, double x, double y, double width,
+            int selectedId) {
+        GraphicsContext gc = getGraphicsContext2D();
+        if (isSelected(parked, selectedId)) {
+            gc.setFill(Color.YELLOW);
+        } else if (parked.hasEmergency()) {
+            gc.setFill(Color.RED);
+        } else {
+            gc.setFill(parked.isPassenger() ? Color.CADETBLUE : Color.SANDYBROWN);
+        }
+        // Leave a gap between neighbouring gates where there is room for one
+        gc.fillRect(x, y + 2, width >= 3 ? width - 1 : width, AIRCRAFT_HEIGHT - 4);
+    }
+
+    /* Draws the header of a terminal, showing its name, gate count and occupancy */
+    private void drawTerminalHeader(int index, TerminalSnapshot terminal) {
+        GraphicsContext gc = getGraphicsContext2D();
+
+        final double terminalStartX = terminalX(index);
+        final double terminalStartY = terminalY(index);
+        final double terminalWidth = terminalWidth();
+
+        restoreFromLayer(terminalStartX, terminalStartY, terminalWidth, TERMINAL_LABEL_HEIGHT);
+
+        if (terminal.hasEmergency()) {
+            gc.setFill(Color.RED);
+        } else {
+            gc.setFill(Color.BLACK);
+        }
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFont(Font.font("sans-serif", FontWeight.BOLD, 14));
+
+        String terminalText = terminal.getTerminalType() + " "
+                + terminal.getTerminalNumber();
+        if (terminal.hasEmergency()) {
+            terminalText += " (emergency)";
+        }
+        gc.fillText(terminalText,
+                terminalStartX + terminalWidth / 2,
+                terminalStartY + 0.5 * TERMINAL_LABEL_HEIGHT);
+
+        // Number of gates and max number of gates
+        String numGatesText = terminal.getGates().size() + "/" + terminal.getMaxGates()
+                + " gates";
+        gc.setFill(Color.BLACK);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setFont(Font.font("sans-serif", FontWeight.NORMAL, 14));
+        gc.fillText(numGatesText,
+                terminalStartX + 2, // 2px left padding
+                terminalStartY + 0.5 * TERMINAL_LABEL_HEIGHT);
+
+        // Occupancy level
+        String occupancyText = terminal.getOccupancyLevel() + "%";
+        gc.setFill(Color.BLACK);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.setFont(Font.font("sans-serif", FontWeight.NORMAL, 14));
+        gc.fillText(occupancyText,
+                terminalStartX + terminalWidth - 2, // 2px right padding
+                terminalStartY + 0.5 * TERMINAL_LABEL_HEIGHT);
     }
 
     /*
-     * Draws an aircraft at the given position on the canvas.
+     * Draws an aircraft at the given position on the canvas, using cached sprites for its body
+     * and label.
      *
      * @param aircraft aircraft to draw
      * @param x x-coord of top left corner
      * @param y y-coord of top left corner
      * @param textColor color to use when drawing aircraft info text
+     * @param selectedId ID of the currently selected aircraft
+     */
+    private void drawAircraft(AircraftSnapshot aircraft, double x, double y, Color textColor,
+            int selectedId) {
+        sprites.draw(getGraphicsContext2D(), aircraft, x, y, textColor,
+                isSelected(aircraft, selectedId));
+    }
+
+    /*
+     * Draws the status bar containing tick information and, for airports too large to show in
+     * detail, which terminals are shown
      */
-    private void drawAircraft(Aircraft aircraft, double x, double y, Color textColor) {
+    private void drawTickStatus(long ticksElapsed, int firstShown, int numShown,
+            int numTerminals) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        this.drawnAircraft.put(new ClickableRegion(x, y, AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT),
-                aircraft);
+        final double height = STATUS_HEIGHT;
 
-        if (aircraft instanceof PassengerAircraft) {
-            gc.setFill(Color.CADETBLUE);
-        } else {
-            gc.setFill(Color.SADDLEBROWN);
-        }
+        gc.setFill(Color.gray(0.5));
+        gc.fillRect(0, getHeight() - height, getWidth(), height);
 
-        // Emergency
-        if (aircraft.hasEmergency()) {
-            textColor = Color.RED;
+        String status = String.format("%d ticks elapsed", ticksElapsed);
+        if (numTerminals > DETAIL_TERMINALS) {
+            status += overviewShown
+                    ? String.format(" \u2014 %d terminals, click one to zoom in", numTerminals)
+                    : String.format(" \u2014 terminals %d-%d of %d, right-click to zoom out",
+                            firstShown + 1, firstShown + numShown, numTerminals);
         }
 
-        // Is selected
-        FontWeight fontWeight = FontWeight.NORMAL;
-        if (Objects.equals(aircraft, viewModel.getSelectedAircraft().get())) {
-            fontWeight = FontWeight.BOLD;
-        }
+        gc.setFill(Color.BLACK);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFont(Font.font("sans-serif", 14));
+        gc.fillText(status, getWidth() / 2, getHeight() - 0.5 * height);
+    }
 
-        switch (aircraft.getCharacteristics().type) {
-            case HELICOPTER:
-                drawHelicopter(x, y);
-                break;
-            case AIRPLANE:
-            default:
-                drawAirplane(x, y);
-        }
+    /**
+     * A queue or the away list drawn as a horizontal strip, showing a scrollable window of at
+     * most {@link #STRIP_CAPACITY} aircraft.
+     */
+    private static class Strip {
 
-        // Text
-        gc.setFill(textColor);
-        gc.setTextBaseline(VPos.BOTTOM);
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.setFont(Font.font("monospace", fontWeight, 12));
+        /** Label drawn at the start of the strip */
+        private final String label;
 
-        Task currentTask = aircraft.getTaskList().getCurrentTask();
-        String aircraftTaskLine;
-        if (currentTask.getType() == TaskType.LOAD) {
-            aircraftTaskLine = "LOAD@" + currentTask.getLoadPercent() + "%";
-        } else {
-            aircraftTaskLine = currentTask.getType().name();
-        }
-        String aircraftText = aircraft.getCallsign() + System.lineSeparator()
-                + aircraftTaskLine + System.lineSeparator()
-                + aircraft.calculateOccupancyLevel() + "%";
-        gc.fillText(aircraftText,
-                x + AIRCRAFT_WIDTH / 2,
-                y + AIRCRAFT_HEIGHT);
-    }
+        /** X coordinate of the top-left corner of the strip */
+        private final double x;
 
-    private void drawAirplane(double x, double y) {
-        GraphicsContext gc = getGraphicsContext2D();
+        /** Y coordinate of the top-left corner of the strip */
+        private final double y;
 
-        // Wings
-        gc.fillPolygon(new double[] {
-            x + AIRCRAFT_WIDTH / 2 + 8,
-            x + AIRCRAFT_WIDTH / 2 + 8,
-            x + AIRCRAFT_WIDTH / 2 - 10
-        }, new double[] {
-            y + 4,
-            y + 36,
-            y + 22}, 3);
-
-        // Tail
-        gc.fillPolygon(new double[] {
-            x + AIRCRAFT_WIDTH - 4,
-            x + AIRCRAFT_WIDTH - 16,
-            x + AIRCRAFT_WIDTH - 4
-        }, new double[] {
-            y + 22,
-            y + 18,
-            y + 4}, 3);
-
-        // Fuselage
-        gc.fillRoundRect(x + 4,
-                y + 17,
-                AIRCRAFT_WIDTH - 8,
-                8,
-                10,
-                10);
-    }
-
-    private void drawHelicopter(double x, double y) {
-        GraphicsContext gc = getGraphicsContext2D();
+        /** Width of the label at the start of the strip, in pixels */
+        private final double labelWidth;
 
+        /** First click slot of the strip */
+        private int firstSlot;
 
-        // Fuselage
-        gc.fillOval(x + 15, y + 16, 30, 16);
+        /** Index of the first aircraft shown in the strip */
+        private int offset;
 
-        // Main rotor
-        gc.fillRect(x + 30 - 1, y + 16 - 4, 3, 4);
-        gc.fillRect(x + 4, y + 10, 50, 3);
+        /** Aircraft as last drawn; null if they must be redrawn */
+        private List<AircraftSnapshot> drawn;
 
-        // Tail rotor
-        gc.fillRect(x + 30, y + 22, 40, 3);
-        gc.fillRect(x + AIRCRAFT_WIDTH - 14, y + 16, 2, 14);
-    }
+        /** Offset of the window when the strip was last drawn */
+        private int drawnOffset;
 
-    /* Draws the status bar containing tick information */
-    private void drawTickStatus() {
-        GraphicsContext gc = getGraphicsContext2D();
+        /* Creates a new strip with its top-left corner at the given position */
+        private Strip(String label, double x, double y, double labelWidth) {
+            this.label = label;
+            this.x = x;
+            this.y = y;
+            this.labelWidth = labelWidth;
+        }
 
-        final double height = 20;
+        /* Returns whether the given point lies within the strip */
+        private boolean contains(double px, double py) {
+            return px >= x && px <= x + labelWidth + AIRCRAFT_WIDTH * STRIP_CAPACITY
+                    && py >= y && py <= y + AIRCRAFT_HEIGHT;
+        }
 
-        gc.setFill(Color.gray(0.5));
-        gc.fillRect(0, getHeight() - height, getWidth(), height);
+        /*
+         * Moves the window by the given number of aircraft. The offset is clamped to the
+         * aircraft available when the strip is next drawn.
+         */
+        private void scrollBy(int amount) {
+            offset = Math.max(0, offset + amount);
+        }
 
-        gc.setFill(Color.BLACK);
-        gc.setTextBaseline(VPos.CENTER);
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.setFont(Font.font("sans-serif", 14));
-        gc.fillText(String.format("%d ticks elapsed",
-                viewModel.getControlTower().getTicksElapsed()),
-                getWidth() / 2, getHeight() - 0.5 * height);
+        /* Clamps the offset so that the window is as full as possible for the given size */
+        private void clampOffset(int size) {
+            offset = Math.max(0, Math.min(offset, size - STRIP_CAPACITY));
+        }
     }
 }
@@ -0,0 +1,178 @@
+package towersim.display;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial index mapping points on the canvas to the items drawn in fixed
+ * rectangular slots.
+ * <p>
+ * Slots are the positions aircraft can be drawn at (queue places, gates) and only change when
+ * the layout of the airport changes. They are added once and indexed into a grid of equally
+ * sized cells, each listing the slots that overlap it. After that, the item in each slot can be
+ * replaced every frame without allocating, and finding the item at a point only checks the few
+ * slots in one cell.
+ *
+ * @param <T> type of item drawn in the slots
+ */
+class ClickGrid<T> {
+
+    /** Size of each square grid cell, in pixels */
+    private final double cellSize;
+
+    /** Number of cell columns */
+    private final int columns;
+
+    /** Number of cell rows */
+    private final int rows;
+
+    /** Left edge, top edge, width and height of each slot, four values per slot */
+    private double[] bounds;
+
+    /** Number of slots added */
+    private int numSlots;
+
+    /** Item currently drawn in each slot, or null */
+    private Object[] items;
+
+    /** Index into {@code cellSlots} of the first slot of each cell, plus a final end index */
+    private int[] cellStart;
+
+    /** Slots overlapping each cell, grouped by cell */
+    private int[] cellSlots;
+
+    /**
+     * Creates a new, empty grid covering an area of the given size.
+     *
+     * @param width width of the area, in pixels
+     * @param height height of the area, in pixels
+     * @param cellSize size of each grid cell, in pixels
+     */
+    ClickGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        clearSlots();
+    }
+
+    /**
+     * Removes all slots. {@link #build()} must be called again after adding new slots.
+     */
+    void clearSlots() {
+        this.bounds = new double[4 * 16];
+        this.numSlots = 0;
+        this.items = new Object[16];
+        this.cellStart = new int[columns * rows + 1];
+        this.cellSlots = new int[0];
+    }
+
+    /**
+     * Adds a slot covering the given rectangle.
+     *
+     * @param x x-coord of top left corner
+     * @param y y-coord of top left corner
+     * @param width width of the slot
+     * @param height height of the slot
+     * @return index of the new slot
+     */
+    int addSlot(double x, double y, double width, double height) {
+        if (4 * (numSlots + 1) > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        bounds[4 * numSlots] = x;
+        bounds[4 * numSlots + 1] = y;
+        bounds[4 * numSlots + 2] = width;
+        bounds[4 * numSlots + 3] = height;
+        return numSlots++;
+    }
+
+    /**
+     * Indexes all slots added so far into the grid.
+     */
+    void build() {
+        // Count the slots overlapping each cell, then fill them in (compressed row storage)
+        int[] counts = new int[columns * rows];
+        for (int slot = 0; slot < numSlots; ++slot) {
+            forEachCell(slot, counts, null, null);
+        }
+        cellStart = new int[columns * rows + 1];
+        for (int cell = 0; cell < counts.length; ++cell) {
+            cellStart[cell + 1] = cellStart[cell] + counts[cell];
+        }
+        cellSlots = new int[cellStart[counts.length]];
+        int[] next = Arrays.copyOf(cellStart, counts.length);
+        for (int slot = 0; slot < numSlots; ++slot) {
+            forEachCell(slot, null, next, cellSlots);
+        }
+    }
+
+    /*
+     * Visits each cell overlapped by the given slot, either counting it in counts or recording
+     * the slot in slots at the position given by next.
+     */
+    private void forEachCell(int slot, int[] counts, int[] next, int[] slots) {
+        int firstColumn = clamp((int) (bounds[4 * slot] / cellSize), columns);
+        int firstRow = clamp((int) (bounds[4 * slot + 1] / cellSize), rows);
+        int lastColumn = clamp((int) ((bounds[4 * slot] + bounds[4 * slot + 2]) / cellSize),
+                columns);
+        int lastRow = clamp((int) ((bounds[4 * slot + 1] + bounds[4 * slot + 3]) / cellSize),
+                rows);
+        for (int row = firstRow; row <= lastRow; ++row) {
+            for (int column = firstColumn; column <= lastColumn; ++column) {
+                int cell = row * columns + column;
+                if (counts != null) {
+                    counts[cell]++;
+                } else {
+                    slots[next[cell]++] = slot;
+                }
+            }
+        }
+    }
+
+    /* Clamps a cell coordinate to the grid */
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    /**
+     * Sets the item drawn in the given slot.
+     *
+     * @param slot index of the slot, as returned by {@link #addSlot}
+     * @param item item drawn in the slot; or null if the slot is empty
+     */
+    void setItem(int slot, T item) {
+        items[slot] = item;
+    }
+
+    /**
+     * Empties every slot.
+     */
+    void clearItems() {
+        Arrays.fill(items, 0, numSlots, null);
+    }
+
+    /**
+     * Returns the item drawn in the slot containing the given point, or null if there is none.
+     *
+     * @param x x-coord of the point
+     * @param y y-coord of the point
+     * @return item at the point; or null
+     */
+    @SuppressWarnings("unchecked")
+    T find(double x, double y) {
+        if (x < 0 || y < 0 || x >= columns * cellSize || y >= rows * cellSize) {
+            return null;
+        }
+        int cell = (int) (y / cellSize) * columns + (int) (x / cellSize);
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; ++i) {
+            int slot = cellSlots[i];
+            if (items[slot] != null
+                    && x >= bounds[4 * slot] && x <= bounds[4 * slot] + bounds[4 * slot + 2]
+                    && y >= bounds[4 * slot + 1]
+                    && y <= bounds[4 * slot + 1] + bounds[4 * slot + 3]) {
+                return (T) items[slot];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package towersim.display;
+
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.LoadingSnapshot;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates the text of the loading aircraft info panel, rebuilding only what has changed.
+ * <p>
+ * The line for each loading aircraft is cached by aircraft ID, along with the
+ * {@link AircraftSnapshot#getVersion() snapshot version}, gate and ticks remaining it was built
+ * from, and is only rebuilt when one of those changes. The panel text itself is only rebuilt,
+ * into a reused builder, when some line or the order of lines has changed.
+ */
+class LoadingPanelText {
+
+    /** Header of the panel when aircraft are loading */
+    private static final String HEADER = "Loading aircraft: ";
+
+    /** Header of the panel when no aircraft are loading */
+    private static final String EMPTY_HEADER = "Loading aircraft: none";
+
+    /** Cached line for each aircraft, indexed by aircraft ID; entries may be null */
+    private Line[] linesById = new Line[0];
+
+    /** Lines of the panel as last generated, in order */
+    private String[] shownLines = new String[0];
+
+    /** Number of lines in the panel as last generated; -1 if never generated */
+    private int numShownLines = -1;
+
+    /** Builder reused to build lines */
+    private final StringBuilder lineBuilder = new StringBuilder();
+
+    /** Builder reused to build the panel text */
+    private final StringBuilder textBuilder = new StringBuilder();
+
+    /**
+     * Returns the panel text for the given loading aircraft, or null if it would be the same as
+     * the text last returned.
+     *
+     * @param loadingAircraft aircraft currently loading, in the order to show them
+     * @return new panel text; or null if unchanged
+     */
+    String update(List<LoadingSnapshot> loadingAircraft) {
+        final int count = loadingAircraft.size();
+        boolean changed = count != numShownLines;
+        if (shownLines.length < count) {
+            shownLines = Arrays.copyOf(shownLines, Math.max(count, 2 * shownLines.length));
+        }
+        for (int i = 0; i < count; ++i) {
+            String line = lineFor(loadingAircraft.get(i));
+            if (line != shownLines[i]) {
+                shownLines[i] = line;
+                changed = true;
+            }
+        }
+        numShownLines = count;
+        if (!changed) {
+            return null;
+        }
+
+        textBuilder.setLength(0);
+        textBuilder.append(count == 0 ? EMPTY_HEADER : HEADER);
+        for (int i = 0; i < count; ++i) {
+            textBuilder.append(System.lineSeparator()).append(shownLines[i]);
+        }
+        return textBuilder.toString();
+    }
+
+    /* Returns the line for the given loading aircraft, reusing the cached line if unchanged */
+    private String lineFor(LoadingSnapshot loading) {
+        AircraftSnapshot aircraft = loading.getAircraft();
+        int id = aircraft.getId();
+        if (id < 0) {
+            return buildLine(loading);
+        }
+        if (id >= linesById.length) {
+            linesById = Arrays.copyOf(linesById, Math.max(id + 1, 2 * linesById.length));
+        }
+        Line cached = linesById[id];
+        if (cached == null) {
+            cached = new Line();
+            linesById[id] = cached;
+        } else if (cached.version == aircraft.getVersion()
+                && cached.gateNumber == loading.getGateNumber()
+                && cached.ticksRemaining == loading.getTicksRemaining()
+                && cached.text != null) {
+            return cached.text;
+        }
+        cached.version = aircraft.getVersion();
+        cached.gateNumber = loading.getGateNumber();
+        cached.ticksRemaining = loading.getTicksRemaining();
+        cached.text = buildLine(loading);
+        return cached.text;
+    }
+
+    /* Builds the line describing the given loading aircraft */
+    private String buildLine(LoadingSnapshot loading) {
+        AircraftSnapshot aircraft = loading.getAircraft();
+        lineBuilder.setLength(0);
+        lineBuilder.append(aircraft.getCallsign())
+                .append(" at gate ").append(loading.getGateNumber())
+                .append(":\t").append(loading.getTicksRemaining())
+                .append(" ticks remaining (currently at ").append(aircraft.getOccupancyLevel())
+                .append("%, will load to ").append(aircraft.getCurrentTask().getLoadPercent())
+                .append("%)");
+        return lineBuilder.toString();
+    }
+
+    /**
+     * Cached line of the panel and the state it was built from.
+     */
+    private static class Line {
+
+        /** Version of the aircraft snapshot the line was built from */
+        private long version;
+
+        /** Gate number the line was built from */
+        private int gateNumber;
+
+        /** Ticks remaining the line was built from */
+        private int ticksRemaining;
+
+        /** Text of the line; null if not yet built */
+        private String text;
+    }
+}
@@ -0,0 +1,386 @@
+package towersim.display;
+
+import javafx.application.Platform;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import towersim.control.ControlTower;
+import towersim.control.ControlTowerInitialiser;
+import towersim.simulation.TowerSnapshot;
+import towersim.util.MalformedSaveException;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Renders snapshots of a control tower to PNG images without opening a window, for reviewing a
+ * simulation run after the fact.
+ * <p>
+ * Snapshots are drawn by an offscreen {@link AirportCanvas} through
+ * {@link AirportCanvas#drawSnapshot(TowerSnapshot)}, so frames look exactly as they would in the
+ * GUI. Drawing happens on the JavaFX application thread, which is started without a stage if
+ * necessary; the pixels are then handed to a pool of background threads that encode each frame
+ * as a PNG file and, optionally, shrink it into a contact sheet written when the renderer is
+ * closed.
+ * <p>
+ * At most {@code queueCapacity} frames are in flight at once, each using one of a fixed set of
+ * pixel buffers. {@link #render(TowerSnapshot)} blocks until a buffer is free, so a long
+ * headless run is slowed down to the rate frames can be encoded instead of queueing them in
+ * memory.
+ */
+public class OffscreenRenderer implements AutoCloseable {
+
+    /** Width of rendered frames, in pixels */
+    private static final int FRAME_WIDTH = 1100;
+
+    /** Height of rendered frames, in pixels */
+    private static final int FRAME_HEIGHT = 500;
+
+    /** Directory frames are written to */
+    private final Path directory;
+
+    /** Canvas frames are drawn on; only accessed on the JavaFX application thread */
+    private AirportCanvas canvas;
+
+    /** Image the canvas is captured into; only accessed on the JavaFX application thread */
+    private WritableImage image;
+
+    /** Pixel buffers not currently holding a frame in flight */
+    private final BlockingQueue<int[]> freeBuffers;
+
+    /** Number of pixel buffers, and so the maximum number of frames in flight */
+    private final int queueCapacity;
+
+    /** Threads encoding frames */
+    private final ExecutorService encoders;
+
+    /** First error encountered while drawing or encoding a frame, if any */
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /** File the contact sheet is written to when closed; null for no contact sheet */
+    private Path contactSheet;
+
+    /** Number of thumbnails in each row of the contact sheet */
+    private int sheetColumns;
+
+    /** Maximum number of thumbnails on the contact sheet */
+    private int sheetCapacity;
+
+    /** Scale of contact sheet thumbnails relative to full frames */
+    private double sheetScale;
+
+    /**
+     * Contact sheet thumbnails of the earliest frames, ordered by the number of ticks elapsed in
+     * their frame; guarded by itself
+     */
+    private final TreeMap<Long, BufferedImage> thumbnails = new TreeMap<>();
+
+    /** Whether the renderer has been closed */
+    private boolean closed;
+
+    /**
+     * Creates a new renderer writing PNG frames into the given directory, starting the JavaFX
+     * platform if it is not already running.
+     *
+     * @param directory     directory to write frames to; created if it does not exist
+     * @param threads       number of background threads encoding frames
+     * @param queueCapacity maximum number of frames drawn but not yet encoded
+     * @throws IOException if the directory cannot be created
+     * @throws IllegalArgumentException if threads or queueCapacity is not positive
+     */
+    public OffscreenRenderer(Path directory, int threads, int queueCapacity)
+            throws IOException {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Threads and queue capacity must be positive");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.queueCapacity = queueCapacity;
+        this.freeBuffers = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < queueCapacity; ++i) {
+            this.freeBuffers.add(new int[FRAME_WIDTH * FRAME_HEIGHT]);
+        }
+        this.encoders = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "towersim-frame-encoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // The platform is already running, for example inside the GUI
+        }
+    }
+
+    /**
+     * Also collects thumbnails of the earliest frames into a contact sheet of the given number
+     * of columns and rows, written as a PNG file to the given path when the renderer is closed.
+     * <p>
+     * Thumbnails are kept in memory until then, but never more than fit on the sheet: once it
+     * is full, a later frame's thumbnail is discarded.
+     *
+     * @param file    file to write the contact sheet to
+     * @param columns number of thumbnails in each row of the sheet
+     * @param rows    maximum number of rows of thumbnails
+     * @param scale   size of thumbnails relative to full frames, greater than 0 and at most 1
+     * @throws IllegalArgumentException if columns or rows is not positive or scale is out of
+     *                                  range
+     */
+    public void setContactSheet(Path file, int columns, int rows, double scale) {
+        if (columns <= 0 || rows <= 0 || scale <= 0 || scale > 1) {
+            throw new IllegalArgumentException("Invalid contact sheet layout");
+        }
+        this.contactSheet = file;
+        this.sheetColumns = columns;
+        this.sheetCapacity = Math.multiplyExact(columns, rows);
+        this.sheetScale = scale;
+    }
+
+    /**
+     * Draws the given snapshot and queues it to be written as {@code frame-<ticks>.png}, where
+     * {@code <ticks>} is the number of ticks elapsed in the snapshot.
+     * <p>
+     * Blocks while the maximum number of frames are already in flight.
+     *
+     * @param snapshot snapshot of the control tower to render
+     * @throws InterruptedException if interrupted while waiting for a free buffer
+     * @throws IllegalStateException if the renderer has been closed
+     */
+    public void render(TowerSnapshot snapshot) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Renderer has been closed");
+        }
+        int[] pixels = freeBuffers.take();
+        Platform.runLater(() -> {
+            try {
+                if (canvas == null) {
+                    canvas = new AirportCanvas(FRAME_WIDTH, FRAME_HEIGHT);
+                    image = new WritableImage(FRAME_WIDTH, FRAME_HEIGHT);
+                }
+                canvas.drawSnapshot(snapshot);
+                canvas.snapshot(null, image).getPixelReader().getPixels(0, 0,
+                        FRAME_WIDTH, FRAME_HEIGHT, PixelFormat.getIntArgbInstance(),
+                        pixels, 0, FRAME_WIDTH);
+                encoders.execute(() -> encode(pixels, snapshot.getTicksElapsed()));
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                freeBuffers.add(pixels);
+            }
+        });
+    }
+
+    /*
+     * Writes the given frame as a PNG file and adds it to the contact sheet, if any. Runs on an
+     * encoder thread, and returns the pixel buffer when done.
+     */
+    private void encode(int[] pixels, long ticksElapsed) {
+        BufferedImage frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        try {
+            frame.setRGB(0, 0, FRAME_WIDTH, FRAME_HEIGHT, pixels, 0, FRAME_WIDTH);
+        } finally {
+            // The buffer can be reused as soon as the pixels have been copied out
+            freeBuffers.add(pixels);
+        }
+
+        try {
+            ImageIO.write(frame, "png",
+                    directory.resolve(String.format("frame-%08d.png", ticksElapsed)).toFile());
+
+            if (contactSheet != null && isOnContactSheet(ticksElapsed)) {
+                int width = (int) Math.round(FRAME_WIDTH * sheetScale);
+                int height = (int) Math.round(FRAME_HEIGHT * sheetScale);
+                BufferedImage thumbnail = new BufferedImage(width, height,
+                        BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = thumbnail.createGraphics();
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(frame, 0, 0, width, height, null);
+                g.dispose();
+                synchronized (thumbnails) {
+                    thumbnails.put(ticksElapsed, thumbnail);
+                    // Frames are encoded out of order, so a later one may have got in first
+                    if (thumbnails.size() > sheetCapacity) {
+                        thumbnails.pollLastEntry();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /* Returns true if a thumbnail of the given frame would currently be kept on the sheet */
+    private boolean isOnContactSheet(long ticksElapsed) {
+        synchronized (thumbnails) {
+            return thumbnails.size() < sheetCapacity || ticksElapsed < thumbnails.lastKey();
+        }
+    }
+
+    /**
+     * Waits for all frames in flight to be written, writes the contact sheet if one was
+     * requested, and stops the encoder threads. Has no effect if already closed.
+     *
+     * If interrupted while waiting for frames to be written, the thread's interrupt status is
+     * restored and an {@link InterruptedIOException} is thrown; frames still in flight may then
+     * not be written.
+     *
+     * @throws IOException if any frame or the contact sheet could not be drawn or written, or
+     *                     if interrupted while waiting for frames to be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            waitForBuffers();
+            encoders.shutdown();
+            encoders.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            encoders.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing frames");
+        }
+
+        if (contactSheet != null && failure.get() == null && !thumbnails.isEmpty()) {
+            writeContactSheet();
+        }
+
+        Exception error = failure.get();
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        } else if (error != null) {
+            throw new IOException("Unable to render frame", error);
+        }
+    }
+
+    /*
+     * Blocks until every pixel buffer has been returned, that is, until every frame has been
+     * drawn and copied out of its buffer
+     */
+    private void waitForBuffers() throws InterruptedException {
+        int[][] taken = new int[queueCapacity][];
+        for (int i = 0; i < queueCapacity; ++i) {
+            taken[i] = freeBuffers.take();
+        }
+        for (int[] buffer : taken) {
+            freeBuffers.add(buffer);
+        }
+    }
+
+    /* Lays out the collected thumbnails in rows and writes them as one image */
+    private void writeContactSheet() throws IOException {
+        BufferedImage first = thumbnails.values().iterator().next();
+        int columns = Math.min(sheetColumns, thumbnails.size());
+        int rows = (thumbnails.size() + sheetColumns - 1) / sheetColumns;
+        BufferedImage sheet = new BufferedImage(columns * first.getWidth(),
+                rows * first.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sheet.createGraphics();
+        int index = 0;
+        for (BufferedImage thumbnail : thumbnails.values()) {
+            g.drawImage(thumbnail, (index % sheetColumns) * first.getWidth(),
+                    (index / sheetColumns) * first.getHeight(), null);
+            index++;
+        }
+        g.dispose();
+        ImageIO.write(sheet, "png", contactSheet.toFile());
+    }
+
+    /**
+     * Ticks the given control tower headlessly on the calling thread, rendering a frame of its
+     * initial state and of every {@code interval}-th tick after that.
+     *
+     * @param tower    control tower to simulate; must not be ticked by any other thread
+     * @param ticks    number of ticks to simulate
+     * @param interval number of ticks between rendered frames
+     * @param renderer renderer to draw frames with
+     * @throws InterruptedException if interrupted while waiting for the renderer
+     * @throws IllegalArgumentException if interval is not positive
+     */
+    public static void renderRun(ControlTower tower, long ticks, int interval,
+            OffscreenRenderer renderer) throws InterruptedException {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval between frames must be positive");
+        }
+        TowerSnapshot snapshot = TowerSnapshot.capture(tower);
+        renderer.render(snapshot);
+        for (long tick = 1; tick <= ticks; ++tick) {
+            tower.tick();
+            if (tick % interval == 0) {
+                snapshot = TowerSnapshot.capture(tower, snapshot);
+                renderer.render(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Loads a control tower from save files, simulates it headlessly and renders every k-th
+     * tick to PNG frames, optionally with a contact sheet.
+     * <p>
+     * Usage: {@code tick_file aircraft_file queues_file terminalsWithGates_file ticks interval
+     * output_directory [contact_sheet_columns]}
+     * <p>
+     * The contact sheet, if any, is square: it holds as many rows of thumbnails as columns.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length != 7 && args.length != 8) {
+            System.err.println("Usage: tick_file aircraft_file queues_file"
+                    + " terminalsWithGates_file ticks interval output_directory"
+                    + " [contact_sheet_columns]");
+            System.exit(1);
+        }
+        // Frames are encoded with AWT images, which need no display
+        System.setProperty("java.awt.headless", "true");
+        // No window is ever shown, so the platform must not wait for one to close before exiting
+        Platform.setImplicitExit(false);
+        try {
+            ControlTower tower;
+            try (Reader tick = new FileReader(args[0]);
+                 Reader aircraft = new FileReader(args[1]);
+                 Reader queues = new FileReader(args[2]);
+                 Reader terminalsWithGates = new FileReader(args[3])) {
+                tower = ControlTowerInitialiser.createControlTower(tick, aircraft, queues,
+                        terminalsWithGates);
+            }
+            long ticks = Long.parseLong(args[4]);
+            int interval = Integer.parseInt(args[5]);
+            Path directory = Paths.get(args[6]);
+
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            try (OffscreenRenderer renderer = new OffscreenRenderer(directory, threads,
+                    2 * threads)) {
+                if (args.length == 8) {
+                    int columns = Integer.parseInt(args[7]);
+                    renderer.setContactSheet(directory.resolve("contact-sheet.png"), columns,
+                            columns, 0.2);
+                }
+                renderRun(tower, ticks, interval, renderer);
+            }
+        } catch (IOException | MalformedSaveException | NumberFormatException e) {
+            System.err.println("Unable to render run: " + e);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Platform.exit();
+    }
+}
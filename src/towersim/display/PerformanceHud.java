@@ -0,0 +1,205 @@
+package towersim.display;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import towersim.simulation.SimulationThread;
+import towersim.simulation.TickSummary;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlay drawn on top of the {@link AirportCanvas} showing where time and memory are going:
+ * frame rate and frame time, the duration of the last control tower tick, ticks per second,
+ * how far the simulation is behind real time, heap in use, allocation rate and the depths of
+ * the queues.
+ * <p>
+ * Frame times are recorded every frame, but the figures are only recalculated and redrawn a
+ * few times a second, and not at all while the overlay is hidden.
+ */
+class PerformanceHud extends Canvas {
+
+    /** Width of the overlay, in pixels */
+    private static final double WIDTH = 250;
+
+    /** Height of the overlay, in pixels */
+    private static final double HEIGHT = 128;
+
+    /** Height of a line of text in the overlay, in pixels */
+    private static final double LINE_HEIGHT = 16;
+
+    /** Time between recalculations of the figures shown, in nanoseconds */
+    private static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    /** Number of recent frames averaged over */
+    private static final int FRAME_WINDOW = 64;
+
+    /** Number of bytes in a megabyte */
+    private static final double MEGABYTE = 1024 * 1024;
+
+    /** View model whose simulation is being measured */
+    private final ViewModel viewModel;
+
+    /** Thread bean used to measure allocation; null if allocation cannot be measured */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /** Time between each of the most recent frames, in nanoseconds */
+    private final long[] frameIntervals = new long[FRAME_WINDOW];
+
+    /** Time spent producing each of the most recent frames, in nanoseconds */
+    private final long[] frameWork = new long[FRAME_WINDOW];
+
+    /** Number of frames recorded so far */
+    private long frames;
+
+    /** Start time of the previous frame, in nanoseconds; or 0 if none */
+    private long lastFrameStart;
+
+    /** Time at which the figures were last recalculated, in nanoseconds */
+    private long lastSampleTime;
+
+    /** Ticks elapsed when the figures were last recalculated */
+    private long lastSampleTicks;
+
+    /** Bytes allocated by all threads when the figures were last recalculated */
+    private long lastSampleAllocated;
+
+    /** Summary of the latest tick, reused between samples */
+    private final TickSummary summary = new TickSummary();
+
+    /**
+     * Creates a new, hidden performance overlay for the simulation of the given view model.
+     *
+     * @param viewModel view model whose simulation is being measured
+     */
+    PerformanceHud(ViewModel viewModel) {
+        super(WIDTH, HEIGHT);
+        this.viewModel = viewModel;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads)
+                .isThreadAllocatedMemorySupported()) {
+            this.allocationBean = (com.sun.management.ThreadMXBean) threads;
+            this.allocationBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.allocationBean = null;
+        }
+
+        setMouseTransparent(true);
+        setVisible(false);
+        // Rates measured across a hidden period would be meaningless
+        visibleProperty().addListener((observable, wasVisible, visible) -> lastSampleTime = 0);
+    }
+
+    /**
+     * Records that a frame started at the given time, as passed to the render loop.
+     *
+     * @param now start time of the frame, in nanoseconds
+     */
+    void frameStarted(long now) {
+        if (lastFrameStart != 0) {
+            frameIntervals[(int) (frames % FRAME_WINDOW)] = now - lastFrameStart;
+        }
+        lastFrameStart = now;
+    }
+
+    /**
+     * Records how long the render loop spent producing the current frame, then recalculates and
+     * redraws the figures if the overlay is visible and they are due.
+     *
+     * @param workNanos time spent producing the frame, in nanoseconds
+     */
+    void frameFinished(long workNanos) {
+        frameWork[(int) (frames % FRAME_WINDOW)] = workNanos;
+        frames++;
+
+        if (!isVisible()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastSampleTime >= SAMPLE_NANOS) {
+            sample(now);
+        }
+    }
+
+    /* Recalculates the figures shown and redraws the overlay */
+    private void sample(long now) {
+        final int recorded = (int) Math.min(frames, FRAME_WINDOW);
+        long totalInterval = 0;
+        long totalWork = 0;
+        long maxWork = 0;
+        for (int i = 0; i < recorded; ++i) {
+            totalInterval += frameIntervals[i];
+            totalWork += frameWork[i];
+            maxWork = Math.max(maxWork, frameWork[i]);
+        }
+        double averageInterval = recorded == 0 ? 0 : (double) totalInterval / recorded;
+        double fps = averageInterval == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / averageInterval;
+        double averageWork = recorded == 0 ? 0 : (double) totalWork / recorded;
+
+        SimulationThread simulation = viewModel.getSimulation();
+        simulation.getSummaries().readLatest(summary, 0);
+        double elapsedSeconds = (now - lastSampleTime) / (double) TimeUnit.SECONDS.toNanos(1);
+        long ticks = summary.getTicksElapsed();
+        double ticksPerSecond = lastSampleTime == 0 ? 0
+                : (ticks - lastSampleTicks) / elapsedSeconds;
+
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+        String allocationText = "n/a";
+        if (allocationBean != null) {
+            long allocated = 0;
+            for (long bytes : allocationBean.getThreadAllocatedBytes(
+                    allocationBean.getAllThreadIds())) {
+                // Threads that cannot be measured report -1
+                allocated += Math.max(0, bytes);
+            }
+            if (lastSampleTime != 0) {
+                // Allocation by threads that have since died is lost, so never report below zero
+                double rate = Math.max(0, allocated - lastSampleAllocated) / elapsedSeconds;
+                allocationText = String.format("%.1f MB/s", rate / MEGABYTE);
+            }
+            lastSampleAllocated = allocated;
+        }
+
+        lastSampleTime = now;
+        lastSampleTicks = ticks;
+
+        draw(new String[] {
+                String.format("FPS    %5.1f (%.1f ms)", fps, averageInterval / 1e6),
+                String.format("Frame  %5.2f ms avg, %.2f max", averageWork / 1e6, maxWork / 1e6),
+                String.format("Tick   %5.2f ms, %.1f ticks/s",
+                        simulation.getLastTickNanos() / 1e6, ticksPerSecond),
+                String.format("Behind %5.2f s", simulation.getLagNanos() / 1e9),
+                String.format("Heap   %5.0f / %.0f MB", heapUsed / MEGABYTE,
+                        runtime.maxMemory() / MEGABYTE),
+                "Alloc  " + allocationText,
+                String.format("Queues LND %d, T/O %d, LOAD %d", summary.getLandingQueueSize(),
+                        summary.getTakeoffQueueSize(), summary.getLoadingCount())
+        });
+    }
+
+    /* Draws the given lines of text over a translucent background */
+    private void draw(String[] lines) {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRect(0, 0, WIDTH, HEIGHT);
+
+        gc.setFill(Color.LIME);
+        gc.setTextBaseline(VPos.TOP);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setFont(Font.font("monospace", 12));
+        for (int i = 0; i < lines.length; ++i) {
+            gc.fillText(lines[i], 6, 6 + LINE_HEIGHT * i, WIDTH - 12);
+        }
+    }
+}
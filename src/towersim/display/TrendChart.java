@@ -0,0 +1,152 @@
+package towersim.display;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import towersim.simulation.TimeSeriesMetric;
+import towersim.simulation.TimeSeriesRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlay drawn on top of the {@link AirportCanvas} charting the recent history of the queues:
+ * the depth of the landing and takeoff queues, the number of aircraft loading and the number
+ * of aircraft queued to land with critical fuel, one tick per pixel.
+ * <p>
+ * The history is read from the simulation's {@link TimeSeriesRecorder} into arrays allocated
+ * once, and is only reread and redrawn a few times a second, and not at all while the overlay
+ * is hidden.
+ */
+class TrendChart extends Canvas {
+
+    /** Width of the overlay, in pixels */
+    private static final double WIDTH = 320;
+
+    /** Height of the overlay, in pixels */
+    private static final double HEIGHT = 120;
+
+    /** Space around the plot, in pixels */
+    private static final double MARGIN = 6;
+
+    /** Height of the legend above the plot, in pixels */
+    private static final double LEGEND_HEIGHT = 16;
+
+    /** Time between redraws, in nanoseconds */
+    private static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    /** Number of ticks charted, one per pixel of the plot */
+    private static final int TICKS = (int) (WIDTH - 2 * MARGIN);
+
+    /** Metrics charted, in the order they are drawn */
+    private static final TimeSeriesMetric[] METRICS = {
+        TimeSeriesMetric.LOADING,
+        TimeSeriesMetric.TAKEOFF_QUEUE,
+        TimeSeriesMetric.LANDING_QUEUE,
+        TimeSeriesMetric.FUEL_CRITICAL
+    };
+
+    /** Colour of each metric charted */
+    private static final Color[] COLOURS = {
+        Color.DODGERBLUE, Color.ORANGE, Color.LIME, Color.RED
+    };
+
+    /** Legend label of each metric charted */
+    private static final String[] LABELS = {"LOAD", "T/O", "LND", "FUEL"};
+
+    /** View model whose simulation is being charted */
+    private final ViewModel viewModel;
+
+    /** Most recent values of each metric charted, reused between redraws */
+    private final int[][] values = new int[METRICS.length][TICKS];
+
+    /** Number of values of each metric read at the last redraw */
+    private final int[] counts = new int[METRICS.length];
+
+    /** Horizontal coordinates of the points of a line, reused between redraws */
+    private final double[] xPoints = new double[TICKS];
+
+    /** Vertical coordinates of the points of a line, reused between redraws */
+    private final double[] yPoints = new double[TICKS];
+
+    /** Time at which the chart was last redrawn, in nanoseconds */
+    private long lastSampleTime;
+
+    /**
+     * Creates a new, hidden trend chart for the simulation of the given view model.
+     *
+     * @param viewModel view model whose simulation is being charted
+     */
+    TrendChart(ViewModel viewModel) {
+        super(WIDTH, HEIGHT);
+        this.viewModel = viewModel;
+        setMouseTransparent(true);
+        setVisible(false);
+        visibleProperty().addListener((observable, wasVisible, visible) -> lastSampleTime = 0);
+    }
+
+    /**
+     * Rereads the history and redraws the chart if it is visible and a redraw is due. Called
+     * once a frame by the render loop.
+     */
+    void frameFinished() {
+        if (!isVisible()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastSampleTime != 0 && now - lastSampleTime < SAMPLE_NANOS) {
+            return;
+        }
+        lastSampleTime = now;
+
+        TimeSeriesRecorder timeSeries = viewModel.getSimulation().getTimeSeries();
+        int count = TICKS;
+        int max = 1;
+        for (int i = 0; i < METRICS.length; ++i) {
+            counts[i] = timeSeries.readLatest(METRICS[i], values[i]);
+            count = Math.min(count, counts[i]);
+            for (int j = 0; j < counts[i]; ++j) {
+                max = Math.max(max, values[i][j]);
+            }
+        }
+        draw(count, max);
+    }
+
+    /* Draws the latest count values of each metric, scaled so the given maximum fills the plot */
+    private void draw(int count, int max) {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRect(0, 0, WIDTH, HEIGHT);
+
+        gc.setTextBaseline(VPos.TOP);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setFont(Font.font("monospace", 12));
+        for (int i = 0; i < METRICS.length; ++i) {
+            gc.setFill(COLOURS[i]);
+            gc.fillText(LABELS[i], MARGIN + 48 * i, MARGIN);
+        }
+        gc.setFill(Color.LIGHTGRAY);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText("max " + max, WIDTH - MARGIN, MARGIN);
+
+        double top = MARGIN + LEGEND_HEIGHT;
+        double plotHeight = HEIGHT - top - MARGIN;
+        // Newest tick at the right-hand edge
+        double left = WIDTH - MARGIN - count;
+        gc.setLineWidth(1);
+        for (int i = 0; i < METRICS.length; ++i) {
+            // Each metric is read separately, so a tick may have completed between reads
+            int skipped = counts[i] - count;
+            for (int j = 0; j < count; ++j) {
+                xPoints[j] = left + j;
+                yPoints[j] = top + plotHeight * (1 - (double) values[i][skipped + j] / max);
+            }
+            gc.setStroke(COLOURS[i]);
+            gc.strokePolyline(xPoints, yPoints, count);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package towersim.display;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.property.StringProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -17,19 +18,36 @@ import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
 import towersim.aircraft.FreightAircraft;
 import towersim.aircraft.PassengerAircraft;
+import towersim.control.AdaptiveRunwayPolicy;
+import towersim.control.AlternatingRunwayPolicy;
+import towersim.control.BestFitGateAssignment;
+import towersim.control.ControlTower;
+import towersim.control.FirstFitGateAssignment;
+import towersim.control.GateAssignmentStrategy;
+import towersim.control.LeastOccupiedGateAssignment;
+import towersim.control.LongestQueueRunwayPolicy;
+import towersim.control.RoundRobinGateAssignment;
+import towersim.control.RunwayMode;
+import towersim.control.RunwaySchedulingPolicy;
 import towersim.ground.AirplaneTerminal;
 import towersim.ground.Gate;
 import towersim.ground.HelicopterTerminal;
 import towersim.ground.Terminal;
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.GateSnapshot;
+import towersim.simulation.TerminalSnapshot;
 import towersim.tasks.Task;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 
-import java.io.FileWriter;
-import java.io.IOException;
+import javax.management.JMException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * View for the Control Tower Simulation GUI.
@@ -45,17 +63,21 @@ public class View {
     /** Custom canvas that represents the state of the simulation graphically */
     private AirportCanvas canvas;
 
-    /** Last recorded time in nanoseconds */
-    private long lastNanoTime;
+    /** Performance overlay drawn on top of the canvas */
+    private PerformanceHud hud;
 
-    /** Time spent un-paused since last tick, in nanoseconds */
-    private long timeSpentUnpaused = 0;
+    /** Chart of recent queue history, drawn over the canvas */
+    private TrendChart trends;
 
-    /** Time interval between ticks of the view model */
-    private final IntegerProperty secondsPerTick = new SimpleIntegerProperty(5);
+    /** Time interval between ticks of the view model, in nanoseconds; 0 for as fast as possible */
+    private final LongProperty nanosPerTick =
+            new SimpleLongProperty(TimeUnit.SECONDS.toNanos(5));
 
-    /** Maximum number of terminals that can be displayed */
-    private static final int MAX_TERMINALS = 6;
+    /**
+     * Maximum number of terminals that can be added from the menu. Beyond six, the canvas shows
+     * the terminals as an overview.
+     */
+    private static final int MAX_TERMINALS = 1000;
 
     /**
      * Creates a new view for the given view model and adds the associated GUI elements to the given
@@ -76,12 +98,23 @@ public class View {
 
         Scene rootScene = new Scene(createWindow());
         stage.setScene(rootScene);
+
+        viewModel.setNanosPerTick(nanosPerTick.get());
+        nanosPerTick.addListener((observable, oldValue, newValue) ->
+                viewModel.setNanosPerTick(newValue.longValue()));
     }
 
     /* Creates the root window containing all GUI elements */
     private Pane createWindow() {
         this.canvas = new AirportCanvas(viewModel, 1100, 500);
         BorderPane.setAlignment(canvas, Pos.TOP_CENTER);
+        this.hud = new PerformanceHud(viewModel);
+        this.trends = new TrendChart(viewModel);
+        var canvasPane = new StackPane(canvas, hud, trends);
+        StackPane.setAlignment(hud, Pos.TOP_RIGHT);
+        // Below the strips, so the HUD does not hide the away strip or the runway
+        StackPane.setMargin(hud, new Insets(AirportCanvas.STRIPS_HEIGHT, 0, 0, 0));
+        StackPane.setAlignment(trends, Pos.BOTTOM_RIGHT);
 
         var space = new Region();
         VBox.setVgrow(space, Priority.ALWAYS);
@@ -115,7 +148,7 @@ public class View {
 
         var pane = new VBox();
         pane.getChildren().add(createMenuBar());
-        pane.getChildren().add(canvas);
+        pane.getChildren().add(canvasPane);
         pane.getChildren().add(bottomPanel);
         return pane;
     }
@@ -130,17 +163,8 @@ public class View {
 
         MenuItem save = new MenuItem("_Save");
         save.setMnemonicParsing(true);
-        save.setOnAction(event -> {
-            try {
-                viewModel.save();
-            } catch (IOException e) {
-                viewModel.createErrorDialog("Error saving to file",
-                        e.getMessage());
-                return;
-            }
-            viewModel.createSuccessDialog("Saved successfully",
-                    "Saved to default provided file locations successfully.");
-        });
+        save.setOnAction(event -> showSaveResult(viewModel.saveInBackground(),
+                "Saved successfully", "Saved to default provided file locations successfully."));
 
         MenuItem exit = new MenuItem("_Exit");
         exit.setMnemonicParsing(true);
@@ -164,13 +188,16 @@ public class View {
         emergencyAircraft.setMnemonicParsing(true);
         emergencyAircraft.disableProperty().bind(viewModel.getSelectedAircraft().isNull());
         emergencyAircraft.setOnAction(e -> {
-            var selectedAircraft = viewModel.getSelectedAircraft().get();
-            if (selectedAircraft.hasEmergency()) {
-                selectedAircraft.clearEmergency();
-            } else {
-                selectedAircraft.declareEmergency();
-            }
-            viewModel.registerChange();
+            var selectedId = viewModel.getSelectedAircraft().get().getId();
+            viewModel.submit(tower -> {
+                var selectedAircraft = tower.getAircraftById(selectedId);
+                if (selectedAircraft.hasEmergency()) {
+                    selectedAircraft.clearEmergency();
+                } else {
+                    selectedAircraft.declareEmergency();
+                }
+                return null;
+            });
         });
         MenuItem emergencyTerminal = new MenuItem("On a _terminal...");
         emergencyTerminal.setMnemonicParsing(true);
@@ -180,13 +207,16 @@ public class View {
             if (choice.isEmpty()) {
                 return;
             }
-            var terminal = choice.get();
-            if (terminal.hasEmergency()) {
-                terminal.clearEmergency();
-            } else {
-                terminal.declareEmergency();
-            }
-            viewModel.registerChange();
+            var terminalIndex = choice.get().getIndex();
+            viewModel.submit(tower -> {
+                var terminal = tower.getTerminals().get(terminalIndex);
+                if (terminal.hasEmergency()) {
+                    terminal.clearEmergency();
+                } else {
+                    terminal.declareEmergency();
+                }
+                return null;
+            });
         });
         Menu emergency = new Menu("Toggle _emergency");
         emergency.setMnemonicParsing(true);
@@ -203,6 +233,93 @@ public class View {
         return menuBar;
     }
 
+    /* Creates a menu item that sets the time between ticks to the given number of nanoseconds */
+    private MenuItem createSpeedMenuItem(String text, long nanos) {
+        MenuItem item = new MenuItem(text);
+        item.setMnemonicParsing(true);
+        item.setOnAction(e -> nanosPerTick.set(nanos));
+        item.disableProperty().bind(nanosPerTick.isEqualTo(nanos));
+        return item;
+    }
+
+    /*
+     * Creates a menu item that switches the control tower to a new gate assignment strategy
+     * created by the given supplier
+     */
+    private RadioMenuItem createGateAssignmentMenuItem(String text, ToggleGroup group,
+            Supplier<GateAssignmentStrategy> strategy) {
+        RadioMenuItem item = new RadioMenuItem(text);
+        item.setMnemonicParsing(true);
+        item.setToggleGroup(group);
+        item.setOnAction(e -> viewModel.submit(tower -> {
+            tower.setGateAssignmentStrategy(strategy.get());
+            return null;
+        }));
+        return item;
+    }
+
+    /*
+     * Creates a menu item that switches the control tower to a new runway scheduling policy
+     * created by the given supplier
+     */
+    private RadioMenuItem createRunwayPolicyMenuItem(String text, ToggleGroup group,
+            Supplier<RunwaySchedulingPolicy> policy) {
+        RadioMenuItem item = new RadioMenuItem(text);
+        item.setMnemonicParsing(true);
+        item.setToggleGroup(group);
+        item.setOnAction(e -> viewModel.submit(tower -> {
+            tower.setRunwaySchedulingPolicy(policy.get());
+            return null;
+        }));
+        return item;
+    }
+
+    /*
+     * Creates a menu item that, when clicked, prompts for a comma-separated list of runway modes
+     * and reconfigures the control tower's runways accordingly
+     */
+    private MenuItem createRunwaysMenuItem() {
+        MenuItem runways = new MenuItem("_Runways...");
+        runways.setMnemonicParsing(true);
+        runways.setOnAction(event -> viewModel.submit(ControlTower::encodeRunways)
+                .whenComplete((encoded, error) -> Platform.runLater(() -> {
+                    if (error == null) {
+                        configureRunways(encoded.substring(encoded.indexOf(':') + 1));
+                    }
+                })));
+        return runways;
+    }
+
+    /* Prompts for new runway modes, starting from the given current modes, and applies them */
+    private void configureRunways(String currentModes) {
+        var response = getResponse("Configure Runways",
+                "Please enter the mode of each runway, separated by commas"
+                        + " (LANDING, TAKEOFF or MIXED)", "Runways:", currentModes);
+        if (response.isEmpty()) {
+            return;
+        }
+        List<RunwayMode> modes = new ArrayList<>();
+        for (String mode : response.get().split(",", -1)) {
+            try {
+                modes.add(RunwayMode.valueOf(mode.strip().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                viewModel.createErrorDialog("Cannot configure runways",
+                        "Invalid runway mode: \"" + mode.strip() + "\"");
+                return;
+            }
+        }
+        if (modes.size() > ControlTower.MAX_RUNWAYS) {
+            viewModel.createErrorDialog("Cannot configure runways",
+                    "At most " + ControlTower.MAX_RUNWAYS + " runways are supported");
+            return;
+        }
+        viewModel.submit(tower -> {
+            tower.setRunways(modes);
+            return null;
+        });
+        viewModel.registerChange();
+    }
+
     /* Creates a menu containing actions related to controlling the simulation */
     private Menu createSimMenu() {
         MenuItem pause = new MenuItem();
@@ -210,27 +327,65 @@ public class View {
         pause.textProperty().bind(viewModel.getPauseMenuText());
         pause.setOnAction(event -> viewModel.togglePaused());
         pause.setAccelerator(KeyCombination.keyCombination("Shortcut+P"));
-        MenuItem lowSpeed = new MenuItem("_5 seconds per tick");
-        lowSpeed.setMnemonicParsing(true);
-        lowSpeed.setOnAction(e -> secondsPerTick.set(5));
-        lowSpeed.disableProperty().bind(secondsPerTick.isEqualTo(5));
-        MenuItem medSpeed = new MenuItem("_3 seconds per tick");
-        medSpeed.setMnemonicParsing(true);
-        medSpeed.setOnAction(e -> secondsPerTick.set(3));
-        medSpeed.disableProperty().bind(secondsPerTick.isEqualTo(3));
-        MenuItem highSpeed = new MenuItem("_1 second per tick");
-        highSpeed.setMnemonicParsing(true);
-        highSpeed.setOnAction(e -> secondsPerTick.set(1));
-        highSpeed.disableProperty().bind(secondsPerTick.isEqualTo(1));
+        CheckMenuItem showHud = new CheckMenuItem("Performance _HUD");
+        showHud.setMnemonicParsing(true);
+        showHud.selectedProperty().bindBidirectional(hud.visibleProperty());
+        showHud.setAccelerator(KeyCombination.keyCombination("F3"));
+        CheckMenuItem showTrends = new CheckMenuItem("Queue _trends");
+        showTrends.setMnemonicParsing(true);
+        showTrends.selectedProperty().bindBidirectional(trends.visibleProperty());
+        showTrends.setAccelerator(KeyCombination.keyCombination("F4"));
         Menu menuSim = new Menu("_Simulation");
         menuSim.setMnemonicParsing(true);
         Menu speed = new Menu("_Speed");
         speed.setMnemonicParsing(true);
-        speed.getItems().add(lowSpeed);
-        speed.getItems().add(medSpeed);
-        speed.getItems().add(highSpeed);
+        speed.getItems().add(createSpeedMenuItem("_5 seconds per tick",
+                TimeUnit.SECONDS.toNanos(5)));
+        speed.getItems().add(createSpeedMenuItem("_3 seconds per tick",
+                TimeUnit.SECONDS.toNanos(3)));
+        speed.getItems().add(createSpeedMenuItem("_1 second per tick",
+                TimeUnit.SECONDS.toNanos(1)));
+        speed.getItems().add(new SeparatorMenuItem());
+        speed.getItems().add(createSpeedMenuItem("1_0 ticks per second",
+                TimeUnit.MILLISECONDS.toNanos(100)));
+        speed.getItems().add(createSpeedMenuItem("10_0 ticks per second",
+                TimeUnit.MILLISECONDS.toNanos(10)));
+        speed.getItems().add(createSpeedMenuItem("100_0 ticks per second",
+                TimeUnit.MILLISECONDS.toNanos(1)));
+        speed.getItems().add(createSpeedMenuItem("As _fast as possible", 0));
+        Menu gateAssignment = new Menu("_Gate assignment");
+        gateAssignment.setMnemonicParsing(true);
+        ToggleGroup gateAssignmentGroup = new ToggleGroup();
+        RadioMenuItem firstFit = createGateAssignmentMenuItem("_First fit",
+                gateAssignmentGroup, FirstFitGateAssignment::new);
+        firstFit.setSelected(true);
+        gateAssignment.getItems().add(firstFit);
+        gateAssignment.getItems().add(createGateAssignmentMenuItem("_Least occupied terminal",
+                gateAssignmentGroup, LeastOccupiedGateAssignment::new));
+        gateAssignment.getItems().add(createGateAssignmentMenuItem("_Round robin",
+                gateAssignmentGroup, RoundRobinGateAssignment::new));
+        gateAssignment.getItems().add(createGateAssignmentMenuItem("_Best fit",
+                gateAssignmentGroup, BestFitGateAssignment::new));
+        Menu runwayScheduling = new Menu("Runway _scheduling");
+        runwayScheduling.setMnemonicParsing(true);
+        ToggleGroup runwaySchedulingGroup = new ToggleGroup();
+        RadioMenuItem alternating = createRunwayPolicyMenuItem("_Alternate landings and takeoffs",
+                runwaySchedulingGroup, AlternatingRunwayPolicy::new);
+        alternating.setSelected(true);
+        runwayScheduling.getItems().add(alternating);
+        runwayScheduling.getItems().add(createRunwayPolicyMenuItem("_Longest queue first",
+                runwaySchedulingGroup, LongestQueueRunwayPolicy::new));
+        runwayScheduling.getItems().add(createRunwayPolicyMenuItem(
+                "A_daptive (fuel, gates and queues)", runwaySchedulingGroup,
+                AdaptiveRunwayPolicy::new));
         menuSim.getItems().add(pause);
         menuSim.getItems().add(speed);
+        menuSim.getItems().add(gateAssignment);
+        menuSim.getItems().add(createRunwaysMenuItem());
+        menuSim.getItems().add(runwayScheduling);
+        menuSim.getItems().add(new SeparatorMenuItem());
+        menuSim.getItems().add(showHud);
+        menuSim.getItems().add(showTrends);
         return menuSim;
     }
 
@@ -240,9 +395,10 @@ public class View {
         addTerminal.setMnemonicParsing(true);
         addTerminal.setOnAction(event -> {
             var defaultTerminalNumber = 1;
-            var highestTerminalNumber = viewModel.getControlTower().getTerminals()
+            var terminals = viewModel.getSnapshot().getTerminals();
+            var highestTerminalNumber = terminals
                     .stream()
-                    .mapToInt(Terminal::getTerminalNumber)
+                    .mapToInt(TerminalSnapshot::getTerminalNumber)
                     .max();
             if (highestTerminalNumber.isPresent()) {
                 defaultTerminalNumber = highestTerminalNumber.getAsInt() + 1;
@@ -255,7 +411,7 @@ public class View {
                 return;
             }
             /* Can't create a new terminal with the same number as an existing one */
-            if (viewModel.getControlTower().getTerminals().stream()
+            if (terminals.stream()
                     .anyMatch(t -> t.getTerminalNumber() == terminalNumber.get())) {
                 viewModel.createErrorDialog("Cannot create terminal",
                         "Terminal with number " + terminalNumber.get() + " already exists");
@@ -269,15 +425,25 @@ public class View {
             if (terminalType.isEmpty()) {
                 return;
             }
+            var standardSize = "Standard (" + Terminal.MAX_NUM_GATES + " gates)";
+            var terminalSize = getChoice("Add Terminal",
+                    "Please choose the terminal's size", "Terminal size:", standardSize,
+                    standardSize, "Hub (" + Terminal.MAX_LARGE_TERMINAL_GATES + " gates)");
+            if (terminalSize.isEmpty()) {
+                return;
+            }
+            var maxGates = terminalSize.get().equals(standardSize)
+                    ? Terminal.MAX_NUM_GATES : Terminal.MAX_LARGE_TERMINAL_GATES;
             Terminal newTerminal;
             if (terminalType.get().equals("AirplaneTerminal")) {
-                newTerminal = new AirplaneTerminal(terminalNumber.get());
+                newTerminal = new AirplaneTerminal(terminalNumber.get(), maxGates);
             } else {
-                newTerminal = new HelicopterTerminal(terminalNumber.get());
+                newTerminal = new HelicopterTerminal(terminalNumber.get(), maxGates);
             }
-            viewModel.getControlTower().addTerminal(newTerminal);
-            viewModel.getNumTerminals().set(viewModel.getNumTerminals().get() + 1);
-            viewModel.registerChange();
+            viewModel.submit(tower -> {
+                tower.addTerminal(newTerminal);
+                return null;
+            });
         });
         addTerminal.disableProperty().bind(Bindings.greaterThan(viewModel.getNumTerminals(),
                 MAX_TERMINALS - 1));
@@ -295,20 +461,21 @@ public class View {
                 return;
             }
             var terminal = choice.get();
-            if (terminal.getGates().size() == Terminal.MAX_NUM_GATES) {
+            var terminalIndex = terminal.getIndex();
+            if (terminal.getGates().size() == terminal.getMaxGates()) {
                 viewModel.createErrorDialog("Cannot create gate", "Terminal "
                         + terminal.getTerminalNumber()
                         + " already has the maximum possible number of gates.");
                 return;
             }
             var defaultGateNumber = 1;
-            List<Gate> allGates = new ArrayList<>();
-            for (Terminal t : viewModel.getControlTower().getTerminals()) {
+            List<GateSnapshot> allGates = new ArrayList<>();
+            for (TerminalSnapshot t : viewModel.getSnapshot().getTerminals()) {
                 allGates.addAll(t.getGates());
             }
             var highestGateNumber = allGates
                     .stream()
-                    .mapToInt(Gate::getGateNumber)
+                    .mapToInt(GateSnapshot::getGateNumber)
                     .max();
             if (highestGateNumber.isPresent()) {
                 defaultGateNumber = highestGateNumber.getAsInt() + 1;
@@ -325,12 +492,15 @@ public class View {
                         "A gate already exists with number " + gateNumberChoice.get());
                 return;
             }
-            try {
-                terminal.addGate(new Gate(gateNumberChoice.get()));
-            } catch (NoSpaceException ex) {
-                // ignored (not possible)
-            }
-            viewModel.registerChange();
+            var newGate = new Gate(gateNumberChoice.get());
+            viewModel.submit(tower -> {
+                try {
+                    tower.getTerminals().get(terminalIndex).addGate(newGate);
+                } catch (NoSpaceException ex) {
+                    // ignored (not possible)
+                }
+                return null;
+            });
         });
         return addGate;
     }
@@ -361,26 +531,26 @@ public class View {
                     "Passenger Airplane (BOEING_787)",
                     new PassengerAircraft(generateRandomCallsign(
                             new String[] {"QFA", "CSN", "UAL", "UAE"}[random.nextInt(4)],
-                            viewModel.getControlTower().getAircraft()),
+                            viewModel.getSnapshot().getAircraft()),
                             AircraftCharacteristics.BOEING_787,
                             taskList1,
                             AircraftCharacteristics.BOEING_787.fuelCapacity / 6, 0),
                     "Freight Airplane (BOEING_747_8F)",
                     new FreightAircraft(generateRandomCallsign(
                             new String[] {"UPS", "GTI", "CLX", "GEC"}[random.nextInt(4)],
-                            viewModel.getControlTower().getAircraft()),
+                            viewModel.getSnapshot().getAircraft()),
                             AircraftCharacteristics.BOEING_747_8F,
                             taskList2,
                             AircraftCharacteristics.BOEING_747_8F.fuelCapacity / 8, 0),
                     "Passenger Helicopter (ROBINSON_R44)",
                     new PassengerAircraft(generateRandomCallsign(null,
-                            viewModel.getControlTower().getAircraft()),
+                            viewModel.getSnapshot().getAircraft()),
                             AircraftCharacteristics.ROBINSON_R44,
                             taskList2,
                             AircraftCharacteristics.ROBINSON_R44.fuelCapacity / 4, 1),
                     "Freight Helicopter (SIKORSKY_SKYCRANE)",
                     new FreightAircraft(generateRandomCallsign(null,
-                            viewModel.getControlTower().getAircraft()),
+                            viewModel.getSnapshot().getAircraft()),
                             AircraftCharacteristics.SIKORSKY_SKYCRANE,
                             taskList1,
                             AircraftCharacteristics.SIKORSKY_SKYCRANE.fuelCapacity / 10, 0)));
@@ -394,16 +564,18 @@ public class View {
             }
             String chosenKey = choice.get();
             Aircraft chosenAircraft = aircraftPresets.get(chosenKey);
-            try {
-                viewModel.getControlTower().addAircraft(chosenAircraft);
-            } catch (NoSuitableGateException e) {
-                viewModel.createErrorDialog("Cannot create aircraft",
-                        "No suitable gate for aircraft " + chosenAircraft);
-                return;
-            }
-            viewModel.registerChange();
-            viewModel.createSuccessDialog("Successfully created aircraft",
-                    "Aircraft created:\n" + chosenAircraft);
+            viewModel.submit(tower -> {
+                tower.addAircraft(chosenAircraft);
+                return null;
+            }).whenComplete((result, error) -> Platform.runLater(() -> {
+                if (error == null) {
+                    viewModel.createSuccessDialog("Successfully created aircraft",
+                            "Aircraft created:\n" + chosenAircraft);
+                } else if (unwrap(error) instanceof NoSuitableGateException) {
+                    viewModel.createErrorDialog("Cannot create aircraft",
+                            "No suitable gate for aircraft " + chosenAircraft);
+                }
+            }));
         });
         return addAircraft;
     }
@@ -424,25 +596,37 @@ public class View {
                 }
                 enteredFilenames.add(filename.get());
             }
-            try {
-                viewModel.saveAs(new FileWriter(enteredFilenames.get(0)),
-                        new FileWriter(enteredFilenames.get(1)),
-                        new FileWriter(enteredFilenames.get(2)),
-                        new FileWriter(enteredFilenames.get(3)));
-            } catch (IOException e) {
-                viewModel.createErrorDialog("Error saving to file",
-                        e.getMessage());
-                return;
-            }
-            viewModel.createSuccessDialog("Saved files successfully",
+            showSaveResult(viewModel.saveAsInBackground(enteredFilenames.get(0),
+                    enteredFilenames.get(1), enteredFilenames.get(2), enteredFilenames.get(3)),
+                    "Saved files successfully",
                     "Saved to \"" + enteredFilenames + "\" successfully.");
         });
         saveAs.setAccelerator(KeyCombination.keyCombination("Shortcut+S"));
         return saveAs;
     }
 
+    /* Shows a success or error dialog on the FX thread once the given background save finishes */
+    private void showSaveResult(CompletableFuture<Void> saved, String title, String message) {
+        saved.whenComplete((ignored, failure) -> Platform.runLater(() -> {
+            if (failure == null) {
+                viewModel.createSuccessDialog(title, message);
+            } else {
+                viewModel.createErrorDialog("Error saving to file", failure.getMessage());
+            }
+        }));
+    }
+
+    /* Returns the exception thrown by a simulation command from its completion exception */
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
     /* Generates a random callsign based on the given airline code and list of existing aircraft */
-    private String generateRandomCallsign(String airlineCode, List<Aircraft> existingAircraft) {
+    private String generateRandomCallsign(String airlineCode,
+            List<AircraftSnapshot> existingAircraft) {
         Random random = new Random();
         final int numDigitsInCallsign = 3;
         StringBuilder builder;
@@ -469,9 +653,9 @@ public class View {
     }
 
     /* Prompts the user to choose a terminal from a list of all the control tower's terminals */
-    private Optional<Terminal> chooseTerminal(String title, String header) {
-        var terminalOptions = new TreeMap<String, Terminal>();
-        for (Terminal terminal : viewModel.getControlTower().getTerminals()) {
+    private Optional<TerminalSnapshot> chooseTerminal(String title, String header) {
+        var terminalOptions = new TreeMap<String, TerminalSnapshot>();
+        for (TerminalSnapshot terminal : viewModel.getSnapshot().getTerminals()) {
             terminalOptions.put(terminal.toString(), terminal);
         }
         var choice = getChoice(title, header, "Terminal:",
@@ -554,34 +738,39 @@ public class View {
     }
 
     /**
-     * Initialises the view and begins the timer responsible for performing ticks
+     * Initialises the view, starts the simulation thread and begins the render loop responsible
+     * for showing the snapshots it publishes and playing runway animations
      *
      * @given
      */
     public void run() {
-        final long nanosPerSecond = 1000000000;
+        viewModel.startSimulation();
+        try {
+            viewModel.registerMetrics();
+        } catch (JMException e) {
+            // The simulation runs without JMX; the metrics are still shown in the HUD
+            viewModel.createErrorDialog("Unable to expose tick metrics over JMX",
+                    e.getMessage());
+        }
 
         new AnimationTimer() {
             @Override
             public void handle(long currentNanoTime) {
-                if (viewModel.isChanged()) {
-                    viewModel.notChanged();
-                    canvas.draw();
-                }
+                long frameStart = System.nanoTime();
+                hud.frameStarted(currentNanoTime);
 
-                if (viewModel.getPaused().get()) {
-                    lastNanoTime = currentNanoTime;
-                    return;
+                if (viewModel.pollSimulation()) {
+                    canvas.animate();
                 }
 
-                timeSpentUnpaused += currentNanoTime - lastNanoTime;
-                lastNanoTime = currentNanoTime;
-
-                if (timeSpentUnpaused > secondsPerTick.get() * nanosPerSecond) {
-                    timeSpentUnpaused = 0;
-                    viewModel.tick();
-                    canvas.animate();
+                //This is the only place the canvas is drawn, so it is drawn at most once a frame.
+                if (viewModel.isChanged() || canvas.isAnimating()) {
+                    viewModel.notChanged();
+                    canvas.draw();
                 }
+
+                hud.frameFinished(System.nanoTime() - frameStart);
+                trends.frameFinished();
             }
         }.start();
 
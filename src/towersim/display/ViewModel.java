@@ -1,5 +1,6 @@
 package towersim.display;
 
+import javafx.application.Platform;
 import javafx.beans.property.*;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -7,27 +8,98 @@ import javafx.scene.control.Alert;
 import towersim.aircraft.Aircraft;
 import towersim.control.ControlTower;
 import towersim.control.ControlTowerInitialiser;
+import towersim.control.RunwayMode;
 import towersim.ground.Gate;
 import towersim.ground.Terminal;
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.SimulationCommand;
+import towersim.simulation.SimulationThread;
+import towersim.simulation.TickSummary;
+import towersim.simulation.TowerSnapshot;
 import towersim.tasks.TaskType;
 import towersim.util.MalformedSaveException;
 import towersim.util.NoSuitableGateException;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
 import java.io.*;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * View model for the Control Tower Simulation GUI.
+ * <p>
+ * The control tower is owned by a {@link SimulationThread}. The GUI reads the latest
+ * {@link TowerSnapshot} published by the simulation, and changes the tower by submitting
+ * commands that are applied between ticks.
  * @ass2
  */
 public class ViewModel {
+    /** Default number of seconds between ticks */
+    private static final int DEFAULT_SECONDS_PER_TICK = 1;
+
+    /** Time between ticks below which the GUI runs in turbo mode, in nanoseconds */
+    private static final long TURBO_NANOS_PER_TICK = TimeUnit.SECONDS.toNanos(1);
+
+    /** Shortest time between regenerations of the info panels in turbo mode, in nanoseconds */
+    private static final long TURBO_TEXT_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Encoded runway configuration of a control tower with its default single mixed runway */
+    private static final String DEFAULT_RUNWAYS = "Runways:" + RunwayMode.MIXED;
+
+    /** Number of view models that have registered their tick metrics with JMX */
+    private static final AtomicInteger METRICS_IDS = new AtomicInteger();
+
     /** Control tower model containing aircraft and terminals */
     private final ControlTower tower;
 
+    /** Simulation thread ticking the control tower */
+    private final SimulationThread simulation;
+
+    /** Background thread writing saves to disk, one at a time in the order requested */
+    private final ExecutorService saveWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "towersim-save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Object name the tower's tick metrics are registered under; null if not registered */
+    private ObjectName metricsName;
+
+    /** Snapshot of the control tower the GUI is currently showing */
+    private TowerSnapshot snapshot;
+
+    /** Latest tick summary read from the simulation; reused for every read */
+    private final TickSummary summary = new TickSummary();
+
+    /** Sequence number of the latest tick summary read from the simulation */
+    private long summarySequence;
+
+    /**
+     * Whether the simulation ticks too fast to animate landings and takeoffs or to regenerate
+     * the info panels for every snapshot
+     */
+    private boolean turbo;
+
+    /** Time the info panels were last regenerated from a snapshot, in nanoseconds */
+    private long lastTextRefresh;
+
+    /** Whether the info panels have not been regenerated from the latest snapshot */
+    private boolean textStale;
+
+    /** Number of landings shown by the GUI so far */
+    private long landingsShown;
+
+    /** Number of takeoffs shown by the GUI so far */
+    private long takeoffsShown;
+
     /** Whether the state of the model has changed */
     private final BooleanProperty changed = new SimpleBooleanProperty(false);
 
@@ -38,6 +110,12 @@ public class ViewModel {
     /** Contents of loading aircraft information text box */
     private final StringProperty loadingInfoText = new SimpleStringProperty("");
 
+    /** Generates the loading aircraft text, rebuilding only the lines that changed */
+    private final LoadingPanelText loadingPanelText = new LoadingPanelText();
+
+    /** Aircraft snapshot the aircraft information text was last generated from, or null */
+    private AircraftSnapshot aircraftInfoShown;
+
     /** Whether the simulation is paused or not */
     private final BooleanProperty paused = new SimpleBooleanProperty(true);
 
@@ -54,19 +132,16 @@ public class ViewModel {
     private final StringProperty suitableGateText = new SimpleStringProperty("");
 
     /** The currently selected (clicked) aircraft */
-    private final ObjectProperty<Aircraft> selectedAircraft = new SimpleObjectProperty<>();
+    private final ObjectProperty<AircraftSnapshot> selectedAircraft =
+            new SimpleObjectProperty<>();
 
     /** The aircraft currently landing (i.e. just went from LAND to WAIT/LOAD) */
-    private final ObjectProperty<Aircraft> aircraftLanding = new SimpleObjectProperty<>();
+    private final ObjectProperty<AircraftSnapshot> aircraftLanding =
+            new SimpleObjectProperty<>();
 
     /** The aircraft currently taking off (i.e. just went from TAKEOFF to AWAY) */
-    private final ObjectProperty<Aircraft> aircraftTakingOff = new SimpleObjectProperty<>();
-
-    /** List of all aircraft whose task is TAKEOFF; used in finding aircraftTakingOff */
-    private List<Aircraft> allTakeoffAircraft = new ArrayList<>();
-
-    /** List of all aircraft whose task is LAND; used in finding aircraftLanding */
-    private List<Aircraft> allLandAircraft = new ArrayList<>();
+    private final ObjectProperty<AircraftSnapshot> aircraftTakingOff =
+            new SimpleObjectProperty<>();
 
     /** File path of the tick file that we loaded from */
     private final String defaultTickSaveLocation;
@@ -103,55 +178,234 @@ public class ViewModel {
                 new FileReader(filenames.get(2)),
                 new FileReader(filenames.get(3)));
 
-        this.numTerminals.set(tower.getTerminals().size());
+        this.simulation = new SimulationThread(tower,
+                TimeUnit.SECONDS.toNanos(DEFAULT_SECONDS_PER_TICK));
+        this.snapshot = simulation.pollSnapshot();
+        this.summarySequence = simulation.getSummaries().readLatest(summary, 0);
+        this.numTerminals.set(snapshot.getTerminals().size());
+
+        this.selectedAircraft.addListener((observable, oldValue, newValue) ->
+                updateAircraftInfoText(newValue));
+        updateLoadingInfoText();
+    }
+
+    /**
+     * Starts the simulation thread. From this point on, the control tower must only be accessed
+     * through {@link #submit(SimulationCommand)}.
+     */
+    public void startSimulation() {
+        simulation.start();
+    }
 
-        this.selectedAircraft.addListener((observable, oldValue, newValue) -> {
-            if (newValue == null) {
-                aircraftInfoText.set("No aircraft selected");
-            } else {
-                aircraftInfoText.set(generateAircraftInfoText(newValue));
+    /**
+     * Stops the simulation thread, and removes the tower's tick metrics from JMX if
+     * {@link #registerMetrics()} exposed them.
+     */
+    public void stopSimulation() {
+        try {
+            simulation.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (metricsName != null) {
+            try {
+                tower.getMetrics().unregisterPlatformMBean(metricsName);
+            } catch (JMException e) {
+                // Already removed by another JMX client; nothing is left to clean up
             }
-        });
-        this.loadingInfoText.set(generateLoadingInfoText());
+            metricsName = null;
+        }
+    }
+
+    /**
+     * Exposes the tower's tick metrics to JConsole and other JMX clients.
+     * <p>
+     * Each view model registers its metrics under its own name, {@code ControlTower-N}, so a
+     * second view model never clashes with, or hides behind, the metrics of an earlier one.
+     * The metrics are removed again by {@link #stopSimulation()}. Calling this method again
+     * before then has no effect.
+     *
+     * @return object name the metrics are registered under
+     * @throws JMException if the metrics could not be registered
+     */
+    public ObjectName registerMetrics() throws JMException {
+        if (metricsName == null) {
+            metricsName = tower.getMetrics().registerPlatformMBean(
+                    "ControlTower-" + METRICS_IDS.incrementAndGet());
+        }
+        return metricsName;
+    }
+
+    /**
+     * Sets the time between ticks of the simulation.
+     * <p>
+     * Speeds faster than one tick per second put the GUI in turbo mode: the simulation runs
+     * ticks in batches between frames, landings and takeoffs are not animated, and the info
+     * panels are regenerated at most twice a second. The canvas still shows the latest state
+     * once per frame.
+     *
+     * @param nanosPerTick time between ticks, in nanoseconds; or 0 to tick as fast as possible
+     */
+    public void setNanosPerTick(long nanosPerTick) {
+        this.turbo = nanosPerTick < TURBO_NANOS_PER_TICK;
+        this.simulation.setNanosPerTick(nanosPerTick);
+    }
+
+    /**
+     * Returns whether the GUI is in turbo mode, as set by {@link #setNanosPerTick(long)}.
+     *
+     * @return true if in turbo mode; false otherwise
+     */
+    public boolean isTurbo() {
+        return turbo;
+    }
+
+    /**
+     * Returns the simulation thread ticking the control tower.
+     *
+     * @return simulation thread
+     */
+    public SimulationThread getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Submits a command to be applied to the control tower between ticks.
+     *
+     * @param command command to apply
+     * @param <T> type of the command's result
+     * @return future completed with the command's result
+     * @see SimulationThread#submit(SimulationCommand)
+     */
+    public <T> CompletableFuture<T> submit(SimulationCommand<T> command) {
+        return simulation.submit(command);
+    }
+
+    /**
+     * Returns the snapshot of the control tower currently shown by the GUI.
+     *
+     * @return current snapshot
+     */
+    public TowerSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the most recent tick summary read from the simulation.
+     *
+     * @return latest tick summary
+     */
+    public TickSummary getTickSummary() {
+        return summary;
+    }
+
+    /**
+     * Reads the latest tick summary and snapshot published by the simulation, if any, and
+     * updates the state of the GUI from them. Must be called on the JavaFX application thread.
+     * <p>
+     * If the simulation has ticked several times since the last call, only the most recent
+     * landing and takeoff are reported. In {@link #isTurbo() turbo mode} none are reported and
+     * the info panels are only regenerated if they have not been for a while. A snapshot whose
+     * regeneration was skipped is still shown once it is due, even if no newer snapshot arrives
+     * (for example, because the simulation was paused or slowed down).
+     *
+     * @return true if an aircraft landed or took off since the last call and should be
+     * animated; false otherwise
+     */
+    public boolean pollSimulation() {
+        long sequence = simulation.getSummaries().readLatest(summary, summarySequence);
+        if (sequence != summarySequence) {
+            summarySequence = sequence;
+            registerChange();
+        }
+
+        TowerSnapshot latest = simulation.pollSnapshot();
+        if (latest == null) {
+            refreshTextIfDue();
+            return false;
+        }
+        this.snapshot = latest;
+        boolean landed = summary.getTotalLanded() != landingsShown;
+        boolean tookOff = summary.getTotalTookOff() != takeoffsShown;
+        this.landingsShown = summary.getTotalLanded();
+        this.takeoffsShown = summary.getTotalTookOff();
+        this.numTerminals.set(latest.getTerminals().size());
+
+        this.textStale = true;
+        refreshTextIfDue();
+
+        if (turbo) {
+            this.aircraftTakingOff.set(null);
+            this.aircraftLanding.set(null);
+            registerChange();
+            return false;
+        }
+        this.aircraftTakingOff.set(tookOff
+                ? latest.getAircraftById(summary.getLastTookOffId()) : null);
+        this.aircraftLanding.set(landed
+                ? latest.getAircraftById(summary.getLastLandedId()) : null);
+        registerChange();
+        return landed || tookOff;
+    }
 
-        fillTakeoffLandAircraftLists();
+    /*
+     * Regenerates the info panels from the current snapshot if it has not been shown yet and,
+     * in turbo mode, the panels have not been regenerated for a while
+     */
+    private void refreshTextIfDue() {
+        long now = System.nanoTime();
+        if (!textStale || (turbo && now - lastTextRefresh < TURBO_TEXT_REFRESH_NANOS)) {
+            return;
+        }
+        this.textStale = false;
+        this.lastTextRefresh = now;
+        updateLoadingInfoText();
+        if (selectedAircraft.isNotNull().get()) {
+            AircraftSnapshot selected = snapshot.getAircraftById(selectedAircraft.get().getId());
+            if (selected != null) {
+                // An unchanged aircraft keeps the same snapshot, so this is often a no-op
+                selectedAircraft.set(selected);
+            }
+        }
     }
 
     /**
      * Returns an event handler for when the "Drone Alert" button is clicked.
      * <p>
      * This event handler should declare a state of emergency on all terminals managed by the
-     * control tower. Finally, it should call {@link #registerChange()} to update the GUI.
+     * control tower. The change is applied on the simulation thread and shown once the next
+     * snapshot is polled.
      *
      * @return event handler for "Drone Alert" button
      * @ass2
      */
     public EventHandler<ActionEvent> getDroneAlertHandler() {
-        return actionEvent -> {
-            for (Terminal terminal : this.getControlTower().getTerminals()) {
+        return actionEvent -> submit(tower -> {
+            for (Terminal terminal : tower.getTerminals()) {
                 terminal.declareEmergency();
             }
-            registerChange();
-        };
+            return null;
+        });
     }
 
     /**
      * Returns an event handler for when the "Clear Drone Alert" button is clicked.
      * <p>
      * This event handler should clear the state of emergency on all terminals managed by
-     * control tower. Finally, it should all {@link #registerChange()} to update the GUI.
+     * control tower. The change is applied on the simulation thread and shown once the next
+     * snapshot is polled.
      *
      * @return event handler for "Clear Drone Alert" button
      * @ass2
      */
     public EventHandler<ActionEvent> getDroneClearHandler() {
 
-        return actionEvent -> {
-            for (Terminal terminal : this.getControlTower().getTerminals()) {
+        return actionEvent -> submit(tower -> {
+            for (Terminal terminal : tower.getTerminals()) {
                 terminal.clearEmergency();
             }
-            registerChange();
-        };
+            return null;
+        });
     }
 
     /**
@@ -183,25 +437,35 @@ public class ViewModel {
 
         return actionEvent -> {
             //No aircraft is currently selected or Currently selected aircraft's current
-            Aircraft aircraft = getSelectedAircraft().get();
+            AircraftSnapshot selected = getSelectedAircraft().get();
 
-            if (aircraft == null) {
+            if (selected == null) {
                 return;
             }
 
             //Task type is not LAND,
-            if (aircraft.getTaskList().getCurrentTask().getType() != TaskType.LAND) {
+            if (selected.getCurrentTaskType() != TaskType.LAND) {
                 return;
             }
 
-            Gate unoccupiedGate;
+            findSuitableGateText(selected.getId()).thenAccept(gateText ->
+                    Platform.runLater(() -> getSuitableGateText().set(gateText)));
+        };
+    }
+
+    /*
+     * Finds a gate for the aircraft with the given ID on the simulation thread, completing with
+     * the text the suitable gate label should show: the gate found, or the name of the exception
+     * if there is no suitable gate
+     */
+    CompletableFuture<String> findSuitableGateText(int id) {
+        return submit(tower -> {
             try {
-                unoccupiedGate = this.getControlTower().findUnoccupiedGate(aircraft);
-                getSuitableGateText().set(unoccupiedGate.toString());
-            } catch (NoSuitableGateException nsge) {
-                getSuitableGateText().set("NoSuitableGateException");
+                return tower.findUnoccupiedGate(tower.getAircraftById(id)).toString();
+            } catch (NoSuitableGateException e) {
+                return "NoSuitableGateException";
             }
-        };
+        });
     }
 
     /**
@@ -212,8 +476,11 @@ public class ViewModel {
      * <tr><th>Writer</th><th>Format</th></tr>
      * <tr><td>{@code tickWriter}</td><td><pre>
      *ticksElapsed
+     *encodedRunways
      *</pre> where {@code ticksElapsed} is the number of ticks elapsed, as returned by
-     * {@link ControlTower#getTicksElapsed()}
+     * {@link ControlTower#getTicksElapsed()}, and {@code encodedRunways} is the runway
+     * configuration, as returned by {@link ControlTower#encodeRunways()}; the runway line is
+     * omitted when the tower has its default single mixed runway
      * </td></tr>
      * <tr><td>{@code aircraftWriter}</td><td><pre>
      *numAircraft
@@ -274,11 +541,104 @@ public class ViewModel {
      */
     public void saveAs(Writer tickWriter, Writer aircraftWriter, Writer queuesWriter,
             Writer terminalsWithGatesWriter) throws IOException {
-        //The following methods will write to respective writers and CLOSE/Flush buffers.
-        tickSaveAs(tickWriter);
-        aircraftSaveAs(aircraftWriter);
-        queuesSavesAs(queuesWriter);
-        terminalWithGatesSaveAs(terminalsWithGatesWriter);
+        String[] contents;
+        try {
+            contents = captureSave().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while saving");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        writeSave(contents, tickWriter, aircraftWriter, queuesWriter, terminalsWithGatesWriter);
+    }
+
+    /**
+     * Saves the current state of the control tower simulation to the given files without
+     * blocking the calling thread, in the format described in
+     * {@link #saveAs(Writer, Writer, Writer, Writer)}.
+     * <p>
+     * The state is encoded by the simulation thread between ticks, so the save is a consistent
+     * picture of a single tick, and the files are then opened and written by a background
+     * thread, so the GUI does not wait on the disk. Saves are written in the order they are
+     * requested.
+     *
+     * @param tickFile               path of the file to write the number of ticks elapsed to
+     * @param aircraftFile           path of the file to write the list of aircraft to
+     * @param queuesFile             path of the file to write the queues and loading map to
+     * @param terminalsWithGatesFile path of the file to write the terminals and gates to
+     * @return future completed once all four files are written, or completed exceptionally with
+     * the IOException that prevented them being written
+     */
+    public CompletableFuture<Void> saveAsInBackground(String tickFile, String aircraftFile,
+            String queuesFile, String terminalsWithGatesFile) {
+        CompletableFuture<Void> saved = new CompletableFuture<>();
+        captureSave().whenCompleteAsync((contents, failure) -> {
+            if (failure != null) {
+                saved.completeExceptionally(failure);
+                return;
+            }
+            try (Writer tick = new FileWriter(tickFile);
+                 Writer aircraft = new FileWriter(aircraftFile);
+                 Writer queues = new FileWriter(queuesFile);
+                 Writer terminalsWithGates = new FileWriter(terminalsWithGatesFile)) {
+                writeSave(contents, tick, aircraft, queues, terminalsWithGates);
+                saved.complete(null);
+            } catch (IOException | RuntimeException e) {
+                saved.completeExceptionally(e);
+            }
+        }, saveWriter);
+        return saved;
+    }
+
+    /**
+     * Saves the current state of the control tower simulation to the same files it was loaded
+     * from when the application was launched, without blocking the calling thread.
+     *
+     * @return future completed once all four files are written, or completed exceptionally with
+     * the IOException that prevented them being written
+     * @see #saveAsInBackground(String, String, String, String)
+     */
+    public CompletableFuture<Void> saveInBackground() {
+        return saveAsInBackground(this.defaultTickSaveLocation,
+                this.defaultAircraftSaveLocation, this.defaultQueuesSaveLocation,
+                this.defaultTerminalsSaveLocation);
+    }
+
+    /*
+     * Encodes the state of the control tower on the simulation thread, between ticks, into the
+     * contents of the tick, aircraft, queues and terminals with gates files, in that order
+     */
+    private CompletableFuture<String[]> captureSave() {
+        return submit(tower -> {
+            StringWriter tick = new StringWriter();
+            StringWriter aircraft = new StringWriter();
+            StringWriter queues = new StringWriter();
+            StringWriter terminalsWithGates = new StringWriter();
+            tickSaveAs(tick);
+            aircraftSaveAs(aircraft);
+            queuesSavesAs(queues);
+            terminalWithGatesSaveAs(terminalsWithGates);
+            return new String[] {tick.toString(), aircraft.toString(), queues.toString(),
+                terminalsWithGates.toString()};
+        });
+    }
+
+    /*
+     * Writes the contents captured by captureSave() to the given writers, closing every writer
+     * even if writing to one of them fails
+     */
+    private static void writeSave(String[] contents, Writer tickWriter, Writer aircraftWriter,
+            Writer queuesWriter, Writer terminalsWithGatesWriter) throws IOException {
+        try (tickWriter; aircraftWriter; queuesWriter; terminalsWithGatesWriter) {
+            tickWriter.write(contents[0]);
+            aircraftWriter.write(contents[1]);
+            queuesWriter.write(contents[2]);
+            terminalsWithGatesWriter.write(contents[3]);
+        }
     }
 
 
@@ -399,11 +759,20 @@ public class ViewModel {
      */
     private void tickSaveAs(Writer writer) throws IOException {
         writer.write(String.valueOf(getControlTower().getTicksElapsed()));
+        //Saves with the default runway are left as they were before runways were configurable
+        String runways = getControlTower().encodeRunways();
+        if (!runways.equals(DEFAULT_RUNWAYS)) {
+            writer.write(System.lineSeparator());
+            writer.write(runways);
+        }
         writer.close();
     }
 
     /**
      * Returns the control tower linked to this view model.
+     * <p>
+     * Once the simulation has been started, the control tower is owned by the simulation thread
+     * and should only be accessed through {@link #submit(SimulationCommand)}.
      *
      * @return control tower
      * @given
@@ -413,88 +782,52 @@ public class ViewModel {
     }
 
     /**
-     * Ticks the model and updates the state of the GUI.
+     * Requests that the simulation tick the model once. The GUI is updated when the resulting
+     * snapshot is polled.
      *
      * @given
      */
     public void tick() {
-        tower.tick();
-        this.loadingInfoText.set(generateLoadingInfoText());
-        if (selectedAircraft.isNotNull().get()) {
-            this.aircraftInfoText.set(generateAircraftInfoText(selectedAircraft.get()));
-        }
-        updateTakeoffLandAircraft();
-        registerChange();
-    }
-
-    /* Updates the lists of aircraft currently taking off and landing */
-    private void updateTakeoffLandAircraft() {
-        this.aircraftTakingOff.set(null);
-        this.aircraftLanding.set(null);
-        for (Aircraft aircraft : getControlTower().getAircraft()) {
-            TaskType currentTaskType = aircraft.getTaskList().getCurrentTask().getType();
-            if (currentTaskType == TaskType.AWAY && allTakeoffAircraft.contains(aircraft)) {
-                // Aircraft has just taken off
-                this.aircraftTakingOff.set(aircraft);
-            }
-            if ((currentTaskType == TaskType.WAIT || currentTaskType == TaskType.LOAD)
-                    && allLandAircraft.contains(aircraft)) {
-                // Aircraft has just landed
-                this.aircraftLanding.set(aircraft);
-            }
-        }
-        fillTakeoffLandAircraftLists();
-    }
-
-    /*
-     * Places all aircraft that have a TAKEOFF task into the list of aircraft taking off;
-     * same for LAND
-     */
-    private void fillTakeoffLandAircraftLists() {
-        this.allTakeoffAircraft = findAircraftWithTask(getControlTower().getAircraft(),
-                TaskType.TAKEOFF);
-        this.allLandAircraft = findAircraftWithTask(getControlTower().getAircraft(),
-                TaskType.LAND);
-    }
-
-    /* Returns all aircraft in the given list whose current task's type is the given type */
-    private List<Aircraft> findAircraftWithTask(List<Aircraft> aircraft, TaskType taskType) {
-        return aircraft.stream()
-                .filter(a -> a.getTaskList().getCurrentTask().getType() == taskType)
-                .collect(Collectors.toList());
+        simulation.requestTick();
     }
 
     /* Generates the formatted information text for the given aircraft */
-    private String generateAircraftInfoText(Aircraft aircraft) {
+    private String generateAircraftInfoText(AircraftSnapshot aircraft) {
         StringJoiner lineJoiner = new StringJoiner(System.lineSeparator());
         lineJoiner.add("Currently selected aircraft:");
         lineJoiner.add("Callsign:       \t" + aircraft.getCallsign());
-        lineJoiner.add("Cargo type:\t" + aircraft.getClass().getSimpleName());
+        lineJoiner.add("Cargo type:\t" + aircraft.getCargoType());
         lineJoiner.add("Aircraft type:\t" + aircraft.getCharacteristics().type);
         lineJoiner.add("Model:          \t" + aircraft.getCharacteristics().name());
         lineJoiner.add("Fuel % left:\t" + aircraft.getFuelPercentRemaining() + "%");
-        lineJoiner.add("% occupied:\t" + aircraft.calculateOccupancyLevel() + "%");
+        lineJoiner.add("% occupied:\t" + aircraft.getOccupancyLevel() + "%");
         lineJoiner.add("Emergency:\t" + aircraft.hasEmergency());
-        lineJoiner.add("Task list:   \t" + aircraft.getTaskList().encode());
+        lineJoiner.add("Task list:   \t" + aircraft.getEncodedTaskList());
 
         return lineJoiner.toString();
     }
 
-    /* Generates the formatted information text for the map of loading aircraft */
-    private String generateLoadingInfoText() {
-        Map<Aircraft, Integer> loadingAircraft = this.getControlTower().getLoadingAircraft();
-        StringJoiner joiner = new StringJoiner(System.lineSeparator());
-        joiner.add("Loading aircraft: " + (loadingAircraft.isEmpty() ? "none" : ""));
-        for (Map.Entry<Aircraft, Integer> entry : loadingAircraft.entrySet()) {
-            Aircraft aircraft = entry.getKey();
-            joiner.add(aircraft.getCallsign() + " at gate "
-                    + tower.findGateOfAircraft(aircraft).getGateNumber() + ":\t"
-                    + entry.getValue().toString()
-                    + " ticks remaining (currently at " + aircraft.calculateOccupancyLevel()
-                    + "%, will load to " + aircraft.getTaskList().getCurrentTask().getLoadPercent()
-                    + "%)");
+    /*
+     * Shows the given aircraft in the aircraft information text, regenerating the text only if
+     * it is a different aircraft or a newer version of the one shown
+     */
+    private void updateAircraftInfoText(AircraftSnapshot aircraft) {
+        if (aircraft == null) {
+            aircraftInfoShown = null;
+            aircraftInfoText.set("No aircraft selected");
+        } else if (aircraftInfoShown == null || aircraftInfoShown.getId() != aircraft.getId()
+                || aircraftInfoShown.getVersion() != aircraft.getVersion()) {
+            aircraftInfoShown = aircraft;
+            aircraftInfoText.set(generateAircraftInfoText(aircraft));
+        }
+    }
+
+    /* Updates the loading information text from the snapshot, if it has changed */
+    private void updateLoadingInfoText() {
+        String text = loadingPanelText.update(snapshot.getLoadingAircraft());
+        if (text != null) {
+            loadingInfoText.set(text);
         }
-        return joiner.toString();
     }
 
     /**
@@ -504,6 +837,7 @@ public class ViewModel {
      */
     public void togglePaused() {
         this.paused.setValue(!this.paused.getValue());
+        simulation.setPaused(this.paused.get());
         if (this.paused.get()) {
             this.pausedStatusText.setValue(" (Paused)");
             this.pauseMenuText.setValue("Un_pause");
@@ -633,7 +967,7 @@ public class ViewModel {
      * @return currently selected aircraft property
      * @given
      */
-    public ObjectProperty<Aircraft> getSelectedAircraft() {
+    public ObjectProperty<AircraftSnapshot> getSelectedAircraft() {
         return selectedAircraft;
     }
 
@@ -643,7 +977,7 @@ public class ViewModel {
      * @return currently landing aircraft property
      * @given
      */
-    public ObjectProperty<Aircraft> getAircraftLanding() {
+    public ObjectProperty<AircraftSnapshot> getAircraftLanding() {
         return aircraftLanding;
     }
 
@@ -653,7 +987,7 @@ public class ViewModel {
      * @return currently taking off aircraft property
      * @given
      */
-    public ObjectProperty<Aircraft> getAircraftTakingOff() {
+    public ObjectProperty<AircraftSnapshot> getAircraftTakingOff() {
         return aircraftTakingOff;
     }
 
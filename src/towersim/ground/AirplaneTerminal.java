@@ -16,4 +16,19 @@ public class AirplaneTerminal extends Terminal {
     public AirplaneTerminal(int terminalNumber) {
         super(terminalNumber);
     }
+
+    /**
+     * Creates a new AirplaneTerminal with the given unique terminal number that can hold up to the
+     * given number of gates.
+     * <p>
+     * See {@link Terminal#Terminal(int, int)}.
+     *
+     * @param terminalNumber identifying number of this airplane terminal
+     * @param maxGates       maximum number of gates allowed at this terminal
+     * @throws IllegalArgumentException if maxGates is less than one or greater than
+     *                                  {@link Terminal#MAX_LARGE_TERMINAL_GATES}
+     */
+    public AirplaneTerminal(int terminalNumber, int maxGates) {
+        super(terminalNumber, maxGates);
+    }
 }
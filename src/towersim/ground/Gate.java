@@ -23,6 +23,16 @@ public class Gate implements Encodable {
      */
     private Aircraft aircraftAtGate;
 
+    /**
+     * Terminal this gate has been added to; or null if not yet added to a terminal.
+     */
+    private Terminal terminal;
+
+    /**
+     * Position of this gate in its terminal.
+     */
+    private int terminalIndex;
+
     /**
      * Creates a new Gate with the given unique gate number.
      * <p>
@@ -64,6 +74,9 @@ public class Gate implements Encodable {
                     + " is occupied, cannot park aircraft");
         }
         this.aircraftAtGate = aircraft;
+        if (this.terminal != null && aircraft != null) {
+            this.terminal.aircraftParked(this.terminalIndex, aircraft);
+        }
     }
 
     /**
@@ -74,7 +87,28 @@ public class Gate implements Encodable {
      * @ass1
      */
     public void aircraftLeaves() {
+        Aircraft leaving = this.aircraftAtGate;
         this.aircraftAtGate = null;
+        if (this.terminal != null && leaving != null) {
+            this.terminal.aircraftLeft(this.terminalIndex, leaving);
+        }
+    }
+
+    /**
+     * Records that this gate has been added to the given terminal at the given position, so that
+     * the terminal can be told when the gate becomes occupied or unoccupied.
+     *
+     * @param terminal terminal the gate has been added to
+     * @param index    position of the gate in the terminal
+     * @throws IllegalArgumentException if the gate has already been added to a terminal
+     */
+    void attachTo(Terminal terminal, int index) {
+        if (this.terminal != null) {
+            throw new IllegalArgumentException("Gate " + this.gateNumber
+                    + " has already been added to a terminal");
+        }
+        this.terminal = terminal;
+        this.terminalIndex = index;
     }
 
     /**
@@ -0,0 +1,56 @@
+package towersim.ground;
+
+import towersim.aircraft.Aircraft;
+
+/**
+ * Listener notified as gates are added to a terminal, as aircraft park at and leave them, and as
+ * the terminal's state of emergency is cleared, making its gates available again.
+ * <p>
+ * Registering a listener with {@link Terminal#setOccupancyListener(GateOccupancyListener)} lets
+ * consumers keep occupancy counts up to date without rescanning every gate. All methods do
+ * nothing by default, so implementations only need to override the events they are interested
+ * in.
+ * <p>
+ * Listeners are called on the thread that parks or removes the aircraft, as the change happens.
+ */
+public interface GateOccupancyListener {
+
+    /**
+     * Called when a gate has been added to a terminal. If the gate is already occupied,
+     * {@link #aircraftParked(Terminal, Gate, Aircraft)} is called immediately afterwards.
+     *
+     * @param terminal terminal the gate was added to
+     * @param gate     gate that was added
+     */
+    default void gateAdded(Terminal terminal, Gate gate) {
+    }
+
+    /**
+     * Called when an aircraft has been parked at a gate of a terminal.
+     *
+     * @param terminal terminal containing the gate
+     * @param gate     gate the aircraft was parked at
+     * @param aircraft aircraft that was parked
+     */
+    default void aircraftParked(Terminal terminal, Gate gate, Aircraft aircraft) {
+    }
+
+    /**
+     * Called when an aircraft has left a gate of a terminal.
+     *
+     * @param terminal terminal containing the gate
+     * @param gate     gate the aircraft left
+     * @param aircraft aircraft that left
+     */
+    default void aircraftLeft(Terminal terminal, Gate gate, Aircraft aircraft) {
+    }
+
+    /**
+     * Called when a terminal's state of emergency has been cleared, so that aircraft may be
+     * parked at its unoccupied gates again.
+     *
+     * @param terminal terminal whose emergency was cleared
+     */
+    default void emergencyCleared(Terminal terminal) {
+    }
+}
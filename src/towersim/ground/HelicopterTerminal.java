@@ -16,4 +16,19 @@ public class HelicopterTerminal extends Terminal {
     public HelicopterTerminal(int terminalNumber) {
         super(terminalNumber);
     }
+
+    /**
+     * Creates a new HelicopterTerminal with the given unique terminal number that can hold up to
+     * the given number of gates.
+     * <p>
+     * See {@link Terminal#Terminal(int, int)}.
+     *
+     * @param terminalNumber identifying number of this helicopter terminal
+     * @param maxGates       maximum number of gates allowed at this terminal
+     * @throws IllegalArgumentException if maxGates is less than one or greater than
+     *                                  {@link Terminal#MAX_LARGE_TERMINAL_GATES}
+     */
+    public HelicopterTerminal(int terminalNumber, int maxGates) {
+        super(terminalNumber, maxGates);
+    }
 }
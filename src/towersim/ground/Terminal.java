@@ -1,13 +1,24 @@
 package towersim.ground;
 
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftType;
 import towersim.util.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents an airport terminal building, containing several aircraft gates.
+ * <p>
+ * By default a terminal holds at most {@link #MAX_NUM_GATES} gates, but terminals can be
+ * created with a larger capacity of up to {@link #MAX_LARGE_TERMINAL_GATES} gates to model hub
+ * terminals. Gates are kept in an array alongside a bitset recording which of them are
+ * occupied, which is kept up to date by the gates themselves as aircraft park and leave, so
+ * finding an unoccupied gate and calculating the occupancy level do not need to visit every
+ * gate. The number of occupied gates is also counted per {@link AircraftType} of the aircraft
+ * parked at them.
  *
  * @ass1
  */
@@ -19,15 +30,57 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      */
     public static final int MAX_NUM_GATES = 6;
 
+    /**
+     * Maximum possible number of gates allowed at a single terminal created with a larger
+     * capacity than the default.
+     */
+    public static final int MAX_LARGE_TERMINAL_GATES = 256;
+
+    /**
+     * Number of gates whose occupancy is recorded in each word of the occupancy bitset.
+     */
+    private static final int BITS_PER_WORD = Long.SIZE;
+
     /**
      * Unique terminal number to identify this terminal.
      */
     private final int terminalNumber;
 
     /**
-     * List of gates in this terminal.
+     * Maximum number of gates allowed at this terminal.
+     */
+    private final int maxGates;
+
+    /**
+     * Gates in this terminal, in the order they were added; only the first numGates are used.
+     */
+    private Gate[] gates;
+
+    /**
+     * Number of gates in this terminal.
+     */
+    private int numGates;
+
+    /**
+     * Bitset of occupied gates, where bit i is set if and only if gates[i] is occupied.
+     */
+    private final long[] occupiedGates;
+
+    /**
+     * Number of occupied gates in this terminal.
+     */
+    private int numOccupiedGates;
+
+    /**
+     * Number of occupied gates in this terminal, indexed by the ordinal of the type of aircraft
+     * parked at them.
+     */
+    private final int[] numOccupiedGatesByType;
+
+    /**
+     * Listener notified of changes to the gates of this terminal; or null if none.
      */
-    private final List<Gate> gates;
+    private GateOccupancyListener occupancyListener;
 
     /**
      * Whether or not the terminal is currently in a state of emergency.
@@ -47,8 +100,30 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      * @ass1
      */
     protected Terminal(int terminalNumber) {
+        this(terminalNumber, MAX_NUM_GATES);
+    }
+
+    /**
+     * Creates a new Terminal with the given unique terminal number that can hold up to the given
+     * number of gates.
+     * <p>
+     * See {@link #Terminal(int)}.
+     *
+     * @param terminalNumber identifying number of this terminal
+     * @param maxGates       maximum number of gates allowed at this terminal
+     * @throws IllegalArgumentException if maxGates is less than one or greater than
+     *                                  {@link #MAX_LARGE_TERMINAL_GATES}
+     */
+    protected Terminal(int terminalNumber, int maxGates) {
+        if (maxGates < 1 || maxGates > MAX_LARGE_TERMINAL_GATES) {
+            throw new IllegalArgumentException("Maximum number of gates must be between 1 and "
+                    + MAX_LARGE_TERMINAL_GATES);
+        }
         this.terminalNumber = terminalNumber;
-        this.gates = new ArrayList<>();
+        this.maxGates = maxGates;
+        this.gates = new Gate[Math.min(maxGates, MAX_NUM_GATES)];
+        this.occupiedGates = new long[(maxGates + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        this.numOccupiedGatesByType = new int[AircraftType.values().length];
         this.emergency = false;
     }
 
@@ -62,21 +137,92 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
         return terminalNumber;
     }
 
+    /**
+     * Returns the maximum number of gates allowed at this terminal.
+     *
+     * @return maximum number of gates, {@link #MAX_NUM_GATES} unless the terminal was created
+     * with a larger capacity
+     */
+    public int getMaxGates() {
+        return this.maxGates;
+    }
+
     /**
      * Adds a gate to the terminal.
      * <p>
-     * If the terminal is currently at maximum capacity ({@link #MAX_NUM_GATES}), then the gate
+     * If the terminal is currently at maximum capacity ({@link #getMaxGates()}), then the gate
      * should not be added, and instead a NoSpaceException should be thrown.
+     * <p>
+     * A gate may only belong to one terminal, and only once.
      *
      * @param gate gate to add to terminal
-     * @throws NoSpaceException if there is no space at the terminal for the new gate
+     * @throws NoSpaceException         if there is no space at the terminal for the new gate
+     * @throws IllegalArgumentException if the gate has already been added to a terminal
      * @ass1
      */
     public void addGate(Gate gate) throws NoSpaceException {
-        if (this.gates.size() == MAX_NUM_GATES) {
-            throw new NoSpaceException("Maximum number of gates reached (" + MAX_NUM_GATES + ")");
+        if (this.numGates == this.maxGates) {
+            throw new NoSpaceException("Maximum number of gates reached (" + this.maxGates + ")");
+        }
+        if (this.numGates == this.gates.length) {
+            this.gates = Arrays.copyOf(this.gates,
+                    Math.min(this.maxGates, 2 * this.gates.length));
+        }
+        final int index = this.numGates;
+        gate.attachTo(this, index);
+        this.gates[index] = gate;
+        this.numGates++;
+        if (this.occupancyListener != null) {
+            this.occupancyListener.gateAdded(this, gate);
+        }
+        if (gate.isOccupied()) {
+            aircraftParked(index, gate.getAircraftAtGate());
+        }
+    }
+
+    /**
+     * Sets the listener to notify as gates are added to this terminal, as aircraft park at and
+     * leave its gates and as its state of emergency is cleared, replacing any previous listener.
+     *
+     * @param listener listener to notify; or null to stop notifying
+     */
+    public void setOccupancyListener(GateOccupancyListener listener) {
+        this.occupancyListener = listener;
+    }
+
+    /**
+     * Records that an aircraft has been parked at the gate at the given position in this
+     * terminal.
+     * <p>
+     * Called by the gate itself.
+     *
+     * @param index    position of the gate in this terminal
+     * @param aircraft aircraft that was parked
+     */
+    void aircraftParked(int index, Aircraft aircraft) {
+        this.occupiedGates[index / BITS_PER_WORD] |= 1L << (index % BITS_PER_WORD);
+        this.numOccupiedGates++;
+        this.numOccupiedGatesByType[aircraft.getCharacteristics().type.ordinal()]++;
+        if (this.occupancyListener != null) {
+            this.occupancyListener.aircraftParked(this, this.gates[index], aircraft);
+        }
+    }
+
+    /**
+     * Records that an aircraft has left the gate at the given position in this terminal.
+     * <p>
+     * Called by the gate itself.
+     *
+     * @param index    position of the gate in this terminal
+     * @param aircraft aircraft that left
+     */
+    void aircraftLeft(int index, Aircraft aircraft) {
+        this.occupiedGates[index / BITS_PER_WORD] &= ~(1L << (index % BITS_PER_WORD));
+        this.numOccupiedGates--;
+        this.numOccupiedGatesByType[aircraft.getCharacteristics().type.ordinal()]--;
+        if (this.occupancyListener != null) {
+            this.occupancyListener.aircraftLeft(this, this.gates[index], aircraft);
         }
-        this.gates.add(gate);
     }
 
     /**
@@ -91,7 +237,52 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      * @ass1
      */
     public List<Gate> getGates() {
-        return new ArrayList<>(this.gates);
+        return new ArrayList<>(Arrays.asList(this.gates).subList(0, this.numGates));
+    }
+
+    /**
+     * Returns the number of gates in this terminal.
+     *
+     * @return number of gates
+     */
+    public int getNumGates() {
+        return this.numGates;
+    }
+
+    /**
+     * Returns the number of occupied gates in this terminal.
+     *
+     * @return number of occupied gates
+     */
+    public int getNumOccupiedGates() {
+        return this.numOccupiedGates;
+    }
+
+    /**
+     * Returns the number of gates in this terminal occupied by aircraft of the given type.
+     *
+     * @param type type of aircraft
+     * @return number of gates occupied by aircraft of that type
+     */
+    public int getNumOccupiedGates(AircraftType type) {
+        return this.numOccupiedGatesByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the gate at the given position in this terminal, without copying the gate list.
+     * <p>
+     * Positions follow the same order as {@link #getGates()}.
+     *
+     * @param index position of the gate, from 0 to {@code getNumGates() - 1}
+     * @return gate at the given position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Gate getGate(int index) {
+        if (index < 0 || index >= this.numGates) {
+            throw new IndexOutOfBoundsException("Gate index " + index + " out of range for "
+                    + this.numGates + " gates");
+        }
+        return this.gates[index];
     }
 
     /**
@@ -107,9 +298,16 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      * @ass1
      */
     public Gate findUnoccupiedGate() throws NoSuitableGateException {
-        for (Gate gate : this.gates) {
-            if (!gate.isOccupied()) {
-                return gate;
+        if (this.numOccupiedGates < this.numGates) {
+            // Look for the lowest clear bit, a word (64 gates) at a time
+            for (int word = 0; word * BITS_PER_WORD < this.numGates; ++word) {
+                long free = ~this.occupiedGates[word];
+                if (free != 0) {
+                    int index = word * BITS_PER_WORD + Long.numberOfTrailingZeros(free);
+                    if (index < this.numGates) {
+                        return this.gates[index];
+                    }
+                }
             }
         }
         throw new NoSuitableGateException("No unoccupied gate in terminal " + this.terminalNumber);
@@ -127,12 +325,18 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
 
     /**
      * {@inheritDoc}
+     * <p>
+     * If the terminal was in a state of emergency, its occupancy listener is notified.
      *
      * @ass1
      */
     @Override
     public void clearEmergency() {
+        boolean wasEmergency = this.emergency;
         this.emergency = false;
+        if (wasEmergency && this.occupancyListener != null) {
+            this.occupancyListener.emergencyCleared(this);
+        }
     }
 
     /**
@@ -159,13 +363,10 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      */
     @Override
     public int calculateOccupancyLevel() {
-        int numOccupiedGates = 0;
-        for (Gate gate : this.gates) {
-            if (gate.isOccupied()) {
-                numOccupiedGates++;
-            }
+        if (this.numGates == 0) {
+            return 0;
         }
-        return (int) Math.round(100 * (double) numOccupiedGates / this.gates.size());
+        return (int) Math.round(100 * (double) this.numOccupiedGates / this.numGates);
     }
 
     /**
@@ -232,7 +433,7 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
         return String.format("%s %d, %d gates%s",
                 this.getClass().getSimpleName(),
                 this.terminalNumber,
-                this.gates.size(),
+                this.numGates,
                 this.emergency ? " (EMERGENCY)" : "");
     }
 
@@ -254,6 +455,11 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
      * encodedGateX is the encoded representation of the Xth gate in this terminal, for X between
      * 1 and N inclusive, where N is the number of gates, in the same order as returned
      * by getGates()
+     * <p>
+     * If the terminal was created with a capacity other than {@link #MAX_NUM_GATES}, the first
+     * line is instead
+     * TerminalType:terminalNumber:emergency:numGates:maxGates
+     * where maxGates is the maximum number of gates allowed at this terminal.
      *
      * @return encoded string representation of this terminal
      */
@@ -264,16 +470,19 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel, Encoda
         encoded.append(this.getClass().getSimpleName()).append(":");
         encoded.append(this.getTerminalNumber()).append(":");
         encoded.append(this.hasEmergency()).append(":");
-        encoded.append(this.getGates().size());
+        encoded.append(this.numGates);
+        if (this.maxGates != MAX_NUM_GATES) {
+            encoded.append(":").append(this.maxGates);
+        }
 
-        if (this.getGates().size() > 0) {
+        if (this.numGates > 0) {
             encoded.append(System.lineSeparator());
         }
 
-        for (int i = 0; i < this.getGates().size(); ++i) {
-            encoded.append(this.getGates().get(i).encode());
+        for (int i = 0; i < this.numGates; ++i) {
+            encoded.append(this.gates[i].encode());
             //Don't add newline if this is the last iteration of the loop
-            if (i + 1 < this.getGates().size()) {
+            if (i + 1 < this.numGates) {
                 encoded.append(System.lineSeparator());
             }
         }
@@ -0,0 +1,196 @@
+package towersim.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size histogram of latencies, in nanoseconds, using power-of-two buckets.
+ * <p>
+ * Bucket {@code i} counts latencies in the range {@code [2^(i-1), 2^i)} nanoseconds, with bucket
+ * 0 counting latencies of zero. Recording a latency never allocates, so it is cheap enough to do
+ * on every tick. Values may be recorded by one thread while another thread reads them.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of buckets, enough to cover every non-negative long value.
+     */
+    public static final int NUM_BUCKETS = 64;
+
+    /**
+     * Number of latencies recorded in each bucket.
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Number of latencies recorded.
+     */
+    private final AtomicLong count;
+
+    /**
+     * Sum of all latencies recorded, in nanoseconds.
+     */
+    private final AtomicLong totalNanos;
+
+    /**
+     * Largest latency recorded, in nanoseconds.
+     */
+    private final AtomicLong maxNanos;
+
+    /**
+     * Creates a new, empty histogram.
+     */
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(NUM_BUCKETS);
+        this.count = new AtomicLong();
+        this.totalNanos = new AtomicLong();
+        this.maxNanos = new AtomicLong();
+    }
+
+    /**
+     * Records a single latency.
+     * <p>
+     * Negative latencies are recorded as zero.
+     *
+     * @param nanos latency to record, in nanoseconds
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        this.buckets.incrementAndGet(bucketOf(latency));
+        this.count.incrementAndGet();
+        this.totalNanos.addAndGet(latency);
+        if (latency > this.maxNanos.get()) {
+            this.maxNanos.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    /**
+     * Adds all latencies recorded by the given histogram to this histogram, as if each had been
+     * recorded here. The other histogram is not changed.
+     * <p>
+     * Merging never allocates, so histograms from any number of sources can be combined in a
+     * fixed amount of memory.
+     *
+     * @param other histogram whose latencies are added
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            this.buckets.addAndGet(i, other.buckets.get(i));
+        }
+        this.count.addAndGet(other.count.get());
+        this.totalNanos.addAndGet(other.totalNanos.get());
+        this.maxNanos.accumulateAndGet(other.maxNanos.get(), Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return number of latencies recorded
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Returns the mean of all latencies recorded, in nanoseconds, or 0 if none were recorded.
+     *
+     * @return mean latency in nanoseconds
+     */
+    public double getMeanNanos() {
+        long recorded = this.count.get();
+        return recorded == 0 ? 0 : (double) this.totalNanos.get() / recorded;
+    }
+
+    /**
+     * Returns the largest latency recorded, in nanoseconds.
+     *
+     * @return maximum latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Returns an upper bound on the given percentile of recorded latencies, in nanoseconds.
+     * <p>
+     * The value returned is the upper bound of the bucket containing the percentile, capped at
+     * the largest latency recorded. If no latencies were recorded, 0 is returned.
+     *
+     * @param percentile percentile to estimate, 0 to 100
+     * @return estimated latency at the given percentile, in nanoseconds
+     * @throws IllegalArgumentException if percentile &lt; 0 or percentile &gt; 100
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long[] snapshot = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : snapshot) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), this.maxNanos.get());
+            }
+        }
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Returns a copy of the number of latencies recorded in each bucket.
+     *
+     * @return bucket counts, indexed by bucket
+     */
+    public long[] getBucketCounts() {
+        long[] snapshot = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            snapshot[i] = this.buckets.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clears all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            this.buckets.set(i, 0);
+        }
+        this.count.set(0);
+        this.totalNanos.set(0);
+        this.maxNanos.set(0);
+    }
+
+    /**
+     * Returns the largest latency, in nanoseconds, counted by the given bucket.
+     *
+     * @param bucket bucket index
+     * @return inclusive upper bound of the bucket
+     */
+    public static long bucketUpperBound(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        if (bucket >= NUM_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) - 1;
+    }
+
+    /**
+     * Returns the bucket that the given non-negative latency is counted in.
+     *
+     * @param nanos latency in nanoseconds
+     * @return bucket index
+     */
+    private static int bucketOf(long nanos) {
+        return Math.min(NUM_BUCKETS - Long.numberOfLeadingZeros(nanos), NUM_BUCKETS - 1);
+    }
+}
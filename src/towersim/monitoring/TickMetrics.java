@@ -0,0 +1,476 @@
+package towersim.monitoring;
+
+import towersim.aircraft.AircraftType;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records per-phase tick latencies, movement counters, queue depths, queue waits and gate
+ * occupancy of a control tower.
+ * <p>
+ * Queue waits are counted in ticks rather than nanoseconds, and are kept in
+ * {@link WaitHistogram}s, so that their percentiles can be found without storing every wait.
+ * <p>
+ * Metrics are written by the thread ticking the control tower and may be read concurrently,
+ * for example by a JMX client once {@link #registerPlatformMBean(String)} has been called.
+ */
+public class TickMetrics implements TickMetricsMBean {
+
+    /**
+     * Domain and type used in the object names of registered tick metrics.
+     */
+    public static final String OBJECT_NAME_PREFIX = "towersim:type=TickMetrics,name=";
+
+    /**
+     * Latency histogram of each phase, indexed by phase ordinal.
+     */
+    private final LatencyHistogram[] phaseLatencies;
+
+    /**
+     * Latency histogram of whole ticks.
+     */
+    private final LatencyHistogram tickLatency;
+
+    /**
+     * Number of aircraft landed.
+     */
+    private final AtomicLong landings;
+
+    /**
+     * Number of aircraft taken off.
+     */
+    private final AtomicLong takeoffs;
+
+    /**
+     * Number of landing attempts that failed due to no suitable gate.
+     */
+    private final AtomicLong failedLandingsNoGate;
+
+    /**
+     * Histogram of the number of ticks each landed aircraft waited in the landing queue.
+     */
+    private final WaitHistogram landingWait;
+
+    /**
+     * Histogram of the number of ticks each aircraft that took off waited in the takeoff queue.
+     */
+    private final WaitHistogram takeoffWait;
+
+    /**
+     * Depth of the landing queue at the end of the last tick.
+     */
+    private volatile int landingQueueDepth;
+
+    /**
+     * Depth of the takeoff queue at the end of the last tick.
+     */
+    private volatile int takeoffQueueDepth;
+
+    /**
+     * Number of loading aircraft at the end of the last tick.
+     */
+    private volatile int loadingCount;
+
+    /**
+     * Number of gates at the end of the last tick.
+     */
+    private volatile int numGates;
+
+    /**
+     * Number of occupied gates at the end of the last tick, indexed by aircraft type ordinal.
+     */
+    private final AtomicIntegerArray occupiedGatesByType;
+
+    /**
+     * Creates a new set of tick metrics with nothing recorded.
+     */
+    public TickMetrics() {
+        this.phaseLatencies = new LatencyHistogram[TickPhase.values().length];
+        for (int i = 0; i < this.phaseLatencies.length; ++i) {
+            this.phaseLatencies[i] = new LatencyHistogram();
+        }
+        this.tickLatency = new LatencyHistogram();
+        this.landings = new AtomicLong();
+        this.takeoffs = new AtomicLong();
+        this.failedLandingsNoGate = new AtomicLong();
+        this.landingWait = new WaitHistogram();
+        this.takeoffWait = new WaitHistogram();
+        this.occupiedGatesByType = new AtomicIntegerArray(AircraftType.values().length);
+    }
+
+    /**
+     * Records the latency of one phase of a tick.
+     *
+     * @param phase phase that was measured
+     * @param nanos latency of the phase, in nanoseconds
+     */
+    public void recordPhase(TickPhase phase, long nanos) {
+        this.phaseLatencies[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records the latency of a whole tick, along with the queue depths at the end of the tick.
+     *
+     * @param nanos             latency of the tick, in nanoseconds
+     * @param landingQueueDepth number of aircraft in the landing queue
+     * @param takeoffQueueDepth number of aircraft in the takeoff queue
+     * @param loadingCount      number of aircraft loading at gates
+     */
+    public void recordTick(long nanos, int landingQueueDepth, int takeoffQueueDepth,
+                           int loadingCount) {
+        this.tickLatency.record(nanos);
+        this.landingQueueDepth = landingQueueDepth;
+        this.takeoffQueueDepth = takeoffQueueDepth;
+        this.loadingCount = loadingCount;
+    }
+
+    /**
+     * Records the gate occupancy at the end of a tick.
+     *
+     * @param numGates            number of gates in the airport
+     * @param occupiedGatesByType number of occupied gates, indexed by aircraft type ordinal
+     */
+    public void recordOccupancy(int numGates, int[] occupiedGatesByType) {
+        this.numGates = numGates;
+        for (int i = 0; i < occupiedGatesByType.length; ++i) {
+            this.occupiedGatesByType.set(i, occupiedGatesByType[i]);
+        }
+    }
+
+    /**
+     * Records that an aircraft has landed.
+     */
+    public void recordLanding() {
+        this.landings.incrementAndGet();
+    }
+
+    /**
+     * Records that an aircraft has taken off.
+     */
+    public void recordTakeoff() {
+        this.takeoffs.incrementAndGet();
+    }
+
+    /**
+     * Records that an aircraft could not land as there was no suitable gate.
+     */
+    public void recordFailedLandingNoGate() {
+        this.failedLandingsNoGate.incrementAndGet();
+    }
+
+    /**
+     * Records the number of ticks an aircraft waited in the landing queue before landing.
+     *
+     * @param ticks ticks spent waiting
+     */
+    public void recordLandingWait(long ticks) {
+        this.landingWait.record(ticks);
+    }
+
+    /**
+     * Records the number of ticks an aircraft waited in the takeoff queue before taking off.
+     *
+     * @param ticks ticks spent waiting
+     */
+    public void recordTakeoffWait(long ticks) {
+        this.takeoffWait.record(ticks);
+    }
+
+    /**
+     * Returns the histogram of the number of ticks each landed aircraft waited in the landing
+     * queue.
+     *
+     * @return landing queue wait histogram
+     */
+    public WaitHistogram getLandingWait() {
+        return this.landingWait;
+    }
+
+    /**
+     * Returns the histogram of the number of ticks each aircraft that took off waited in the
+     * takeoff queue.
+     *
+     * @return takeoff queue wait histogram
+     */
+    public WaitHistogram getTakeoffWait() {
+        return this.takeoffWait;
+    }
+
+    /**
+     * Returns the latency histogram of the given phase.
+     *
+     * @param phase phase whose histogram to return
+     * @return latency histogram of phase
+     */
+    public LatencyHistogram getPhaseLatency(TickPhase phase) {
+        return this.phaseLatencies[phase.ordinal()];
+    }
+
+    /**
+     * Returns the latency histogram of whole ticks.
+     *
+     * @return tick latency histogram
+     */
+    public LatencyHistogram getTickLatency() {
+        return this.tickLatency;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under the given name, so they
+     * can be watched from JConsole or any other JMX client.
+     *
+     * @param name value of the {@code name} key of the MBean's object name
+     * @return object name the metrics were registered under
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName registerPlatformMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, after
+     * {@link #registerPlatformMBean(String)} registered them under the given object name.
+     *
+     * @param objectName object name the metrics were registered under
+     * @throws JMException if nothing is registered under the object name
+     */
+    public void unregisterPlatformMBean(ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getPhases() {
+        TickPhase[] phases = TickPhase.values();
+        String[] names = new String[phases.length];
+        for (int i = 0; i < phases.length; ++i) {
+            names[i] = phases[i].name();
+        }
+        return names;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTicksMeasured() {
+        return this.tickLatency.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getPhaseMeanMicros() {
+        double[] means = new double[this.phaseLatencies.length];
+        for (int i = 0; i < means.length; ++i) {
+            means[i] = this.phaseLatencies[i].getMeanNanos() / 1000;
+        }
+        return means;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getPhaseP50Micros() {
+        return phasePercentileMicros(50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getPhaseP99Micros() {
+        return phasePercentileMicros(99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getPhaseMaxMicros() {
+        double[] maxima = new double[this.phaseLatencies.length];
+        for (int i = 0; i < maxima.length; ++i) {
+            maxima[i] = this.phaseLatencies[i].getMaxNanos() / 1000.0;
+        }
+        return maxima;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTickMeanMicros() {
+        return this.tickLatency.getMeanNanos() / 1000;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTickP99Micros() {
+        return this.tickLatency.getPercentileNanos(99) / 1000.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLandings() {
+        return this.landings.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTakeoffs() {
+        return this.takeoffs.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFailedLandingsNoGate() {
+        return this.failedLandingsNoGate.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getLandingWaitMeanTicks() {
+        return this.landingWait.getMeanTicks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLandingWaitP99Ticks() {
+        return this.landingWait.getPercentileTicks(99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTakeoffWaitMeanTicks() {
+        return this.takeoffWait.getMeanTicks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTakeoffWaitP99Ticks() {
+        return this.takeoffWait.getPercentileTicks(99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLandingQueueDepth() {
+        return this.landingQueueDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTakeoffQueueDepth() {
+        return this.takeoffQueueDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLoadingCount() {
+        return this.loadingCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumGates() {
+        return this.numGates;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getAircraftTypes() {
+        AircraftType[] types = AircraftType.values();
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            names[i] = types[i].name();
+        }
+        return names;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getOccupiedGatesByType() {
+        int[] occupied = new int[this.occupiedGatesByType.length()];
+        for (int i = 0; i < occupied.length; ++i) {
+            occupied[i] = this.occupiedGatesByType.get(i);
+        }
+        return occupied;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] histogram(String phase) {
+        return this.phaseLatencies[TickPhase.valueOf(phase).ordinal()].getBucketCounts();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : this.phaseLatencies) {
+            histogram.reset();
+        }
+        this.tickLatency.reset();
+        this.landings.set(0);
+        this.takeoffs.set(0);
+        this.failedLandingsNoGate.set(0);
+        this.landingWait.reset();
+        this.takeoffWait.reset();
+    }
+
+    /**
+     * Returns the given percentile of each phase's latency, in microseconds.
+     *
+     * @param percentile percentile to estimate, 0 to 100
+     * @return percentile latency per phase
+     */
+    private double[] phasePercentileMicros(double percentile) {
+        double[] values = new double[this.phaseLatencies.length];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = this.phaseLatencies[i].getPercentileNanos(percentile) / 1000.0;
+        }
+        return values;
+    }
+}
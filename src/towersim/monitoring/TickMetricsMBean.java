@@ -0,0 +1,175 @@
+package towersim.monitoring;
+
+/**
+ * Management interface exposing control tower tick metrics over JMX.
+ * <p>
+ * Per-phase arrays are indexed in the same order as {@link #getPhases()}, and per-type arrays
+ * in the same order as {@link #getAircraftTypes()}.
+ */
+public interface TickMetricsMBean {
+
+    /**
+     * Returns the names of the measured tick phases.
+     *
+     * @return phase names, in {@link TickPhase} order
+     */
+    String[] getPhases();
+
+    /**
+     * Returns the number of ticks measured.
+     *
+     * @return ticks measured
+     */
+    long getTicksMeasured();
+
+    /**
+     * Returns the mean latency of each phase, in microseconds.
+     *
+     * @return mean latency per phase
+     */
+    double[] getPhaseMeanMicros();
+
+    /**
+     * Returns the estimated median latency of each phase, in microseconds.
+     *
+     * @return median latency per phase
+     */
+    double[] getPhaseP50Micros();
+
+    /**
+     * Returns the estimated 99th percentile latency of each phase, in microseconds.
+     *
+     * @return 99th percentile latency per phase
+     */
+    double[] getPhaseP99Micros();
+
+    /**
+     * Returns the largest latency of each phase, in microseconds.
+     *
+     * @return maximum latency per phase
+     */
+    double[] getPhaseMaxMicros();
+
+    /**
+     * Returns the mean latency of a whole tick, in microseconds.
+     *
+     * @return mean tick latency
+     */
+    double getTickMeanMicros();
+
+    /**
+     * Returns the estimated 99th percentile latency of a whole tick, in microseconds.
+     *
+     * @return 99th percentile tick latency
+     */
+    double getTickP99Micros();
+
+    /**
+     * Returns the number of aircraft that have landed.
+     *
+     * @return landings
+     */
+    long getLandings();
+
+    /**
+     * Returns the number of aircraft that have taken off.
+     *
+     * @return takeoffs
+     */
+    long getTakeoffs();
+
+    /**
+     * Returns the number of landing attempts that failed as there was no suitable gate.
+     *
+     * @return failed landings
+     */
+    long getFailedLandingsNoGate();
+
+    /**
+     * Returns the mean number of ticks landed aircraft waited in the landing queue.
+     *
+     * @return mean landing queue wait, in ticks
+     */
+    double getLandingWaitMeanTicks();
+
+    /**
+     * Returns the 99th percentile of the number of ticks landed aircraft waited in the
+     * landing queue.
+     *
+     * @return 99th percentile landing queue wait, in ticks
+     */
+    long getLandingWaitP99Ticks();
+
+    /**
+     * Returns the mean number of ticks aircraft that took off waited in the takeoff queue.
+     *
+     * @return mean takeoff queue wait, in ticks
+     */
+    double getTakeoffWaitMeanTicks();
+
+    /**
+     * Returns the 99th percentile of the number of ticks aircraft that took off waited
+     * in the takeoff queue.
+     *
+     * @return 99th percentile takeoff queue wait, in ticks
+     */
+    long getTakeoffWaitP99Ticks();
+
+    /**
+     * Returns the number of aircraft in the landing queue at the end of the last tick.
+     *
+     * @return landing queue depth
+     */
+    int getLandingQueueDepth();
+
+    /**
+     * Returns the number of aircraft in the takeoff queue at the end of the last tick.
+     *
+     * @return takeoff queue depth
+     */
+    int getTakeoffQueueDepth();
+
+    /**
+     * Returns the number of aircraft loading at gates at the end of the last tick.
+     *
+     * @return number of loading aircraft
+     */
+    int getLoadingCount();
+
+    /**
+     * Returns the number of gates in the airport at the end of the last tick.
+     *
+     * @return number of gates
+     */
+    int getNumGates();
+
+    /**
+     * Returns the names of the aircraft types that occupied gates are counted by.
+     *
+     * @return aircraft type names, in {@link towersim.aircraft.AircraftType} order
+     */
+    String[] getAircraftTypes();
+
+    /**
+     * Returns the number of gates occupied by each type of aircraft at the end of the last tick.
+     *
+     * @return occupied gates per aircraft type
+     */
+    int[] getOccupiedGatesByType();
+
+    /**
+     * Returns the latency histogram bucket counts of the given phase.
+     * <p>
+     * See {@link LatencyHistogram} for the bucket boundaries.
+     *
+     * @param phase name of the phase, as returned by {@link #getPhases()}
+     * @return bucket counts of the phase
+     * @throws IllegalArgumentException if phase is not a valid phase name
+     */
+    long[] histogram(String phase);
+
+    /**
+     * Clears all recorded latencies and counters.
+     */
+    void reset();
+}
@@ -0,0 +1,26 @@
+package towersim.monitoring;
+
+/**
+ * Represents the phases of a single control tower tick whose latency is measured.
+ */
+public enum TickPhase {
+    /**
+     * Calling tick() on every aircraft and moving AWAY/WAIT aircraft to their next task.
+     */
+    AIRCRAFT_TICK,
+
+    /**
+     * Processing loading aircraft via loadAircraft().
+     */
+    LOAD_AIRCRAFT,
+
+    /**
+     * Landing or taking off aircraft via tryLandAircraft() and tryTakeOffAircraft().
+     */
+    RUNWAY,
+
+    /**
+     * Placing all aircraft in their appropriate queues via placeAllAircraftInQueues().
+     */
+    PLACE_IN_QUEUES
+}
@@ -0,0 +1,172 @@
+package towersim.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size histogram of the number of ticks aircraft wait, using one bucket per tick.
+ * <p>
+ * Bucket {@code i} counts waits of exactly {@code i} ticks, up to {@link #NUM_BUCKETS} - 2
+ * ticks; the last bucket counts all longer waits. Queue waits are usually a few ticks long, so
+ * unlike a {@link LatencyHistogram} their percentiles are exact rather than rounded up to a
+ * power of two. Recording a wait never allocates, so it is cheap enough to do on every tick.
+ * Values may be recorded by one thread while another thread reads them.
+ */
+public class WaitHistogram {
+
+    /**
+     * Number of buckets, one per wait of 0 to {@code NUM_BUCKETS - 2} ticks and one for all
+     * longer waits.
+     */
+    public static final int NUM_BUCKETS = 1025;
+
+    /**
+     * Number of waits recorded in each bucket.
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Number of waits recorded.
+     */
+    private final AtomicLong count;
+
+    /**
+     * Sum of all waits recorded, in ticks.
+     */
+    private final AtomicLong totalTicks;
+
+    /**
+     * Longest wait recorded, in ticks.
+     */
+    private final AtomicLong maxTicks;
+
+    /**
+     * Creates a new, empty histogram.
+     */
+    public WaitHistogram() {
+        this.buckets = new AtomicLongArray(NUM_BUCKETS);
+        this.count = new AtomicLong();
+        this.totalTicks = new AtomicLong();
+        this.maxTicks = new AtomicLong();
+    }
+
+    /**
+     * Records a single wait.
+     * <p>
+     * Negative waits are recorded as zero.
+     *
+     * @param ticks wait to record, in ticks
+     */
+    public void record(long ticks) {
+        long wait = Math.max(ticks, 0);
+        this.buckets.incrementAndGet((int) Math.min(wait, NUM_BUCKETS - 1));
+        this.count.incrementAndGet();
+        this.totalTicks.addAndGet(wait);
+        if (wait > this.maxTicks.get()) {
+            this.maxTicks.accumulateAndGet(wait, Math::max);
+        }
+    }
+
+    /**
+     * Adds all waits recorded by the given histogram to this histogram, as if each had been
+     * recorded here. The other histogram is not changed.
+     *
+     * @param other histogram whose waits are added
+     */
+    public void add(WaitHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            long bucketCount = other.buckets.get(i);
+            if (bucketCount != 0) {
+                this.buckets.addAndGet(i, bucketCount);
+            }
+        }
+        this.count.addAndGet(other.count.get());
+        this.totalTicks.addAndGet(other.totalTicks.get());
+        this.maxTicks.accumulateAndGet(other.maxTicks.get(), Math::max);
+    }
+
+    /**
+     * Returns the number of waits recorded.
+     *
+     * @return number of waits recorded
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Returns the mean of all waits recorded, in ticks, or 0 if none were recorded.
+     *
+     * @return mean wait in ticks
+     */
+    public double getMeanTicks() {
+        long recorded = this.count.get();
+        return recorded == 0 ? 0 : (double) this.totalTicks.get() / recorded;
+    }
+
+    /**
+     * Returns the longest wait recorded, in ticks.
+     *
+     * @return maximum wait in ticks
+     */
+    public long getMaxTicks() {
+        return this.maxTicks.get();
+    }
+
+    /**
+     * Returns the given percentile of recorded waits, in ticks.
+     * <p>
+     * The value returned is exact unless the percentile falls in the last bucket, in which case
+     * the longest wait recorded is returned. If no waits were recorded, 0 is returned.
+     *
+     * @param percentile percentile to find, 0 to 100
+     * @return wait at the given percentile, in ticks
+     * @throws IllegalArgumentException if percentile &lt; 0 or percentile &gt; 100
+     */
+    public long getPercentileTicks(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            total += this.buckets.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS - 1; ++i) {
+            seen += this.buckets.get(i);
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return this.maxTicks.get();
+    }
+
+    /**
+     * Returns a copy of the number of waits recorded in each bucket.
+     *
+     * @return bucket counts, indexed by bucket
+     */
+    public long[] getBucketCounts() {
+        long[] snapshot = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            snapshot[i] = this.buckets.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clears all recorded waits.
+     */
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            this.buckets.set(i, 0);
+        }
+        this.count.set(0);
+        this.totalTicks.set(0);
+        this.maxTicks.set(0);
+    }
+}
@@ -0,0 +1,124 @@
+package towersim.planning;
+
+import towersim.aircraft.AircraftCharacteristics;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic arrivals added to the aircraft of a base save for a capacity planning run.
+ * <p>
+ * A mix consists of a number of aircraft and a relative weight for each kind of aircraft. Each
+ * arriving aircraft is of a kind chosen at random in proportion to the weights, so a mix with
+ * weights {@code AIRBUS_A320=3, BOEING_747_8F=1} adds three A320s for every 747 on average.
+ */
+public final class ArrivalMix {
+
+    /** Number of aircraft added */
+    private final int numAircraft;
+
+    /** Relative weight of each kind of aircraft, indexed by characteristics ordinal */
+    private final int[] weights;
+
+    /** Sum of all weights */
+    private final int totalWeight;
+
+    /**
+     * Creates a new arrival mix of the given number of aircraft.
+     * <p>
+     * Kinds of aircraft missing from the given weights have a weight of zero and never arrive.
+     *
+     * @param numAircraft number of aircraft added
+     * @param weights     relative weight of each kind of aircraft
+     * @throws IllegalArgumentException if numAircraft &lt; 0, or any weight is negative, or
+     *                                  aircraft are added but every weight is zero
+     */
+    public ArrivalMix(int numAircraft, Map<AircraftCharacteristics, Integer> weights) {
+        if (numAircraft < 0) {
+            throw new IllegalArgumentException("Number of aircraft must not be negative");
+        }
+        this.numAircraft = numAircraft;
+        this.weights = new int[AircraftCharacteristics.values().length];
+        int total = 0;
+        for (Map.Entry<AircraftCharacteristics, Integer> weight : weights.entrySet()) {
+            if (weight.getValue() < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            this.weights[weight.getKey().ordinal()] = weight.getValue();
+            total += weight.getValue();
+        }
+        if (numAircraft > 0 && total == 0) {
+            throw new IllegalArgumentException("At least one kind of aircraft must have a"
+                    + " positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Returns a mix that adds no aircraft, so runs use only the aircraft of the base save.
+     *
+     * @return empty arrival mix
+     */
+    public static ArrivalMix none() {
+        return new ArrivalMix(0, Map.of());
+    }
+
+    /**
+     * Returns the number of aircraft added.
+     *
+     * @return number of arriving aircraft
+     */
+    public int getNumAircraft() {
+        return this.numAircraft;
+    }
+
+    /**
+     * Returns the relative weight of the given kind of aircraft.
+     *
+     * @param characteristics kind of aircraft
+     * @return weight, or zero if the kind never arrives
+     */
+    public int getWeight(AircraftCharacteristics characteristics) {
+        return this.weights[characteristics.ordinal()];
+    }
+
+    /**
+     * Chooses the kind of an arriving aircraft at random, in proportion to the weights.
+     *
+     * @param random source of randomness
+     * @return kind of aircraft
+     */
+    AircraftCharacteristics choose(SplittableRandom random) {
+        int remaining = random.nextInt(this.totalWeight);
+        for (AircraftCharacteristics characteristics : AircraftCharacteristics.values()) {
+            remaining -= this.weights[characteristics.ordinal()];
+            if (remaining < 0) {
+                return characteristics;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    /**
+     * Returns the human-readable string representation of this mix.
+     * <p>
+     * The format of the string to return is "+numAircraft name:weight name:weight ...", listing
+     * kinds with a positive weight, or "none" if no aircraft are added.
+     *
+     * @return string representation of this mix
+     */
+    @Override
+    public String toString() {
+        if (this.numAircraft == 0) {
+            return "none";
+        }
+        StringBuilder builder = new StringBuilder("+").append(this.numAircraft);
+        for (AircraftCharacteristics characteristics : AircraftCharacteristics.values()) {
+            if (this.weights[characteristics.ordinal()] > 0) {
+                builder.append(' ').append(characteristics).append(':')
+                        .append(this.weights[characteristics.ordinal()]);
+            }
+        }
+        return builder.toString();
+    }
+}
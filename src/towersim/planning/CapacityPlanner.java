@@ -0,0 +1,439 @@
+package towersim.planning;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.benchmark.SyntheticAircraft;
+import towersim.control.ControlTower;
+import towersim.control.ControlTowerInitialiser;
+import towersim.control.LandingQueue;
+import towersim.control.RunwayMode;
+import towersim.control.TakeoffQueue;
+import towersim.control.TowerListener;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.monitoring.WaitHistogram;
+import towersim.util.MalformedSaveException;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+import towersim.util.Seeds;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sizes an airport by simulating many randomised variants of a base save in parallel.
+ * <p>
+ * For each {@link CapacityScenario} of a {@link ParameterSpace}, a number of independent runs
+ * are made. Each run loads a fresh control tower from the base save and then varies it:
+ * <ul>
+ *     <li>the airport is given the scenario's number of terminals. The base save's terminals
+ *     are always kept, since aircraft may be parked at them, and extra terminals copy them in
+ *     turn, with the same number of empty gates. If the base save has no terminals, extra
+ *     terminals are airplane terminals with {@link Terminal#MAX_NUM_GATES} gates;</li>
+ *     <li>the aircraft of the scenario's {@link ArrivalMix} are added, created by
+ *     {@link SyntheticAircraft}. Each spends a random number of ticks away before its first
+ *     landing, so some arrive with critical fuel, and then waits and loads at a gate before
+ *     taking off again;</li>
+ *     <li>on each tick, with the scenario's emergency rate as probability, an emergency is
+ *     declared at a random terminal and cleared {@link #EMERGENCY_TICKS} ticks later.</li>
+ * </ul>
+ * Every run has its own {@link SplittableRandom}, seeded from the planner's seed and the run's
+ * index, so results are reproducible and do not depend on the number of threads used. Runs are
+ * shared between worker threads, each of which aggregates the runs it makes into its own
+ * {@link ScenarioResult}s; these are merged once all runs are complete. Memory used therefore
+ * grows with the number of scenarios and threads, but not with the number of runs.
+ */
+public class CapacityPlanner {
+
+    /** Number of ticks a terminal emergency lasts */
+    public static final int EMERGENCY_TICKS = 10;
+
+    /** Tick file contents of the base save */
+    private final String tick;
+
+    /** Aircraft file contents of the base save */
+    private final String aircraft;
+
+    /** Queues file contents of the base save */
+    private final String queues;
+
+    /** Terminals with gates file contents of the base save */
+    private final String terminalsWithGates;
+
+    /** Number of terminals in the base save */
+    private final int numBaseTerminals;
+
+    /**
+     * Creates a new capacity planner for the base save read from the given readers.
+     * <p>
+     * The readers are read in full, and the save is checked by loading it once, so a malformed
+     * save is reported here rather than during a run.
+     *
+     * @param tick               reader from which to load the number of ticks elapsed
+     * @param aircraft           reader from which to load the list of aircraft
+     * @param queues             reader from which to load the aircraft queues and map of
+     *                           loading aircraft
+     * @param terminalsWithGates reader from which to load the terminals and their gates
+     * @throws MalformedSaveException if the base save is invalid
+     * @throws IOException            if an IOException is encountered when reading
+     * @see ControlTowerInitialiser#createControlTower(Reader, Reader, Reader, Reader)
+     */
+    public CapacityPlanner(Reader tick, Reader aircraft, Reader queues, Reader terminalsWithGates)
+            throws MalformedSaveException, IOException {
+        this.tick = readFully(tick);
+        this.aircraft = readFully(aircraft);
+        this.queues = readFully(queues);
+        this.terminalsWithGates = readFully(terminalsWithGates);
+        this.numBaseTerminals = ControlTowerInitialiser.createControlTower(
+                new StringReader(this.tick), new StringReader(this.aircraft),
+                new StringReader(this.queues), new StringReader(this.terminalsWithGates))
+                .getNumTerminals();
+    }
+
+    /**
+     * Returns the number of terminals in the base save.
+     *
+     * @return number of base terminals
+     */
+    public int getNumBaseTerminals() {
+        return this.numBaseTerminals;
+    }
+
+    /**
+     * Makes the given number of runs for every scenario of the given parameter space, spread
+     * over the given number of threads, and returns the aggregated results.
+     *
+     * @param space           scenarios to explore
+     * @param runsPerScenario number of runs made for each scenario
+     * @param ticksPerRun     number of ticks simulated by each run
+     * @param seed            seed from which each run's random seed is derived
+     * @param threads         number of worker threads
+     * @return results, one for each scenario in the order given by
+     * {@link ParameterSpace#getScenarios()}
+     * @throws IllegalArgumentException if runsPerScenario &lt; 0, ticksPerRun &lt; 0 or
+     *                                  threads &lt; 1, or if any scenario has fewer terminals
+     *                                  than the base save
+     * @throws InterruptedException     if interrupted while waiting for the runs to complete
+     */
+    public List<ScenarioResult> run(ParameterSpace space, int runsPerScenario, long ticksPerRun,
+            long seed, int threads) throws InterruptedException {
+        if (runsPerScenario < 0 || ticksPerRun < 0 || threads < 1) {
+            throw new IllegalArgumentException("Runs and ticks must not be negative and at least"
+                    + " one thread must be used");
+        }
+        List<CapacityScenario> scenarios = space.getScenarios();
+        for (CapacityScenario scenario : scenarios) {
+            if (scenario.getNumTerminals() < this.numBaseTerminals) {
+                throw new IllegalArgumentException("Scenarios must have at least as many"
+                        + " terminals as the base save");
+            }
+        }
+        long totalRuns = (long) scenarios.size() * runsPerScenario;
+        AtomicLong nextRun = new AtomicLong();
+
+        List<Callable<ScenarioResult[]>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; ++i) {
+            workers.add(() -> {
+                ScenarioResult[] results = newResults(scenarios);
+                long run;
+                while ((run = nextRun.getAndIncrement()) < totalRuns) {
+                    int scenario = (int) (run / runsPerScenario);
+                    simulate(scenarios.get(scenario), ticksPerRun, Seeds.mix(seed, run),
+                            results[scenario]);
+                }
+                return results;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ScenarioResult[] merged = newResults(scenarios);
+            for (Future<ScenarioResult[]> worker : executor.invokeAll(workers)) {
+                ScenarioResult[] results = getResults(worker);
+                for (int i = 0; i < merged.length; ++i) {
+                    merged[i].merge(results[i]);
+                }
+            }
+            return List.of(merged);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /* Creates an empty result for each of the given scenarios */
+    private static ScenarioResult[] newResults(List<CapacityScenario> scenarios) {
+        ScenarioResult[] results = new ScenarioResult[scenarios.size()];
+        for (int i = 0; i < results.length; ++i) {
+            results[i] = new ScenarioResult(scenarios.get(i));
+        }
+        return results;
+    }
+
+    /* Returns the results of a completed worker, rethrowing anything it threw */
+    private static ScenarioResult[] getResults(Future<ScenarioResult[]> worker)
+            throws InterruptedException {
+        try {
+            return worker.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /* Makes a single run of the given scenario and adds its outcome to the given result */
+    private void simulate(CapacityScenario scenario, long ticks, long seed,
+            ScenarioResult result) {
+        SplittableRandom random = new SplittableRandom(seed);
+        ControlTower tower = createControlTower(scenario, random);
+        RunProbe probe = new RunProbe(tower);
+        tower.addListener(probe);
+        int[] emergencyTicksLeft = new int[tower.getNumTerminals()];
+
+        for (long i = 0; i < ticks; ++i) {
+            updateEmergencies(tower, scenario.getEmergencyRate(), emergencyTicksLeft, random);
+            tower.tick();
+        }
+        result.addRun(ticks, probe.occupiedGateTicks, probe.gateTicks, probe.fuelEmergencies,
+                tower.getMetrics());
+    }
+
+    /*
+     * Clears terminal emergencies that have run their course, then declares a new one at a
+     * random terminal not already in emergency with the given probability
+     */
+    private static void updateEmergencies(ControlTower tower, double rate,
+            int[] emergencyTicksLeft, SplittableRandom random) {
+        for (int i = 0; i < emergencyTicksLeft.length; ++i) {
+            if (emergencyTicksLeft[i] > 0 && --emergencyTicksLeft[i] == 0) {
+                tower.getTerminal(i).clearEmergency();
+            }
+        }
+        if (emergencyTicksLeft.length > 0 && random.nextDouble() < rate) {
+            int index = random.nextInt(emergencyTicksLeft.length);
+            Terminal terminal = tower.getTerminal(index);
+            if (!terminal.hasEmergency()) {
+                terminal.declareEmergency();
+                emergencyTicksLeft[index] = EMERGENCY_TICKS;
+            }
+        }
+    }
+
+    /* Loads a fresh control tower from the base save and varies it for the given scenario */
+    private ControlTower createControlTower(CapacityScenario scenario, SplittableRandom random) {
+        ControlTower tower;
+        try {
+            BufferedReader tickReader = new BufferedReader(new StringReader(this.tick));
+            long ticksElapsed = ControlTowerInitialiser.loadTick(tickReader);
+            List<RunwayMode> runways = ControlTowerInitialiser.loadRunways(tickReader);
+            List<Aircraft> loadedAircraft = ControlTowerInitialiser.loadAircraft(
+                    new StringReader(this.aircraft));
+            List<Terminal> terminals = ControlTowerInitialiser.loadTerminalsWithGates(
+                    new StringReader(this.terminalsWithGates), loadedAircraft);
+            TakeoffQueue takeoffQueue = new TakeoffQueue();
+            LandingQueue landingQueue = new LandingQueue();
+            Map<Aircraft, Integer> loadingAircraft = new LinkedHashMap<>();
+            ControlTowerInitialiser.loadQueues(new StringReader(this.queues), loadedAircraft,
+                    takeoffQueue, landingQueue, loadingAircraft);
+            tower = new ControlTower(ticksElapsed, loadedAircraft, landingQueue, takeoffQueue,
+                    loadingAircraft);
+            tower.setRunways(runways);
+            addTerminals(tower, terminals, scenario.getNumTerminals());
+        } catch (MalformedSaveException e) {
+            throw new IllegalStateException("Base save was valid when the planner was created",
+                    e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ArrivalMix arrivalMix = scenario.getArrivalMix();
+        for (int i = 0; i < arrivalMix.getNumAircraft(); ++i) {
+            try {
+                tower.addAircraft(SyntheticAircraft.create("MC" + i,
+                        arrivalMix.choose(random), random));
+            } catch (NoSuitableGateException e) {
+                // not possible, arriving aircraft start away from the airport
+                throw new IllegalStateException(e);
+            }
+        }
+        return tower;
+    }
+
+    /*
+     * Adds the base save's terminals to the tower, then copies of them in turn until it has the
+     * given number of terminals
+     */
+    private static void addTerminals(ControlTower tower, List<Terminal> terminals,
+            int numTerminals) {
+        int terminalNumber = 0;
+        int gateNumber = 0;
+        for (Terminal terminal : terminals) {
+            terminalNumber = Math.max(terminalNumber, terminal.getTerminalNumber());
+            for (Gate gate : terminal.getGates()) {
+                gateNumber = Math.max(gateNumber, gate.getGateNumber());
+            }
+        }
+        for (Terminal terminal : terminals) {
+            tower.addTerminal(terminal);
+        }
+        for (int i = terminals.size(); i < numTerminals; ++i) {
+            Terminal template = terminals.isEmpty() ? null : terminals.get(i % terminals.size());
+            Terminal copy;
+            int numGates;
+            if (template == null) {
+                copy = new AirplaneTerminal(++terminalNumber);
+                numGates = Terminal.MAX_NUM_GATES;
+            } else {
+                copy = template instanceof HelicopterTerminal
+                        ? new HelicopterTerminal(++terminalNumber, template.getMaxGates())
+                        : new AirplaneTerminal(++terminalNumber, template.getMaxGates());
+                numGates = template.getNumGates();
+            }
+            for (int j = 0; j < numGates; ++j) {
+                try {
+                    copy.addGate(new Gate(++gateNumber));
+                } catch (NoSpaceException e) {
+                    // not possible, the copy has room for as many gates as the template
+                    throw new IllegalStateException(e);
+                }
+            }
+            tower.addTerminal(copy);
+        }
+    }
+
+    /* Reads everything from the given reader */
+    private static String readFully(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+
+    /* Counts the gate occupancy and fuel emergencies of a single run */
+    private static class RunProbe implements TowerListener {
+
+        /** Control tower being run */
+        private final ControlTower tower;
+
+        /** Sum over every tick of the number of occupied gates */
+        private long occupiedGateTicks;
+
+        /** Sum over every tick of the number of gates */
+        private long gateTicks;
+
+        /** Number of aircraft queued to land with critical fuel */
+        private long fuelEmergencies;
+
+        private RunProbe(ControlTower tower) {
+            this.tower = tower;
+        }
+
+        @Override
+        public void queuedForLanding(Aircraft aircraft) {
+            if (aircraft.getFuelPercentRemaining() <= LandingQueue.CRITICAL_FUEL_PERCENT) {
+                this.fuelEmergencies++;
+            }
+        }
+
+        @Override
+        public void tickCompleted(long ticksElapsed) {
+            this.occupiedGateTicks += this.tower.getNumOccupiedGates();
+            this.gateTicks += this.tower.getNumGates();
+        }
+    }
+
+    /**
+     * Explores a default parameter space around the given base save and prints a table of
+     * results.
+     * <p>
+     * The arrival mixes explored add no aircraft, a passenger-heavy mix and a freight-heavy mix;
+     * the emergency rates are 0, 0.02 and 0.1 per tick; and the terminal counts are the base
+     * save's and one and two more.
+     * <p>
+     * Usage: {@code tick_file aircraft_file queues_file terminalsWithGates_file [runs]
+     * [ticks] [arrivals] [threads]}, where {@code runs} is the number of runs per scenario and
+     * {@code arrivals} the number of aircraft added by each non-empty mix. By default all
+     * available processors are used.
+     *
+     * @param args command line arguments
+     * @throws MalformedSaveException if the base save is invalid
+     * @throws IOException            if an IOException is encountered when reading the save
+     * @throws InterruptedException   if interrupted while waiting for the runs to complete
+     */
+    public static void main(String[] args) throws MalformedSaveException, IOException,
+            InterruptedException {
+        if (args.length < 4) {
+            System.err.println("Usage: tick_file aircraft_file queues_file"
+                    + " terminalsWithGates_file [runs] [ticks] [arrivals] [threads]");
+            System.exit(1);
+        }
+        final int runs = args.length > 4 ? Integer.parseInt(args[4]) : 200;
+        final long ticks = args.length > 5 ? Long.parseLong(args[5]) : 2000;
+        final int arrivals = args.length > 6 ? Integer.parseInt(args[6]) : 40;
+        final int threads = args.length > 7 ? Integer.parseInt(args[7])
+                : Runtime.getRuntime().availableProcessors();
+
+        CapacityPlanner planner;
+        try (Reader tick = new FileReader(args[0]);
+             Reader aircraft = new FileReader(args[1]);
+             Reader queues = new FileReader(args[2]);
+             Reader terminalsWithGates = new FileReader(args[3])) {
+            planner = new CapacityPlanner(tick, aircraft, queues, terminalsWithGates);
+        }
+        int baseTerminals = planner.getNumBaseTerminals();
+        ParameterSpace space = new ParameterSpace(
+                List.of(ArrivalMix.none(),
+                        new ArrivalMix(arrivals, Map.of(AircraftCharacteristics.AIRBUS_A320, 3,
+                                AircraftCharacteristics.BOEING_787, 1,
+                                AircraftCharacteristics.FOKKER_100, 2)),
+                        new ArrivalMix(arrivals, Map.of(AircraftCharacteristics.AIRBUS_A320, 1,
+                                AircraftCharacteristics.BOEING_747_8F, 1))),
+                List.of(0.0, 0.02, 0.1),
+                List.of(baseTerminals, baseTerminals + 1, baseTerminals + 2));
+
+        long start = System.nanoTime();
+        List<ScenarioResult> results = planner.run(space, runs, ticks, 1, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d scenarios x %d runs x %d ticks on %d threads in %.1f s%n",
+                space.getNumScenarios(), runs, ticks, threads, seconds);
+        System.out.printf("%-44s %6s %5s %6s %6s %6s %7s %7s %8s %8s %8s %8s %8s%n",
+                "arrivals", "emerg", "terms", "util %", "min %", "max %", "mvt/t", "ceiling",
+                "land avg", "land p99", "t/o avg", "t/o p99", "fuel/run");
+        for (ScenarioResult result : results) {
+            CapacityScenario scenario = result.getScenario();
+            WaitHistogram landingWait = result.getLandingWait();
+            WaitHistogram takeoffWait = result.getTakeoffWait();
+            System.out.printf("%-44s %6.3f %5d %6.1f %6.1f %6.1f %7.3f %7.3f %8.1f %8d %8.1f %8d"
+                            + " %8.2f%n",
+                    scenario.getArrivalMix(), scenario.getEmergencyRate(),
+                    scenario.getNumTerminals(), 100 * result.getGateUtilisation(),
+                    100 * result.getMinGateUtilisation(), 100 * result.getMaxGateUtilisation(),
+                    result.getMeanThroughput(), result.getThroughputCeiling(),
+                    landingWait.getMeanTicks(), landingWait.getPercentileTicks(99),
+                    takeoffWait.getMeanTicks(), takeoffWait.getPercentileTicks(99),
+                    result.getMeanFuelEmergencies());
+        }
+    }
+}
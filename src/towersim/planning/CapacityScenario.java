@@ -0,0 +1,81 @@
+package towersim.planning;
+
+/**
+ * One point in a capacity planning {@link ParameterSpace}: the variant of the base save that a
+ * number of randomised runs are made for.
+ */
+public final class CapacityScenario {
+
+    /** Aircraft added to those of the base save */
+    private final ArrivalMix arrivalMix;
+
+    /** Probability that a terminal emergency is declared on each tick */
+    private final double emergencyRate;
+
+    /** Number of terminals at the airport */
+    private final int numTerminals;
+
+    /**
+     * Creates a new scenario.
+     *
+     * @param arrivalMix    aircraft added to those of the base save
+     * @param emergencyRate probability, from 0 to 1, that an emergency is declared at one of the
+     *                      terminals on each tick
+     * @param numTerminals  number of terminals at the airport
+     * @throws IllegalArgumentException if emergencyRate &lt; 0 or emergencyRate &gt; 1, or
+     *                                  numTerminals &lt; 0
+     */
+    public CapacityScenario(ArrivalMix arrivalMix, double emergencyRate, int numTerminals) {
+        if (!(emergencyRate >= 0 && emergencyRate <= 1)) {
+            throw new IllegalArgumentException("Emergency rate must be between 0 and 1");
+        }
+        if (numTerminals < 0) {
+            throw new IllegalArgumentException("Number of terminals must not be negative");
+        }
+        this.arrivalMix = arrivalMix;
+        this.emergencyRate = emergencyRate;
+        this.numTerminals = numTerminals;
+    }
+
+    /**
+     * Returns the aircraft added to those of the base save.
+     *
+     * @return arrival mix
+     */
+    public ArrivalMix getArrivalMix() {
+        return this.arrivalMix;
+    }
+
+    /**
+     * Returns the probability that an emergency is declared at one of the terminals on each
+     * tick.
+     *
+     * @return emergency rate, from 0 to 1
+     */
+    public double getEmergencyRate() {
+        return this.emergencyRate;
+    }
+
+    /**
+     * Returns the number of terminals at the airport.
+     *
+     * @return number of terminals
+     */
+    public int getNumTerminals() {
+        return this.numTerminals;
+    }
+
+    /**
+     * Returns the human-readable string representation of this scenario.
+     * <p>
+     * The format of the string to return is
+     * "arrivalMix, emergencyRate emergencies/tick, numTerminals terminals".
+     *
+     * @return string representation of this scenario
+     */
+    @Override
+    public String toString() {
+        return String.format("%s, %.3f emergencies/tick, %d terminals", this.arrivalMix,
+                this.emergencyRate, this.numTerminals);
+    }
+}
@@ -0,0 +1,68 @@
+package towersim.planning;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of scenarios explored by a {@link CapacityPlanner}: every combination of the given arrival
+ * mixes, emergency rates and terminal counts.
+ */
+public final class ParameterSpace {
+
+    /** Arrival mixes explored */
+    private final List<ArrivalMix> arrivalMixes;
+
+    /** Emergency rates explored */
+    private final List<Double> emergencyRates;
+
+    /** Terminal counts explored */
+    private final List<Integer> terminalCounts;
+
+    /**
+     * Creates a new parameter space.
+     *
+     * @param arrivalMixes   arrival mixes to explore
+     * @param emergencyRates emergency rates to explore, each from 0 to 1
+     * @param terminalCounts numbers of terminals to explore
+     * @throws IllegalArgumentException if any of the lists is empty
+     */
+    public ParameterSpace(List<ArrivalMix> arrivalMixes, List<Double> emergencyRates,
+            List<Integer> terminalCounts) {
+        if (arrivalMixes.isEmpty() || emergencyRates.isEmpty() || terminalCounts.isEmpty()) {
+            throw new IllegalArgumentException("Every parameter must have at least one value");
+        }
+        this.arrivalMixes = List.copyOf(arrivalMixes);
+        this.emergencyRates = List.copyOf(emergencyRates);
+        this.terminalCounts = List.copyOf(terminalCounts);
+    }
+
+    /**
+     * Returns every scenario in this parameter space.
+     * <p>
+     * Scenarios are ordered by arrival mix, then emergency rate, then number of terminals, each
+     * in the order given to the constructor.
+     *
+     * @return scenarios, one for each combination of parameters
+     * @throws IllegalArgumentException if any combination is not a valid scenario
+     */
+    public List<CapacityScenario> getScenarios() {
+        List<CapacityScenario> scenarios = new ArrayList<>(getNumScenarios());
+        for (ArrivalMix arrivalMix : this.arrivalMixes) {
+            for (double emergencyRate : this.emergencyRates) {
+                for (int numTerminals : this.terminalCounts) {
+                    scenarios.add(new CapacityScenario(arrivalMix, emergencyRate, numTerminals));
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Returns the number of scenarios in this parameter space.
+     *
+     * @return number of combinations of parameters
+     */
+    public int getNumScenarios() {
+        return this.arrivalMixes.size() * this.emergencyRates.size() * this.terminalCounts.size();
+    }
+}
@@ -0,0 +1,240 @@
+package towersim.planning;
+
+import towersim.monitoring.TickMetrics;
+import towersim.monitoring.WaitHistogram;
+
+/**
+ * Aggregated results of the runs made for one {@link CapacityScenario}.
+ * <p>
+ * Results are accumulated as each run completes, into counters and fixed-size histograms, so a
+ * result takes the same amount of memory however many runs it aggregates. Every aggregate is a
+ * sum, minimum or maximum, so the result does not depend on the order runs complete in.
+ */
+public final class ScenarioResult {
+
+    /** Scenario the runs were made for */
+    private final CapacityScenario scenario;
+
+    /** Number of runs aggregated */
+    private long runs;
+
+    /** Number of ticks simulated over all runs */
+    private long ticks;
+
+    /** Sum over every tick of every run of the number of occupied gates */
+    private long occupiedGateTicks;
+
+    /** Sum over every tick of every run of the number of gates */
+    private long gateTicks;
+
+    /** Lowest fraction of gates occupied on average over a run */
+    private double minGateUtilisation;
+
+    /** Highest fraction of gates occupied on average over a run */
+    private double maxGateUtilisation;
+
+    /** Number of landings and takeoffs over all runs */
+    private long movements;
+
+    /** Highest number of landings and takeoffs per tick over a run */
+    private double throughputCeiling;
+
+    /** Number of landings refused for want of a gate over all runs */
+    private long failedLandings;
+
+    /** Number of aircraft queued to land with critical fuel over all runs */
+    private long fuelEmergencies;
+
+    /** Highest number of aircraft queued to land with critical fuel in a run */
+    private long maxFuelEmergencies;
+
+    /** Ticks aircraft spent in the landing queue, over all runs */
+    private final WaitHistogram landingWait;
+
+    /** Ticks aircraft spent in the takeoff queue, over all runs */
+    private final WaitHistogram takeoffWait;
+
+    /**
+     * Creates a new result aggregating no runs.
+     *
+     * @param scenario scenario the runs are made for
+     */
+    ScenarioResult(CapacityScenario scenario) {
+        this.scenario = scenario;
+        this.minGateUtilisation = Double.POSITIVE_INFINITY;
+        this.maxGateUtilisation = Double.NEGATIVE_INFINITY;
+        this.landingWait = new WaitHistogram();
+        this.takeoffWait = new WaitHistogram();
+    }
+
+    /**
+     * Adds the outcome of a single run.
+     *
+     * @param runTicks          number of ticks simulated
+     * @param occupiedGateTicks sum over every tick of the number of occupied gates
+     * @param gateTicks         sum over every tick of the number of gates
+     * @param fuelEmergencies   number of aircraft queued to land with critical fuel
+     * @param metrics           metrics recorded by the run's control tower
+     */
+    void addRun(long runTicks, long occupiedGateTicks, long gateTicks, long fuelEmergencies,
+            TickMetrics metrics) {
+        double utilisation = gateTicks == 0 ? 0 : (double) occupiedGateTicks / gateTicks;
+        long runMovements = metrics.getLandings() + metrics.getTakeoffs();
+        this.runs++;
+        this.ticks += runTicks;
+        this.occupiedGateTicks += occupiedGateTicks;
+        this.gateTicks += gateTicks;
+        this.minGateUtilisation = Math.min(this.minGateUtilisation, utilisation);
+        this.maxGateUtilisation = Math.max(this.maxGateUtilisation, utilisation);
+        this.movements += runMovements;
+        if (runTicks > 0) {
+            this.throughputCeiling = Math.max(this.throughputCeiling,
+                    (double) runMovements / runTicks);
+        }
+        this.failedLandings += metrics.getFailedLandingsNoGate();
+        this.fuelEmergencies += fuelEmergencies;
+        this.maxFuelEmergencies = Math.max(this.maxFuelEmergencies, fuelEmergencies);
+        this.landingWait.add(metrics.getLandingWait());
+        this.takeoffWait.add(metrics.getTakeoffWait());
+    }
+
+    /**
+     * Adds all runs aggregated by the given result, which must be for the same scenario.
+     *
+     * @param other result whose runs are added
+     */
+    void merge(ScenarioResult other) {
+        this.runs += other.runs;
+        this.ticks += other.ticks;
+        this.occupiedGateTicks += other.occupiedGateTicks;
+        this.gateTicks += other.gateTicks;
+        this.minGateUtilisation = Math.min(this.minGateUtilisation, other.minGateUtilisation);
+        this.maxGateUtilisation = Math.max(this.maxGateUtilisation, other.maxGateUtilisation);
+        this.movements += other.movements;
+        this.throughputCeiling = Math.max(this.throughputCeiling, other.throughputCeiling);
+        this.failedLandings += other.failedLandings;
+        this.fuelEmergencies += other.fuelEmergencies;
+        this.maxFuelEmergencies = Math.max(this.maxFuelEmergencies, other.maxFuelEmergencies);
+        this.landingWait.add(other.landingWait);
+        this.takeoffWait.add(other.takeoffWait);
+    }
+
+    /**
+     * Returns the scenario the runs were made for.
+     *
+     * @return scenario
+     */
+    public CapacityScenario getScenario() {
+        return this.scenario;
+    }
+
+    /**
+     * Returns the number of runs aggregated.
+     *
+     * @return number of runs
+     */
+    public long getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Returns the fraction of gates occupied, averaged over every tick of every run, or 0 if no
+     * gate existed.
+     *
+     * @return mean gate utilisation, from 0 to 1
+     */
+    public double getGateUtilisation() {
+        return this.gateTicks == 0 ? 0 : (double) this.occupiedGateTicks / this.gateTicks;
+    }
+
+    /**
+     * Returns the lowest mean gate utilisation of any single run, or 0 if no runs were made.
+     *
+     * @return lowest gate utilisation, from 0 to 1
+     */
+    public double getMinGateUtilisation() {
+        return this.runs == 0 ? 0 : this.minGateUtilisation;
+    }
+
+    /**
+     * Returns the highest mean gate utilisation of any single run, or 0 if no runs were made.
+     *
+     * @return highest gate utilisation, from 0 to 1
+     */
+    public double getMaxGateUtilisation() {
+        return this.runs == 0 ? 0 : this.maxGateUtilisation;
+    }
+
+    /**
+     * Returns the mean number of landings and takeoffs per tick over all runs.
+     *
+     * @return mean throughput, in movements per tick
+     */
+    public double getMeanThroughput() {
+        return this.ticks == 0 ? 0 : (double) this.movements / this.ticks;
+    }
+
+    /**
+     * Returns the highest number of landings and takeoffs per tick achieved by any run. When
+     * arrivals outstrip the airport, this is the most the runways and gates could sustain.
+     *
+     * @return throughput ceiling, in movements per tick
+     */
+    public double getThroughputCeiling() {
+        return this.throughputCeiling;
+    }
+
+    /**
+     * Returns the mean number of landings refused for want of a gate per run.
+     *
+     * @return mean failed landings per run
+     */
+    public double getMeanFailedLandings() {
+        return this.runs == 0 ? 0 : (double) this.failedLandings / this.runs;
+    }
+
+    /**
+     * Returns the number of aircraft queued to land with critical fuel over all runs.
+     *
+     * @return total fuel emergencies
+     */
+    public long getFuelEmergencies() {
+        return this.fuelEmergencies;
+    }
+
+    /**
+     * Returns the mean number of aircraft queued to land with critical fuel per run.
+     *
+     * @return mean fuel emergencies per run
+     */
+    public double getMeanFuelEmergencies() {
+        return this.runs == 0 ? 0 : (double) this.fuelEmergencies / this.runs;
+    }
+
+    /**
+     * Returns the highest number of aircraft queued to land with critical fuel in any run.
+     *
+     * @return most fuel emergencies in a run
+     */
+    public long getMaxFuelEmergencies() {
+        return this.maxFuelEmergencies;
+    }
+
+    /**
+     * Returns the distribution of ticks aircraft spent in the landing queue, over all runs.
+     *
+     * @return landing queue waits
+     */
+    public WaitHistogram getLandingWait() {
+        return this.landingWait;
+    }
+
+    /**
+     * Returns the distribution of ticks aircraft spent in the takeoff queue, over all runs.
+     *
+     * @return takeoff queue waits
+     */
+    public WaitHistogram getTakeoffWait() {
+        return this.takeoffWait;
+    }
+}
@@ -0,0 +1,242 @@
+package towersim.simulation;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+/**
+ * Immutable view of the state of an aircraft at the end of a simulation tick.
+ * <p>
+ * Snapshots are captured on the simulation thread and may be freely read from any other thread,
+ * such as the JavaFX application thread.
+ * <p>
+ * Each snapshot carries a {@link #getVersion() version}. When an aircraft is captured again with
+ * {@link #capture(Aircraft, AircraftSnapshot)} and nothing about it has changed, the previous
+ * snapshot is reused; otherwise the new snapshot's version is one higher. Consumers can therefore
+ * cache anything derived from a snapshot, keyed by aircraft ID and version.
+ */
+public class AircraftSnapshot {
+
+    /**
+     * ID of the aircraft, as returned by {@link Aircraft#getId()}.
+     */
+    private final int id;
+
+    /**
+     * Callsign of the aircraft.
+     */
+    private final String callsign;
+
+    /**
+     * Characteristics of the aircraft.
+     */
+    private final AircraftCharacteristics characteristics;
+
+    /**
+     * Whether the aircraft carries passengers (rather than freight).
+     */
+    private final boolean passenger;
+
+    /**
+     * Copy of the aircraft's task list, on the same current task.
+     */
+    private final TaskList taskList;
+
+    /**
+     * Percentage of fuel remaining.
+     */
+    private final int fuelPercentRemaining;
+
+    /**
+     * Occupancy level of the aircraft.
+     */
+    private final int occupancyLevel;
+
+    /**
+     * Whether the aircraft is in a state of emergency.
+     */
+    private final boolean emergency;
+
+    /**
+     * Number of times the captured state of the aircraft has changed.
+     */
+    private final long version;
+
+    /**
+     * Captures the current state of the given aircraft, as version 0.
+     *
+     * @param aircraft aircraft to capture
+     */
+    public AircraftSnapshot(Aircraft aircraft) {
+        this(aircraft, 0);
+    }
+
+    /**
+     * Captures the current state of the given aircraft with the given version.
+     */
+    private AircraftSnapshot(Aircraft aircraft, long version) {
+        this.version = version;
+        this.id = aircraft.getId();
+        this.callsign = aircraft.getCallsign();
+        this.characteristics = aircraft.getCharacteristics();
+        this.passenger = aircraft instanceof PassengerAircraft;
+        this.taskList = new TaskList(aircraft.getTaskList());
+        this.fuelPercentRemaining = aircraft.getFuelPercentRemaining();
+        this.occupancyLevel = aircraft.calculateOccupancyLevel();
+        this.emergency = aircraft.hasEmergency();
+    }
+
+    /**
+     * Returns a snapshot of the current state of the given aircraft.
+     * <p>
+     * If the given previous snapshot is of the same aircraft and its state has not changed
+     * since, the previous snapshot is returned. Otherwise a new snapshot is captured, with a
+     * version one higher than the previous snapshot's.
+     *
+     * @param aircraft aircraft to capture
+     * @param previous earlier snapshot of the aircraft; or null if none
+     * @return snapshot of the aircraft's current state
+     */
+    public static AircraftSnapshot capture(Aircraft aircraft, AircraftSnapshot previous) {
+        if (previous == null || previous.id != aircraft.getId()
+                || !previous.callsign.equals(aircraft.getCallsign())) {
+            return new AircraftSnapshot(aircraft);
+        }
+        if (previous.fuelPercentRemaining == aircraft.getFuelPercentRemaining()
+                && previous.occupancyLevel == aircraft.calculateOccupancyLevel()
+                && previous.emergency == aircraft.hasEmergency()
+                && previous.taskList.hasSameProgressAs(aircraft.getTaskList())) {
+            return previous;
+        }
+        return new AircraftSnapshot(aircraft, previous.version + 1);
+    }
+
+    /**
+     * Returns the version of this snapshot, which increases every time the captured state of
+     * the aircraft changes.
+     *
+     * @return snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ID of the aircraft.
+     *
+     * @return aircraft ID
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the callsign of the aircraft.
+     *
+     * @return aircraft callsign
+     */
+    public String getCallsign() {
+        return callsign;
+    }
+
+    /**
+     * Returns the characteristics of the aircraft.
+     *
+     * @return aircraft characteristics
+     */
+    public AircraftCharacteristics getCharacteristics() {
+        return characteristics;
+    }
+
+    /**
+     * Returns true if the aircraft is a passenger aircraft, or false if it carries freight.
+     *
+     * @return whether the aircraft carries passengers
+     */
+    public boolean isPassenger() {
+        return passenger;
+    }
+
+    /**
+     * Returns the simple class name of the aircraft, i.e. PassengerAircraft or FreightAircraft.
+     *
+     * @return cargo type of the aircraft
+     */
+    public String getCargoType() {
+        return passenger ? "PassengerAircraft" : "FreightAircraft";
+    }
+
+    /**
+     * Returns the aircraft's current task.
+     *
+     * @return current task
+     */
+    public Task getCurrentTask() {
+        return taskList.getCurrentTask();
+    }
+
+    /**
+     * Returns the type of the aircraft's current task.
+     *
+     * @return current task type
+     */
+    public TaskType getCurrentTaskType() {
+        return taskList.getCurrentTask().getType();
+    }
+
+    /**
+     * Returns the encoded representation of the aircraft's task list, starting with the
+     * current task (see {@link TaskList#encode()}).
+     *
+     * @return encoded task list
+     */
+    public String getEncodedTaskList() {
+        return taskList.encode();
+    }
+
+    /**
+     * Returns the percentage of fuel remaining, 0 to 100.
+     *
+     * @return percentage of fuel remaining
+     */
+    public int getFuelPercentRemaining() {
+        return fuelPercentRemaining;
+    }
+
+    /**
+     * Returns the occupancy level of the aircraft, 0 to 100.
+     *
+     * @return occupancy level
+     */
+    public int getOccupancyLevel() {
+        return occupancyLevel;
+    }
+
+    /**
+     * Returns whether the aircraft is in a state of emergency.
+     *
+     * @return true if in emergency
+     */
+    public boolean hasEmergency() {
+        return emergency;
+    }
+
+    /**
+     * Returns the human-readable string representation of this aircraft, in the same format as
+     * {@link Aircraft#toString()}.
+     *
+     * @return string representation of the aircraft
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %s %s %s%s",
+                this.characteristics.type,
+                this.callsign,
+                this.characteristics,
+                this.getCurrentTaskType(),
+                this.emergency ? " (EMERGENCY)" : "");
+    }
+}
@@ -0,0 +1,70 @@
+package towersim.simulation;
+
+import towersim.ground.Gate;
+
+/**
+ * Immutable view of a gate and the aircraft parked at it at the end of a simulation tick.
+ */
+public class GateSnapshot {
+
+    /**
+     * Gate number of the gate.
+     */
+    private final int gateNumber;
+
+    /**
+     * Aircraft parked at the gate, or null if the gate is empty.
+     */
+    private final AircraftSnapshot aircraftAtGate;
+
+    /**
+     * Creates a new gate snapshot.
+     *
+     * @param gateNumber     number of the gate
+     * @param aircraftAtGate aircraft parked at the gate; or null if empty
+     */
+    public GateSnapshot(int gateNumber, AircraftSnapshot aircraftAtGate) {
+        this.gateNumber = gateNumber;
+        this.aircraftAtGate = aircraftAtGate;
+    }
+
+    /**
+     * Returns the gate number.
+     *
+     * @return gate number
+     */
+    public int getGateNumber() {
+        return gateNumber;
+    }
+
+    /**
+     * Returns the aircraft parked at the gate, or null if the gate is empty.
+     *
+     * @return parked aircraft
+     */
+    public AircraftSnapshot getAircraftAtGate() {
+        return aircraftAtGate;
+    }
+
+    /**
+     * Returns true if an aircraft is parked at the gate.
+     *
+     * @return whether the gate is occupied
+     */
+    public boolean isOccupied() {
+        return aircraftAtGate != null;
+    }
+
+    /**
+     * Returns the human-readable string representation of this gate, in the same format as
+     * {@link Gate#toString()}.
+     *
+     * @return string representation of the gate
+     */
+    @Override
+    public String toString() {
+        return String.format("Gate %d [%s]",
+                this.gateNumber,
+                (aircraftAtGate == null ? "empty" : aircraftAtGate.getCallsign()));
+    }
+}
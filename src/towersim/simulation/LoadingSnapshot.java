@@ -0,0 +1,62 @@
+package towersim.simulation;
+
+/**
+ * Immutable view of an aircraft loading at a gate at the end of a simulation tick.
+ */
+public class LoadingSnapshot {
+
+    /**
+     * Aircraft that is loading.
+     */
+    private final AircraftSnapshot aircraft;
+
+    /**
+     * Number of the gate the aircraft is loading at, or -1 if it is not at a gate.
+     */
+    private final int gateNumber;
+
+    /**
+     * Number of ticks remaining until the aircraft has finished loading.
+     */
+    private final int ticksRemaining;
+
+    /**
+     * Creates a new loading snapshot.
+     *
+     * @param aircraft       aircraft that is loading
+     * @param gateNumber     number of the gate the aircraft is at; or -1 if none
+     * @param ticksRemaining ticks remaining until loading is finished
+     */
+    public LoadingSnapshot(AircraftSnapshot aircraft, int gateNumber, int ticksRemaining) {
+        this.aircraft = aircraft;
+        this.gateNumber = gateNumber;
+        this.ticksRemaining = ticksRemaining;
+    }
+
+    /**
+     * Returns the aircraft that is loading.
+     *
+     * @return loading aircraft
+     */
+    public AircraftSnapshot getAircraft() {
+        return aircraft;
+    }
+
+    /**
+     * Returns the number of the gate the aircraft is loading at, or -1 if it is not parked.
+     *
+     * @return gate number
+     */
+    public int getGateNumber() {
+        return gateNumber;
+    }
+
+    /**
+     * Returns the number of ticks remaining until the aircraft has finished loading.
+     *
+     * @return ticks remaining
+     */
+    public int getTicksRemaining() {
+        return ticksRemaining;
+    }
+}
@@ -0,0 +1,24 @@
+package towersim.simulation;
+
+import towersim.control.ControlTower;
+
+/**
+ * Action performed against the control tower on the simulation thread.
+ * <p>
+ * Commands are submitted to a {@link SimulationThread} from other threads (typically the user
+ * interface) and applied between ticks, so they never observe the tower mid-tick.
+ *
+ * @param <T> type of the result produced by the command
+ */
+@FunctionalInterface
+public interface SimulationCommand<T> {
+
+    /**
+     * Applies this command to the given control tower.
+     *
+     * @param tower control tower owned by the simulation thread
+     * @return result of the command; may be null
+     * @throws Exception if the command could not be applied
+     */
+    T apply(ControlTower tower) throws Exception;
+}
@@ -0,0 +1,461 @@
+package towersim.simulation;
+
+import towersim.aircraft.Aircraft;
+import towersim.control.ControlTower;
+import towersim.control.TowerListener;
+import towersim.ground.Gate;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a control tower simulation on a dedicated thread, decoupled from the user interface.
+ * <p>
+ * The simulation thread is the only thread that touches the control tower once started. Other
+ * threads interact with it in two ways:
+ * <ul>
+ *     <li>by submitting {@link SimulationCommand}s, which are applied between ticks;</li>
+ *     <li>by reading {@link TickSummary TickSummaries} from a {@link TickSummaryRing}, and the
+ *     history of recent ticks from a {@link TimeSeriesRecorder}, both of which are written
+ *     after every tick without allocating or blocking; and</li>
+ *     <li>by polling {@link TowerSnapshot}s. A new snapshot is only captured once the previous
+ *     one has been polled, so snapshots are produced at the rate they are consumed rather than
+ *     the rate the tower ticks.</li>
+ * </ul>
+ * The simulation starts paused. While unpaused, the tower is ticked once every
+ * {@link #setNanosPerTick(long) nanosPerTick} nanoseconds of unpaused time, with fixed-timestep
+ * semantics: a {@link TickScheduler} keeps any time left over after a tick, so simulated time
+ * does not drift behind real time, and ticks owed after a stall are caught up on in a batch,
+ * up to a cap per pass of the loop. {@link #getLagNanos()} reports how far behind real time
+ * the simulation is. A time between ticks of zero ticks the tower as fast as possible. Either
+ * way, commands are applied and snapshots published between batches lasting no more than a
+ * few milliseconds.
+ */
+public class SimulationThread {
+
+    /**
+     * Longest time the simulation thread sleeps before rechecking its state, in nanoseconds.
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Longest time spent ticking in one batch before applying commands and publishing a
+     * snapshot, in nanoseconds.
+     */
+    private static final long MAX_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /** Maximum number of ticks owed that are caught up on in one pass of the loop */
+    private static final int MAX_CATCH_UP_TICKS = 1000;
+
+    /** Number of slots in the tick summary ring buffer */
+    private static final int SUMMARY_CAPACITY = 64;
+
+    /** Number of ticks of history retained by the time series recorder */
+    private static final int TIME_SERIES_CAPACITY = 4096;
+
+    /** Number of terminals whose occupancy is recorded in the time series */
+    private static final int TIME_SERIES_TERMINALS = 16;
+
+    /** Control tower being simulated */
+    private final ControlTower tower;
+
+    /** Commands waiting to be applied on the simulation thread */
+    private final Queue<Runnable> commands;
+
+    /** Most recently published snapshot not yet polled, or null */
+    private final AtomicReference<TowerSnapshot> latest;
+
+    /** Summaries of the most recent ticks */
+    private final TickSummaryRing summaries;
+
+    /** History of the most recent ticks */
+    private final TimeSeriesRecorder timeSeries;
+
+    /** Most recently captured snapshot, whose unchanged aircraft snapshots are reused */
+    private TowerSnapshot lastCaptured;
+
+    /** Whether the tower has changed since the last snapshot was captured */
+    private boolean snapshotStale;
+
+    /** Decides how many ticks are owed; only accessed on the simulation thread */
+    private final TickScheduler scheduler;
+
+    /** How far the simulation was behind real time after the last pass of the loop */
+    private volatile long lagNanos;
+
+    /**
+     * Thread running the simulation loop; null if not started, or once {@link #stop()} has
+     * waited for it to finish
+     */
+    private volatile Thread thread;
+
+    /** Whether the simulation loop should keep running */
+    private volatile boolean running;
+
+    /** Whether the simulation is paused */
+    private volatile boolean paused;
+
+    /** Unpaused time required between ticks, in nanoseconds */
+    private volatile long nanosPerTick;
+
+    /** ID of the most recent aircraft to land; only accessed on the simulation thread */
+    private int lastLandedId = Aircraft.NO_ID;
+
+    /** ID of the most recent aircraft to take off; only accessed on the simulation thread */
+    private int lastTookOffId = Aircraft.NO_ID;
+
+    /** Number of landings since the simulation was created */
+    private long totalLanded;
+
+    /** Number of takeoffs since the simulation was created */
+    private long totalTookOff;
+
+    /** Time taken by the most recent call to {@link ControlTower#tick()}, in nanoseconds */
+    private volatile long lastTickNanos;
+
+    /**
+     * Creates a new, paused simulation of the given control tower.
+     * <p>
+     * An initial snapshot and summary of the tower are published immediately.
+     *
+     * @param tower         control tower to simulate
+     * @param nanosPerTick  unpaused time between ticks, in nanoseconds
+     */
+    public SimulationThread(ControlTower tower, long nanosPerTick) {
+        this.tower = tower;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.lastCaptured = TowerSnapshot.capture(tower);
+        this.latest = new AtomicReference<>(this.lastCaptured);
+        this.summaries = new TickSummaryRing(SUMMARY_CAPACITY);
+        this.timeSeries = new TimeSeriesRecorder(tower, TIME_SERIES_CAPACITY,
+                Math.max(TIME_SERIES_TERMINALS, tower.getNumTerminals()));
+        this.paused = true;
+        this.nanosPerTick = nanosPerTick;
+        // As fast as possible does not use the scheduler, which needs a positive interval
+        this.scheduler = new TickScheduler(Math.max(1, nanosPerTick), MAX_CATCH_UP_TICKS);
+
+        tower.addListener(new TowerListener() {
+            @Override
+            public void aircraftLanded(Aircraft aircraft, Gate gate) {
+                lastLandedId = aircraft.getId();
+                totalLanded++;
+            }
+
+            @Override
+            public void aircraftTookOff(Aircraft aircraft) {
+                lastTookOffId = aircraft.getId();
+                totalTookOff++;
+            }
+        });
+        tower.addListener(this.timeSeries);
+        publishSummary();
+    }
+
+    /**
+     * Starts the simulation thread. Has no effect if already started.
+     */
+    public synchronized void start() {
+        if (this.thread != null) {
+            return;
+        }
+        this.running = true;
+        this.thread = new Thread(this::run, "towersim-simulation");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for it to finish.
+     * <p>
+     * Commands still waiting to be applied, including any submitted while waiting, are applied
+     * on the calling thread once the simulation thread has finished.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread to finish
+     */
+    public synchronized void stop() throws InterruptedException {
+        if (this.thread == null) {
+            return;
+        }
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        this.thread.join();
+        this.thread = null;
+        applyCommands();
+    }
+
+    /**
+     * Returns whether the simulation thread is running.
+     *
+     * @return true if running; false otherwise
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Returns whether the simulation is paused.
+     *
+     * @return true if paused; false otherwise
+     */
+    public boolean isPaused() {
+        return this.paused;
+    }
+
+    /**
+     * Pauses or unpauses the simulation.
+     *
+     * @param paused true to pause; false to unpause
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        wake();
+    }
+
+    /**
+     * Sets the unpaused time required between ticks.
+     *
+     * @param nanosPerTick time between ticks, in nanoseconds; or 0 to tick as fast as possible
+     * @throws IllegalArgumentException if nanosPerTick is negative
+     */
+    public void setNanosPerTick(long nanosPerTick) {
+        if (nanosPerTick < 0) {
+            throw new IllegalArgumentException("Time between ticks cannot be negative");
+        }
+        this.nanosPerTick = nanosPerTick;
+        wake();
+    }
+
+    /**
+     * Submits a command to be applied to the control tower on the simulation thread.
+     * <p>
+     * If the simulation thread has not been started, or has been stopped, the command is applied
+     * immediately on the calling thread. While {@link #stop()} is waiting for the simulation
+     * thread to finish, the command is queued instead, and applied once the simulation thread
+     * has finished, so the tower is never touched by two threads at once.
+     *
+     * @param command command to apply
+     * @param <T>     type of the command's result
+     * @return future completed with the command's result, or exceptionally with the exception
+     * thrown by the command
+     */
+    public <T> CompletableFuture<T> submit(SimulationCommand<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        this.commands.add(() -> {
+            try {
+                future.complete(command.apply(this.tower));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        if (this.thread == null) {
+            applyCommandsWhileStopped();
+        } else {
+            wake();
+        }
+        return future;
+    }
+
+    /**
+     * Requests that the control tower be ticked once, regardless of whether the simulation is
+     * paused.
+     *
+     * @return future completed once the tick has been performed
+     */
+    public CompletableFuture<Void> requestTick() {
+        return submit(tower -> {
+            tick();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the most recently published snapshot if one has been published since the last
+     * call, or null otherwise.
+     * <p>
+     * Polling a snapshot allows the simulation to capture the next one, so a snapshot returned
+     * here may be up to one simulation loop behind the latest {@link #getSummaries() summary}.
+     *
+     * @return new snapshot; or null if nothing has changed
+     */
+    public TowerSnapshot pollSnapshot() {
+        TowerSnapshot snapshot = this.latest.getAndSet(null);
+        if (snapshot != null) {
+            wake();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns how far the simulation is behind real time, that is, the unpaused time not yet
+     * accounted for by ticks. Less than one tick interval is normal; more means the simulation
+     * could not keep up, for example because ticks take longer than the time between them.
+     * <p>
+     * Always 0 while ticking as fast as possible.
+     *
+     * @return lag after the last pass of the simulation loop, in nanoseconds
+     */
+    public long getLagNanos() {
+        return this.lagNanos;
+    }
+
+    /**
+     * Returns how long the most recent tick of the control tower took, in nanoseconds.
+     * <p>
+     * Only the call to {@link ControlTower#tick()} is timed, not the publishing of the tick's
+     * summary or snapshot.
+     *
+     * @return duration of the last tick; or 0 if the tower has not been ticked
+     */
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    /**
+     * Returns the ring buffer the simulation writes a summary into after every tick.
+     *
+     * @return tick summary ring buffer
+     */
+    public TickSummaryRing getSummaries() {
+        return this.summaries;
+    }
+
+    /**
+     * Returns the recorder the simulation samples the tower's history into after every tick.
+     * <p>
+     * Its {@code readLatest} methods may be called from any thread; anything else must be done
+     * through a {@link #submit(SimulationCommand) command}.
+     *
+     * @return time series recorder
+     */
+    public TimeSeriesRecorder getTimeSeries() {
+        return this.timeSeries;
+    }
+
+    /*
+     * Applies pending commands on the calling thread if the simulation thread is not running.
+     * Holding the lock start() and stop() hold means no simulation thread can start meanwhile,
+     * and a simulation thread being stopped has finished before the commands are applied.
+     */
+    private synchronized void applyCommandsWhileStopped() {
+        if (this.thread == null) {
+            applyCommands();
+            publishSnapshot();
+        } else {
+            wake();
+        }
+    }
+
+    /* Wakes up the simulation thread if it is sleeping. */
+    private void wake() {
+        Thread simulationThread = this.thread;
+        if (simulationThread != null) {
+            LockSupport.unpark(simulationThread);
+        }
+    }
+
+    /* Main loop of the simulation thread. */
+    private void run() {
+        long lastTime = System.nanoTime();
+        while (this.running) {
+            boolean changed = applyCommands();
+
+            long now = System.nanoTime();
+            long interval = this.nanosPerTick;
+            if (this.paused) {
+                // Time spent paused is not owed
+                this.scheduler.reset();
+            } else if (interval == 0) {
+                tickBatch(Long.MAX_VALUE);
+                changed = true;
+            } else {
+                if (interval != this.scheduler.getNanosPerTick()) {
+                    this.scheduler.setNanosPerTick(interval);
+                }
+                int owed = this.scheduler.advance(now - lastTime);
+                if (owed > 0) {
+                    this.scheduler.returnTicks(owed - tickBatch(owed));
+                    changed = true;
+                }
+            }
+            this.lagNanos = interval == 0 ? 0 : this.scheduler.getLagNanos();
+            lastTime = now;
+
+            if (changed) {
+                this.snapshotStale = true;
+            }
+            if (this.snapshotStale && this.latest.get() == null) {
+                publishSnapshot();
+            }
+
+            long sleep = this.paused
+                    ? MAX_PARK_NANOS
+                    : Math.min(MAX_PARK_NANOS, interval - this.scheduler.getLagNanos());
+            if (this.commands.isEmpty() && sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+        }
+    }
+
+    /*
+     * Ticks the control tower up to the given number of times, stopping early once the batch
+     * has taken MAX_BATCH_NANOS or the simulation is paused or stopped. Returns the number of
+     * ticks performed, including one that failed.
+     */
+    private int tickBatch(long maxTicks) {
+        final long start = System.nanoTime();
+        int ticks = 0;
+        try {
+            do {
+                tick();
+                ticks++;
+            } while (ticks < maxTicks && !this.paused && this.running
+                    && System.nanoTime() - start < MAX_BATCH_NANOS);
+        } catch (RuntimeException e) {
+            System.err.println("Simulation paused after error during tick: " + e);
+            this.paused = true;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /* Applies all pending commands, returning true if any were applied. */
+    private boolean applyCommands() {
+        boolean applied = false;
+        Runnable command;
+        while ((command = this.commands.poll()) != null) {
+            command.run();
+            applied = true;
+        }
+        if (applied) {
+            this.snapshotStale = true;
+        }
+        return applied;
+    }
+
+    /* Ticks the control tower and publishes a summary of the tick. */
+    private void tick() {
+        long start = System.nanoTime();
+        this.tower.tick();
+        this.lastTickNanos = System.nanoTime() - start;
+        this.snapshotStale = true;
+        publishSummary();
+    }
+
+    /* Writes a summary of the tower's current state into the ring buffer. */
+    private void publishSummary() {
+        this.summaries.claim().capture(this.tower, this.lastLandedId, this.lastTookOffId,
+                this.totalLanded, this.totalTookOff);
+        this.summaries.publish();
+    }
+
+    /* Publishes a snapshot of the tower's current state. */
+    private void publishSnapshot() {
+        this.lastCaptured = TowerSnapshot.capture(this.tower, this.lastCaptured);
+        this.latest.set(this.lastCaptured);
+        this.snapshotStale = false;
+    }
+}
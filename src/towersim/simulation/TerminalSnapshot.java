@@ -0,0 +1,145 @@
+package towersim.simulation;
+
+import towersim.ground.Terminal;
+
+import java.util.List;
+
+/**
+ * Immutable view of a terminal and its gates at the end of a simulation tick.
+ */
+public class TerminalSnapshot {
+
+    /**
+     * Position of the terminal in the control tower's list of terminals.
+     */
+    private final int index;
+
+    /**
+     * Simple class name of the terminal, e.g. AirplaneTerminal.
+     */
+    private final String terminalType;
+
+    /**
+     * Terminal number of the terminal.
+     */
+    private final int terminalNumber;
+
+    /**
+     * Whether the terminal is in a state of emergency.
+     */
+    private final boolean emergency;
+
+    /**
+     * Occupancy level of the terminal.
+     */
+    private final int occupancyLevel;
+
+    /**
+     * Maximum number of gates allowed at the terminal.
+     */
+    private final int maxGates;
+
+    /**
+     * Gates in the terminal, in order.
+     */
+    private final List<GateSnapshot> gates;
+
+    /**
+     * Creates a new terminal snapshot.
+     *
+     * @param index          position of the terminal in the control tower's list of terminals
+     * @param terminal       terminal to capture
+     * @param gates          snapshots of the terminal's gates, in order
+     */
+    public TerminalSnapshot(int index, Terminal terminal, List<GateSnapshot> gates) {
+        this.index = index;
+        this.terminalType = terminal.getClass().getSimpleName();
+        this.terminalNumber = terminal.getTerminalNumber();
+        this.emergency = terminal.hasEmergency();
+        this.occupancyLevel = terminal.calculateOccupancyLevel();
+        this.maxGates = terminal.getMaxGates();
+        this.gates = List.copyOf(gates);
+    }
+
+    /**
+     * Returns the position of the terminal in the list returned by
+     * {@link towersim.control.ControlTower#getTerminals()}.
+     * <p>
+     * Terminals are never removed from a control tower, so this can be used to find the
+     * terminal when applying a command on the simulation thread.
+     *
+     * @return index of terminal
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the simple class name of the terminal, e.g. AirplaneTerminal.
+     *
+     * @return terminal type
+     */
+    public String getTerminalType() {
+        return terminalType;
+    }
+
+    /**
+     * Returns the terminal number.
+     *
+     * @return terminal number
+     */
+    public int getTerminalNumber() {
+        return terminalNumber;
+    }
+
+    /**
+     * Returns whether the terminal is in a state of emergency.
+     *
+     * @return true if in emergency
+     */
+    public boolean hasEmergency() {
+        return emergency;
+    }
+
+    /**
+     * Returns the occupancy level of the terminal, 0 to 100.
+     *
+     * @return occupancy level
+     */
+    public int getOccupancyLevel() {
+        return occupancyLevel;
+    }
+
+    /**
+     * Returns the maximum number of gates allowed at the terminal.
+     *
+     * @return maximum number of gates
+     */
+    public int getMaxGates() {
+        return maxGates;
+    }
+
+    /**
+     * Returns the gates in the terminal, in the order they were added.
+     *
+     * @return unmodifiable list of gates
+     */
+    public List<GateSnapshot> getGates() {
+        return gates;
+    }
+
+    /**
+     * Returns the human-readable string representation of this terminal, in the same format as
+     * {@link Terminal#toString()}.
+     *
+     * @return string representation of the terminal
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %d, %d gates%s",
+                this.terminalType,
+                this.terminalNumber,
+                this.gates.size(),
+                this.emergency ? " (EMERGENCY)" : "");
+    }
+}
@@ -0,0 +1,135 @@
+package towersim.simulation;
+
+/**
+ * Fixed-timestep scheduler deciding how many ticks are owed as real time passes.
+ * <p>
+ * Elapsed time is accumulated as lag, and every whole tick interval of lag is owed as a tick.
+ * Time left over after the owed ticks is kept rather than discarded, so simulated time does not
+ * drift behind real time when a tick or a loop iteration runs long. To keep a slow machine from
+ * falling into a spiral of ever longer catch-up batches, at most
+ * {@link #getMaxCatchUpTicks() maxCatchUpTicks} ticks are handed out per call to
+ * {@link #advance(long)}; any remaining lag is carried over and reported by
+ * {@link #getLagNanos()}.
+ * <p>
+ * A scheduler is not thread safe and is intended to be used by a single simulation loop.
+ */
+public class TickScheduler {
+
+    /** Time between ticks, in nanoseconds */
+    private long nanosPerTick;
+
+    /** Maximum number of ticks handed out by a single call to advance */
+    private int maxCatchUpTicks;
+
+    /** Elapsed time not yet accounted for by ticks, in nanoseconds */
+    private long lagNanos;
+
+    /**
+     * Creates a new scheduler with no lag.
+     *
+     * @param nanosPerTick    time between ticks, in nanoseconds
+     * @param maxCatchUpTicks maximum number of ticks handed out by a call to advance
+     * @throws IllegalArgumentException if nanosPerTick or maxCatchUpTicks is not positive
+     */
+    public TickScheduler(long nanosPerTick, int maxCatchUpTicks) {
+        setNanosPerTick(nanosPerTick);
+        setMaxCatchUpTicks(maxCatchUpTicks);
+    }
+
+    /**
+     * Returns the time between ticks.
+     *
+     * @return time between ticks, in nanoseconds
+     */
+    public long getNanosPerTick() {
+        return this.nanosPerTick;
+    }
+
+    /**
+     * Sets the time between ticks and discards any lag, since lag accumulated towards ticks of
+     * the old length says nothing about how many ticks of the new length are owed.
+     *
+     * @param nanosPerTick time between ticks, in nanoseconds
+     * @throws IllegalArgumentException if nanosPerTick is not positive
+     */
+    public void setNanosPerTick(long nanosPerTick) {
+        if (nanosPerTick <= 0) {
+            throw new IllegalArgumentException("Time between ticks must be positive");
+        }
+        this.nanosPerTick = nanosPerTick;
+        this.lagNanos = 0;
+    }
+
+    /**
+     * Returns the maximum number of ticks handed out by a single call to
+     * {@link #advance(long)}.
+     *
+     * @return maximum catch-up ticks
+     */
+    public int getMaxCatchUpTicks() {
+        return this.maxCatchUpTicks;
+    }
+
+    /**
+     * Sets the maximum number of ticks handed out by a single call to {@link #advance(long)}.
+     *
+     * @param maxCatchUpTicks maximum catch-up ticks
+     * @throws IllegalArgumentException if maxCatchUpTicks is not positive
+     */
+    public void setMaxCatchUpTicks(int maxCatchUpTicks) {
+        if (maxCatchUpTicks <= 0) {
+            throw new IllegalArgumentException("Maximum catch-up ticks must be positive");
+        }
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Accounts for the given amount of elapsed time and returns the number of ticks now owed,
+     * which the caller is expected to perform.
+     *
+     * @param elapsedNanos time elapsed since the last call, in nanoseconds
+     * @return number of ticks to perform, from 0 to maxCatchUpTicks
+     */
+    public int advance(long elapsedNanos) {
+        this.lagNanos += Math.max(0, elapsedNanos);
+        int ticks = (int) Math.min(this.lagNanos / this.nanosPerTick, this.maxCatchUpTicks);
+        this.lagNanos -= ticks * this.nanosPerTick;
+        return ticks;
+    }
+
+    /**
+     * Gives back ticks handed out by {@link #advance(long)} that the caller did not perform, so
+     * that they remain owed.
+     *
+     * @param ticks number of ticks not performed
+     */
+    public void returnTicks(int ticks) {
+        this.lagNanos += ticks * this.nanosPerTick;
+    }
+
+    /**
+     * Discards all lag, so that the next tick is owed a full tick interval from now.
+     */
+    public void reset() {
+        this.lagNanos = 0;
+    }
+
+    /**
+     * Returns how far the simulation is behind real time: the elapsed time not yet accounted
+     * for by ticks. Less than one tick interval of lag is normal.
+     *
+     * @return lag, in nanoseconds
+     */
+    public long getLagNanos() {
+        return this.lagNanos;
+    }
+
+    /**
+     * Returns the number of whole ticks the simulation is behind real time.
+     *
+     * @return number of ticks owed but not yet handed out
+     */
+    public long getTicksBehind() {
+        return this.lagNanos / this.nanosPerTick;
+    }
+}
@@ -0,0 +1,344 @@
+package towersim.simulation;
+
+import towersim.aircraft.Aircraft;
+import towersim.control.ControlTower;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Compact, reusable summary of the state of a control tower at the end of a tick.
+ * <p>
+ * Unlike a {@link TowerSnapshot}, a summary refers to aircraft by ID (see
+ * {@link Aircraft#getId()}) and stores everything in primitive arrays that are reused from tick
+ * to tick, so capturing a summary does not allocate unless the tower has grown beyond the size
+ * of the arrays.
+ * <p>
+ * Summaries are mutable and are not thread safe on their own; they are exchanged between
+ * threads through a {@link TickSummaryRing}.
+ */
+public class TickSummary {
+
+    /** Initial length of each ID array */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Number of ticks elapsed */
+    private long ticksElapsed;
+
+    /** IDs of aircraft in the landing queue, in queue order */
+    private int[] landingQueue;
+
+    /** Number of aircraft in the landing queue */
+    private int landingQueueSize;
+
+    /** IDs of aircraft in the takeoff queue, in queue order */
+    private int[] takeoffQueue;
+
+    /** Number of aircraft in the takeoff queue */
+    private int takeoffQueueSize;
+
+    /** Number of gates in each terminal, in terminal order */
+    private int[] gatesPerTerminal;
+
+    /** Number of terminals */
+    private int numTerminals;
+
+    /** ID of the aircraft at each gate, or {@link Aircraft#NO_ID}, in terminal then gate order */
+    private int[] gateAircraft;
+
+    /** Total number of gates across all terminals */
+    private int numGates;
+
+    /** Number of occupied gates */
+    private int occupiedGates;
+
+    /** Number of aircraft loading at gates */
+    private int loadingCount;
+
+    /** ID of the most recent aircraft to land, or {@link Aircraft#NO_ID} */
+    private int lastLandedId;
+
+    /** ID of the most recent aircraft to take off, or {@link Aircraft#NO_ID} */
+    private int lastTookOffId;
+
+    /** Number of landings since the simulation started */
+    private long totalLanded;
+
+    /** Number of takeoffs since the simulation started */
+    private long totalTookOff;
+
+    /** Appends to the landing queue; created once so capturing does not allocate */
+    private final Consumer<Aircraft> landingAppender = this::appendLanding;
+
+    /** Appends to the takeoff queue; created once so capturing does not allocate */
+    private final Consumer<Aircraft> takeoffAppender = this::appendTakeoff;
+
+    /**
+     * Creates a new, empty summary.
+     */
+    public TickSummary() {
+        this.landingQueue = new int[INITIAL_CAPACITY];
+        this.takeoffQueue = new int[INITIAL_CAPACITY];
+        this.gatesPerTerminal = new int[INITIAL_CAPACITY];
+        this.gateAircraft = new int[INITIAL_CAPACITY];
+        this.lastLandedId = Aircraft.NO_ID;
+        this.lastTookOffId = Aircraft.NO_ID;
+    }
+
+    /**
+     * Overwrites this summary with the current state of the given control tower.
+     * <p>
+     * Must be called on the thread that ticks the control tower.
+     *
+     * @param tower         control tower to summarise
+     * @param lastLandedId  ID of the most recent aircraft to land, or {@link Aircraft#NO_ID}
+     * @param lastTookOffId ID of the most recent aircraft to take off, or {@link Aircraft#NO_ID}
+     * @param totalLanded   number of landings since the simulation started
+     * @param totalTookOff  number of takeoffs since the simulation started
+     */
+    public void capture(ControlTower tower, int lastLandedId, int lastTookOffId,
+                        long totalLanded, long totalTookOff) {
+        this.ticksElapsed = tower.getTicksElapsed();
+
+        this.landingQueueSize = 0;
+        tower.getLandingQueue().forEachInOrder(landingAppender);
+        this.takeoffQueueSize = 0;
+        tower.getTakeoffQueue().forEachInOrder(takeoffAppender);
+
+        this.numTerminals = tower.getNumTerminals();
+        this.gatesPerTerminal = ensureCapacity(this.gatesPerTerminal, this.numTerminals);
+        this.numGates = 0;
+        this.occupiedGates = 0;
+        for (int i = 0; i < this.numTerminals; ++i) {
+            Terminal terminal = tower.getTerminal(i);
+            int gates = terminal.getNumGates();
+            this.gatesPerTerminal[i] = gates;
+            this.gateAircraft = ensureCapacity(this.gateAircraft, this.numGates + gates);
+            for (int j = 0; j < gates; ++j) {
+                Gate gate = terminal.getGate(j);
+                Aircraft parked = gate.getAircraftAtGate();
+                if (parked == null) {
+                    this.gateAircraft[this.numGates++] = Aircraft.NO_ID;
+                } else {
+                    this.gateAircraft[this.numGates++] = parked.getId();
+                    this.occupiedGates++;
+                }
+            }
+        }
+
+        this.loadingCount = tower.getLoadingAircraft().size();
+        this.lastLandedId = lastLandedId;
+        this.lastTookOffId = lastTookOffId;
+        this.totalLanded = totalLanded;
+        this.totalTookOff = totalTookOff;
+    }
+
+    /**
+     * Overwrites this summary with the contents of another summary.
+     * <p>
+     * The other summary may be concurrently overwritten; the caller is responsible for detecting
+     * this and discarding the copy, as {@link TickSummaryRing} does.
+     *
+     * @param other summary to copy from
+     */
+    public void copyFrom(TickSummary other) {
+        this.ticksElapsed = other.ticksElapsed;
+
+        //Sizes are clamped to the source arrays in case they are replaced while being copied.
+        int[] source = other.landingQueue;
+        this.landingQueueSize = Math.min(other.landingQueueSize, source.length);
+        this.landingQueue = copy(source, this.landingQueueSize, this.landingQueue);
+
+        source = other.takeoffQueue;
+        this.takeoffQueueSize = Math.min(other.takeoffQueueSize, source.length);
+        this.takeoffQueue = copy(source, this.takeoffQueueSize, this.takeoffQueue);
+
+        source = other.gatesPerTerminal;
+        this.numTerminals = Math.min(other.numTerminals, source.length);
+        this.gatesPerTerminal = copy(source, this.numTerminals, this.gatesPerTerminal);
+
+        source = other.gateAircraft;
+        this.numGates = Math.min(other.numGates, source.length);
+        this.gateAircraft = copy(source, this.numGates, this.gateAircraft);
+
+        this.occupiedGates = other.occupiedGates;
+        this.loadingCount = other.loadingCount;
+        this.lastLandedId = other.lastLandedId;
+        this.lastTookOffId = other.lastTookOffId;
+        this.totalLanded = other.totalLanded;
+        this.totalTookOff = other.totalTookOff;
+    }
+
+    /* Copies count elements of source into target, growing target if needed */
+    private static int[] copy(int[] source, int count, int[] target) {
+        int[] result = ensureCapacity(target, count);
+        System.arraycopy(source, 0, result, 0, count);
+        return result;
+    }
+
+    /* Appends the given aircraft's ID to the landing queue */
+    private void appendLanding(Aircraft aircraft) {
+        this.landingQueue = ensureCapacity(this.landingQueue, this.landingQueueSize + 1);
+        this.landingQueue[this.landingQueueSize++] = aircraft.getId();
+    }
+
+    /* Appends the given aircraft's ID to the takeoff queue */
+    private void appendTakeoff(Aircraft aircraft) {
+        this.takeoffQueue = ensureCapacity(this.takeoffQueue, this.takeoffQueueSize + 1);
+        this.takeoffQueue[this.takeoffQueueSize++] = aircraft.getId();
+    }
+
+    /* Returns the given array, or a larger copy of it if it is shorter than required */
+    private static int[] ensureCapacity(int[] array, int required) {
+        if (required <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+
+    /**
+     * Returns the number of ticks elapsed.
+     *
+     * @return ticks elapsed
+     */
+    public long getTicksElapsed() {
+        return ticksElapsed;
+    }
+
+    /**
+     * Returns the number of aircraft in the landing queue.
+     *
+     * @return landing queue size
+     */
+    public int getLandingQueueSize() {
+        return landingQueueSize;
+    }
+
+    /**
+     * Returns the ID of the aircraft at the given position in the landing queue.
+     *
+     * @param index position in the queue, from 0 to {@code getLandingQueueSize() - 1}
+     * @return aircraft ID
+     */
+    public int getLandingQueueId(int index) {
+        return landingQueue[index];
+    }
+
+    /**
+     * Returns the number of aircraft in the takeoff queue.
+     *
+     * @return takeoff queue size
+     */
+    public int getTakeoffQueueSize() {
+        return takeoffQueueSize;
+    }
+
+    /**
+     * Returns the ID of the aircraft at the given position in the takeoff queue.
+     *
+     * @param index position in the queue, from 0 to {@code getTakeoffQueueSize() - 1}
+     * @return aircraft ID
+     */
+    public int getTakeoffQueueId(int index) {
+        return takeoffQueue[index];
+    }
+
+    /**
+     * Returns the number of terminals.
+     *
+     * @return number of terminals
+     */
+    public int getNumTerminals() {
+        return numTerminals;
+    }
+
+    /**
+     * Returns the number of gates in the terminal at the given position.
+     *
+     * @param terminalIndex position of the terminal, from 0 to {@code getNumTerminals() - 1}
+     * @return number of gates in the terminal
+     */
+    public int getNumGates(int terminalIndex) {
+        return gatesPerTerminal[terminalIndex];
+    }
+
+    /**
+     * Returns the total number of gates across all terminals.
+     *
+     * @return total number of gates
+     */
+    public int getNumGates() {
+        return numGates;
+    }
+
+    /**
+     * Returns the ID of the aircraft at the given gate, or {@link Aircraft#NO_ID} if the gate is
+     * unoccupied. Gates are numbered across all terminals, in terminal then gate order.
+     *
+     * @param gateIndex position of the gate, from 0 to {@code getNumGates() - 1}
+     * @return ID of the aircraft at the gate; or {@link Aircraft#NO_ID}
+     */
+    public int getGateAircraftId(int gateIndex) {
+        return gateAircraft[gateIndex];
+    }
+
+    /**
+     * Returns the number of occupied gates across all terminals.
+     *
+     * @return number of occupied gates
+     */
+    public int getOccupiedGates() {
+        return occupiedGates;
+    }
+
+    /**
+     * Returns the number of aircraft loading at gates.
+     *
+     * @return number of loading aircraft
+     */
+    public int getLoadingCount() {
+        return loadingCount;
+    }
+
+    /**
+     * Returns the ID of the most recent aircraft to land, or {@link Aircraft#NO_ID} if none has.
+     *
+     * @return ID of the last landed aircraft
+     */
+    public int getLastLandedId() {
+        return lastLandedId;
+    }
+
+    /**
+     * Returns the ID of the most recent aircraft to take off, or {@link Aircraft#NO_ID} if none
+     * has.
+     *
+     * @return ID of the last aircraft to take off
+     */
+    public int getLastTookOffId() {
+        return lastTookOffId;
+    }
+
+    /**
+     * Returns the number of landings since the simulation started.
+     * <p>
+     * Comparing this with the value from a previously read summary tells a reader whether any
+     * aircraft landed in ticks it did not see.
+     *
+     * @return total landings
+     */
+    public long getTotalLanded() {
+        return totalLanded;
+    }
+
+    /**
+     * Returns the number of takeoffs since the simulation started.
+     *
+     * @return total takeoffs
+     */
+    public long getTotalTookOff() {
+        return totalTookOff;
+    }
+}
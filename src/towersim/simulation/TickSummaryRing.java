@@ -0,0 +1,118 @@
+package towersim.simulation;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of preallocated {@link TickSummary} slots, written by a single producer
+ * (the simulation thread) and read by any number of consumers (such as the renderer).
+ * <p>
+ * The producer never blocks and never allocates: each tick it {@link #claim() claims} the next
+ * slot, overwrites it in place and {@link #publish() publishes} it. Slots are reused once the
+ * producer has wrapped around the ring, so a consumer that falls behind does not hold the
+ * producer back. Instead, reads coalesce: {@link #readLatest(TickSummary, long)} copies only the
+ * most recently published summary, and the cumulative counters in each summary tell the reader
+ * what happened during the ticks it skipped.
+ * <p>
+ * Reads are optimistic. A reader copies a slot and then checks that the producer has not
+ * wrapped around onto it in the meantime, retrying if it has.
+ */
+public class TickSummaryRing {
+
+    /** Preallocated summary slots */
+    private final TickSummary[] slots;
+
+    /** Mask used to map a sequence number onto a slot index */
+    private final int mask;
+
+    /** Number of summaries published so far; written only by the producer */
+    private final AtomicLong published;
+
+    /**
+     * Creates a new ring buffer with the given number of slots.
+     *
+     * @param capacity number of slots; must be a power of two and at least 2
+     * @throws IllegalArgumentException if capacity is not a power of two or is less than 2
+     */
+    public TickSummaryRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two and at least 2: " + capacity);
+        }
+        this.slots = new TickSummary[capacity];
+        for (int i = 0; i < capacity; ++i) {
+            this.slots[i] = new TickSummary();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLong();
+    }
+
+    /**
+     * Returns the number of slots in this ring buffer.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of summaries published so far.
+     *
+     * @return number of published summaries
+     */
+    public long getPublished() {
+        return this.published.get();
+    }
+
+    /**
+     * Returns the slot the producer should write the next summary into.
+     * <p>
+     * Must only be called by the producer, and must be followed by {@link #publish()} once the
+     * slot has been written.
+     *
+     * @return slot to overwrite
+     */
+    public TickSummary claim() {
+        //Order the previous publish before any writes to the claimed slot, so readers that
+        //see the old sequence number cannot observe a half-overwritten slot as valid.
+        VarHandle.storeStoreFence();
+        return this.slots[(int) (this.published.get() & this.mask)];
+    }
+
+    /**
+     * Publishes the slot most recently returned by {@link #claim()}.
+     * <p>
+     * Must only be called by the producer.
+     */
+    public void publish() {
+        this.published.lazySet(this.published.get() + 1);
+    }
+
+    /**
+     * Copies the most recently published summary into the given summary, if one has been
+     * published since the given sequence number.
+     * <p>
+     * Any summaries published between {@code lastRead} and the latest are skipped.
+     *
+     * @param into     summary to copy into
+     * @param lastRead sequence number returned by the previous call, or 0 on the first call
+     * @return sequence number of the summary copied; or {@code lastRead} if nothing newer has
+     * been published, in which case {@code into} is left unchanged
+     */
+    public long readLatest(TickSummary into, long lastRead) {
+        while (true) {
+            long sequence = this.published.get();
+            if (sequence == lastRead || sequence == 0) {
+                return lastRead;
+            }
+            into.copyFrom(this.slots[(int) ((sequence - 1) & this.mask)]);
+            //Order the copy before re-reading the sequence number.
+            VarHandle.acquireFence();
+            //The slot is rewritten when the producer claims sequence + capacity - 1.
+            if (this.published.get() - sequence < this.slots.length - 1) {
+                return sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package towersim.simulation;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streams every sample taken by a {@link TimeSeriesRecorder} to a file or other output, as CSV
+ * or binary, as soon as it is taken.
+ * <p>
+ * Because samples are written out as they are taken, a run of any length can be exported in
+ * full while the recorder itself only retains a fixed number of samples. Exports are created by
+ * {@link TimeSeriesRecorder#exportCsv(java.io.Writer)} and
+ * {@link TimeSeriesRecorder#exportBinary(java.io.OutputStream)}, and like the recorder must only
+ * be used on the thread ticking the control tower.
+ * <p>
+ * Samples are written while the tower ticks, which cannot report I/O errors. Instead, the first
+ * error stops the export, and is thrown by the next call to {@link #flush()} or
+ * {@link #close()}.
+ */
+public final class TimeSeriesExport implements Closeable {
+
+    /** Recorder whose samples are exported */
+    private final TimeSeriesRecorder recorder;
+
+    /** Writer CSV rows are written to; null if exporting in binary */
+    private final Writer csv;
+
+    /** Output binary samples are written to; null if exporting as CSV */
+    private final DataOutputStream binary;
+
+    /** Sequence number of the next sample to write */
+    private long next;
+
+    /** First error encountered writing a sample; null if none */
+    private IOException error;
+
+    /**
+     * Creates a new export of the given recorder's samples to exactly one of the given outputs.
+     *
+     * @param recorder recorder whose samples are exported
+     * @param csv      writer to write CSV rows to, or null
+     * @param binary   output to write binary samples to, or null
+     * @param next     sequence number of the next sample to write
+     */
+    TimeSeriesExport(TimeSeriesRecorder recorder, Writer csv, DataOutputStream binary,
+            long next) {
+        this.recorder = recorder;
+        this.csv = csv;
+        this.binary = binary;
+        this.next = next;
+    }
+
+    /**
+     * Writes any samples taken since the last one written. Called by the recorder after every
+     * sample.
+     */
+    void sampleRecorded() {
+        if (this.error != null) {
+            return;
+        }
+        try {
+            this.next = this.csv != null ? this.recorder.writeCsv(this.csv, this.next)
+                    : this.recorder.writeBinary(this.binary, this.next);
+        } catch (IOException e) {
+            this.error = e;
+        }
+    }
+
+    /**
+     * Returns the sequence number following the last sample written.
+     *
+     * @return number of samples taken by the recorder when this export last wrote
+     */
+    public long getWritten() {
+        return this.next;
+    }
+
+    /**
+     * Flushes the output, so every sample written so far reaches its destination.
+     *
+     * @throws IOException if writing a sample failed, or an I/O error occurs flushing
+     */
+    public void flush() throws IOException {
+        if (this.error != null) {
+            throw this.error;
+        }
+        if (this.csv != null) {
+            this.csv.flush();
+        } else {
+            this.binary.flush();
+        }
+    }
+
+    /**
+     * Stops exporting samples, then flushes and closes the output.
+     *
+     * @throws IOException if writing a sample failed, or an I/O error occurs closing the output
+     */
+    @Override
+    public void close() throws IOException {
+        this.recorder.removeExport(this);
+        try {
+            flush();
+        } finally {
+            if (this.csv != null) {
+                this.csv.close();
+            } else {
+                this.binary.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package towersim.simulation;
+
+/**
+ * Represents the tower-wide metrics sampled every tick by a {@link TimeSeriesRecorder}.
+ * <p>
+ * Each metric is stored in its own column. Occupancy of individual terminals is recorded
+ * separately, in one column per terminal.
+ */
+public enum TimeSeriesMetric {
+    /**
+     * Number of aircraft in the landing queue at the end of the tick.
+     */
+    LANDING_QUEUE("landing_queue"),
+
+    /**
+     * Number of aircraft in the takeoff queue at the end of the tick.
+     */
+    TAKEOFF_QUEUE("takeoff_queue"),
+
+    /**
+     * Number of aircraft loading at the end of the tick.
+     */
+    LOADING("loading"),
+
+    /**
+     * Number of aircraft that landed during the tick.
+     */
+    LANDINGS("landings"),
+
+    /**
+     * Number of aircraft that took off during the tick.
+     */
+    TAKEOFFS("takeoffs"),
+
+    /**
+     * Number of aircraft in the landing queue with a critical level of fuel (see
+     * {@link towersim.control.LandingQueue#CRITICAL_FUEL_PERCENT}) at the end of the tick.
+     */
+    FUEL_CRITICAL("fuel_critical");
+
+    /** Name of the metric's column in exported time series */
+    private final String columnName;
+
+    TimeSeriesMetric(String columnName) {
+        this.columnName = columnName;
+    }
+
+    /**
+     * Returns the name of this metric's column in exported time series.
+     *
+     * @return column name
+     */
+    public String getColumnName() {
+        return this.columnName;
+    }
+}
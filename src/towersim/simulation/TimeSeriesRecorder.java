@@ -0,0 +1,443 @@
+package towersim.simulation;
+
+import towersim.aircraft.Aircraft;
+import towersim.control.ControlTower;
+import towersim.control.TowerListener;
+import towersim.ground.Gate;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the history of a control tower tick by tick, for trend analysis: the depth of each
+ * queue, the number of aircraft loading, the occupancy of each terminal, the number of landings
+ * and takeoffs and the number of aircraft queued to land with critical fuel.
+ * <p>
+ * Samples are stored in preallocated ring buffers of primitives, one column per
+ * {@link TimeSeriesMetric metric} and one per terminal, so recording never boxes or allocates
+ * and the recorder takes the same amount of memory however long the simulation runs. Only the
+ * most recent {@link #getCapacity() capacity} samples are retained. To keep the full history
+ * of a long run, {@link #exportCsv(Writer) export} it as it is recorded, which streams each
+ * sample out as soon as it is taken.
+ * <p>
+ * The recorder must be registered with the tower using
+ * {@link ControlTower#addListener(TowerListener)}, and takes a sample at the end of every tick.
+ * Apart from {@link #getRecorded()} and the {@code readLatest} methods, which may be called from
+ * any thread (for example, to chart the history while the simulation runs), the recorder must
+ * only be used on the thread ticking the tower. Like {@link TickSummaryRing}, reads from other
+ * threads are optimistic: samples are copied and then checked not to have been overwritten in
+ * the meantime, retrying if they have.
+ */
+public class TimeSeriesRecorder implements TowerListener {
+
+    /** Marks the start of a binary time series, spelling "TSR1" */
+    public static final int BINARY_MAGIC = 0x54535231;
+
+    /** Number of metric columns */
+    private static final int NUM_METRICS = TimeSeriesMetric.values().length;
+
+    /** Control tower being recorded */
+    private final ControlTower tower;
+
+    /** Mask used to map a sequence number onto a slot index */
+    private final int mask;
+
+    /** Ticks elapsed when each sample was taken */
+    private final long[] ticks;
+
+    /** Sampled values of each metric, indexed by metric ordinal then slot */
+    private final int[][] metrics;
+
+    /** Number of occupied gates in each terminal, indexed by terminal then slot */
+    private final int[][] terminalOccupancy;
+
+    /** Number of samples taken so far; written only by the recording thread */
+    private final AtomicLong recorded;
+
+    /** Number of landings during the current tick */
+    private int landings;
+
+    /** Number of takeoffs during the current tick */
+    private int takeoffs;
+
+    /** Buffer a row of text is formatted into before being written, reused for every row */
+    private final char[] row;
+
+    /** Exports streaming every sample as it is taken */
+    private final List<TimeSeriesExport> exports;
+
+    /**
+     * Creates a new recorder for the given control tower, retaining the given number of samples
+     * and recording the occupancy of up to the given number of terminals.
+     * <p>
+     * Terminals beyond the given number, in the order they were added to the tower, are not
+     * recorded; terminals that do not yet exist are recorded as having no occupied gates.
+     *
+     * @param tower        control tower to record
+     * @param capacity     number of samples retained; must be a power of two and at least 2
+     * @param numTerminals number of terminals whose occupancy is recorded
+     * @throws IllegalArgumentException if capacity is not a power of two or is less than 2, or
+     *                                  if numTerminals is negative
+     */
+    public TimeSeriesRecorder(ControlTower tower, int capacity, int numTerminals) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two and at least 2: " + capacity);
+        }
+        if (numTerminals < 0) {
+            throw new IllegalArgumentException(
+                    "Number of terminals must not be negative: " + numTerminals);
+        }
+        this.tower = tower;
+        this.mask = capacity - 1;
+        this.ticks = new long[capacity];
+        this.metrics = new int[NUM_METRICS][capacity];
+        this.terminalOccupancy = new int[numTerminals][capacity];
+        this.recorded = new AtomicLong();
+        // Longest row: a tick count followed by a comma-separated int for every other column
+        this.row = new char[20 + 12 * (NUM_METRICS + numTerminals) + 1];
+        this.exports = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of samples retained by this recorder.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return this.ticks.length;
+    }
+
+    /**
+     * Returns the number of terminals whose occupancy is recorded.
+     *
+     * @return number of terminal columns
+     */
+    public int getNumTerminals() {
+        return this.terminalOccupancy.length;
+    }
+
+    /**
+     * Returns the number of samples taken so far, which is also the sequence number of the next
+     * sample to be taken.
+     *
+     * @return number of samples taken
+     */
+    public long getRecorded() {
+        return this.recorded.get();
+    }
+
+    /**
+     * Returns the sequence number of the oldest sample still retained.
+     *
+     * @return oldest retained sequence number
+     */
+    public long getOldest() {
+        return Math.max(0, this.recorded.get() - this.ticks.length);
+    }
+
+    /**
+     * Returns the number of ticks elapsed when the given sample was taken.
+     *
+     * @param sequence sequence number of a retained sample
+     * @return ticks elapsed
+     * @throws IllegalArgumentException if the sample is not retained
+     */
+    public long getTick(long sequence) {
+        return this.ticks[slotOf(sequence)];
+    }
+
+    /**
+     * Returns the value of the given metric in the given sample.
+     *
+     * @param metric   metric to return
+     * @param sequence sequence number of a retained sample
+     * @return sampled value
+     * @throws IllegalArgumentException if the sample is not retained
+     */
+    public int get(TimeSeriesMetric metric, long sequence) {
+        return this.metrics[metric.ordinal()][slotOf(sequence)];
+    }
+
+    /**
+     * Returns the number of occupied gates in the given terminal in the given sample.
+     *
+     * @param terminal index of the terminal, from 0 to {@code getNumTerminals() - 1}
+     * @param sequence sequence number of a retained sample
+     * @return number of occupied gates
+     * @throws IllegalArgumentException if the sample is not retained
+     */
+    public int getTerminalOccupancy(int terminal, long sequence) {
+        return this.terminalOccupancy[terminal][slotOf(sequence)];
+    }
+
+    /* Returns the slot holding the given sample, checking it is still retained */
+    private int slotOf(long sequence) {
+        if (sequence < getOldest() || sequence >= this.recorded.get()) {
+            throw new IllegalArgumentException("Sample not retained: " + sequence);
+        }
+        return (int) (sequence & this.mask);
+    }
+
+    /**
+     * Copies the most recent values of the given metric into the given array, oldest first.
+     * <p>
+     * May be called from any thread. At most {@code getCapacity() - 1} values are copied.
+     *
+     * @param metric metric to read
+     * @param into   array to copy into
+     * @return number of values copied, from the start of the array
+     */
+    public int readLatest(TimeSeriesMetric metric, int[] into) {
+        return readLatest(this.metrics[metric.ordinal()], into);
+    }
+
+    /**
+     * Copies the most recent numbers of occupied gates in the given terminal into the given
+     * array, oldest first.
+     * <p>
+     * May be called from any thread. At most {@code getCapacity() - 1} values are copied.
+     *
+     * @param terminal index of the terminal, from 0 to {@code getNumTerminals() - 1}
+     * @param into     array to copy into
+     * @return number of values copied, from the start of the array
+     */
+    public int readLatestTerminalOccupancy(int terminal, int[] into) {
+        return readLatest(this.terminalOccupancy[terminal], into);
+    }
+
+    /* Copies the most recent values of the given column into the given array, oldest first */
+    private int readLatest(int[] column, int[] into) {
+        while (true) {
+            long end = this.recorded.get();
+            int count = (int) Math.min(Math.min(into.length, this.ticks.length - 1), end);
+            long start = end - count;
+            int first = (int) (start & this.mask);
+            int beforeWrap = Math.min(count, column.length - first);
+            System.arraycopy(column, first, into, 0, beforeWrap);
+            System.arraycopy(column, 0, into, beforeWrap, count - beforeWrap);
+            //Order the copy before re-reading the sequence number.
+            VarHandle.acquireFence();
+            //The oldest slot copied is rewritten when the recorder samples start + capacity.
+            if (this.recorded.get() - start < this.ticks.length) {
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public void aircraftLanded(Aircraft aircraft, Gate gate) {
+        this.landings++;
+    }
+
+    @Override
+    public void aircraftTookOff(Aircraft aircraft) {
+        this.takeoffs++;
+    }
+
+    /**
+     * Takes a sample of the tower as it stands at the end of the tick, then streams it to every
+     * export.
+     *
+     * @param ticksElapsed number of ticks elapsed, including the tick just completed
+     */
+    @Override
+    public void tickCompleted(long ticksElapsed) {
+        long sequence = this.recorded.get();
+        //Order the previous publish before overwriting the slot, as TickSummaryRing does.
+        VarHandle.storeStoreFence();
+        int slot = (int) (sequence & this.mask);
+        this.ticks[slot] = ticksElapsed;
+        this.metrics[TimeSeriesMetric.LANDING_QUEUE.ordinal()][slot] =
+                this.tower.getLandingQueue().size();
+        this.metrics[TimeSeriesMetric.TAKEOFF_QUEUE.ordinal()][slot] =
+                this.tower.getTakeoffQueue().size();
+        this.metrics[TimeSeriesMetric.LOADING.ordinal()][slot] =
+                this.tower.getLoadingAircraft().size();
+        this.metrics[TimeSeriesMetric.LANDINGS.ordinal()][slot] = this.landings;
+        this.metrics[TimeSeriesMetric.TAKEOFFS.ordinal()][slot] = this.takeoffs;
+        this.metrics[TimeSeriesMetric.FUEL_CRITICAL.ordinal()][slot] =
+                this.tower.getNumFuelCritical();
+        int numTerminals = Math.min(this.tower.getNumTerminals(), this.terminalOccupancy.length);
+        for (int i = 0; i < this.terminalOccupancy.length; ++i) {
+            this.terminalOccupancy[i][slot] = i < numTerminals
+                    ? this.tower.getTerminal(i).getNumOccupiedGates() : 0;
+        }
+        this.recorded.lazySet(sequence + 1);
+
+        this.landings = 0;
+        this.takeoffs = 0;
+        for (int i = 0; i < this.exports.size(); ++i) {
+            this.exports.get(i).sampleRecorded();
+        }
+    }
+
+    /**
+     * Writes the header row of a CSV time series: the column names, separated by commas.
+     * <p>
+     * The first column is {@code tick}, followed by the {@link TimeSeriesMetric#getColumnName()
+     * column name} of each metric in declaration order, then {@code terminal_1},
+     * {@code terminal_2}, and so on, for each terminal recorded.
+     *
+     * @param out writer to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeCsvHeader(Writer out) throws IOException {
+        out.write("tick");
+        for (TimeSeriesMetric metric : TimeSeriesMetric.values()) {
+            out.write(',');
+            out.write(metric.getColumnName());
+        }
+        for (int i = 0; i < this.terminalOccupancy.length; ++i) {
+            out.write(",terminal_" + (i + 1));
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Writes the retained samples from the given sequence number onwards as CSV rows, one line
+     * per sample, in the column order described by {@link #writeCsvHeader(Writer)}.
+     * <p>
+     * Samples before the {@link #getOldest() oldest} retained sample are skipped. Writing a row
+     * does not allocate.
+     *
+     * @param out  writer to write to
+     * @param from sequence number of the first sample to write
+     * @return sequence number following the last sample written, to pass as {@code from} on the
+     * next call
+     * @throws IOException if an I/O error occurs
+     */
+    public long writeCsv(Writer out, long from) throws IOException {
+        long end = this.recorded.get();
+        for (long sequence = Math.max(from, getOldest()); sequence < end; ++sequence) {
+            int slot = (int) (sequence & this.mask);
+            int length = appendDigits(this.ticks[slot], 0);
+            for (int[] column : this.metrics) {
+                this.row[length++] = ',';
+                length = appendDigits(column[slot], length);
+            }
+            for (int[] column : this.terminalOccupancy) {
+                this.row[length++] = ',';
+                length = appendDigits(column[slot], length);
+            }
+            this.row[length++] = '\n';
+            out.write(this.row, 0, length);
+        }
+        return end;
+    }
+
+    /* Formats the given value into the row buffer at the given position */
+    private int appendDigits(long value, int position) {
+        if (value < 0) {
+            this.row[position++] = '-';
+            value = -value;
+        }
+        int end = position;
+        do {
+            this.row[end++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = position, j = end - 1; i < j; ++i, --j) {
+            char digit = this.row[i];
+            this.row[i] = this.row[j];
+            this.row[j] = digit;
+        }
+        return end;
+    }
+
+    /**
+     * Writes the header of a binary time series: {@link #BINARY_MAGIC}, then the number of
+     * metric columns, then the number of terminal columns, each as a big-endian int.
+     *
+     * @param out output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeBinaryHeader(DataOutput out) throws IOException {
+        out.writeInt(BINARY_MAGIC);
+        out.writeInt(NUM_METRICS);
+        out.writeInt(this.terminalOccupancy.length);
+    }
+
+    /**
+     * Writes the retained samples from the given sequence number onwards in binary. Each sample
+     * is the ticks elapsed as a long, followed by each metric in declaration order and then the
+     * occupancy of each terminal, as ints, all big-endian.
+     * <p>
+     * Samples before the {@link #getOldest() oldest} retained sample are skipped.
+     *
+     * @param out  output to write to
+     * @param from sequence number of the first sample to write
+     * @return sequence number following the last sample written, to pass as {@code from} on the
+     * next call
+     * @throws IOException if an I/O error occurs
+     */
+    public long writeBinary(DataOutput out, long from) throws IOException {
+        long end = this.recorded.get();
+        for (long sequence = Math.max(from, getOldest()); sequence < end; ++sequence) {
+            int slot = (int) (sequence & this.mask);
+            out.writeLong(this.ticks[slot]);
+            for (int[] column : this.metrics) {
+                out.writeInt(column[slot]);
+            }
+            for (int[] column : this.terminalOccupancy) {
+                out.writeInt(column[slot]);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Starts exporting this time series as CSV to the given writer.
+     * <p>
+     * The header and every retained sample are written immediately, and every sample taken
+     * from then on is written as soon as it is taken, until the export is closed. The writer
+     * should be buffered.
+     *
+     * @param out writer to export to; closed when the export is closed
+     * @return export streaming to the writer
+     * @throws IOException if an I/O error occurs writing the header or retained samples
+     */
+    public TimeSeriesExport exportCsv(Writer out) throws IOException {
+        writeCsvHeader(out);
+        TimeSeriesExport export = new TimeSeriesExport(this, out, null, writeCsv(out, 0));
+        this.exports.add(export);
+        return export;
+    }
+
+    /**
+     * Starts exporting this time series in binary to the given output stream, in the format
+     * described by {@link #writeBinaryHeader(DataOutput)} and
+     * {@link #writeBinary(DataOutput, long)}.
+     * <p>
+     * The header and every retained sample are written immediately, and every sample taken
+     * from then on is written as soon as it is taken, until the export is closed. The stream
+     * should be buffered.
+     *
+     * @param out output stream to export to; closed when the export is closed
+     * @return export streaming to the output stream
+     * @throws IOException if an I/O error occurs writing the header or retained samples
+     */
+    public TimeSeriesExport exportBinary(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        writeBinaryHeader(data);
+        TimeSeriesExport export = new TimeSeriesExport(this, null, data, writeBinary(data, 0));
+        this.exports.add(export);
+        return export;
+    }
+
+    /**
+     * Stops streaming samples to the given export.
+     *
+     * @param export export to stop
+     */
+    void removeExport(TimeSeriesExport export) {
+        this.exports.remove(export);
+    }
+}
@@ -0,0 +1,255 @@
+package towersim.simulation;
+
+import towersim.aircraft.Aircraft;
+import towersim.control.ControlTower;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the whole state of a control tower at the end of a simulation tick.
+ * <p>
+ * Snapshots are captured on the simulation thread by {@link #capture(ControlTower)} and handed
+ * to the user interface, which renders from them without touching the control tower itself.
+ */
+public class TowerSnapshot {
+
+    /**
+     * Number of ticks elapsed.
+     */
+    private final long ticksElapsed;
+
+    /**
+     * All aircraft managed by the control tower, in the order they were added.
+     */
+    private final List<AircraftSnapshot> aircraft;
+
+    /**
+     * Aircraft snapshots indexed by aircraft ID; entries may be null.
+     */
+    private final AircraftSnapshot[] aircraftById;
+
+    /**
+     * Aircraft in the takeoff queue, in queue order.
+     */
+    private final List<AircraftSnapshot> takeoffQueue;
+
+    /**
+     * Aircraft in the landing queue, in queue order.
+     */
+    private final List<AircraftSnapshot> landingQueue;
+
+    /**
+     * Aircraft whose current task is AWAY, in the order they were added.
+     */
+    private final List<AircraftSnapshot> awayAircraft;
+
+    /**
+     * Terminals and their gates, in the order they were added.
+     */
+    private final List<TerminalSnapshot> terminals;
+
+    /**
+     * Aircraft loading at gates, in loading map order.
+     */
+    private final List<LoadingSnapshot> loadingAircraft;
+
+    /**
+     * Creates a new snapshot from its captured parts.
+     */
+    private TowerSnapshot(long ticksElapsed, List<AircraftSnapshot> aircraft,
+                          AircraftSnapshot[] aircraftById, List<AircraftSnapshot> takeoffQueue,
+                          List<AircraftSnapshot> landingQueue,
+                          List<AircraftSnapshot> awayAircraft, List<TerminalSnapshot> terminals,
+                          List<LoadingSnapshot> loadingAircraft) {
+        this.ticksElapsed = ticksElapsed;
+        this.aircraft = aircraft;
+        this.aircraftById = aircraftById;
+        this.takeoffQueue = takeoffQueue;
+        this.landingQueue = landingQueue;
+        this.awayAircraft = awayAircraft;
+        this.terminals = terminals;
+        this.loadingAircraft = loadingAircraft;
+    }
+
+    /**
+     * Captures the current state of the given control tower.
+     * <p>
+     * This must be called on the thread that ticks the control tower. Each aircraft is captured
+     * once, and the same aircraft snapshot is shared by every list it appears in.
+     *
+     * @param tower control tower to capture
+     * @return snapshot of the control tower
+     */
+    public static TowerSnapshot capture(ControlTower tower) {
+        return capture(tower, null);
+    }
+
+    /**
+     * Captures the current state of the given control tower, reusing the aircraft snapshots of
+     * the given previous snapshot of the same tower for aircraft that have not changed since
+     * (see {@link AircraftSnapshot#capture(Aircraft, AircraftSnapshot)}).
+     * <p>
+     * This must be called on the thread that ticks the control tower.
+     *
+     * @param tower    control tower to capture
+     * @param previous earlier snapshot of the same control tower; or null if none
+     * @return snapshot of the control tower
+     */
+    public static TowerSnapshot capture(ControlTower tower, TowerSnapshot previous) {
+        List<Aircraft> towerAircraft = tower.getAircraft();
+        int maxId = -1;
+        for (Aircraft managed : towerAircraft) {
+            maxId = Math.max(maxId, managed.getId());
+        }
+        AircraftSnapshot[] byId = new AircraftSnapshot[maxId + 1];
+        List<AircraftSnapshot> all = new ArrayList<>(towerAircraft.size());
+        List<AircraftSnapshot> away = new ArrayList<>();
+        for (Aircraft managed : towerAircraft) {
+            AircraftSnapshot snapshot = snapshotOf(managed, byId, previous);
+            all.add(snapshot);
+            if (snapshot.getCurrentTaskType() == TaskType.AWAY) {
+                away.add(snapshot);
+            }
+        }
+
+        List<TerminalSnapshot> terminals = new ArrayList<>();
+        List<Terminal> towerTerminals = tower.getTerminals();
+        for (int i = 0; i < towerTerminals.size(); ++i) {
+            Terminal terminal = towerTerminals.get(i);
+            List<GateSnapshot> gates = new ArrayList<>();
+            for (Gate gate : terminal.getGates()) {
+                Aircraft parked = gate.getAircraftAtGate();
+                gates.add(new GateSnapshot(gate.getGateNumber(),
+                        parked == null ? null : snapshotOf(parked, byId, previous)));
+            }
+            terminals.add(new TerminalSnapshot(i, terminal, gates));
+        }
+
+        List<LoadingSnapshot> loading = new ArrayList<>();
+        for (Map.Entry<Aircraft, Integer> entry : tower.getLoadingAircraft().entrySet()) {
+            Gate gate = tower.findGateOfAircraft(entry.getKey());
+            loading.add(new LoadingSnapshot(snapshotOf(entry.getKey(), byId, previous),
+                    gate == null ? -1 : gate.getGateNumber(), entry.getValue()));
+        }
+
+        return new TowerSnapshot(tower.getTicksElapsed(),
+                List.copyOf(all),
+                byId,
+                snapshotsOf(tower.getTakeoffQueue().getAircraftInOrder(), byId, previous),
+                snapshotsOf(tower.getLandingQueue().getAircraftInOrder(), byId, previous),
+                List.copyOf(away),
+                List.copyOf(terminals),
+                List.copyOf(loading));
+    }
+
+    /**
+     * Returns the shared snapshot of the given aircraft, capturing it if not already captured.
+     * An unchanged aircraft snapshot from the previous tower snapshot, if any, is reused.
+     */
+    private static AircraftSnapshot snapshotOf(Aircraft aircraft, AircraftSnapshot[] byId,
+                                               TowerSnapshot previous) {
+        int id = aircraft.getId();
+        AircraftSnapshot earlier = previous == null ? null : previous.getAircraftById(id);
+        if (id < 0 || id >= byId.length) {
+            return AircraftSnapshot.capture(aircraft, earlier);
+        }
+        if (byId[id] == null) {
+            byId[id] = AircraftSnapshot.capture(aircraft, earlier);
+        }
+        return byId[id];
+    }
+
+    /**
+     * Returns an unmodifiable list of the shared snapshots of the given aircraft.
+     */
+    private static List<AircraftSnapshot> snapshotsOf(List<Aircraft> aircraft,
+                                                      AircraftSnapshot[] byId,
+                                                      TowerSnapshot previous) {
+        List<AircraftSnapshot> snapshots = new ArrayList<>(aircraft.size());
+        for (Aircraft each : aircraft) {
+            snapshots.add(snapshotOf(each, byId, previous));
+        }
+        return List.copyOf(snapshots);
+    }
+
+    /**
+     * Returns the number of ticks elapsed.
+     *
+     * @return ticks elapsed
+     */
+    public long getTicksElapsed() {
+        return ticksElapsed;
+    }
+
+    /**
+     * Returns all aircraft managed by the control tower, in the order they were added.
+     *
+     * @return unmodifiable list of aircraft
+     */
+    public List<AircraftSnapshot> getAircraft() {
+        return aircraft;
+    }
+
+    /**
+     * Returns the snapshot of the aircraft with the given ID, or null if there is none.
+     *
+     * @param id aircraft ID
+     * @return aircraft with the given ID; or null
+     */
+    public AircraftSnapshot getAircraftById(int id) {
+        if (id < 0 || id >= aircraftById.length) {
+            return null;
+        }
+        return aircraftById[id];
+    }
+
+    /**
+     * Returns the aircraft in the takeoff queue, in queue order.
+     *
+     * @return unmodifiable takeoff queue
+     */
+    public List<AircraftSnapshot> getTakeoffQueue() {
+        return takeoffQueue;
+    }
+
+    /**
+     * Returns the aircraft in the landing queue, in queue order.
+     *
+     * @return unmodifiable landing queue
+     */
+    public List<AircraftSnapshot> getLandingQueue() {
+        return landingQueue;
+    }
+
+    /**
+     * Returns the aircraft whose current task is AWAY.
+     *
+     * @return unmodifiable list of away aircraft
+     */
+    public List<AircraftSnapshot> getAwayAircraft() {
+        return awayAircraft;
+    }
+
+    /**
+     * Returns the terminals and their gates, in the order they were added.
+     *
+     * @return unmodifiable list of terminals
+     */
+    public List<TerminalSnapshot> getTerminals() {
+        return terminals;
+    }
+
+    /**
+     * Returns the aircraft currently loading at gates.
+     *
+     * @return unmodifiable list of loading aircraft
+     */
+    public List<LoadingSnapshot> getLoadingAircraft() {
+        return loadingAircraft;
+    }
+}
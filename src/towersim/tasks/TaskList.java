@@ -38,6 +38,19 @@ public class TaskList implements Encodable {
         }
     }
 
+    /**
+     * Creates a copy of the given task list, with the same current task.
+     * <p>
+     * The copy shares the other list's tasks, which are never modified once a task list has
+     * been created, but moving to the next task in one list does not affect the other.
+     *
+     * @param other task list to copy
+     */
+    public TaskList(TaskList other) {
+        this.tasks = other.tasks;
+        this.currentTaskIndex = other.currentTaskIndex;
+    }
+
     /**
      * Parses the task list to match list order requirements
      *
@@ -139,6 +152,21 @@ public class TaskList implements Encodable {
         this.currentTaskIndex = (this.currentTaskIndex + 1) % this.tasks.size();
     }
 
+    /**
+     * Returns true if this task list has the same tasks as the other given list and is on the
+     * same current task.
+     * <p>
+     * A list and its copies share their tasks, so comparing a list with one of its copies does
+     * not need to compare the tasks one by one.
+     *
+     * @param other task list to compare with
+     * @return true if the lists have the same tasks and current task; false otherwise
+     */
+    public boolean hasSameProgressAs(TaskList other) {
+        return this.currentTaskIndex == other.currentTaskIndex
+                && (this.tasks == other.tasks || this.tasks.equals(other.tasks));
+    }
+
     /**
      * Returns the human-readable string representation of this task list.
      * <p>
@@ -0,0 +1,26 @@
+package towersim.util;
+
+/**
+ * Derives independent random seeds for the members of a reproducible randomised set, such as the
+ * runs of a capacity plan or the aircraft of a generated save.
+ */
+public final class Seeds {
+
+    private Seeds() {
+    }
+
+    /**
+     * Mixes the given index into the given seed, with the SplitMix64 finaliser, so that members
+     * with consecutive indices do not share overlapping random sequences.
+     *
+     * @param seed  seed of the whole set
+     * @param index index of the member within the set
+     * @return seed of the member
+     */
+    public static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
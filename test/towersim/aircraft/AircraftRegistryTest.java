@@ -0,0 +1,102 @@
+package towersim.aircraft;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AircraftRegistryTest {
+    private AircraftRegistry registry;
+
+    private Aircraft passengerAircraft1;
+    private Aircraft passengerAircraft2;
+    private Aircraft fCraft1;
+
+    @Before
+    public void setup() {
+        TaskList taskList1 = new TaskList(List.of(
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 100),
+                new Task(TaskType.TAKEOFF),
+                new Task(TaskType.AWAY),
+                new Task(TaskType.LAND)));
+
+        this.passengerAircraft1 = new PassengerAircraft("AP1",
+                AircraftCharacteristics.AIRBUS_A320,
+                taskList1,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity / 10, 0);
+
+        this.passengerAircraft2 = new PassengerAircraft("AP2",
+                AircraftCharacteristics.AIRBUS_A320,
+                taskList1,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+
+        this.fCraft1 = new FreightAircraft("fcraft1",
+                AircraftCharacteristics.BOEING_747_8F,
+                taskList1,
+                AircraftCharacteristics.BOEING_747_8F.fuelCapacity, 0);
+
+        this.registry = new AircraftRegistry();
+    }
+
+    @Test
+    public void unregisteredAircraft_Test() {
+        assertEquals("New aircraft should have no ID", Aircraft.NO_ID,
+                passengerAircraft1.getId());
+        assertFalse(registry.contains(passengerAircraft1));
+        assertEquals(0, registry.size());
+        assertNull(registry.get(0));
+    }
+
+    @Test
+    public void register_DenseIdsTest() {
+        assertEquals(0, registry.register(passengerAircraft1));
+        assertEquals(1, registry.register(passengerAircraft2));
+        assertEquals(2, registry.register(fCraft1));
+
+        assertEquals(1, passengerAircraft2.getId());
+        assertSame(fCraft1, registry.get(2));
+        assertEquals(3, registry.size());
+        assertTrue(registry.contains(passengerAircraft1));
+    }
+
+    @Test
+    public void register_TwiceTest() {
+        registry.register(passengerAircraft1);
+        assertEquals("Registering an aircraft twice should not allocate a new ID", 0,
+                registry.register(passengerAircraft1));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void register_GrowsTest() {
+        TaskList taskList = new TaskList(List.of(new Task(TaskType.WAIT)));
+        for (int i = 0; i < 100; ++i) {
+            registry.register(new PassengerAircraft("GRW" + i,
+                    AircraftCharacteristics.AIRBUS_A320, taskList, 0, 0));
+        }
+        assertEquals(100, registry.size());
+        assertEquals("GRW99", registry.get(99).getCallsign());
+    }
+
+    @Test
+    public void contains_OtherRegistryTest() {
+        AircraftRegistry other = new AircraftRegistry();
+        registry.register(passengerAircraft1);
+        other.register(passengerAircraft2);
+
+        assertFalse("Aircraft registered elsewhere should not be contained",
+                registry.contains(passengerAircraft2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_OtherRegistryTest() {
+        new AircraftRegistry().register(passengerAircraft1);
+        registry.register(passengerAircraft1);
+    }
+}
@@ -0,0 +1,103 @@
+package towersim.benchmark;
+
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.control.ControlTower;
+import towersim.control.ControlTowerInitialiser;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.tasks.TaskType;
+import towersim.util.MalformedSaveException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+public class SaveGeneratorTest {
+
+    /* Generates a save and returns the contents of its four files */
+    private static String[] generate(SaveGenerator generator) throws IOException {
+        StringWriter[] writers = new StringWriter[4];
+        for (int i = 0; i < writers.length; ++i) {
+            writers[i] = new StringWriter();
+        }
+        generator.generate(writers[0], writers[1], writers[2], writers[3]);
+        String[] files = new String[writers.length];
+        for (int i = 0; i < files.length; ++i) {
+            files[i] = writers[i].toString();
+        }
+        return files;
+    }
+
+    private static ControlTower load(String[] files) throws MalformedSaveException, IOException {
+        return ControlTowerInitialiser.createControlTower(new StringReader(files[0]),
+                new StringReader(files[1]), new StringReader(files[2]),
+                new StringReader(files[3]));
+    }
+
+    @Test
+    public void generate_LoadsTest() throws IOException, MalformedSaveException {
+        ControlTower tower = load(generate(new SaveGenerator(1000, 3, 16, 20)));
+        assertEquals(1000, tower.getAircraft().size());
+        assertEquals(0, tower.getTicksElapsed());
+        assertTrue(tower.getNumTerminals() > 1);
+        for (Terminal terminal : tower.getTerminals()) {
+            assertTrue(terminal.getNumGates() <= 16);
+        }
+    }
+
+    @Test
+    public void generate_ConsistentTest() throws IOException, MalformedSaveException {
+        ControlTower tower = load(generate(new SaveGenerator(1000, 11)));
+        int parked = 0;
+        for (Aircraft aircraft : tower.getAircraft()) {
+            TaskType current = aircraft.getTaskList().getCurrentTask().getType();
+            Gate gate = tower.findGateOfAircraft(aircraft);
+            assertEquals("Aircraft should be in the landing queue if and only if landing next",
+                    current == TaskType.LAND, tower.getLandingQueue().containsAircraft(aircraft));
+            assertEquals(current == TaskType.TAKEOFF,
+                    tower.getTakeoffQueue().containsAircraft(aircraft));
+            assertEquals(current == TaskType.LOAD,
+                    tower.getLoadingAircraft().containsKey(aircraft));
+            assertEquals("Aircraft should be parked if and only if waiting or loading",
+                    current == TaskType.WAIT || current == TaskType.LOAD, gate != null);
+            if (gate != null) {
+                parked++;
+            }
+        }
+        assertEquals(parked, tower.getNumOccupiedGates());
+        assertTrue("Some gates should be spare", tower.getNumGates() > parked);
+    }
+
+    @Test
+    public void generate_TicksTest() throws IOException, MalformedSaveException {
+        ControlTower tower = load(generate(new SaveGenerator(500, 5)));
+        for (int i = 0; i < 200; ++i) {
+            tower.tick();
+        }
+        assertTrue(tower.getMetrics().getLandings() > 0);
+        assertTrue(tower.getMetrics().getTakeoffs() > 0);
+    }
+
+    @Test
+    public void generate_DeterministicTest() throws IOException {
+        assertArrayEquals(generate(new SaveGenerator(300, 7)),
+                generate(new SaveGenerator(300, 7)));
+        assertNotEquals(generate(new SaveGenerator(300, 7))[1],
+                generate(new SaveGenerator(300, 8))[1]);
+    }
+
+    @Test
+    public void generate_EmptyTest() throws IOException, MalformedSaveException {
+        ControlTower tower = load(generate(new SaveGenerator(0, 1)));
+        assertEquals(0, tower.getAircraft().size());
+        assertEquals(0, tower.getNumTerminals());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void generator_InvalidGatesPerTerminalTest() {
+        new SaveGenerator(10, 1, Terminal.MAX_LARGE_TERMINAL_GATES + 1, 20);
+    }
+}
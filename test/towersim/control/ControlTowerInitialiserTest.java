@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -134,6 +135,42 @@ public class ControlTowerInitialiserTest {
     }
 
 
+    @Test
+    public void loadTerminals_LargeTerminalTest() throws MalformedSaveException {
+        List<String> lines = new ArrayList<>(List.of("1", "HelicopterTerminal:3:false:10:100"));
+        for (int i = 1; i <= 10; ++i) {
+            lines.add(i + ":" + (i == 7 ? "UTD302" : "empty"));
+        }
+        try {
+            List<Terminal> loadedTerminals = ControlTowerInitialiser.loadTerminalsWithGates(
+                    new StringReader(String.join(System.lineSeparator(), lines)), craftsList);
+            Terminal terminal = loadedTerminals.get(0);
+            assertEquals(100, terminal.getMaxGates());
+            assertEquals(10, terminal.getNumGates());
+            assertEquals(1, terminal.getNumOccupiedGates());
+            assertEquals(String.join(System.lineSeparator(), lines.subList(1, lines.size())),
+                    terminal.encode());
+        } catch (IOException e) {
+            fail("Should not be malformed");
+        }
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadTerminals_TooManyGatesTest() throws MalformedSaveException, IOException {
+        List<String> lines = new ArrayList<>(List.of("1", "AirplaneTerminal:1:false:7"));
+        for (int i = 1; i <= 7; ++i) {
+            lines.add(i + ":empty");
+        }
+        ControlTowerInitialiser.loadTerminalsWithGates(
+                new StringReader(String.join(System.lineSeparator(), lines)), craftsList);
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadTerminals_InvalidMaxGatesTest() throws MalformedSaveException, IOException {
+        ControlTowerInitialiser.loadTerminalsWithGates(new StringReader(String.join(
+                System.lineSeparator(), "1", "AirplaneTerminal:1:false:0:1000")), craftsList);
+    }
+
     @Test
     public void loadTerminals_Test() throws MalformedSaveException {
         try {
@@ -487,4 +524,42 @@ public class ControlTowerInitialiserTest {
         }
     }
 
+    //Following Tests are for loadRunways()
+    @Test
+    public void loadRunways_DefaultTest() throws MalformedSaveException, IOException {
+        assertEquals(List.of(RunwayMode.MIXED),
+                ControlTowerInitialiser.loadRunways(new StringReader("")));
+    }
+
+    @Test
+    public void loadRunways_Test() throws MalformedSaveException, IOException {
+        BufferedReader br = new BufferedReader(new StringReader(String.join(
+                System.lineSeparator(), "12", "Runways:LANDING,TAKEOFF,MIXED")));
+        assertEquals(12, ControlTowerInitialiser.loadTick(br));
+        assertEquals(List.of(RunwayMode.LANDING, RunwayMode.TAKEOFF, RunwayMode.MIXED),
+                ControlTowerInitialiser.loadRunways(br));
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadRunwaysMalformedPrefix_Test() throws MalformedSaveException, IOException {
+        ControlTowerInitialiser.loadRunways(new StringReader("Runway:MIXED"));
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadRunwaysMalformedMode_Test() throws MalformedSaveException, IOException {
+        ControlTowerInitialiser.loadRunways(new StringReader("Runways:MIXED,,LANDING"));
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadRunwaysMalformedExtraLine_Test() throws MalformedSaveException,
+            IOException {
+        ControlTowerInitialiser.loadRunways(new StringReader(String.join(System.lineSeparator(),
+                "Runways:MIXED", "Runways:MIXED")));
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void loadRunwaysMalformedTooMany_Test() throws MalformedSaveException, IOException {
+        ControlTowerInitialiser.loadRunways(new StringReader("Runways:" + String.join(",",
+                Collections.nCopies(ControlTower.MAX_RUNWAYS + 1, "MIXED"))));
+    }
 }
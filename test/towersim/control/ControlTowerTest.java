@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
 import towersim.aircraft.FreightAircraft;
 import towersim.aircraft.PassengerAircraft;
 import towersim.ground.AirplaneTerminal;
@@ -485,4 +486,216 @@ public class ControlTowerTest {
                 AircraftCharacteristics.ROBINSON_R44.fuelCapacity,
                 passengerAircraftLoadingSingleTick.getFuelAmount(), 1e-5);
     }
+
+    @Test
+    public void addAircraft_AssignsIdTest() {
+        tower.addTerminal(airplaneTerminal1);
+        try {
+            airplaneTerminal1.addGate(gate1);
+            tower.addAircraft(passengerAircraft1);
+            tower.addAircraft(passengerAircraftTakingOff);
+        } catch (NoSpaceException | NoSuitableGateException e) {
+            fail("Adding aircraft with spare suitable gates should not throw");
+        }
+
+        assertEquals(0, passengerAircraft1.getId());
+        assertEquals(1, passengerAircraftTakingOff.getId());
+        assertSame(passengerAircraftTakingOff, tower.getAircraftById(1));
+        assertNull(tower.getAircraftById(2));
+        assertEquals("findGateOfAircraft() should return the gate the tower parked the aircraft at",
+                gate1, tower.findGateOfAircraft(passengerAircraft1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addAircraft_ManagedByOtherTowerTest() throws NoSuitableGateException {
+        tower.addAircraft(passengerAircraftLanding);
+        towerA2.addAircraft(passengerAircraftLanding);
+    }
+
+    @Test
+    public void addAircraft_TwiceTest() throws NoSuitableGateException {
+        tower.addAircraft(passengerAircraftLanding);
+        try {
+            tower.addAircraft(passengerAircraftLanding);
+            fail("Adding an aircraft twice should throw");
+        } catch (IllegalArgumentException expected) {
+            assertEquals(1, tower.getAircraft().size());
+            assertEquals(0, passengerAircraftLanding.getId());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_UnmanagedQueuedAircraftTest() {
+        LandingQueue landingQueue = new LandingQueue();
+        landingQueue.addAircraft(passengerAircraftLanding);
+        new ControlTower(0, new ArrayList<>(), landingQueue, new TakeoffQueue(),
+                new HashMap<>());
+    }
+
+    @Test
+    public void tick_QueuesEachAircraftOnceTest() {
+        tower.addTerminal(airplaneTerminal1);
+        try {
+            airplaneTerminal1.addGate(gate1);
+            tower.addAircraft(passengerAircraftLanding);
+        } catch (NoSpaceException | NoSuitableGateException e) {
+            fail("Adding aircraft with spare suitable gates should not throw");
+        }
+        tower.placeAllAircraftInQueues();
+        tower.placeAllAircraftInQueues();
+
+        assertEquals(List.of(passengerAircraftLanding),
+                tower.getLandingQueue().getAircraftInOrder());
+
+        // tick 0 is a takeoff tick, tick 1 lands the aircraft at gate 1
+        tower.tick();
+        tower.tick();
+        assertFalse(tower.getLandingQueue().containsAircraft(passengerAircraftLanding));
+        assertEquals(gate1, tower.findGateOfAircraft(passengerAircraftLanding));
+    }
+
+    @Test
+    public void tick_RecordsMetricsTest() {
+        tower.addTerminal(airplaneTerminal1);
+        try {
+            tower.addAircraft(passengerAircraftLanding);
+            tower.addAircraft(passengerAircraftTakingOff);
+        } catch (NoSuitableGateException e) {
+            fail("Adding LAND/TAKEOFF aircraft should not require a gate");
+        }
+
+        tower.tick(); // takeoff tick
+        tower.tick(); // landing tick, but airplaneTerminal1 has no gates
+
+        assertEquals(2, tower.getMetrics().getTicksMeasured());
+        assertEquals(1, tower.getMetrics().getTakeoffs());
+        assertEquals(0, tower.getMetrics().getLandings());
+        assertEquals(1, tower.getMetrics().getFailedLandingsNoGate());
+        assertEquals(1, tower.getMetrics().getLandingQueueDepth());
+    }
+
+    @Test
+    public void tick_NotifiesListenersTest() {
+        tower.addTerminal(airplaneTerminal1);
+        try {
+            airplaneTerminal1.addGate(gate1);
+            tower.addAircraft(passengerAircraftLanding);
+            tower.addAircraft(passengerAircraftTakingOff);
+        } catch (NoSpaceException | NoSuitableGateException e) {
+            fail("Adding aircraft with spare suitable gates should not throw");
+        }
+
+        List<String> events = new ArrayList<>();
+        TowerListener listener = new TowerListener() {
+            @Override
+            public void aircraftLanded(Aircraft aircraft, Gate gate) {
+                events.add("landed " + aircraft.getCallsign() + " at " + gate.getGateNumber());
+            }
+
+            @Override
+            public void aircraftTookOff(Aircraft aircraft) {
+                events.add("tookOff " + aircraft.getCallsign());
+            }
+
+            @Override
+            public void tickCompleted(long ticksElapsed) {
+                events.add("tick " + ticksElapsed);
+            }
+        };
+        tower.addListener(listener);
+
+        tower.tick(); // takeoff tick
+        tower.tick(); // landing tick
+        assertEquals(List.of("tookOff TAK001", "tick 1", "landed LAN001 at 1", "tick 2"),
+                events);
+
+        tower.removeListener(listener);
+        tower.tick();
+        assertEquals("Removed listeners should not be notified", 4, events.size());
+    }
+
+    @Test
+    public void tick_ListenerRemovesItselfTest() throws NoSuitableGateException {
+        tower.addTerminal(airplaneTerminal1);
+        tower.addAircraft(passengerAircraftTakingOff);
+
+        List<String> events = new ArrayList<>();
+        tower.addListener(new TowerListener() {
+            @Override
+            public void aircraftTookOff(Aircraft aircraft) {
+                events.add("once " + aircraft.getCallsign());
+                tower.removeListener(this);
+            }
+        });
+        tower.addListener(new TowerListener() {
+            @Override
+            public void tickCompleted(long ticksElapsed) {
+                events.add("tick " + ticksElapsed);
+            }
+        });
+
+        tower.tick(); // takeoff tick
+        tower.tick();
+        assertEquals("Removing a listener in a callback should not affect the others",
+                List.of("once TAK001", "tick 1", "tick 2"), events);
+    }
+
+    @Test
+    public void loadAircraft_NotifiesListenersTest() {
+        tower.addTerminal(helicopterTerminal1);
+        try {
+            helicopterTerminal1.addGate(gate1);
+            tower.addAircraft(passengerAircraftLoadingSingleTick);
+        } catch (NoSpaceException | NoSuitableGateException e) {
+            fail("Adding aircraft with spare suitable gates should not throw");
+        }
+
+        List<Object> events = new ArrayList<>();
+        tower.addListener(new TowerListener() {
+            @Override
+            public void loadingComplete(Aircraft aircraft, Gate gate) {
+                events.add(aircraft);
+            }
+
+            @Override
+            public void gateFreed(Gate gate) {
+                events.add(gate);
+            }
+
+            @Override
+            public void queuedForTakeoff(Aircraft aircraft) {
+                events.add(aircraft.getTaskList().getCurrentTask().getType());
+            }
+        });
+
+        tower.tick();
+        assertEquals(List.of(passengerAircraftLoadingSingleTick, gate1, TaskType.TAKEOFF),
+                events);
+        assertFalse(gate1.isOccupied());
+    }
+
+    @Test
+    public void occupiedGateCounters_Test() throws NoSpaceException, NoSuitableGateException {
+        gate1.parkAircraft(passengerAircraft1);
+        airplaneTerminal1.addGate(gate1);
+        airplaneTerminal1.addGate(gate2);
+        tower.addTerminal(airplaneTerminal1);
+        tower.addTerminal(helicopterTerminal1);
+        helicopterTerminal1.addGate(gate3);
+
+        assertEquals(3, tower.getNumGates());
+        assertEquals(1, tower.getNumOccupiedGates(AircraftType.AIRPLANE));
+        assertEquals(0, tower.getNumOccupiedGates(AircraftType.HELICOPTER));
+
+        tower.addAircraft(passengerAircraftLoadingSingleTick);
+        assertEquals(1, tower.getNumOccupiedGates(AircraftType.HELICOPTER));
+        assertEquals(2, tower.getNumOccupiedGates());
+
+        tower.tick();
+        assertEquals("Counters should be updated when an aircraft leaves its gate",
+                0, tower.getNumOccupiedGates(AircraftType.HELICOPTER));
+        assertEquals(1, tower.getNumOccupiedGates());
+        assertEquals(3, tower.getMetrics().getNumGates());
+        assertArrayEquals(new int[] {0, 1}, tower.getMetrics().getOccupiedGatesByType());
+    }
 }
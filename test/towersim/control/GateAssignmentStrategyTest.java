@@ -0,0 +1,165 @@
+package towersim.control;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GateAssignmentStrategyTest {
+    private ControlTower tower;
+    private Terminal small;
+    private Terminal large;
+    private Terminal helicopterTerminal;
+    private int nextGateNumber;
+    private int nextCallsign;
+
+    @Before
+    public void setup() throws NoSpaceException {
+        tower = new ControlTower(0, new ArrayList<>(), new LandingQueue(), new TakeoffQueue(),
+                new HashMap<>());
+        small = new AirplaneTerminal(1);
+        large = new AirplaneTerminal(2, 20);
+        helicopterTerminal = new HelicopterTerminal(3);
+        addGates(small, 2);
+        addGates(large, 6);
+        addGates(helicopterTerminal, 1);
+        tower.addTerminal(small);
+        tower.addTerminal(large);
+        tower.addTerminal(helicopterTerminal);
+    }
+
+    private void addGates(Terminal terminal, int count) throws NoSpaceException {
+        for (int i = 0; i < count; ++i) {
+            terminal.addGate(new Gate(++nextGateNumber));
+        }
+    }
+
+    private Aircraft airplane() {
+        return new PassengerAircraft("GA" + (++nextCallsign), AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.LOAD), new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+    }
+
+    /* Finds a gate for a new airplane, parks it there and returns the gate's terminal */
+    private Terminal parkAirplane() throws NoSuitableGateException, NoSpaceException {
+        Aircraft aircraft = airplane();
+        Gate gate = tower.findUnoccupiedGate(aircraft);
+        gate.parkAircraft(aircraft);
+        return small.getGates().contains(gate) ? small : large;
+    }
+
+    @Test
+    public void firstFit_IsDefaultTest() throws NoSuitableGateException, NoSpaceException {
+        assertTrue(tower.getGateAssignmentStrategy() instanceof FirstFitGateAssignment);
+        assertSame(small, parkAirplane());
+        assertSame(small, parkAirplane());
+        assertSame("Later terminals should be used once earlier ones are full",
+                large, parkAirplane());
+    }
+
+    @Test
+    public void firstFit_FreedGateReusedTest() throws NoSuitableGateException,
+            NoSpaceException {
+        parkAirplane();
+        parkAirplane();
+        parkAirplane();
+        small.getGate(1).aircraftLeaves();
+        assertSame(small.getGate(1), tower.findUnoccupiedGate(airplane()));
+    }
+
+    @Test
+    public void leastOccupied_Test() throws NoSuitableGateException, NoSpaceException {
+        tower.setGateAssignmentStrategy(new LeastOccupiedGateAssignment());
+        assertSame(small, parkAirplane()); // both empty, first added wins
+        assertSame(large, parkAirplane()); // small 50%, large 0%
+        assertSame(large, parkAirplane()); // small 50%, large 17%
+        assertSame(large, parkAirplane()); // small 50%, large 33%
+        assertSame(small, parkAirplane()); // small 50%, large 50%
+        assertEquals(2, small.getNumOccupiedGates());
+    }
+
+    @Test
+    public void roundRobin_Test() throws NoSuitableGateException, NoSpaceException {
+        tower.setGateAssignmentStrategy(new RoundRobinGateAssignment());
+        assertSame(small, parkAirplane());
+        assertSame(large, parkAirplane());
+        assertSame(small, parkAirplane());
+        assertSame(large, parkAirplane());
+        assertSame("Full terminals should be skipped", large, parkAirplane());
+    }
+
+    @Test
+    public void bestFit_Test() throws NoSuitableGateException, NoSpaceException {
+        tower.setGateAssignmentStrategy(new BestFitGateAssignment());
+        assertSame(small, parkAirplane());
+        assertSame(small, parkAirplane());
+        assertSame(large, parkAirplane());
+        large.getGate(0).aircraftLeaves();
+        small.getGate(0).aircraftLeaves();
+        assertSame("The terminal with the fewest free gates should be chosen",
+                small, parkAirplane());
+    }
+
+    @Test
+    public void strategies_SkipEmergencyTest() throws NoSuitableGateException,
+            NoSpaceException {
+        List<GateAssignmentStrategy> strategies = List.of(new FirstFitGateAssignment(),
+                new LeastOccupiedGateAssignment(), new RoundRobinGateAssignment(),
+                new BestFitGateAssignment());
+        small.declareEmergency();
+        for (GateAssignmentStrategy strategy : strategies) {
+            tower.setGateAssignmentStrategy(strategy);
+            assertSame(large, parkAirplane());
+        }
+    }
+
+    @Test
+    public void strategies_NoSuitableGateTest() throws NoSpaceException {
+        List<GateAssignmentStrategy> strategies = List.of(new FirstFitGateAssignment(),
+                new LeastOccupiedGateAssignment(), new RoundRobinGateAssignment(),
+                new BestFitGateAssignment());
+        large.declareEmergency();
+        for (Gate gate : small.getGates()) {
+            gate.parkAircraft(airplane());
+        }
+        for (GateAssignmentStrategy strategy : strategies) {
+            tower.setGateAssignmentStrategy(strategy);
+            try {
+                tower.findUnoccupiedGate(airplane());
+                fail("Finding a gate when every suitable gate is occupied or in an emergency"
+                        + " terminal should result in a NoSuitableGateException");
+            } catch (NoSuitableGateException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void strategies_TerminalAddedLaterTest() throws NoSuitableGateException,
+            NoSpaceException {
+        tower.setGateAssignmentStrategy(new LeastOccupiedGateAssignment());
+        Terminal added = new AirplaneTerminal(4);
+        tower.addTerminal(added);
+        addGates(added, 1);
+        small.declareEmergency();
+        large.declareEmergency();
+        assertSame("Gates added after the terminal should be assignable",
+                added.getGate(0), tower.findUnoccupiedGate(airplane()));
+    }
+}
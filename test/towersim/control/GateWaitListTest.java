@@ -0,0 +1,166 @@
+package towersim.control;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GateWaitListTest {
+    private ControlTower tower;
+    private Terminal terminal;
+    private CountingGateAssignment strategy;
+    private int nextCallsign;
+
+    /* First fit strategy that counts the searches made */
+    private static class CountingGateAssignment extends FirstFitGateAssignment {
+        private int searches;
+
+        @Override
+        public Gate findUnoccupiedGate(Aircraft aircraft) throws NoSuitableGateException {
+            searches++;
+            return super.findUnoccupiedGate(aircraft);
+        }
+    }
+
+    @Before
+    public void setup() throws NoSpaceException, NoSuitableGateException {
+        tower = new ControlTower(0, new ArrayList<>(), new LandingQueue(), new TakeoffQueue(),
+                new HashMap<>());
+        terminal = new AirplaneTerminal(1);
+        terminal.addGate(new Gate(1));
+        terminal.addGate(new Gate(2));
+        tower.addTerminal(terminal);
+        strategy = new CountingGateAssignment();
+        tower.setGateAssignmentStrategy(strategy);
+        // Fill both gates
+        tower.addAircraft(airplane(TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY,
+                TaskType.LAND));
+        tower.addAircraft(airplane(TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY,
+                TaskType.LAND));
+        strategy.searches = 0;
+    }
+
+    private Aircraft airplane(TaskType... types) {
+        List<Task> tasks = new ArrayList<>();
+        for (TaskType type : types) {
+            tasks.add(type == TaskType.LOAD ? new Task(type, 50) : new Task(type));
+        }
+        return new PassengerAircraft("GW" + (++nextCallsign), AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(tasks), AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+    }
+
+    private Aircraft landing() throws NoSuitableGateException {
+        Aircraft aircraft = airplane(TaskType.LAND, TaskType.LOAD, TaskType.TAKEOFF,
+                TaskType.AWAY);
+        tower.addAircraft(aircraft);
+        return aircraft;
+    }
+
+    @Test
+    public void failedLanding_SearchesOnceTest() throws NoSuitableGateException {
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        assertFalse(tower.tryLandAircraft());
+        assertFalse(tower.tryLandAircraft());
+        assertEquals("Repeated landing attempts should not search again until a gate is freed",
+                1, strategy.searches);
+        assertEquals(1, tower.getNumAircraftWaitingForGate(AircraftType.AIRPLANE));
+        assertEquals(3, tower.getMetrics().getFailedLandingsNoGate());
+    }
+
+    @Test
+    public void failedLanding_NewArrivalWaitsTest() throws NoSuitableGateException {
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        Aircraft urgent = landing();
+        urgent.declareEmergency();
+        assertFalse(tower.tryLandAircraft());
+        assertEquals(1, strategy.searches);
+        assertEquals(2, tower.getNumAircraftWaitingForGate(AircraftType.AIRPLANE));
+    }
+
+    @Test
+    public void gateFreed_WakesTest() throws NoSuitableGateException {
+        Aircraft waiting = landing();
+        assertFalse(tower.tryLandAircraft());
+        terminal.getGate(1).aircraftLeaves();
+        assertTrue(tower.tryLandAircraft());
+        assertSame(waiting, terminal.getGate(1).getAircraftAtGate());
+        assertEquals(0, tower.getNumAircraftWaitingForGate(AircraftType.AIRPLANE));
+    }
+
+    @Test
+    public void gateAdded_WakesTest() throws NoSuitableGateException, NoSpaceException {
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        terminal.addGate(new Gate(3));
+        assertTrue(tower.tryLandAircraft());
+    }
+
+    @Test
+    public void terminalAdded_WakesTest() throws NoSuitableGateException, NoSpaceException {
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        Terminal added = new AirplaneTerminal(2);
+        added.addGate(new Gate(3));
+        tower.addTerminal(added);
+        assertTrue(tower.tryLandAircraft());
+    }
+
+    @Test
+    public void emergencyCleared_WakesTest() throws NoSuitableGateException {
+        terminal.getGate(0).aircraftLeaves();
+        terminal.declareEmergency();
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        assertFalse(tower.tryLandAircraft());
+        assertEquals(1, strategy.searches);
+        terminal.clearEmergency();
+        assertTrue("Clearing an emergency should wake aircraft waiting for a gate",
+                tower.tryLandAircraft());
+    }
+
+    @Test
+    public void addAircraft_ReservedGateTest() throws NoSuitableGateException {
+        Aircraft waiting = landing();
+        assertFalse(tower.tryLandAircraft());
+        terminal.getGate(0).aircraftLeaves();
+        try {
+            tower.addAircraft(airplane(TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY,
+                    TaskType.LAND));
+            fail("Adding an aircraft at a gate reserved for a waiting aircraft should result in"
+                    + " a NoSuitableGateException");
+        } catch (NoSuitableGateException expected) {
+        }
+        assertTrue(tower.tryLandAircraft());
+        assertSame(waiting, terminal.getGate(0).getAircraftAtGate());
+    }
+
+    @Test
+    public void addAircraft_UnreservedGateTest() throws NoSuitableGateException {
+        landing();
+        assertFalse(tower.tryLandAircraft());
+        terminal.getGate(0).aircraftLeaves();
+        terminal.getGate(1).aircraftLeaves();
+        tower.addAircraft(airplane(TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY,
+                TaskType.LAND));
+        assertEquals(1, terminal.getNumOccupiedGates());
+        assertTrue(tower.tryLandAircraft());
+    }
+}
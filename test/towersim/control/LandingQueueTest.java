@@ -98,6 +98,20 @@ public class LandingQueueTest {
                 AircraftCharacteristics.BOEING_747_8F.fuelCapacity * 0, 0);
     }
 
+    @Test
+    public void getNumFuelCritical_Test() {
+        LandingQueue q1 = new LandingQueue();
+        assertEquals(0, q1.getNumFuelCritical());
+        q1.addAircraft(passengerAircraft1);
+        q1.addAircraft(passengerAircraft2);
+        q1.addAircraft(fCraft4);
+        q1.addAircraft(pCraft1);
+        assertEquals("Aircraft at exactly the critical level should count",
+                3, q1.getNumFuelCritical());
+        q1.removeAircraft();
+        assertEquals(2, q1.getNumFuelCritical());
+    }
+
     @Test
     public void encode_Test() {
         LandingQueue q1 = new LandingQueue();
@@ -530,5 +544,20 @@ public class LandingQueueTest {
         assertTrue("Aircraft added incorrectly", q1.containsAircraft(passengerAircraft1));
     }
 
+    @Test
+    public void forEachInOrder_Test() {
+        //Visiting the queue in place should match the copied, ordered list.
+        LandingQueue q1 = new LandingQueue();
+        q1.addAircraft(fCraft2);
+        q1.addAircraft(fCraft4);
+        fCraft4.declareEmergency();
+        q1.addAircraft(passengerAircraft2);
+        q1.addAircraft(pCraft1); //Low Fuel
+        q1.addAircraft(passengerAircraft3);
 
+        List<Aircraft> visited = new ArrayList<>();
+        q1.forEachInOrder(visited::add);
+
+        assertEquals("Order mismatch", q1.getAircraftInOrder(), visited);
+    }
 }
@@ -0,0 +1,173 @@
+package towersim.control;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RunwaySchedulingPolicyTest {
+    private ControlTower tower;
+    private Terminal terminal;
+    private int nextCallsign;
+
+    @Before
+    public void setup() throws NoSpaceException {
+        tower = new ControlTower(0, new ArrayList<>(), new LandingQueue(), new TakeoffQueue(),
+                new HashMap<>());
+        terminal = new AirplaneTerminal(1);
+        terminal.addGate(new Gate(1));
+        terminal.addGate(new Gate(2));
+        tower.addTerminal(terminal);
+    }
+
+    private Aircraft airplane(double fuelFraction, TaskType... types) {
+        List<Task> tasks = new ArrayList<>();
+        for (TaskType type : types) {
+            tasks.add(type == TaskType.LOAD ? new Task(type, 50) : new Task(type));
+        }
+        return new PassengerAircraft("RS" + (++nextCallsign), AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(tasks),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity * fuelFraction, 0);
+    }
+
+    private Aircraft landing() {
+        return airplane(1, TaskType.LAND, TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY);
+    }
+
+    private Aircraft takingOff() {
+        return airplane(1, TaskType.TAKEOFF, TaskType.AWAY, TaskType.LAND, TaskType.LOAD);
+    }
+
+    /* Adds the given numbers of aircraft to the tower's landing and takeoff queues */
+    private void queue(int landings, int takeoffs) throws NoSuitableGateException {
+        for (int i = 0; i < landings; ++i) {
+            tower.addAircraft(landing());
+        }
+        for (int i = 0; i < takeoffs; ++i) {
+            tower.addAircraft(takingOff());
+        }
+    }
+
+    @Test
+    public void alternating_IsDefaultTest() {
+        assertTrue(tower.getRunwaySchedulingPolicy() instanceof AlternatingRunwayPolicy);
+        RunwaySchedulingPolicy policy = tower.getRunwaySchedulingPolicy();
+        assertEquals(RunwayMovement.TAKEOFF, policy.chooseMovement(tower, 0));
+        assertEquals(RunwayMovement.LAND_ELSE_TAKEOFF, policy.chooseMovement(tower, 1));
+    }
+
+    @Test
+    public void longestQueue_Test() throws NoSuitableGateException {
+        RunwaySchedulingPolicy policy = new LongestQueueRunwayPolicy();
+        queue(1, 3);
+        assertEquals(RunwayMovement.TAKEOFF_ELSE_LAND, policy.chooseMovement(tower, 0));
+        queue(2, 0);
+        assertEquals("Ties should be broken in favour of landing",
+                RunwayMovement.LAND_ELSE_TAKEOFF, policy.chooseMovement(tower, 0));
+    }
+
+    @Test
+    public void longestQueue_UsesIdleTickTest() throws NoSuitableGateException {
+        tower.setRunwaySchedulingPolicy(new LongestQueueRunwayPolicy());
+        queue(2, 0);
+        tower.tick();
+        assertEquals("A landing should be made on a tick the default policy only allows takeoffs",
+                1, tower.getLandingQueue().size());
+    }
+
+    @Test
+    public void adaptive_EmptyLandingQueueTest() {
+        assertEquals(RunwayMovement.TAKEOFF,
+                new AdaptiveRunwayPolicy().chooseMovement(tower, 0));
+    }
+
+    @Test
+    public void adaptive_NoFreeGateTest() throws NoSpaceException,
+            NoSuitableGateException {
+        for (Gate gate : terminal.getGates()) {
+            gate.parkAircraft(landing());
+        }
+        queue(3, 1);
+        assertEquals("Landing should not be attempted when every gate is occupied",
+                RunwayMovement.TAKEOFF, new AdaptiveRunwayPolicy().chooseMovement(tower, 0));
+    }
+
+    @Test
+    public void adaptive_NoGateForTypeTest() throws NoSuitableGateException {
+        Aircraft helicopter = new PassengerAircraft("RSH", AircraftCharacteristics.ROBINSON_R44,
+                new TaskList(List.of(new Task(TaskType.LAND), new Task(TaskType.LOAD, 50),
+                        new Task(TaskType.TAKEOFF), new Task(TaskType.AWAY))),
+                AircraftCharacteristics.ROBINSON_R44.fuelCapacity, 0);
+        tower.addAircraft(helicopter);
+        assertEquals(RunwayMovement.TAKEOFF,
+                new AdaptiveRunwayPolicy().chooseMovement(tower, 0));
+    }
+
+    @Test
+    public void adaptive_UrgentFuelTest() throws NoSuitableGateException {
+        queue(0, 3);
+        tower.addAircraft(airplane(0.1, TaskType.LAND, TaskType.LOAD,
+                TaskType.TAKEOFF, TaskType.AWAY));
+        assertEquals("An aircraft low on fuel should land ahead of a longer takeoff queue",
+                RunwayMovement.LAND_ELSE_TAKEOFF,
+                new AdaptiveRunwayPolicy().chooseMovement(tower, 0));
+        assertEquals(RunwayMovement.TAKEOFF_ELSE_LAND,
+                new AdaptiveRunwayPolicy(5).chooseMovement(tower, 0));
+    }
+
+    @Test
+    public void adaptive_QueueDepthTest() throws NoSuitableGateException {
+        queue(1, 3);
+        RunwaySchedulingPolicy policy = new AdaptiveRunwayPolicy();
+        assertEquals(RunwayMovement.TAKEOFF_ELSE_LAND, policy.chooseMovement(tower, 0));
+        queue(3, 0);
+        assertEquals(RunwayMovement.LAND_ELSE_TAKEOFF, policy.chooseMovement(tower, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void adaptive_InvalidFuelPercentTest() {
+        new AdaptiveRunwayPolicy(101);
+    }
+
+    @Test
+    public void numGatesByType_Test() throws NoSpaceException {
+        assertEquals(2, tower.getNumGates(AircraftType.AIRPLANE));
+        assertEquals(0, tower.getNumGates(AircraftType.HELICOPTER));
+        Terminal helicopterTerminal = new HelicopterTerminal(2);
+        helicopterTerminal.addGate(new Gate(3));
+        tower.addTerminal(helicopterTerminal);
+        helicopterTerminal.addGate(new Gate(4));
+        terminal.addGate(new Gate(5));
+        assertEquals(3, tower.getNumGates(AircraftType.AIRPLANE));
+        assertEquals(2, tower.getNumGates(AircraftType.HELICOPTER));
+    }
+
+    @Test
+    public void queueWaits_Test() throws NoSuitableGateException {
+        queue(1, 1);
+        tower.tick(); // tick 0: takeoff
+        tower.tick(); // tick 1: landing
+        assertEquals(1, tower.getMetrics().getTakeoffWait().getCount());
+        assertEquals(0, tower.getMetrics().getTakeoffWait().getMaxTicks());
+        assertEquals(1, tower.getMetrics().getLandingWait().getCount());
+        assertEquals("Wait should be counted in ticks",
+                1, tower.getMetrics().getLandingWait().getMaxTicks());
+    }
+}
@@ -0,0 +1,170 @@
+package towersim.control;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+import towersim.util.NoSuitableGateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RunwayTest {
+    private ControlTower tower;
+    private int nextCallsign;
+
+    @Before
+    public void setup() throws NoSpaceException {
+        tower = new ControlTower(0, new ArrayList<>(), new LandingQueue(), new TakeoffQueue(),
+                new HashMap<>());
+        Terminal terminal = new AirplaneTerminal(1);
+        for (int i = 1; i <= Terminal.MAX_NUM_GATES; ++i) {
+            terminal.addGate(new Gate(i));
+        }
+        tower.addTerminal(terminal);
+        for (int i = 0; i < 4; ++i) {
+            tower.getLandingQueue().addAircraft(airplane(TaskType.LAND, TaskType.LOAD,
+                    TaskType.TAKEOFF, TaskType.AWAY));
+            tower.getTakeoffQueue().addAircraft(airplane(TaskType.TAKEOFF, TaskType.AWAY,
+                    TaskType.LAND, TaskType.LOAD));
+        }
+    }
+
+    private Aircraft airplane(TaskType... types) {
+        List<Task> tasks = new ArrayList<>();
+        for (TaskType type : types) {
+            tasks.add(type == TaskType.LOAD ? new Task(type, 50) : new Task(type));
+        }
+        return new PassengerAircraft("RW" + (++nextCallsign), AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(tasks), AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+    }
+
+    @Test
+    public void defaultRunway_Test() {
+        assertEquals(1, tower.getRunways().size());
+        assertEquals(RunwayMode.MIXED, tower.getRunways().get(0).getMode());
+        assertEquals("Runways:MIXED", tower.encodeRunways());
+    }
+
+    @Test
+    public void singleMixedRunway_AlternatesTest() {
+        tower.tick();
+        assertEquals("Only a takeoff should occur on the first tick",
+                4, tower.getLandingQueue().size());
+        assertEquals(3, tower.getTakeoffQueue().size());
+        tower.tick();
+        assertEquals("Only a landing should occur on the second tick",
+                3, tower.getLandingQueue().size());
+        assertEquals(3, tower.getTakeoffQueue().size());
+    }
+
+    @Test
+    public void landingRunways_Test() {
+        tower.setRunways(List.of(RunwayMode.LANDING, RunwayMode.LANDING));
+        tower.tick();
+        assertEquals(2, tower.getLandingQueue().size());
+        assertEquals("Landing runways should never be used for takeoffs",
+                4, tower.getTakeoffQueue().size());
+        Runway runway = tower.getRunways().get(0);
+        assertEquals(1, runway.getLandings());
+        assertEquals(0, runway.getTakeoffs());
+    }
+
+    @Test
+    public void landingAndTakeoffRunways_Test() {
+        tower.setRunways(List.of(RunwayMode.LANDING, RunwayMode.TAKEOFF));
+        tower.tick();
+        tower.tick();
+        assertEquals(2, tower.getLandingQueue().size());
+        assertEquals(2, tower.getTakeoffQueue().size());
+        assertEquals(2, tower.getRunways().get(0).getLandings());
+        assertEquals(2, tower.getRunways().get(1).getTakeoffs());
+    }
+
+    @Test
+    public void mixedRunways_StaggeredTest() {
+        tower.setRunways(List.of(RunwayMode.MIXED, RunwayMode.MIXED));
+        tower.tick();
+        assertEquals("The second mixed runway should attempt a landing on the first tick",
+                3, tower.getLandingQueue().size());
+        assertEquals(3, tower.getTakeoffQueue().size());
+        assertEquals(1, tower.getRunways().get(0).getTakeoffs());
+        assertEquals(1, tower.getRunways().get(1).getLandings());
+    }
+
+    @Test
+    public void mixedRunway_TakesOffWhenNoLandingTest() {
+        tower.setRunways(List.of(RunwayMode.TAKEOFF, RunwayMode.MIXED));
+        while (tower.getLandingQueue().size() > 0) {
+            tower.getLandingQueue().removeAircraft();
+        }
+        tower.tick();
+        assertEquals("A mixed runway should be used for a takeoff if no aircraft can land",
+                2, tower.getTakeoffQueue().size());
+    }
+
+    @Test
+    public void failedLanding_CountedOncePerTickTest() throws NoSuitableGateException {
+        ControlTower fullTower = new ControlTower(0, new ArrayList<>(), new LandingQueue(),
+                new TakeoffQueue(), new HashMap<>());
+        fullTower.addTerminal(new AirplaneTerminal(1));
+        fullTower.addAircraft(airplane(TaskType.LAND, TaskType.LOAD, TaskType.TAKEOFF,
+                TaskType.AWAY));
+        fullTower.addAircraft(airplane(TaskType.TAKEOFF, TaskType.AWAY, TaskType.LAND,
+                TaskType.LOAD));
+        fullTower.setRunways(List.of(RunwayMode.LANDING, RunwayMode.LANDING, RunwayMode.MIXED,
+                RunwayMode.MIXED));
+
+        fullTower.tick();
+        assertEquals("An aircraft refused a gate should be counted once however many runways try",
+                1, fullTower.getMetrics().getFailedLandingsNoGate());
+        assertEquals("A mixed runway should still be used for a takeoff once landing is blocked",
+                0, fullTower.getTakeoffQueue().size());
+        fullTower.tick();
+        assertEquals(2, fullTower.getMetrics().getFailedLandingsNoGate());
+    }
+
+    @Test
+    public void failedLanding_UnmanagedAircraftCountedOncePerTickTest() {
+        tower.setRunways(Collections.nCopies(ControlTower.MAX_RUNWAYS, RunwayMode.LANDING));
+        for (Gate gate : tower.getTerminals().get(0).getGates()) {
+            try {
+                gate.parkAircraft(airplane(TaskType.LOAD, TaskType.TAKEOFF, TaskType.AWAY,
+                        TaskType.LAND));
+            } catch (NoSpaceException e) {
+                fail("Parking at an unoccupied gate should not throw");
+            }
+        }
+        tower.tick();
+        assertEquals(1, tower.getMetrics().getFailedLandingsNoGate());
+        assertEquals(4, tower.getLandingQueue().size());
+    }
+
+    @Test
+    public void encodeRunways_Test() {
+        tower.setRunways(List.of(RunwayMode.LANDING, RunwayMode.TAKEOFF, RunwayMode.MIXED));
+        assertEquals("Runways:LANDING,TAKEOFF,MIXED", tower.encodeRunways());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setRunways_NoneTest() {
+        tower.setRunways(List.of());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setRunways_TooManyTest() {
+        tower.setRunways(Collections.nCopies(ControlTower.MAX_RUNWAYS + 1, RunwayMode.MIXED));
+    }
+}
@@ -0,0 +1,57 @@
+package towersim.display;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ClickGridTest {
+    private ClickGrid<String> grid;
+    private int first;
+    private int second;
+
+    @Before
+    public void setup() {
+        this.grid = new ClickGrid<>(300, 200, 25);
+        // Two adjacent slots that do not line up with the cell boundaries
+        this.first = grid.addSlot(10, 10, 75, 75);
+        this.second = grid.addSlot(85, 10, 75, 75);
+        grid.build();
+    }
+
+    @Test
+    public void find_EmptySlotTest() {
+        assertNull(grid.find(20, 20));
+    }
+
+    @Test
+    public void find_OccupiedSlotTest() {
+        grid.setItem(first, "ABC001");
+        grid.setItem(second, "ABC002");
+
+        assertEquals("ABC001", grid.find(20, 20));
+        assertEquals("ABC001", grid.find(84, 84));
+        assertEquals("Cell shared by both slots", "ABC002", grid.find(86, 50));
+        assertNull("Outside every slot", grid.find(200, 150));
+        assertNull("Outside the grid", grid.find(-5, 400));
+    }
+
+    @Test
+    public void clearItems_Test() {
+        grid.setItem(first, "ABC001");
+        grid.clearItems();
+        assertNull(grid.find(20, 20));
+    }
+
+    @Test
+    public void clearSlots_Test() {
+        grid.setItem(first, "ABC001");
+        grid.clearSlots();
+        int slot = grid.addSlot(200, 100, 50, 50);
+        grid.build();
+        grid.setItem(slot, "ABC003");
+
+        assertNull(grid.find(20, 20));
+        assertEquals("ABC003", grid.find(225, 125));
+    }
+}
@@ -0,0 +1,38 @@
+package towersim.display;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX platform once for all the tests that need it.
+ * <p>
+ * The platform cannot be started without a display. After a failed start, a second attempt
+ * reports that the platform is already running, so the outcome of the first attempt is kept.
+ */
+final class FxPlatform {
+
+    /** Whether the platform was started; null until the first attempt */
+    private static Boolean available;
+
+    private FxPlatform() {
+    }
+
+    /**
+     * Starts the JavaFX platform if it has not been started yet.
+     *
+     * @return true if the platform is running; false if it cannot run on this machine
+     */
+    static synchronized boolean isAvailable() {
+        if (available == null) {
+            try {
+                Platform.startup(() -> { });
+                available = true;
+            } catch (IllegalStateException e) {
+                // Already started outside the tests, for example by an OffscreenRenderer
+                available = true;
+            } catch (UnsupportedOperationException e) {
+                available = false;
+            }
+        }
+        return available;
+    }
+}
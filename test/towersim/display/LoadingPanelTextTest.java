@@ -0,0 +1,69 @@
+package towersim.display;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftRegistry;
+import towersim.aircraft.FreightAircraft;
+import towersim.simulation.AircraftSnapshot;
+import towersim.simulation.LoadingSnapshot;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LoadingPanelTextTest {
+    private LoadingPanelText panel;
+    private AircraftSnapshot freighter;
+
+    @Before
+    public void setup() {
+        this.panel = new LoadingPanelText();
+        Aircraft aircraft = new FreightAircraft("FRT001",
+                AircraftCharacteristics.BOEING_747_8F,
+                new TaskList(List.of(new Task(TaskType.LOAD, 60), new Task(TaskType.TAKEOFF),
+                        new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.WAIT))),
+                AircraftCharacteristics.BOEING_747_8F.fuelCapacity, 0);
+        new AircraftRegistry().register(aircraft);
+        this.freighter = new AircraftSnapshot(aircraft);
+    }
+
+    @Test
+    public void update_EmptyTest() {
+        assertEquals("Loading aircraft: none", panel.update(List.of()));
+        assertNull("Unchanged text should not be regenerated", panel.update(List.of()));
+    }
+
+    @Test
+    public void update_LineTest() {
+        String text = panel.update(List.of(new LoadingSnapshot(freighter, 2, 5)));
+        assertEquals("Loading aircraft: " + System.lineSeparator()
+                + "FRT001 at gate 2:\t5 ticks remaining (currently at 0%, will load to 60%)",
+                text);
+    }
+
+    @Test
+    public void update_UnchangedTest() {
+        panel.update(List.of(new LoadingSnapshot(freighter, 2, 5)));
+        assertNull(panel.update(List.of(new LoadingSnapshot(freighter, 2, 5))));
+    }
+
+    @Test
+    public void update_TicksChangedTest() {
+        panel.update(List.of(new LoadingSnapshot(freighter, 2, 5)));
+        String text = panel.update(List.of(new LoadingSnapshot(freighter, 2, 4)));
+        assertNotNull(text);
+        assertTrue(text.contains("4 ticks remaining"));
+    }
+
+    @Test
+    public void update_AircraftLeftTest() {
+        panel.update(List.of(new LoadingSnapshot(freighter, 2, 5)));
+        assertEquals("Loading aircraft: none", panel.update(List.of()));
+    }
+}
@@ -0,0 +1,88 @@
+package towersim.display;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import towersim.control.ControlTower;
+import towersim.control.ControlTowerInitialiser;
+import towersim.util.MalformedSaveException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class OffscreenRendererTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setHeadless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    private static ControlTower loadBasic() throws IOException, MalformedSaveException {
+        try (Reader tick = new FileReader("saves/tick_basic.txt");
+             Reader aircraft = new FileReader("saves/aircraft_basic.txt");
+             Reader queues = new FileReader("saves/queues_basic.txt");
+             Reader terminalsWithGates = new FileReader("saves/terminalsWithGates_basic.txt")) {
+            return ControlTowerInitialiser.createControlTower(tick, aircraft, queues,
+                    terminalsWithGates);
+        }
+    }
+
+    /* Returns true if every pixel of the given image is the same colour */
+    private static boolean isBlank(BufferedImage image) {
+        int first = image.getRGB(0, 0);
+        for (int y = 0; y < image.getHeight(); ++y) {
+            for (int x = 0; x < image.getWidth(); ++x) {
+                if (image.getRGB(x, y) != first) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void renderRun_WritesFramesTest() throws Exception {
+        assumeTrue("JavaFX needs a display to render", FxPlatform.isAvailable());
+        File directory = folder.newFolder("frames");
+        File sheet = new File(directory, "sheet.png");
+        try (OffscreenRenderer renderer = new OffscreenRenderer(directory.toPath(), 2, 2)) {
+            renderer.setContactSheet(sheet.toPath(), 2, 1, 0.25);
+            OffscreenRenderer.renderRun(loadBasic(), 4, 2, renderer);
+        }
+
+        File[] frames = directory.listFiles((dir, name) -> name.startsWith("frame-"));
+        assertNotNull(frames);
+        assertEquals("The initial state and every second tick should be rendered",
+                3, frames.length);
+        Arrays.sort(frames);
+        BufferedImage frame = ImageIO.read(frames[0]);
+        assertEquals(1100, frame.getWidth());
+        assertEquals(500, frame.getHeight());
+        assertFalse("Frame should show the airport", isBlank(frame));
+
+        BufferedImage contactSheet = ImageIO.read(sheet);
+        assertEquals("Only the earliest frames should fit on the sheet",
+                2 * 275, contactSheet.getWidth());
+        assertEquals(125, contactSheet.getHeight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setContactSheet_InvalidRowsTest() throws IOException {
+        assumeTrue("JavaFX needs a display to render", FxPlatform.isAvailable());
+        try (OffscreenRenderer renderer = new OffscreenRenderer(
+                folder.newFolder("invalid").toPath(), 1, 1)) {
+            renderer.setContactSheet(folder.getRoot().toPath().resolve("sheet.png"), 2, 0, 0.5);
+        }
+    }
+}
@@ -1,12 +1,166 @@
 package towersim.display;
 
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import towersim.simulation.AircraftSnapshot;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
 public class ViewModelTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ViewModel viewModel;
+
+    @Before
+    public void setup() throws Exception {
+        viewModel = new ViewModel(List.of("saves/tick_basic.txt", "saves/aircraft_basic.txt",
+                "saves/queues_basic.txt", "saves/terminalsWithGates_basic.txt"));
+        viewModel.startSimulation();
+    }
+
+    @After
+    public void teardown() {
+        viewModel.stopSimulation();
+    }
 
     @Test
-    public void saveAs_Test() {
+    public void saveAs_Test() throws Exception {
+        StringWriter tick = new StringWriter();
+        StringWriter aircraft = new StringWriter();
+        StringWriter queues = new StringWriter();
+        StringWriter terminals = new StringWriter();
+        viewModel.saveAs(tick, aircraft, queues, terminals);
 
+        assertEquals(Files.readString(new File("saves/tick_basic.txt").toPath()).trim(),
+                tick.toString());
+        assertTrue(aircraft.toString().startsWith("4"));
     }
 
+    @Test
+    public void saveAsInBackground_Test() throws Exception {
+        StringWriter[] expected = {new StringWriter(), new StringWriter(), new StringWriter(),
+            new StringWriter()};
+        viewModel.saveAs(expected[0], expected[1], expected[2], expected[3]);
+
+        File[] files = new File[4];
+        for (int i = 0; i < files.length; ++i) {
+            files[i] = new File(folder.getRoot(), "save" + i + ".txt");
+        }
+        viewModel.saveAsInBackground(files[0].getPath(), files[1].getPath(),
+                files[2].getPath(), files[3].getPath()).get(10, TimeUnit.SECONDS);
+
+        for (int i = 0; i < files.length; ++i) {
+            assertEquals(expected[i].toString(), Files.readString(files[i].toPath()));
+        }
+    }
+
+    @Test
+    public void saveAsInBackground_FailureTest() throws Exception {
+        String missing = new File(folder.getRoot(), "missing/save.txt").getPath();
+        String ok = folder.newFile().getPath();
+        try {
+            viewModel.saveAsInBackground(ok, ok, missing, ok).get(10, TimeUnit.SECONDS);
+            fail("Saving to a missing directory should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void registerMetrics_Test() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ViewModel other = new ViewModel(List.of("saves/tick_basic.txt",
+                "saves/aircraft_basic.txt", "saves/queues_basic.txt",
+                "saves/terminalsWithGates_basic.txt"));
+        ObjectName name = viewModel.registerMetrics();
+        ObjectName otherName = other.registerMetrics();
+        try {
+            assertNotEquals("Each view model should expose its own metrics", name, otherName);
+            assertEquals(name, viewModel.registerMetrics());
+            assertTrue(server.isRegistered(otherName));
+        } finally {
+            other.stopSimulation();
+        }
+        assertFalse("Stopping should remove the metrics", server.isRegistered(otherName));
+        assertTrue(server.isRegistered(name));
+        viewModel.stopSimulation();
+        assertFalse(server.isRegistered(name));
+    }
+
+    /*
+     * Creates a view model whose only helicopter terminal is full, with a helicopter queued to
+     * land and selected
+     */
+    private ViewModel createFullTerminalViewModel() throws Exception {
+        File tick = folder.newFile("tick.txt");
+        File aircraft = folder.newFile("aircraft.txt");
+        File queues = folder.newFile("queues.txt");
+        File terminals = folder.newFile("terminals.txt");
+        Files.writeString(tick.toPath(), "0");
+        Files.writeString(aircraft.toPath(), "2" + System.lineSeparator()
+                + "VH-LND:ROBINSON_R44:LAND,WAIT,LOAD@75,TAKEOFF,AWAY:40.00:false:4"
+                + System.lineSeparator()
+                + "VH-GTE:ROBINSON_R44:WAIT,LOAD@75,TAKEOFF,AWAY,LAND:40.00:false:4");
+        Files.writeString(queues.toPath(), String.join(System.lineSeparator(),
+                "TakeoffQueue:0", "LandingQueue:1", "VH-LND", "LoadingAircraft:0"));
+        Files.writeString(terminals.toPath(), String.join(System.lineSeparator(),
+                "1", "HelicopterTerminal:1:false:1", "1:VH-GTE"));
+
+        ViewModel full = new ViewModel(List.of(tick.getPath(), aircraft.getPath(),
+                queues.getPath(), terminals.getPath()));
+        AircraftSnapshot landing = full.getSnapshot().getLandingQueue().get(0);
+        assertEquals("VH-LND", landing.getCallsign());
+        full.getSelectedAircraft().set(landing);
+        return full;
+    }
+
+    @Test
+    public void findSuitableGateText_FullTerminalTest() throws Exception {
+        ViewModel full = createFullTerminalViewModel();
+        full.startSimulation();
+        try {
+            int id = full.getSelectedAircraft().get().getId();
+            assertEquals("NoSuitableGateException",
+                    full.findSuitableGateText(id).get(10, TimeUnit.SECONDS));
+        } finally {
+            full.stopSimulation();
+        }
+    }
+
+    @Test
+    public void findSuitableGateHandler_FullTerminalTest() throws Exception {
+        assumeTrue("JavaFX needs a display to run the handler's update",
+                FxPlatform.isAvailable());
+        ViewModel full = createFullTerminalViewModel();
+        full.startSimulation();
+        try {
+            full.getSuitableGateText().set("Gate 1 [empty]");
+            full.getFindSuitableGateHandler().handle(null);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!"NoSuitableGateException".equals(full.getSuitableGateText().get())
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("A full terminal should replace the previous gate text",
+                    "NoSuitableGateException", full.getSuitableGateText().get());
+        } finally {
+            full.stopSimulation();
+        }
+    }
 }
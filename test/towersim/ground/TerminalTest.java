@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
 import towersim.aircraft.PassengerAircraft;
 import towersim.tasks.Task;
 import towersim.tasks.TaskList;
@@ -11,6 +12,7 @@ import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -329,4 +331,123 @@ public class TerminalTest {
         helicopterTerminal.declareEmergency();
         assertEquals("HelicopterTerminal 2, 3 gates (EMERGENCY)", helicopterTerminal.toString());
     }
+
+    @Test
+    public void largeTerminal_CapacityTest() throws NoSpaceException {
+        Terminal hub = new AirplaneTerminal(3, 150);
+        assertEquals(150, hub.getMaxGates());
+        assertEquals(Terminal.MAX_NUM_GATES, airplaneTerminal.getMaxGates());
+        for (int i = 0; i < 150; ++i) {
+            hub.addGate(new Gate(i + 1));
+        }
+        assertEquals(150, hub.getNumGates());
+        assertEquals(150, hub.getGate(149).getGateNumber());
+        try {
+            hub.addGate(new Gate(151));
+            fail("Calling addGate() on a terminal at maximum gate capacity should result in a "
+                    + "NoSpaceException");
+        } catch (NoSpaceException expected) {
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void largeTerminal_InvalidCapacityTest() {
+        new HelicopterTerminal(3, Terminal.MAX_LARGE_TERMINAL_GATES + 1);
+    }
+
+    @Test
+    public void findUnoccupiedGate_LargeTerminalTest() throws NoSpaceException,
+            NoSuitableGateException {
+        Terminal hub = new AirplaneTerminal(3, 150);
+        for (int i = 0; i < 150; ++i) {
+            hub.addGate(new Gate(i + 1));
+        }
+        for (int i = 0; i < 150; ++i) {
+            hub.findUnoccupiedGate().parkAircraft(aircraft);
+        }
+        assertEquals(150, hub.getNumOccupiedGates());
+        assertEquals(100, hub.calculateOccupancyLevel());
+        try {
+            hub.findUnoccupiedGate();
+            fail("Calling findUnoccupiedGate() on a full terminal should result in a "
+                    + "NoSuitableGateException");
+        } catch (NoSuitableGateException expected) {
+        }
+
+        hub.getGate(130).aircraftLeaves();
+        hub.getGate(70).aircraftLeaves();
+        assertEquals(148, hub.getNumOccupiedGates());
+        assertSame("The first unoccupied gate should be found", hub.getGate(70),
+                hub.findUnoccupiedGate());
+        hub.getGate(70).parkAircraft(aircraft1);
+        assertSame(hub.getGate(130), hub.findUnoccupiedGate());
+        assertEquals(99, hub.calculateOccupancyLevel());
+    }
+
+    @Test
+    public void addGate_OccupiedGateTest() throws NoSpaceException, NoSuitableGateException {
+        gate1.parkAircraft(aircraft);
+        airplaneTerminal.addGate(gate1);
+        airplaneTerminal.addGate(gate2);
+        assertEquals(1, airplaneTerminal.getNumOccupiedGates());
+        assertSame(gate2, airplaneTerminal.findUnoccupiedGate());
+        gate1.aircraftLeaves();
+        gate1.aircraftLeaves();
+        assertEquals(0, airplaneTerminal.getNumOccupiedGates());
+        assertSame(gate1, airplaneTerminal.findUnoccupiedGate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addGate_AlreadyAddedTest() throws NoSpaceException {
+        airplaneTerminal.addGate(gate1);
+        helicopterTerminal.addGate(gate1);
+    }
+
+    @Test
+    public void encode_LargeTerminalTest() throws NoSpaceException {
+        Terminal hub = new HelicopterTerminal(4, 100);
+        hub.addGate(gate1);
+        assertEquals("HelicopterTerminal:4:false:1:100" + System.lineSeparator() + "1:empty",
+                hub.encode());
+    }
+
+    @Test
+    public void occupancyListener_Test() throws NoSpaceException {
+        List<String> events = new ArrayList<>();
+        helicopterTerminal.setOccupancyListener(new GateOccupancyListener() {
+            @Override
+            public void gateAdded(Terminal terminal, Gate gate) {
+                events.add("added " + gate.getGateNumber());
+            }
+
+            @Override
+            public void aircraftParked(Terminal terminal, Gate gate, Aircraft aircraft) {
+                events.add("parked " + aircraft.getCallsign());
+            }
+
+            @Override
+            public void aircraftLeft(Terminal terminal, Gate gate, Aircraft aircraft) {
+                events.add("left " + aircraft.getCallsign());
+            }
+
+            @Override
+            public void emergencyCleared(Terminal terminal) {
+                events.add("cleared");
+            }
+        });
+        gate1.parkAircraft(aircraft);
+        helicopterTerminal.addGate(gate1);
+        helicopterTerminal.addGate(gate2);
+        gate2.parkAircraft(aircraft1);
+        assertEquals(2, helicopterTerminal.getNumOccupiedGates(AircraftType.AIRPLANE));
+        assertEquals(0, helicopterTerminal.getNumOccupiedGates(AircraftType.HELICOPTER));
+        gate1.aircraftLeaves();
+        gate1.aircraftLeaves();
+        assertEquals(1, helicopterTerminal.getNumOccupiedGates(AircraftType.AIRPLANE));
+        helicopterTerminal.clearEmergency();
+        helicopterTerminal.declareEmergency();
+        helicopterTerminal.clearEmergency();
+        assertEquals(List.of("added 1", "parked ABC123", "added 2", "parked BIGBOSS",
+                "left ABC123", "cleared"), events);
+    }
 }
@@ -0,0 +1,85 @@
+package towersim.monitoring;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setup() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void empty_Test() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos(), 1e-9);
+        assertEquals(0, histogram.getPercentileNanos(99));
+    }
+
+    @Test
+    public void record_Test() {
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(400 / 3.0, histogram.getMeanNanos(), 1e-9);
+        assertEquals(300, histogram.getMaxNanos());
+        assertEquals("Negative latencies should be counted in the zero bucket",
+                1, histogram.getBucketCounts()[0]);
+    }
+
+    @Test
+    public void percentile_Test() {
+        for (int i = 0; i < 99; ++i) {
+            histogram.record(10);
+        }
+        histogram.record(1_000_000);
+
+        assertEquals("Median should fall in the bucket containing 10ns",
+                15, histogram.getPercentileNanos(50));
+        assertEquals(15, histogram.getPercentileNanos(99));
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentile_InvalidTest() {
+        histogram.getPercentileNanos(101);
+    }
+
+    @Test
+    public void bucketUpperBound_Test() {
+        assertEquals(0, LatencyHistogram.bucketUpperBound(0));
+        assertEquals(1, LatencyHistogram.bucketUpperBound(1));
+        assertEquals(1023, LatencyHistogram.bucketUpperBound(10));
+        assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.bucketUpperBound(LatencyHistogram.NUM_BUCKETS - 1));
+    }
+
+    @Test
+    public void add_Test() {
+        histogram.record(100);
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(10);
+        other.record(5000);
+        histogram.add(other);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(5110 / 3.0, histogram.getMeanNanos(), 1e-9);
+        assertEquals(5000, histogram.getMaxNanos());
+        assertEquals(1, histogram.getBucketCounts()[4]);
+        assertEquals("The added histogram should be unchanged", 2, other.getCount());
+    }
+
+    @Test
+    public void reset_Test() {
+        histogram.record(100);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
@@ -0,0 +1,61 @@
+package towersim.monitoring;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+public class TickMetricsTest {
+    private TickMetrics metrics;
+
+    @Before
+    public void setup() {
+        metrics = new TickMetrics();
+    }
+
+    @Test
+    public void counters_Test() {
+        metrics.recordLanding();
+        metrics.recordTakeoff();
+        metrics.recordTakeoff();
+        metrics.recordFailedLandingNoGate();
+
+        assertEquals(1, metrics.getLandings());
+        assertEquals(2, metrics.getTakeoffs());
+        assertEquals(1, metrics.getFailedLandingsNoGate());
+
+        metrics.reset();
+        assertEquals(0, metrics.getTakeoffs());
+    }
+
+    @Test
+    public void recordTick_Test() {
+        metrics.recordPhase(TickPhase.RUNWAY, 2000);
+        metrics.recordTick(5000, 3, 2, 1);
+
+        assertEquals(1, metrics.getTicksMeasured());
+        assertEquals(5.0, metrics.getTickMeanMicros(), 1e-9);
+        assertEquals(2.0, metrics.getPhaseMeanMicros()[TickPhase.RUNWAY.ordinal()], 1e-9);
+        assertEquals(3, metrics.getLandingQueueDepth());
+        assertEquals(2, metrics.getTakeoffQueueDepth());
+        assertEquals(1, metrics.getLoadingCount());
+        assertEquals(1, metrics.histogram("RUNWAY")[11]);
+    }
+
+    @Test
+    public void registerPlatformMBean_Test() throws JMException {
+        ObjectName name = metrics.registerPlatformMBean("TickMetricsTest");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            metrics.recordLanding();
+            assertEquals(1L, server.getAttribute(name, "Landings"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
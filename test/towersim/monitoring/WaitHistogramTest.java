@@ -0,0 +1,87 @@
+package towersim.monitoring;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class WaitHistogramTest {
+    private WaitHistogram histogram;
+
+    @Before
+    public void setup() {
+        histogram = new WaitHistogram();
+    }
+
+    @Test
+    public void empty_Test() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanTicks(), 1e-9);
+        assertEquals(0, histogram.getPercentileTicks(99));
+    }
+
+    @Test
+    public void record_Test() {
+        histogram.record(3);
+        histogram.record(5);
+        histogram.record(-2);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(8 / 3.0, histogram.getMeanTicks(), 1e-9);
+        assertEquals(5, histogram.getMaxTicks());
+        assertEquals("Negative waits should be counted in the zero bucket",
+                1, histogram.getBucketCounts()[0]);
+    }
+
+    @Test
+    public void percentile_ExactTest() {
+        for (int i = 0; i < 98; ++i) {
+            histogram.record(2);
+        }
+        histogram.record(5);
+        histogram.record(9);
+
+        assertEquals(2, histogram.getPercentileTicks(50));
+        assertEquals("Percentiles of short waits should not be rounded up",
+                5, histogram.getPercentileTicks(99));
+        assertEquals(9, histogram.getPercentileTicks(100));
+    }
+
+    @Test
+    public void percentile_LongWaitTest() {
+        histogram.record(1);
+        histogram.record(5000);
+
+        assertEquals("Waits too long for their own bucket should report the longest wait",
+                5000, histogram.getPercentileTicks(100));
+        assertEquals(1, histogram.getBucketCounts()[WaitHistogram.NUM_BUCKETS - 1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentile_InvalidTest() {
+        histogram.getPercentileTicks(-1);
+    }
+
+    @Test
+    public void add_Test() {
+        histogram.record(4);
+        WaitHistogram other = new WaitHistogram();
+        other.record(1);
+        other.record(7);
+        histogram.add(other);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(4, histogram.getMeanTicks(), 1e-9);
+        assertEquals(7, histogram.getMaxTicks());
+        assertEquals(1, histogram.getBucketCounts()[7]);
+        assertEquals("The added histogram should be unchanged", 2, other.getCount());
+    }
+
+    @Test
+    public void reset_Test() {
+        histogram.record(4);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxTicks());
+    }
+}
@@ -0,0 +1,167 @@
+package towersim.planning;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.util.MalformedSaveException;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CapacityPlannerTest {
+    private CapacityPlanner planner;
+    private ArrivalMix airplanes;
+
+    @Before
+    public void setup() throws MalformedSaveException, IOException {
+        try (Reader tick = new FileReader("saves/tick_basic.txt");
+             Reader aircraft = new FileReader("saves/aircraft_basic.txt");
+             Reader queues = new FileReader("saves/queues_basic.txt");
+             Reader terminalsWithGates = new FileReader("saves/terminalsWithGates_basic.txt")) {
+            planner = new CapacityPlanner(tick, aircraft, queues, terminalsWithGates);
+        }
+        airplanes = new ArrivalMix(20, Map.of(AircraftCharacteristics.AIRBUS_A320, 3,
+                AircraftCharacteristics.BOEING_747_8F, 1));
+    }
+
+    @Test
+    public void baseTerminals_Test() {
+        assertEquals(5, planner.getNumBaseTerminals());
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void malformedSave_Test() throws MalformedSaveException, IOException {
+        new CapacityPlanner(new StringReader("five"), new StringReader("0"),
+                new StringReader("TakeoffQueue:0\nLandingQueue:0\nLoadingAircraft:0"),
+                new StringReader("0"));
+    }
+
+    @Test
+    public void run_ResultPerScenarioTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(ArrivalMix.none(), airplanes),
+                List.of(0.0), List.of(5, 6));
+        List<ScenarioResult> results = planner.run(space, 3, 50, 1, 2);
+        assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); ++i) {
+            assertEquals(3, results.get(i).getRuns());
+            assertEquals(space.getScenarios().get(i).toString(),
+                    results.get(i).getScenario().toString());
+        }
+    }
+
+    @Test
+    public void run_IndependentOfThreadsTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(airplanes), List.of(0.0, 0.2),
+                List.of(5, 8));
+        List<ScenarioResult> single = planner.run(space, 8, 200, 42, 1);
+        List<ScenarioResult> parallel = planner.run(space, 8, 200, 42, 4);
+        for (int i = 0; i < single.size(); ++i) {
+            ScenarioResult expected = single.get(i);
+            ScenarioResult actual = parallel.get(i);
+            assertEquals(expected.getGateUtilisation(), actual.getGateUtilisation(), 0);
+            assertEquals(expected.getMinGateUtilisation(), actual.getMinGateUtilisation(), 0);
+            assertEquals(expected.getMeanThroughput(), actual.getMeanThroughput(), 0);
+            assertEquals(expected.getThroughputCeiling(), actual.getThroughputCeiling(), 0);
+            assertEquals(expected.getFuelEmergencies(), actual.getFuelEmergencies());
+            assertArrayEquals(expected.getLandingWait().getBucketCounts(),
+                    actual.getLandingWait().getBucketCounts());
+        }
+    }
+
+    @Test
+    public void run_MoreTerminalsTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(airplanes), List.of(0.0),
+                List.of(5, 15));
+        List<ScenarioResult> results = planner.run(space, 4, 500, 7, 2);
+        ScenarioResult small = results.get(0);
+        ScenarioResult large = results.get(1);
+        assertTrue("An airport with more gates should make more movements",
+                large.getMeanThroughput() > small.getMeanThroughput());
+        assertTrue(small.getMeanFailedLandings() > large.getMeanFailedLandings());
+        assertTrue(large.getThroughputCeiling() >= large.getMeanThroughput());
+        assertTrue(small.getGateUtilisation() > 0.5);
+    }
+
+    @Test
+    public void run_FuelEmergenciesTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(ArrivalMix.none(), airplanes),
+                List.of(0.0), List.of(5));
+        List<ScenarioResult> results = planner.run(space, 4, 300, 3, 2);
+        assertTrue("Aircraft away for longest should arrive with critical fuel",
+                results.get(1).getFuelEmergencies() > results.get(0).getFuelEmergencies());
+        assertTrue(results.get(1).getMaxFuelEmergencies()
+                >= results.get(1).getMeanFuelEmergencies());
+    }
+
+    @Test
+    public void run_EmergenciesReduceThroughputTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(airplanes), List.of(0.0, 1.0),
+                List.of(5));
+        List<ScenarioResult> results = planner.run(space, 4, 500, 5, 2);
+        assertTrue("Terminal emergencies should refuse landings",
+                results.get(1).getMeanFailedLandings() > results.get(0).getMeanFailedLandings());
+    }
+
+    @Test
+    public void run_NoRunsTest() throws InterruptedException {
+        ParameterSpace space = new ParameterSpace(List.of(airplanes), List.of(0.0), List.of(5));
+        ScenarioResult result = planner.run(space, 0, 100, 1, 2).get(0);
+        assertEquals(0, result.getRuns());
+        assertEquals(0, result.getGateUtilisation(), 0);
+        assertEquals(0, result.getMinGateUtilisation(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void run_NoThreadsTest() throws InterruptedException {
+        planner.run(new ParameterSpace(List.of(airplanes), List.of(0.0), List.of(5)), 1, 1, 1,
+                0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void run_FewerTerminalsThanBaseTest() throws InterruptedException {
+        planner.run(new ParameterSpace(List.of(airplanes), List.of(0.0), List.of(4)), 1, 1, 1,
+                1);
+    }
+
+    @Test
+    public void parameterSpace_ScenariosTest() {
+        ParameterSpace space = new ParameterSpace(List.of(ArrivalMix.none(), airplanes),
+                List.of(0.0, 0.5), List.of(1, 2, 3));
+        List<CapacityScenario> scenarios = space.getScenarios();
+        assertEquals(12, space.getNumScenarios());
+        assertEquals(12, scenarios.size());
+        assertSame(airplanes, scenarios.get(6).getArrivalMix());
+        assertEquals(0.5, scenarios.get(3).getEmergencyRate(), 0);
+        assertEquals(2, scenarios.get(4).getNumTerminals());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parameterSpace_EmptyTest() {
+        new ParameterSpace(List.of(airplanes), List.of(), List.of(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scenario_InvalidRateTest() {
+        new CapacityScenario(airplanes, 1.5, 1);
+    }
+
+    @Test
+    public void arrivalMix_Test() {
+        assertEquals(20, airplanes.getNumAircraft());
+        assertEquals(3, airplanes.getWeight(AircraftCharacteristics.AIRBUS_A320));
+        assertEquals(0, airplanes.getWeight(AircraftCharacteristics.ROBINSON_R44));
+        assertEquals("+20 AIRBUS_A320:3 BOEING_747_8F:1", airplanes.toString());
+        assertEquals("none", ArrivalMix.none().toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void arrivalMix_NoWeightsTest() {
+        new ArrivalMix(1, Map.of());
+    }
+}
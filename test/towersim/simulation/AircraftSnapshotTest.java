@@ -0,0 +1,88 @@
+package towersim.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftRegistry;
+import towersim.aircraft.PassengerAircraft;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AircraftSnapshotTest {
+    private Aircraft aircraft;
+    private AircraftRegistry registry;
+
+    @Before
+    public void setup() {
+        TaskList taskList = new TaskList(List.of(
+                new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 100),
+                new Task(TaskType.TAKEOFF)));
+        this.aircraft = new PassengerAircraft("SNP001", AircraftCharacteristics.AIRBUS_A320,
+                taskList, AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        this.registry = new AircraftRegistry();
+        this.registry.register(this.aircraft);
+    }
+
+    @Test
+    public void capture_NoPreviousTest() {
+        AircraftSnapshot snapshot = AircraftSnapshot.capture(aircraft, null);
+        assertEquals(0, snapshot.getVersion());
+        assertEquals("SNP001", snapshot.getCallsign());
+    }
+
+    @Test
+    public void capture_UnchangedReusedTest() {
+        AircraftSnapshot first = AircraftSnapshot.capture(aircraft, null);
+        assertSame("Unchanged aircraft should reuse the previous snapshot", first,
+                AircraftSnapshot.capture(aircraft, first));
+    }
+
+    @Test
+    public void capture_TaskChangedTest() {
+        AircraftSnapshot first = AircraftSnapshot.capture(aircraft, null);
+        aircraft.getTaskList().moveToNextTask();
+        AircraftSnapshot second = AircraftSnapshot.capture(aircraft, first);
+
+        assertNotSame(first, second);
+        assertEquals(1, second.getVersion());
+        assertEquals(TaskType.LAND, second.getCurrentTaskType());
+        assertEquals("Earlier snapshot should be unaffected", TaskType.AWAY,
+                first.getCurrentTaskType());
+    }
+
+    @Test
+    public void capture_EmergencyChangedTest() {
+        AircraftSnapshot first = AircraftSnapshot.capture(aircraft, null);
+        aircraft.declareEmergency();
+        AircraftSnapshot second = AircraftSnapshot.capture(aircraft, first);
+        assertTrue(second.hasEmergency());
+        assertEquals(1, second.getVersion());
+
+        aircraft.clearEmergency();
+        assertEquals(2, AircraftSnapshot.capture(aircraft, second).getVersion());
+    }
+
+    @Test
+    public void capture_OtherAircraftTest() {
+        AircraftSnapshot first = AircraftSnapshot.capture(aircraft, null);
+        Aircraft other = new PassengerAircraft("SNP002", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.WAIT), new Task(TaskType.LOAD, 100),
+                        new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        registry.register(other);
+
+        AircraftSnapshot snapshot = AircraftSnapshot.capture(other, first);
+        assertEquals("SNP002", snapshot.getCallsign());
+        assertEquals(0, snapshot.getVersion());
+    }
+}
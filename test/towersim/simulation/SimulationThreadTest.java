@@ -0,0 +1,260 @@
+package towersim.simulation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.FreightAircraft;
+import towersim.aircraft.PassengerAircraft;
+import towersim.control.ControlTower;
+import towersim.control.LandingQueue;
+import towersim.control.TakeoffQueue;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class SimulationThreadTest {
+    private ControlTower tower;
+    private SimulationThread simulation;
+
+    private AirplaneTerminal terminal;
+    private Aircraft landingAircraft;
+    private Aircraft awayAircraft;
+
+    @Before
+    public void setup() throws Exception {
+        this.terminal = new AirplaneTerminal(1);
+        this.terminal.addGate(new Gate(1));
+
+        this.landingAircraft = new PassengerAircraft("LND001",
+                AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(
+                        new Task(TaskType.LAND),
+                        new Task(TaskType.WAIT),
+                        new Task(TaskType.LOAD, 100),
+                        new Task(TaskType.TAKEOFF),
+                        new Task(TaskType.AWAY))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity / 2, 100);
+
+        this.awayAircraft = new FreightAircraft("AWY001",
+                AircraftCharacteristics.BOEING_747_8F,
+                new TaskList(List.of(
+                        new Task(TaskType.AWAY),
+                        new Task(TaskType.AWAY),
+                        new Task(TaskType.LAND),
+                        new Task(TaskType.WAIT),
+                        new Task(TaskType.LOAD, 50),
+                        new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.BOEING_747_8F.fuelCapacity, 0);
+
+        LandingQueue landingQueue = new LandingQueue();
+        landingQueue.addAircraft(landingAircraft);
+        List<Aircraft> aircraft = new ArrayList<>(List.of(landingAircraft, awayAircraft));
+        // Odd number of ticks elapsed, so the next tick attempts a landing
+        this.tower = new ControlTower(1, aircraft, landingQueue, new TakeoffQueue(),
+                new HashMap<>());
+        this.tower.addTerminal(terminal);
+
+        this.simulation = new SimulationThread(tower, TimeUnit.HOURS.toNanos(1));
+    }
+
+    @After
+    public void teardown() throws Exception {
+        simulation.stop();
+    }
+
+    @Test
+    public void initialSnapshot_Test() {
+        TowerSnapshot snapshot = simulation.pollSnapshot();
+        assertNotNull("An initial snapshot should be published", snapshot);
+        assertNull("Snapshot should only be returned once", simulation.pollSnapshot());
+
+        assertEquals(1, snapshot.getTicksElapsed());
+        assertEquals(2, snapshot.getAircraft().size());
+        assertEquals(1, snapshot.getLandingQueue().size());
+        assertTrue(snapshot.getTakeoffQueue().isEmpty());
+        assertEquals("AWY001", snapshot.getAwayAircraft().get(0).getCallsign());
+        assertSame("Queued aircraft should share the snapshot in the aircraft list",
+                snapshot.getAircraft().get(0), snapshot.getLandingQueue().get(0));
+        assertSame(snapshot.getAircraft().get(1),
+                snapshot.getAircraftById(awayAircraft.getId()));
+
+        assertEquals(1, snapshot.getTerminals().size());
+        TerminalSnapshot terminalSnapshot = snapshot.getTerminals().get(0);
+        assertEquals(terminal.toString(), terminalSnapshot.toString());
+        assertFalse(terminalSnapshot.getGates().get(0).isOccupied());
+    }
+
+    @Test
+    public void snapshot_ImmutableTest() {
+        TowerSnapshot snapshot = simulation.pollSnapshot();
+        AircraftSnapshot before = snapshot.getAircraftById(landingAircraft.getId());
+
+        landingAircraft.declareEmergency();
+        landingAircraft.getTaskList().moveToNextTask();
+
+        assertFalse("Snapshot should not see later changes", before.hasEmergency());
+        assertEquals(TaskType.LAND, before.getCurrentTaskType());
+    }
+
+    @Test
+    public void requestTick_NotRunningTest() throws Exception {
+        simulation.pollSnapshot();
+        simulation.requestTick().get(1, TimeUnit.SECONDS);
+
+        TowerSnapshot snapshot = simulation.pollSnapshot();
+        assertEquals(2, snapshot.getTicksElapsed());
+        assertEquals("LND001", snapshot.getTerminals().get(0).getGates().get(0)
+                .getAircraftAtGate().getCallsign());
+    }
+
+    @Test
+    public void requestTick_RecordsDurationTest() throws Exception {
+        assertEquals("No tick has been timed yet", 0, simulation.getLastTickNanos());
+        simulation.requestTick().get(1, TimeUnit.SECONDS);
+        assertTrue(simulation.getLastTickNanos() > 0);
+    }
+
+    @Test
+    public void requestTick_SummaryTest() throws Exception {
+        TickSummary summary = new TickSummary();
+        long initial = simulation.getSummaries().readLatest(summary, 0);
+        assertEquals("Initial summary should be published", 1, initial);
+        assertEquals(1, summary.getLandingQueueSize());
+        assertEquals(landingAircraft.getId(), summary.getLandingQueueId(0));
+        assertEquals(Aircraft.NO_ID, summary.getGateAircraftId(0));
+
+        simulation.requestTick().get(1, TimeUnit.SECONDS);
+
+        assertEquals(2, simulation.getSummaries().readLatest(summary, initial));
+        assertEquals(2, summary.getTicksElapsed());
+        assertEquals(1, summary.getTotalLanded());
+        assertEquals(landingAircraft.getId(), summary.getLastLandedId());
+        assertEquals(0, summary.getTotalTookOff());
+        assertEquals(0, summary.getLandingQueueSize());
+        assertEquals(1, summary.getOccupiedGates());
+        assertEquals(landingAircraft.getId(), summary.getGateAircraftId(0));
+    }
+
+    @Test
+    public void submit_RunningTest() throws Exception {
+        simulation.start();
+        assertTrue(simulation.isRunning());
+
+        Thread caller = Thread.currentThread();
+        Thread applier = simulation.submit(tower -> {
+            tower.getTerminals().get(0).declareEmergency();
+            return Thread.currentThread();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertNotSame("Command should run on the simulation thread", caller, applier);
+        assertTrue(terminal.hasEmergency());
+        assertEquals("Paused simulation should not tick", 1, tower.getTicksElapsed());
+    }
+
+    @Test
+    public void submit_WhileStoppingTest() throws Exception {
+        simulation.start();
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean busy = new AtomicBoolean();
+        CompletableFuture<Object> slow = simulation.submit(tower -> {
+            busy.set(true);
+            blocking.countDown();
+            release.await();
+            busy.set(false);
+            return null;
+        });
+        Thread stopper = new Thread(() -> {
+            try {
+                simulation.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        CompletableFuture<Boolean> overlapped;
+        try {
+            assertTrue(blocking.await(5, TimeUnit.SECONDS));
+            stopper.start();
+            while (simulation.isRunning()) {
+                Thread.sleep(1);
+            }
+
+            // The simulation thread is still applying the slow command
+            Thread caller = Thread.currentThread();
+            overlapped = simulation.submit(tower -> busy.get()
+                    || Thread.currentThread() == caller);
+            assertFalse("Command should wait for the stopping simulation thread",
+                    overlapped.isDone());
+        } finally {
+            release.countDown();
+        }
+        stopper.join(5000);
+
+        slow.get(5, TimeUnit.SECONDS);
+        assertFalse("Command should not run alongside the simulation thread",
+                overlapped.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_ExceptionTest() {
+        try {
+            simulation.submit(tower -> {
+                throw new IllegalStateException("failed");
+            }).get(1, TimeUnit.SECONDS);
+            fail("Future should complete exceptionally");
+        } catch (Exception e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void unpaused_TicksTest() throws Exception {
+        simulation.setNanosPerTick(TimeUnit.MILLISECONDS.toNanos(1));
+        simulation.start();
+        simulation.setPaused(false);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long ticks = 1;
+        while (ticks < 4 && System.nanoTime() < deadline) {
+            TowerSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot != null) {
+                ticks = snapshot.getTicksElapsed();
+            }
+            Thread.sleep(1);
+        }
+        assertTrue("Unpaused simulation should keep ticking", ticks >= 4);
+    }
+
+    @Test
+    public void asFastAsPossible_BatchesTicksTest() throws Exception {
+        simulation.setNanosPerTick(0);
+        simulation.start();
+        simulation.setPaused(false);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long ticks = 1;
+        while (ticks < 1000 && System.nanoTime() < deadline) {
+            ticks = simulation.submit(ControlTower::getTicksElapsed).get(1, TimeUnit.SECONDS);
+        }
+        assertTrue("Simulation should tick far faster than once per loop", ticks >= 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setNanosPerTick_NegativeTest() {
+        simulation.setNanosPerTick(-1);
+    }
+}
@@ -0,0 +1,91 @@
+package towersim.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TickSchedulerTest {
+    private TickScheduler scheduler;
+
+    @Before
+    public void setup() {
+        this.scheduler = new TickScheduler(100, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_ZeroIntervalTest() {
+        new TickScheduler(0, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_ZeroCatchUpTest() {
+        new TickScheduler(100, 0);
+    }
+
+    @Test
+    public void advance_LessThanIntervalTest() {
+        assertEquals(0, scheduler.advance(99));
+        assertEquals(99, scheduler.getLagNanos());
+        assertEquals(0, scheduler.getTicksBehind());
+    }
+
+    @Test
+    public void advance_KeepsRemainderTest() {
+        assertEquals(1, scheduler.advance(150));
+        assertEquals("Overshoot should be kept, not dropped", 50, scheduler.getLagNanos());
+        assertEquals(1, scheduler.advance(50));
+        assertEquals(0, scheduler.getLagNanos());
+    }
+
+    @Test
+    public void advance_NoDriftTest() {
+        int ticks = 0;
+        for (int i = 0; i < 1000; ++i) {
+            ticks += scheduler.advance(130);
+        }
+        assertEquals("Simulated time should track elapsed time", 1300, ticks);
+    }
+
+    @Test
+    public void advance_CapsCatchUpTest() {
+        assertEquals(5, scheduler.advance(1234));
+        assertEquals(734, scheduler.getLagNanos());
+        assertEquals(7, scheduler.getTicksBehind());
+        assertEquals(5, scheduler.advance(0));
+        assertEquals(2, scheduler.advance(0));
+        assertEquals(34, scheduler.getLagNanos());
+    }
+
+    @Test
+    public void advance_NegativeElapsedTest() {
+        scheduler.advance(50);
+        assertEquals(0, scheduler.advance(-500));
+        assertEquals(50, scheduler.getLagNanos());
+    }
+
+    @Test
+    public void returnTicks_StillOwedTest() {
+        assertEquals(3, scheduler.advance(300));
+        scheduler.returnTicks(2);
+        assertEquals(2, scheduler.getTicksBehind());
+        assertEquals(2, scheduler.advance(0));
+    }
+
+    @Test
+    public void setNanosPerTick_ResetsLagTest() {
+        scheduler.advance(1234);
+        scheduler.setNanosPerTick(10);
+        assertEquals(0, scheduler.getLagNanos());
+        assertEquals(5, scheduler.advance(55));
+        assertEquals(5, scheduler.getLagNanos());
+    }
+
+    @Test
+    public void reset_Test() {
+        scheduler.advance(1234);
+        scheduler.reset();
+        assertEquals(0, scheduler.getLagNanos());
+        assertEquals(0, scheduler.advance(99));
+    }
+}
@@ -0,0 +1,122 @@
+package towersim.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.control.ControlTower;
+import towersim.control.LandingQueue;
+import towersim.control.TakeoffQueue;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TickSummaryRingTest {
+    private ControlTower tower;
+    private TickSummaryRing ring;
+
+    @Before
+    public void setup() {
+        TakeoffQueue takeoffQueue = new TakeoffQueue();
+        List<Aircraft> aircraft = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            Aircraft queued = new PassengerAircraft("TKO00" + i,
+                    AircraftCharacteristics.AIRBUS_A320,
+                    new TaskList(List.of(
+                            new Task(TaskType.TAKEOFF),
+                            new Task(TaskType.AWAY),
+                            new Task(TaskType.LAND),
+                            new Task(TaskType.WAIT),
+                            new Task(TaskType.LOAD, 50))),
+                    AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+            aircraft.add(queued);
+            takeoffQueue.addAircraft(queued);
+        }
+        this.tower = new ControlTower(0, aircraft, new LandingQueue(), takeoffQueue,
+                new HashMap<>());
+        this.ring = new TickSummaryRing(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NotPowerOfTwoTest() {
+        new TickSummaryRing(6);
+    }
+
+    @Test
+    public void readLatest_NothingPublishedTest() {
+        TickSummary into = new TickSummary();
+        assertEquals(0, ring.readLatest(into, 0));
+        assertEquals(0, into.getTicksElapsed());
+    }
+
+    @Test
+    public void readLatest_PublishedTest() {
+        ring.claim().capture(tower, Aircraft.NO_ID, Aircraft.NO_ID, 0, 0);
+        ring.publish();
+
+        TickSummary into = new TickSummary();
+        assertEquals(1, ring.readLatest(into, 0));
+        assertEquals(3, into.getTakeoffQueueSize());
+        assertEquals(tower.getAircraft().get(2).getId(), into.getTakeoffQueueId(2));
+        assertEquals("Nothing new should be read", 1, ring.readLatest(into, 1));
+    }
+
+    @Test
+    public void readLatest_CoalescesTest() {
+        // Publish more summaries than the ring holds without reading any of them
+        for (int i = 0; i < 10; ++i) {
+            tower.tick();
+            ring.claim().capture(tower, i, Aircraft.NO_ID, i + 1, 0);
+            ring.publish();
+        }
+        assertEquals(10, ring.getPublished());
+
+        TickSummary into = new TickSummary();
+        assertEquals("Reader should skip to the latest summary", 10, ring.readLatest(into, 0));
+        assertEquals(10, into.getTicksElapsed());
+        assertEquals(10, into.getTotalLanded());
+        assertEquals(9, into.getLastLandedId());
+    }
+
+    @Test
+    public void claim_ReusesSlotsTest() {
+        TickSummary first = ring.claim();
+        for (int i = 0; i < ring.getCapacity(); ++i) {
+            ring.claim();
+            ring.publish();
+        }
+        assertSame("Producer should reuse preallocated slots", first, ring.claim());
+    }
+
+    @Test
+    public void readLatest_ConcurrentTest() throws Exception {
+        final int ticks = 20000;
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= ticks; ++i) {
+                ring.claim().capture(tower, i, i, i, i);
+                ring.publish();
+            }
+        });
+        producer.start();
+
+        TickSummary into = new TickSummary();
+        long sequence = 0;
+        while (producer.isAlive() || sequence < ticks) {
+            sequence = ring.readLatest(into, sequence);
+            if (sequence > 0) {
+                assertEquals("Summary should never be torn", into.getTotalLanded(),
+                        into.getLastLandedId());
+                assertEquals(into.getTotalTookOff(), into.getLastTookOffId());
+            }
+        }
+        producer.join();
+        assertEquals(ticks, into.getTotalLanded());
+    }
+}
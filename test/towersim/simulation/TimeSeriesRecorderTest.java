@@ -0,0 +1,182 @@
+package towersim.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.control.ControlTower;
+import towersim.control.LandingQueue;
+import towersim.control.TakeoffQueue;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TimeSeriesRecorderTest {
+    private ControlTower tower;
+    private TimeSeriesRecorder recorder;
+
+    @Before
+    public void setup() throws Exception {
+        AirplaneTerminal terminal = new AirplaneTerminal(1);
+        terminal.addGate(new Gate(1));
+
+        // Low on fuel, so queued with a critical level of fuel
+        Aircraft landing = new PassengerAircraft("LND001", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(
+                        new Task(TaskType.LAND),
+                        new Task(TaskType.WAIT),
+                        new Task(TaskType.LOAD, 100),
+                        new Task(TaskType.TAKEOFF),
+                        new Task(TaskType.AWAY))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity / 10, 100);
+
+        LandingQueue landingQueue = new LandingQueue();
+        landingQueue.addAircraft(landing);
+        List<Aircraft> aircraft = new ArrayList<>(List.of(landing));
+        // Odd number of ticks elapsed, so the next tick attempts a landing
+        this.tower = new ControlTower(1, aircraft, landingQueue, new TakeoffQueue(),
+                new HashMap<>());
+        this.tower.addTerminal(terminal);
+
+        this.recorder = new TimeSeriesRecorder(tower, 4, 2);
+        this.tower.addListener(recorder);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NotPowerOfTwoTest() {
+        new TimeSeriesRecorder(tower, 6, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NegativeTerminalsTest() {
+        new TimeSeriesRecorder(tower, 4, -1);
+    }
+
+    @Test
+    public void tickCompleted_RecordsTest() {
+        tower.tick();
+        assertEquals(1, recorder.getRecorded());
+        assertEquals(2, recorder.getTick(0));
+        assertEquals(1, recorder.get(TimeSeriesMetric.LANDINGS, 0));
+        assertEquals(0, recorder.get(TimeSeriesMetric.TAKEOFFS, 0));
+        assertEquals(0, recorder.get(TimeSeriesMetric.LANDING_QUEUE, 0));
+        assertEquals("Landed aircraft should no longer count as fuel critical",
+                0, recorder.get(TimeSeriesMetric.FUEL_CRITICAL, 0));
+        assertEquals(1, recorder.getTerminalOccupancy(0, 0));
+        assertEquals("Missing terminals should have no occupied gates",
+                0, recorder.getTerminalOccupancy(1, 0));
+
+        tower.tick();
+        assertEquals("Landings should be counted per tick",
+                0, recorder.get(TimeSeriesMetric.LANDINGS, 1));
+    }
+
+    @Test
+    public void constructor_QueuedFuelCriticalTest() {
+        // The queued aircraft cannot land without a gate
+        tower.getTerminal(0).declareEmergency();
+        tower.tick();
+        assertEquals(1, recorder.get(TimeSeriesMetric.FUEL_CRITICAL, 0));
+        assertEquals(1, recorder.get(TimeSeriesMetric.LANDING_QUEUE, 0));
+    }
+
+    @Test
+    public void tickCompleted_WrapsTest() {
+        for (int i = 0; i < 10; ++i) {
+            tower.tick();
+        }
+        assertEquals(10, recorder.getRecorded());
+        assertEquals(6, recorder.getOldest());
+        assertEquals(8, recorder.getTick(6));
+        assertEquals(11, recorder.getTick(9));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void get_NotRetainedTest() {
+        for (int i = 0; i < 5; ++i) {
+            tower.tick();
+        }
+        recorder.getTick(0);
+    }
+
+    @Test
+    public void readLatest_Test() {
+        int[] into = new int[8];
+        assertEquals(0, recorder.readLatest(TimeSeriesMetric.LANDINGS, into));
+
+        tower.tick();
+        tower.tick();
+        assertEquals(2, recorder.readLatest(TimeSeriesMetric.LANDINGS, into));
+        assertEquals(1, into[0]);
+        assertEquals(0, into[1]);
+        assertEquals(2, recorder.readLatestTerminalOccupancy(0, into));
+        assertEquals(1, into[1]);
+
+        for (int i = 0; i < 10; ++i) {
+            tower.tick();
+        }
+        assertEquals("At most capacity - 1 values should be read",
+                3, recorder.readLatest(TimeSeriesMetric.LANDINGS, into));
+    }
+
+    @Test
+    public void exportCsv_StreamsTest() throws IOException {
+        tower.tick();
+        StringWriter out = new StringWriter();
+        TimeSeriesExport export = recorder.exportCsv(out);
+        assertEquals("tick,landing_queue,takeoff_queue,loading,landings,takeoffs,fuel_critical,"
+                + "terminal_1,terminal_2\n2,0,0,0,1,0,0,1,0\n", out.toString());
+
+        for (int i = 0; i < 10; ++i) {
+            tower.tick();
+        }
+        assertEquals(11, export.getWritten());
+        assertEquals("Every sample should be exported, not just those retained",
+                12, out.toString().split("\n").length);
+
+        export.close();
+        tower.tick();
+        assertEquals(12, out.toString().split("\n").length);
+    }
+
+    @Test
+    public void exportBinary_StreamsTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeSeriesExport export = recorder.exportBinary(out);
+        for (int i = 0; i < 3; ++i) {
+            tower.tick();
+        }
+        export.close();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(TimeSeriesRecorder.BINARY_MAGIC, in.readInt());
+        assertEquals(TimeSeriesMetric.values().length, in.readInt());
+        assertEquals(2, in.readInt());
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(2 + i, in.readLong());
+            for (TimeSeriesMetric metric : TimeSeriesMetric.values()) {
+                int value = in.readInt();
+                if (metric == TimeSeriesMetric.LANDINGS) {
+                    assertEquals(i == 0 ? 1 : 0, value);
+                }
+            }
+            assertEquals(recorder.getTerminalOccupancy(0, i), in.readInt());
+            assertEquals(0, in.readInt());
+        }
+        assertEquals(0, in.available());
+    }
+}
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TaskListTest {
 
@@ -321,4 +323,32 @@ public class TaskListTest {
 
         assertEquals("TaskList currently on AWAY [1/7]", list.toString());
     }
+
+    @Test
+    public void hasSameProgressAs_Test() {
+        TaskList list = new TaskList(List.of(new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 40),
+                new Task(TaskType.TAKEOFF)));
+        TaskList copy = new TaskList(list);
+        TaskList equalList = new TaskList(List.of(new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 40),
+                new Task(TaskType.TAKEOFF)));
+
+        assertTrue(list.hasSameProgressAs(copy));
+        assertTrue(list.hasSameProgressAs(equalList));
+
+        copy.moveToNextTask();
+        assertFalse("Copies on different tasks should differ", list.hasSameProgressAs(copy));
+
+        TaskList otherLoad = new TaskList(List.of(new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 60),
+                new Task(TaskType.TAKEOFF)));
+        assertFalse(list.hasSameProgressAs(otherLoad));
+    }
 }